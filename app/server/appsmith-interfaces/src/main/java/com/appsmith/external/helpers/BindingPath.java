@@ -0,0 +1,124 @@
+package com.appsmith.external.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A path to a property of a widget, as found in its `dynamicBindingPathList`, parsed into its keys, e.g.
+ * `primaryColumns.name.computedValue` or `chartData[0].data`. The widgets of a page share most of their paths, so
+ * parsed paths are cached against the path string, and resolving a path against a widget only walks the parsed keys.
+ */
+public class BindingPath {
+
+    // The cache is dropped as a whole once full, since paths are cheap to parse again
+    private static final int MAX_CACHED_PATHS = 5000;
+
+    private static final Map<String, BindingPath> parsedPaths = new ConcurrentHashMap<>();
+
+    private static final int NOT_AN_INDEX = -1;
+
+    private final String[] keys;
+
+    // The key as a list index, or NOT_AN_INDEX if it isn't a valid one
+    private final int[] indexes;
+
+    private BindingPath(String path) {
+        final List<String> tokens = tokenize(path);
+        keys = tokens.toArray(new String[0]);
+        indexes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            indexes[i] = parseIndex(keys[i]);
+        }
+    }
+
+    /**
+     * @param path : path of a property, with its keys separated by dots or in square brackets
+     * @return the parsed path, from the cache if the path has been parsed before
+     */
+    public static BindingPath parse(String path) {
+        BindingPath bindingPath = parsedPaths.get(path);
+        if (bindingPath == null) {
+            if (parsedPaths.size() >= MAX_CACHED_PATHS) {
+                parsedPaths.clear();
+            }
+            bindingPath = parsedPaths.computeIfAbsent(path, BindingPath::new);
+        }
+
+        return bindingPath;
+    }
+
+    /**
+     * Splits the path at every dot and square bracket, leaving out the blank keys. This is the same as splitting it with
+     * the regex `[].\[]`.
+     */
+    static List<String> tokenize(String path) {
+        final List<String> tokens = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= path.length(); i++) {
+            if (i == path.length() || isSeparator(path.charAt(i))) {
+                if (i > start && !path.substring(start, i).isBlank()) {
+                    tokens.add(path.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+
+        return tokens;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '.' || c == '[' || c == ']';
+    }
+
+    private static int parseIndex(String key) {
+        long index = 0;
+        for (int i = 0; i < key.length(); i++) {
+            final char c = key.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_AN_INDEX;
+            }
+            // Indexes too large for a list can't exist in it anyway
+            index = Math.min(index * 10 + (c - '0'), Integer.MAX_VALUE);
+        }
+
+        return (int) index;
+    }
+
+    /**
+     * Walks the path in the object, through the maps by key and through the lists by index, until it reaches a string.
+     * Values that are neither maps, lists nor strings are walked past, as the path can't go further into them.
+     *
+     * @param object : object to walk the path in, e.g. a widget
+     * @return the first string found along the path, or null if there isn't any
+     * @throws IllegalArgumentException if the path doesn't exist in the object
+     */
+    public String findString(Object object) {
+        Object parent = object;
+        for (int i = 0; i < keys.length; i++) {
+            if (parent instanceof Map) {
+                parent = ((Map<?, ?>) parent).get(keys[i]);
+            } else if (parent instanceof List) {
+                final List<?> list = (List<?>) parent;
+                if (indexes[i] == NOT_AN_INDEX || indexes[i] >= list.size()) {
+                    throw new IllegalArgumentException("No index " + keys[i] + " in the list at " + this);
+                }
+                parent = list.get(indexes[i]);
+            }
+
+            if (parent == null) {
+                throw new IllegalArgumentException("No key " + keys[i] + " at " + this);
+            } else if (parent instanceof String) {
+                return (String) parent;
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return String.join(".", keys);
+    }
+}
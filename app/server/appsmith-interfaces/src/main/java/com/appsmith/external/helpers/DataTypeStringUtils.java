@@ -7,7 +7,6 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.models.ParsedDataType;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
@@ -58,6 +57,21 @@ public class DataTypeStringUtils {
     private static final TypeAdapter<JsonObject> strictGsonObjectAdapter =
             new Gson().getAdapter(JsonObject.class);
 
+    // Number of rows looked at to decide whether a result can be displayed as a table
+    private static final int DISPLAY_TYPE_SAMPLE_SIZE = 100;
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = new DateTimeFormatterBuilder()
+            .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+            .toFormatter();
+
+    private static final DateTimeFormatter DATE_FORMATTER = new DateTimeFormatterBuilder()
+            .appendOptional(DateTimeFormatter.ISO_LOCAL_DATE)
+            .toFormatter();
+
+    private static final DateTimeFormatter TIME_FORMATTER = new DateTimeFormatterBuilder()
+            .appendOptional(DateTimeFormatter.ISO_LOCAL_TIME)
+            .toFormatter();
+
 
     public static DataType stringToKnownDataTypeConverter(String input) {
 
@@ -65,8 +79,6 @@ public class DataTypeStringUtils {
             return DataType.NULL;
         }
 
-        String strNumericValue = input.trim().replaceAll(",", "");
-
         if (input.startsWith("[") && input.endsWith("]")) {
             String betweenBraces = input.substring(1, input.length() - 1);
             String trimmedInputBetweenBraces = betweenBraces.trim();
@@ -78,75 +90,51 @@ public class DataTypeStringUtils {
             return DataType.ARRAY;
         }
 
-        try {
-            Integer.parseInt(strNumericValue);
-            return DataType.INTEGER;
-        } catch (NumberFormatException e) {
-            // Not an integer
-        }
-
-        try {
-            Long.parseLong(strNumericValue);
-            return DataType.LONG;
-        } catch (NumberFormatException e1) {
-            // Not long
-        }
-
-        try {
-            Float.parseFloat(strNumericValue);
-            return DataType.FLOAT;
-        } catch (NumberFormatException e2) {
-            // Not float
+        String strNumericValue = removeCommas(input.trim());
+        final DataType numericDataType = getNumericDataType(strNumericValue);
+        if (numericDataType != null) {
+            return numericDataType;
         }
 
-        try {
-            Double.parseDouble(strNumericValue);
-            return DataType.DOUBLE;
-        } catch (NumberFormatException e3) {
-            // Not double
-        }
-
-        // Creating a copy of the input in lower case form to do simple string equality to check for boolean/null types.
-        String copyInput = String.valueOf(input).toLowerCase().trim();
-        if (copyInput.equals("true") || copyInput.equals("false")) {
+        // Doing a simple case-insensitive string equality to check for boolean/null types.
+        String copyInput = input.trim();
+        if (equalsAsciiIgnoreCase(copyInput, "true") || equalsAsciiIgnoreCase(copyInput, "false")) {
             return DataType.BOOLEAN;
         }
 
-        if (copyInput.equals("null")) {
+        if (equalsAsciiIgnoreCase(copyInput, "null")) {
             return DataType.NULL;
         }
 
-        try {
-            final DateTimeFormatter dateTimeFormatter = new DateTimeFormatterBuilder()
-//                    .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"))
-                    .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
-                    .toFormatter();
-            LocalDateTime.parse(input, dateTimeFormatter);
-            return DataType.TIMESTAMP;
-        } catch (DateTimeParseException ex) {
-            // Not timestamp
-        }
+        // Timestamps, dates and times all start with a digit, or the sign of a year with more than four digits
+        final char firstChar = input.isEmpty() ? 0 : input.charAt(0);
+        if (isAsciiDigit(firstChar) || firstChar == '+' || firstChar == '-') {
+            try {
+                LocalDateTime.parse(input, TIMESTAMP_FORMATTER);
+                return DataType.TIMESTAMP;
+            } catch (DateTimeParseException ex) {
+                // Not timestamp
+            }
 
-        try {
-            final DateTimeFormatter dateFormatter = new DateTimeFormatterBuilder()
-                    .appendOptional(DateTimeFormatter.ISO_LOCAL_DATE)
-                    .toFormatter();
-            LocalDate.parse(input, dateFormatter);
-            return DataType.DATE;
-        } catch (DateTimeParseException ex) {
-            // Not date
-        }
+            try {
+                LocalDate.parse(input, DATE_FORMATTER);
+                return DataType.DATE;
+            } catch (DateTimeParseException ex) {
+                // Not date
+            }
 
-        try {
-            final DateTimeFormatter timeFormatter = new DateTimeFormatterBuilder()
-                    .appendOptional(DateTimeFormatter.ISO_LOCAL_TIME)
-                    .toFormatter();
-            LocalTime.parse(input, timeFormatter);
-            return DataType.TIME;
-        } catch (DateTimeParseException ex) {
-            // Not time
+            try {
+                LocalTime.parse(input, TIME_FORMATTER);
+                return DataType.TIME;
+            } catch (DateTimeParseException ex) {
+                // Not time
+            }
         }
 
+        // Neither a JSON object nor a BSON document can start with anything else than a brace
+        if (!startsWithBrace(input)) {
+            return DataType.STRING;
+        }
 
         try (JsonReader reader = new JsonReader(new StringReader(input))) {
             strictGsonObjectAdapter.read(reader);
@@ -187,6 +175,154 @@ public class DataTypeStringUtils {
         return DataType.STRING;
     }
 
+    /**
+     * Classifies the given value the way parsing it with `Integer.parseInt`, `Long.parseLong` and `Float.parseFloat`,
+     * in this order, would do. Plain decimal numbers are classified in a single pass without any exception being
+     * thrown. The rarer formats that the scan does not handle, like `NaN`, hexadecimal floats or digits from other
+     * scripts, are still left to the parse methods.
+     *
+     * @return INTEGER, LONG or FLOAT, or null if the value is not a number
+     */
+    private static DataType getNumericDataType(String value) {
+        // Floats may have leading or trailing whitespace, unlike integers
+        final String trimmedValue = value.trim();
+        final int length = trimmedValue.length();
+
+        int i = 0;
+        final boolean isNegative = length > 0 && trimmedValue.charAt(0) == '-';
+        if (length > 0 && (isNegative || trimmedValue.charAt(0) == '+')) {
+            i++;
+        }
+
+        // Accumulated negatively like `Long.parseLong` does, so that Long.MIN_VALUE fits as well
+        long result = 0;
+        boolean isLongOverflow = false;
+        final int integerStart = i;
+        while (i < length && isAsciiDigit(trimmedValue.charAt(i))) {
+            final int digit = trimmedValue.charAt(i) - '0';
+            if (result < (Long.MIN_VALUE + digit) / 10) {
+                isLongOverflow = true;
+            } else {
+                result = result * 10 - digit;
+            }
+            i++;
+        }
+        final int integerDigits = i - integerStart;
+
+        if (integerDigits > 0 && i == length && length == value.length()) {
+            if (isLongOverflow || (!isNegative && result == Long.MIN_VALUE)) {
+                // Too large for a long, but a float is never too large as it becomes infinity instead
+                return DataType.FLOAT;
+            }
+
+            final long number = isNegative ? result : -result;
+            return number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE ? DataType.INTEGER : DataType.LONG;
+        }
+
+        int fractionDigits = 0;
+        if (i < length && trimmedValue.charAt(i) == '.') {
+            i++;
+            while (i < length && isAsciiDigit(trimmedValue.charAt(i))) {
+                fractionDigits++;
+                i++;
+            }
+        }
+
+        boolean isDecimal = integerDigits + fractionDigits > 0;
+        if (isDecimal && i < length && (trimmedValue.charAt(i) == 'e' || trimmedValue.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (trimmedValue.charAt(i) == '+' || trimmedValue.charAt(i) == '-')) {
+                i++;
+            }
+            final int exponentStart = i;
+            while (i < length && isAsciiDigit(trimmedValue.charAt(i))) {
+                i++;
+            }
+            isDecimal = i > exponentStart;
+        }
+
+        if (isDecimal && i < length && "fFdD".indexOf(trimmedValue.charAt(i)) >= 0) {
+            i++;
+        }
+
+        if (isDecimal && i == length) {
+            return DataType.FLOAT;
+        }
+
+        if (!mayBeOtherNumberFormat(trimmedValue)) {
+            return null;
+        }
+
+        try {
+            Integer.parseInt(value);
+            return DataType.INTEGER;
+        } catch (NumberFormatException e) {
+            // Not an integer
+        }
+
+        try {
+            Long.parseLong(value);
+            return DataType.LONG;
+        } catch (NumberFormatException e1) {
+            // Not long
+        }
+
+        try {
+            Float.parseFloat(value);
+            return DataType.FLOAT;
+        } catch (NumberFormatException e2) {
+            // Not float
+        }
+
+        return null;
+    }
+
+    /**
+     * @return whether the value contains the characters of `NaN`, `Infinity` or a hexadecimal float, or a non ASCII
+     * character which may be a digit.
+     */
+    private static boolean mayBeOtherNumberFormat(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == 'N' || c == 'I' || c == 'x' || c == 'X' || c > 127) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean equalsAsciiIgnoreCase(String value, String lowerCaseWord) {
+        if (value.length() != lowerCaseWord.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            final char lowerCaseChar = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+            if (lowerCaseChar != lowerCaseWord.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWithBrace(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '{';
+            }
+        }
+        return false;
+    }
+
+    private static String removeCommas(String value) {
+        return value.indexOf(',') < 0 ? value : value.replace(",", "");
+    }
+
     /**
      *
      * @param input input string which has a mustache expression that will be substituted by the replacement value
@@ -308,54 +444,45 @@ public class DataTypeStringUtils {
         return true;
     }
 
+    /**
+     * Only the first rows are looked at, so that the cost does not grow with the size of the result.
+     */
     private static boolean isDisplayTypeTable(Object data) {
         if (data instanceof List) {
             // Check if the data is a list of json objects
-            return ((List) data).stream()
+            return ((List<?>) data).stream()
+                    .limit(DISPLAY_TYPE_SAMPLE_SIZE)
                     .allMatch(item -> item instanceof Map);
         }
         else if (data instanceof JsonNode) {
-            // Check if the data is an array of json objects
-            try {
-                objectMapper.convertValue(data, new TypeReference<List<Map<String, Object>>>() {
-                });
+            // Check if the data is an array of json objects. A null converts to a null list, which is a valid table.
+            final JsonNode node = (JsonNode) data;
+            if (node.isNull()) {
                 return true;
-            } catch (IllegalArgumentException e) {
-                return false;
             }
-        }
-        else if (data instanceof String) {
-            // Check if the data is an array of json objects
-            try {
-                objectMapper.readValue((String) data, new TypeReference<List<Map<String, Object>>>() {
-                });
-                return true;
-            } catch (IOException e) {
+            if (!node.isArray()) {
                 return false;
             }
+
+            final int sampleSize = Math.min(node.size(), DISPLAY_TYPE_SAMPLE_SIZE);
+            for (int i = 0; i < sampleSize; i++) {
+                final JsonNode item = node.get(i);
+                if (!item.isObject() && !item.isNull()) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         return false;
     }
-    
+
     private static boolean isDisplayTypeJson(Object data) {
         /*
          * - Any non string non primitive object is converted into a json when serializing.
          * - https://stackoverflow.com/questions/25039080/java-how-to-determine-if-type-is-any-of-primitive-wrapper-string-or-something/25039320
          */
-        if (!isPrimitiveOrWrapper(data.getClass()) && !(data instanceof String)) {
-            return true;
-        }
-        else if (data instanceof String) {
-            try {
-                objectMapper.readTree((String)data);
-                return true;
-            } catch (IOException e) {
-                return false;
-            }
-        }
-
-        return false;
+        return !isPrimitiveOrWrapper(data.getClass()) && !(data instanceof String);
     }
 
     public static List<ParsedDataType> getDisplayDataTypes(Object data) {
@@ -366,6 +493,17 @@ public class DataTypeStringUtils {
 
         List<ParsedDataType> dataTypes = new ArrayList<>();
 
+        if (data instanceof String) {
+            // The string is parsed once for both checks, it may well be the whole body of a large response.
+            try {
+                data = objectMapper.readTree((String) data);
+            } catch (IOException e) {
+                // Neither a table nor a json
+                dataTypes.add(new ParsedDataType(DisplayDataType.RAW));
+                return dataTypes;
+            }
+        }
+
         // Check if the data is a valid table.
         if (isDisplayTypeTable(data)) {
             dataTypes.add(new ParsedDataType(DisplayDataType.TABLE));
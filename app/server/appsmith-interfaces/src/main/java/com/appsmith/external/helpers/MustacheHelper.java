@@ -3,13 +3,14 @@ package com.appsmith.external.helpers;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.DynamicBinding;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.text.StringEscapeUtils;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.util.StringUtils;
 
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -19,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -58,6 +60,8 @@ public class MustacheHelper {
     private static String laxMustacheBindingRegex = "\\{\\{([\\s\\S]*?)\\}\\}";
     private static Pattern laxMustacheBindingPattern = Pattern.compile(laxMustacheBindingRegex);
 
+    private static final Map<Class<?>, List<PropertyDescriptor>> renderablePropertyDescriptorsMap = new ConcurrentHashMap<>();
+
 
     /**
      * Tokenize a Mustache template string into a list of plain text and Mustache interpolations.
@@ -255,6 +259,9 @@ public class MustacheHelper {
      * - If object is map type, then iterate over each value in the map and render field value for them.
      * - If the object is string type (base case), then do the binding substitution if applicable.
      * - If the object falls under none of the above conditions then return the object without doing anything.
+     * <p>
+     * Lists and maps are only rebuilt when one of their values has been rendered into a different object, and fields
+     * are only set when their value has changed. Strings are rendered with their compiled templates.
      */
     public static <T> T renderFieldValues(T object, Map<String, String> context) {
         if (object == null) {
@@ -262,39 +269,60 @@ public class MustacheHelper {
         }
 
         if (isDomainModel(object.getClass())) {
+            BeanWrapper beanWrapper = null;
             try {
-                final BeanWrapper sourceBeanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(object);
-                for (PropertyDescriptor propertyDescriptor : sourceBeanWrapper.getPropertyDescriptors()) {
-                    // For properties like `class` that don't have a set method, just ignore them.
-                    if (propertyDescriptor.getWriteMethod() == null) {
+                for (PropertyDescriptor propertyDescriptor : getRenderablePropertyDescriptors(object.getClass())) {
+                    final Object value = propertyDescriptor.getReadMethod().invoke(object);
+                    final Object renderedValue = renderFieldValues(value, context);
+                    if (renderedValue == value) {
                         continue;
                     }
 
-                    String name = propertyDescriptor.getName();
-                    Object value = sourceBeanWrapper.getPropertyValue(name);
-                    sourceBeanWrapper.setPropertyValue(name, renderFieldValues(value, context));
+                    final Method writeMethod = propertyDescriptor.getWriteMethod();
+                    if (writeMethod.getParameterTypes()[0].isInstance(renderedValue)) {
+                        writeMethod.invoke(object, renderedValue);
+                    } else {
+                        // Let the bean wrapper convert the rendered value to the type of the property
+                        if (beanWrapper == null) {
+                            beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(object);
+                        }
+                        beanWrapper.setPropertyValue(propertyDescriptor.getName(), renderedValue);
+                    }
                 }
-            } catch (BeansException e) {
+            } catch (BeansException | ReflectiveOperationException e) {
                 log.error("Exception caught while substituting values in mustache template.", e);
             }
         } else if (object instanceof List) {
-            List renderedList = new ArrayList();
-            for (Object childValue : (List) object) {
-                renderedList.add(renderFieldValues(childValue, context));
+            final List list = (List) object;
+            List renderedList = null;
+            for (int i = 0; i < list.size(); i++) {
+                final Object childValue = list.get(i);
+                final Object renderedChildValue = renderFieldValues(childValue, context);
+                if (renderedList == null && renderedChildValue != childValue) {
+                    renderedList = new ArrayList(list.size());
+                    renderedList.addAll(list.subList(0, i));
+                }
+                if (renderedList != null) {
+                    renderedList.add(renderedChildValue);
+                }
             }
 
-            return (T) renderedList;
+            return renderedList == null ? object : (T) renderedList;
 
         } else if (object instanceof Map) {
-            Map renderedMap = new HashMap();
+            Map renderedMap = null;
             for (Object entry : ((Map) object).entrySet()) {
-                renderedMap.put(
-                        ((Map.Entry) entry).getKey(), // key
-                        renderFieldValues(((Map.Entry) entry).getValue(), context) // value
-                );
+                final Object childValue = ((Map.Entry) entry).getValue();
+                final Object renderedChildValue = renderFieldValues(childValue, context);
+                if (renderedMap == null && renderedChildValue != childValue) {
+                    renderedMap = new HashMap((Map) object);
+                }
+                if (renderedMap != null) {
+                    renderedMap.put(((Map.Entry) entry).getKey(), renderedChildValue);
+                }
             }
 
-            return (T) renderedMap;
+            return renderedMap == null ? object : (T) renderedMap;
 
         } else if (object instanceof String) {
             return (T) render((String) object, context);
@@ -303,23 +331,33 @@ public class MustacheHelper {
         return object;
     }
 
+    /**
+     * @return the properties of the given domain model which can be both read and written, i.e. leaving out
+     * properties like `class`.
+     */
+    private static List<PropertyDescriptor> getRenderablePropertyDescriptors(Class<?> domainClass) {
+        return renderablePropertyDescriptorsMap.computeIfAbsent(domainClass, key -> {
+            final List<PropertyDescriptor> propertyDescriptors = new ArrayList<>();
+            for (PropertyDescriptor propertyDescriptor : BeanUtils.getPropertyDescriptors(key)) {
+                if (propertyDescriptor.getReadMethod() != null && propertyDescriptor.getWriteMethod() != null) {
+                    propertyDescriptors.add(propertyDescriptor);
+                }
+            }
+            return propertyDescriptors;
+        });
+    }
+
     /**
      * @param template    : This is the string which contains {{key}} which would be replaced with value
      * @param keyValueMap : This is the map of keys with values.
      * @return It finally returns the string in which all the keys in template have been replaced with values.
      */
     public static String render(String template, Map<String, String> keyValueMap) {
-        final StringBuilder rendered = new StringBuilder();
-
-        for (String token : tokenize(template)) {
-            if (token.startsWith("{{") && token.endsWith("}}")) {
-                rendered.append(keyValueMap.get(token.substring(2, token.length() - 2).trim()));
-            } else {
-                rendered.append(token);
-            }
+        if (StringUtils.isEmpty(template)) {
+            return "";
         }
 
-        return StringEscapeUtils.unescapeHtml4(rendered.toString());
+        return MustacheTemplate.render(template, keyValueMap);
     }
 
     public static void extractActionNamesAndAddValidActionBindingsToSet(Map<String, DynamicBinding> bindingNames, String mustacheKey) {
@@ -0,0 +1,127 @@
+package com.appsmith.external.helpers;
+
+import org.apache.commons.text.StringEscapeUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A Mustache template string compiled into its plain text segments and the keys of its bindings, so that rendering it
+ * again with different values does not have to tokenize the template again. Rendering gives the same result as
+ * `MustacheHelper.render` on the template string.
+ * <p>
+ * Compiled templates are cached against the template string itself, which means that editing an action gives its
+ * configuration new templates rather than stale ones.
+ */
+public class MustacheTemplate {
+
+    // The cache is dropped as a whole once full, since templates are cheap to compile again
+    private static final int MAX_CACHED_TEMPLATES = 1000;
+
+    private static final Map<String, MustacheTemplate> compiledTemplates = new ConcurrentHashMap<>();
+
+    // Plain text segments, with a null at the position of each binding
+    private final String[] segments;
+
+    // Trimmed keys of the bindings, with a null at the position of each plain text segment
+    private final String[] keys;
+
+    private final int plainTextLength;
+
+    // Rendered template, when the template does not have any binding to substitute
+    private final String rendered;
+
+    private MustacheTemplate(String template) {
+        final List<String> tokens = MustacheHelper.tokenize(template);
+        segments = new String[tokens.size()];
+        keys = new String[tokens.size()];
+
+        int length = 0;
+        boolean hasBindings = false;
+        for (int i = 0; i < tokens.size(); i++) {
+            final String token = tokens.get(i);
+            if (isBinding(token)) {
+                keys[i] = token.substring(2, token.length() - 2).trim();
+                hasBindings = true;
+            } else {
+                segments[i] = token;
+                length += token.length();
+            }
+        }
+
+        plainTextLength = length;
+        rendered = hasBindings ? null : unescapeHtml4(template);
+    }
+
+    /**
+     * @param template : Mustache template string
+     * @return the compiled form of the template, from the cache if the template has been compiled before
+     */
+    public static MustacheTemplate compile(String template) {
+        if (template.indexOf("{{") < 0) {
+            // Nothing to substitute, not worth keeping in the cache
+            return new MustacheTemplate(template);
+        }
+
+        MustacheTemplate compiledTemplate = compiledTemplates.get(template);
+        if (compiledTemplate == null) {
+            if (compiledTemplates.size() >= MAX_CACHED_TEMPLATES) {
+                compiledTemplates.clear();
+            }
+            compiledTemplate = compiledTemplates.computeIfAbsent(template, MustacheTemplate::new);
+        }
+
+        return compiledTemplate;
+    }
+
+    /**
+     * Renders the given template without compiling it, when there is nothing to substitute in it. This is the case for
+     * most of the strings in an action's configuration.
+     *
+     * @return the rendered template, which is the same instance as the template if rendering did not change it
+     */
+    public static String render(String template, Map<String, String> keyValueMap) {
+        if (template.indexOf("{{") < 0) {
+            return unescapeHtml4(template);
+        }
+
+        return compile(template).render(keyValueMap);
+    }
+
+    public boolean hasBindings() {
+        return rendered == null;
+    }
+
+    /**
+     * @param keyValueMap : values of the keys of the bindings
+     * @return the template with each binding replaced by the value of its key
+     */
+    public String render(Map<String, String> keyValueMap) {
+        if (rendered != null) {
+            return rendered;
+        }
+
+        final StringBuilder renderedBuilder = new StringBuilder(plainTextLength + 16 * keys.length);
+        for (int i = 0; i < segments.length; i++) {
+            if (keys[i] != null) {
+                renderedBuilder.append(keyValueMap.get(keys[i]));
+            } else {
+                renderedBuilder.append(segments[i]);
+            }
+        }
+
+        return unescapeHtml4(renderedBuilder.toString());
+    }
+
+    private static boolean isBinding(String token) {
+        return token.startsWith("{{") && token.endsWith("}}");
+    }
+
+    /**
+     * All the HTML entities start with an ampersand, strings without one are returned as they are.
+     */
+    private static String unescapeHtml4(String value) {
+        return value.indexOf('&') < 0 ? value : StringEscapeUtils.unescapeHtml4(value);
+    }
+}
@@ -0,0 +1,175 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Keeps a running estimate of the size of a query result as rows get added to it, so that plugins can stop reading
+ * from a data source once the result grows beyond the maximum response size supported by the server.
+ * <p>
+ * Every row is accounted for exactly once when it is added, which keeps the cost linear in the size of the result,
+ * unlike serializing the whole accumulated result every few rows. The estimate is an approximation of the number of
+ * bytes the row takes up in the JSON response and does not try to be exact.
+ * <p>
+ * Usage :
+ * <pre>
+ *     ResultSizeEstimator resultSizeEstimator = new ResultSizeEstimator(sharedConfig.getMaxResponseSize());
+ *     while (resultSet.next()) {
+ *         ...
+ *         rowsList.add(row);
+ *         resultSizeEstimator.addRowAndCheckLimit(row);
+ *     }
+ * </pre>
+ */
+public class ResultSizeEstimator {
+
+    // Rough overheads of the JSON representation : quotes, separators, brackets and the like.
+    private static final int NULL_SIZE = 4;
+    private static final int STRING_OVERHEAD = 2;
+    private static final int NUMBER_SIZE = 8;
+    private static final int BOOLEAN_SIZE = 5;
+    private static final int ENTRY_OVERHEAD = 4;
+    private static final int CONTAINER_OVERHEAD = 2;
+
+    @Getter
+    private final long maxSizeInBytes;
+
+    @Getter
+    private long estimatedSizeInBytes = 0;
+
+    public ResultSizeEstimator(long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    /**
+     * Accounts for the row and returns the estimated size of the result so far.
+     */
+    public long addRow(Object row) {
+        estimatedSizeInBytes += estimateSize(row) + ENTRY_OVERHEAD;
+        return estimatedSizeInBytes;
+    }
+
+    public boolean isLimitExceeded() {
+        return estimatedSizeInBytes > maxSizeInBytes;
+    }
+
+    /**
+     * Accounts for the row and throws PLUGIN_MAX_RESULT_SIZE_EXCEEDED if the result has grown beyond the maximum
+     * supported size.
+     */
+    public void addRowAndCheckLimit(Object row) throws AppsmithPluginException {
+        addRow(row);
+        checkLimit();
+    }
+
+    public void checkLimit() throws AppsmithPluginException {
+        if (isLimitExceeded()) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED,
+                    (float) (maxSizeInBytes / (1024 * 1024)));
+        }
+    }
+
+    /**
+     * @param value - a value as found in a plugin's result : strings, numbers, maps, collections, arrays, JsonNodes,
+     *              and so on
+     * @return approximate number of bytes the value takes up when serialized to JSON
+     */
+    public static long estimateSize(Object value) {
+        if (value == null) {
+            return NULL_SIZE;
+        }
+
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() + STRING_OVERHEAD;
+        }
+
+        if (value instanceof Number) {
+            return NUMBER_SIZE;
+        }
+
+        if (value instanceof Boolean) {
+            return BOOLEAN_SIZE;
+        }
+
+        if (value instanceof Map) {
+            long size = CONTAINER_OVERHEAD;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += estimateSize(entry.getKey()) + estimateSize(entry.getValue()) + ENTRY_OVERHEAD;
+            }
+            return size;
+        }
+
+        if (value instanceof Collection) {
+            long size = CONTAINER_OVERHEAD;
+            for (Object element : (Collection<?>) value) {
+                size += estimateSize(element) + 1;
+            }
+            return size;
+        }
+
+        if (value instanceof JsonNode) {
+            return estimateJsonNodeSize((JsonNode) value);
+        }
+
+        if (value instanceof byte[]) {
+            // Binary data is sent base64 encoded
+            return ((byte[]) value).length * 4L / 3 + STRING_OVERHEAD;
+        }
+
+        if (value.getClass().isArray()) {
+            long size = CONTAINER_OVERHEAD;
+            int length = Array.getLength(value);
+            for (int i = 0; i < length; i++) {
+                size += estimateSize(Array.get(value, i)) + 1;
+            }
+            return size;
+        }
+
+        return String.valueOf(value).length() + STRING_OVERHEAD;
+    }
+
+    private static long estimateJsonNodeSize(JsonNode node) {
+        if (node.isObject()) {
+            long size = CONTAINER_OVERHEAD;
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                size += field.getKey().length() + STRING_OVERHEAD + estimateJsonNodeSize(field.getValue()) + ENTRY_OVERHEAD;
+            }
+            return size;
+        }
+
+        if (node.isArray()) {
+            long size = CONTAINER_OVERHEAD;
+            for (JsonNode element : node) {
+                size += estimateJsonNodeSize(element) + 1;
+            }
+            return size;
+        }
+
+        if (node.isTextual()) {
+            return node.textValue().length() + STRING_OVERHEAD;
+        }
+
+        if (node.isNull() || node.isMissingNode()) {
+            return NULL_SIZE;
+        }
+
+        if (node.isNumber()) {
+            return NUMBER_SIZE;
+        }
+
+        if (node.isBoolean()) {
+            return BOOLEAN_SIZE;
+        }
+
+        return node.asText().length() + STRING_OVERHEAD;
+    }
+}
@@ -3,6 +3,7 @@ package com.appsmith.external.helpers;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.models.UploadedFile;
+import io.netty.handler.ssl.SslContextBuilder;
 import reactor.netty.tcp.DefaultSslContextSpec;
 import reactor.netty.tcp.SslProvider;
 
@@ -60,21 +61,26 @@ public class SSLHelper {
 
         return (sslContextSpec) -> {
             final DefaultSslContextSpec sslContextSpec1 = DefaultSslContextSpec.forClient();
-
-            if (datasourceConfiguration.getConnection() != null &&
-                    datasourceConfiguration.getConnection().getSsl() != null &&
-                    datasourceConfiguration.getConnection().getSsl().getAuthType() == SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE) {
-
-                sslContextSpec1.configure(sslContextBuilder -> {
-                    try {
-                        final UploadedFile certificateFile = datasourceConfiguration.getConnection().getSsl().getCertificateFile();
-                        sslContextBuilder.trustManager(SSLHelper.getSslTrustManagerFactory(certificateFile));
-                    } catch (CertificateException | KeyStoreException | IOException | NoSuchAlgorithmException e) {
-                        e.printStackTrace();
-                    }
-                });
-            }
+            sslContextSpec1.configure(sslContextBuilder -> trustSelfSignedCertificate(sslContextBuilder, datasourceConfiguration));
             sslContextSpec.sslContext(sslContextSpec1);
         };
     }
+
+    /**
+     * Makes the SSL context trust the self-signed certificate of the datasource, if it has one.
+     */
+    public static void trustSelfSignedCertificate(SslContextBuilder sslContextBuilder,
+                                                  DatasourceConfiguration datasourceConfiguration) {
+        if (datasourceConfiguration.getConnection() != null &&
+                datasourceConfiguration.getConnection().getSsl() != null &&
+                datasourceConfiguration.getConnection().getSsl().getAuthType() == SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE) {
+
+            try {
+                final UploadedFile certificateFile = datasourceConfiguration.getConnection().getSsl().getCertificateFile();
+                sslContextBuilder.trustManager(SSLHelper.getSslTrustManagerFactory(certificateFile));
+            } catch (CertificateException | KeyStoreException | IOException | NoSuchAlgorithmException e) {
+                e.printStackTrace();
+            }
+        }
+    }
 }
@@ -4,6 +4,11 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 
+/**
+ * @deprecated Serializes the whole object on every call, which gets expensive when called repeatedly on a growing
+ * result. Use {@link ResultSizeEstimator} to account for the size of a result incrementally.
+ */
+@Deprecated
 public class Sizeof {
 
     public static int sizeof(Object obj) throws IOException {
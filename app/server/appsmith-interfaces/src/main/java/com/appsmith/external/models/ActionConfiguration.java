@@ -39,6 +39,12 @@ public class ActionConfiguration implements AppsmithDomain {
     Integer timeoutInMillisecond;
     PaginationType paginationType = PaginationType.NONE;
 
+    /*
+     * Number of seconds for which the results of this action are cached on the server once it is published, provided
+     * that the action is a read only query. The results are not cached when this is not set.
+     */
+    Integer resultCacheTtlInSeconds;
+
     // API fields
     String path;
     List<Property> headers;
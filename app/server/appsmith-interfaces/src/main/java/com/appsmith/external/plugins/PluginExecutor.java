@@ -12,10 +12,13 @@ import com.appsmith.external.models.Property;
 import com.appsmith.external.models.TriggerRequestDTO;
 import com.appsmith.external.models.TriggerResultDTO;
 import org.pf4j.ExtensionPoint;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +26,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.helpers.PluginUtils.getHintMessageForLocalhostUrl;
+import static java.lang.Boolean.TRUE;
 
 public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
 
@@ -137,6 +141,43 @@ public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
         return this.execute(connection, datasourceConfiguration, actionConfiguration);
     }
 
+    /**
+     * Appsmith Server calls this function for execution of the action when the client has asked for the result to be
+     * streamed back to it.
+     * <p>
+     * The returned Flux emits the result envelope first : an ActionExecutionResult carrying everything but the rows of
+     * the body (success flag, status code, request, messages, etc.). The rows of the body follow it one by one. In case
+     * the result does not have rows to stream (e.g. a failed execution or a body that is not a list), only the envelope
+     * is emitted and it carries the body as is.
+     * <p>
+     * The default implementation executes the action as usual and then splits the result, hence the whole result is
+     * still held in memory. Plugins which are able to read rows off the data source one at a time should override this
+     * function so that the memory required to execute an action does not grow with the size of its result. Any resource
+     * held for reading the rows must be released when the returned Flux terminates or gets cancelled.
+     *
+     * @param connection              : This is the connection that is established to the data source.
+     * @param executeActionDTO        : This is the data structure sent by the client during execute.
+     * @param datasourceConfiguration : These are the configurations which have been used to create a Datasource from a Plugin
+     * @param actionConfiguration     : These are the configurations which have been used to create an Action from a Datasource.
+     * @return Flux of the result envelope followed by the rows of the result body
+     */
+    default Flux<Object> executeParameterizedAndStream(C connection,
+                                                       ExecuteActionDTO executeActionDTO,
+                                                       DatasourceConfiguration datasourceConfiguration,
+                                                       ActionConfiguration actionConfiguration) {
+        return this.executeParameterized(connection, executeActionDTO, datasourceConfiguration, actionConfiguration)
+                .<Object>flatMapMany(result -> {
+                    final Object body = result.getBody();
+                    if (!TRUE.equals(result.getIsExecutionSuccess())
+                            || !(body instanceof ArrayNode || body instanceof Collection)) {
+                        return Flux.<Object>just(result);
+                    }
+
+                    result.setBody(null);
+                    return Flux.concat(Mono.<Object>just(result), Flux.fromIterable((Iterable<Object>) body));
+                });
+    }
+
     /**
      * This function is responsible for preparing the action and datasource configurations to be ready for execution.
      *
@@ -0,0 +1,759 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.SortType;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+import static com.appsmith.external.helpers.DataTypeStringUtils.stringToKnownDataTypeConverter;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * In process implementation of UQI filtering (where clause, sorting, pagination and projection) that works directly on
+ * the JSON rows instead of copying them into H2 first.
+ * <p>
+ * The rows are first loaded into typed column vectors as per the schema generated by
+ * `FilterDataServiceCE.generateSchema`. Cells and condition values are coerced into the column data type exactly the
+ * way `FilterDataServiceCE.setValueInStatement` binds them for H2. The where clause is then compiled once into a
+ * predicate over row indices, following SQL's three valued logic for NULLs, and rows are sorted with H2's default
+ * ordering (NULLs first for ascending order). When a limit is given along with a sort, only the top `offset + limit`
+ * rows are kept in a bounded heap instead of sorting all the matching rows.
+ * <p>
+ * Whenever the input needs something whose H2 behaviour is not replicated here (date columns, conditions on REAL
+ * columns, malformed where clauses, values that H2 would reject, etc.) `filter` returns an empty Optional and the
+ * caller is expected to fall back to H2. Rows with equal sort keys are returned in their original order.
+ */
+@Slf4j
+class ColumnarFilterEngine {
+
+    private static final Set<ConditionalOperator> IS_NULL_OPERATORS = Set.of(
+            ConditionalOperator.EQ,
+            ConditionalOperator.IN,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.LTE,
+            ConditionalOperator.LT
+    );
+
+    private static final Set<ConditionalOperator> IS_NOT_NULL_OPERATORS = Set.of(
+            ConditionalOperator.NOT_IN,
+            ConditionalOperator.NOT_EQ,
+            ConditionalOperator.GTE,
+            ConditionalOperator.GT
+    );
+
+    private static final IntPredicate NEVER = row -> false;
+
+    private final ObjectMapper objectMapper;
+
+    ColumnarFilterEngine(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param items                 - data
+     * @param schema                - schema generated for the data by FilterDataServiceCE.generateSchema
+     * @param uqiDataFilterParams   - filter conditions to apply on data
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return filtered data, or an empty Optional if the filtering needs to be done using H2 instead
+     */
+    Optional<ArrayNode> filter(ArrayNode items, Map<String, DataType> schema, UQIDataFilterParams uqiDataFilterParams,
+                               Map<DataType, DataType> dataTypeConversionMap) {
+        try {
+            Map<String, ColumnVector> columns = new LinkedHashMap<>();
+            for (Map.Entry<String, DataType> entry : schema.entrySet()) {
+                columns.put(entry.getKey(), new ColumnVector(entry.getKey(), entry.getValue(), items.size()));
+            }
+
+            // Compile everything before touching the data so that we bail out early for unsupported filters
+            IntPredicate predicate = compileWhereClause(uqiDataFilterParams.getCondition(), columns);
+            Comparator<Integer> comparator = compileSortCondition(uqiDataFilterParams.getSortBy(), columns);
+            List<ColumnVector> projection = compileProjection(uqiDataFilterParams.getProjectionColumns(), columns);
+            Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
+            int limit = Integer.MAX_VALUE;
+            int offset = 0;
+            if (!CollectionUtils.isEmpty(paginateBy)) {
+                limit = parsePaginationValue(paginateBy.get(PAGINATE_LIMIT_KEY), "20");
+                offset = parsePaginationValue(paginateBy.get(PAGINATE_OFFSET_KEY), "0");
+                if (limit == 0) {
+                    throw new UnsupportedFilterException("zero limit");
+                }
+            }
+
+            loadColumns(items, columns.values(), dataTypeConversionMap);
+
+            List<Integer> selectedRows = selectRows(items.size(), predicate, comparator, limit, offset);
+
+            ArrayNode result = objectMapper.createArrayNode();
+            for (int row : selectedRows) {
+                ObjectNode rowNode = result.addObject();
+                for (ColumnVector column : projection) {
+                    column.writeTo(rowNode, row);
+                }
+            }
+
+            return Optional.of(result);
+        } catch (UnsupportedFilterException e) {
+            log.debug("Falling back to H2 for in memory filtering : {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void loadColumns(ArrayNode items, Iterable<ColumnVector> columns, Map<DataType, DataType> dataTypeConversionMap) {
+        for (ColumnVector column : columns) {
+            DataType bindDataType = column.dataType;
+            if (dataTypeConversionMap != null) {
+                bindDataType = dataTypeConversionMap.getOrDefault(column.dataType, column.dataType);
+            }
+            column.setBindDataType(bindDataType);
+        }
+
+        int row = 0;
+        for (JsonNode item : items) {
+            for (ColumnVector column : columns) {
+                JsonNode fieldNode = item.get(column.name);
+                if (fieldNode == null) {
+                    // The generated insert query for H2 is invalid in this case.
+                    throw new UnsupportedFilterException("missing value for column " + column.name);
+                }
+                column.load(row, fieldNode.asText(), dataTypeConversionMap);
+            }
+            row++;
+        }
+    }
+
+    private List<Integer> selectRows(int rowCount, IntPredicate predicate, Comparator<Integer> comparator, int limit,
+                                     int offset) {
+        long wanted = (long) offset + limit;
+
+        if (comparator == null) {
+            List<Integer> selectedRows = new ArrayList<>();
+            int matched = 0;
+            for (int row = 0; row < rowCount && matched < wanted; row++) {
+                if (predicate.test(row)) {
+                    if (matched >= offset) {
+                        selectedRows.add(row);
+                    }
+                    matched++;
+                }
+            }
+            return selectedRows;
+        }
+
+        // Break ties using the row index so that the result is the same as a stable sort of all the matching rows.
+        Comparator<Integer> totalOrder = comparator.thenComparing(Comparator.<Integer>naturalOrder());
+
+        List<Integer> matchingRows;
+        if (wanted < rowCount) {
+            // Top-K : keep only the best `offset + limit` rows in a heap whose head is the worst row kept so far.
+            PriorityQueue<Integer> heap = new PriorityQueue<>((int) wanted + 1, totalOrder.reversed());
+            for (int row = 0; row < rowCount; row++) {
+                if (!predicate.test(row)) {
+                    continue;
+                }
+                if (heap.size() < wanted) {
+                    heap.add(row);
+                } else if (totalOrder.compare(row, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(row);
+                }
+            }
+            matchingRows = new ArrayList<>(heap);
+        } else {
+            matchingRows = new ArrayList<>();
+            for (int row = 0; row < rowCount; row++) {
+                if (predicate.test(row)) {
+                    matchingRows.add(row);
+                }
+            }
+        }
+
+        matchingRows.sort(totalOrder);
+
+        if (offset >= matchingRows.size()) {
+            return List.of();
+        }
+        return matchingRows.subList(offset, (int) Math.min(matchingRows.size(), wanted));
+    }
+
+    /**
+     * Mirrors `FilterDataServiceCE.addPaginationCondition`, where limit and offset get bound as INTEGER parameters.
+     */
+    private static int parsePaginationValue(String value, String defaultValue) {
+        if (isBlank(value)) {
+            value = defaultValue;
+        }
+
+        if (DataType.NULL.equals(stringToKnownDataTypeConverter(value))) {
+            throw new UnsupportedFilterException("null pagination value");
+        }
+
+        int parsedValue;
+        try {
+            parsedValue = Integer.parseInt(value.trim().replaceAll(",", ""));
+        } catch (NumberFormatException e) {
+            throw new UnsupportedFilterException("pagination value " + value);
+        }
+
+        if (parsedValue < 0) {
+            throw new UnsupportedFilterException("negative pagination value " + value);
+        }
+
+        return parsedValue;
+    }
+
+    /**
+     * Mirrors `FilterDataServiceCE.addProjectionCondition`.
+     */
+    private static List<ColumnVector> compileProjection(List<String> projectionColumns, Map<String, ColumnVector> columns) {
+        if (CollectionUtils.isEmpty(projectionColumns)) {
+            return new ArrayList<>(columns.values());
+        }
+
+        List<ColumnVector> projection = new ArrayList<>();
+        for (String columnName : projectionColumns) {
+            projection.add(getQuotedColumn(columnName, columns));
+        }
+        return projection;
+    }
+
+    /**
+     * Mirrors `FilterDataServiceCE.addSortCondition`.
+     */
+    private static Comparator<Integer> compileSortCondition(List<Map<String, String>> sortBy,
+                                                            Map<String, ColumnVector> columns) {
+        if (CollectionUtils.isEmpty(sortBy)) {
+            return null;
+        }
+
+        Comparator<Integer> comparator = null;
+        for (Map<String, String> sortCondition : sortBy) {
+            String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+            if (isBlank(columnName)) {
+                continue;
+            }
+
+            String sortTypeValue = sortCondition.get(SORT_BY_TYPE_KEY);
+            if (sortTypeValue == null) {
+                throw new UnsupportedFilterException("missing sort type");
+            }
+            SortType sortType;
+            try {
+                sortType = SortType.valueOf(sortTypeValue.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new UnsupportedFilterException("sort type " + sortTypeValue);
+            }
+
+            ColumnVector column = getQuotedColumn(columnName, columns);
+            Comparator<Integer> columnComparator = column::compareRows;
+            if (sortType == SortType.DESCENDING) {
+                columnComparator = columnComparator.reversed();
+            }
+            comparator = comparator == null ? columnComparator : comparator.thenComparing(columnComparator);
+        }
+
+        return comparator;
+    }
+
+    /**
+     * Projection and sort columns are quoted with backticks in the H2 query.
+     */
+    private static ColumnVector getQuotedColumn(String columnName, Map<String, ColumnVector> columns) {
+        ColumnVector column = columns.get(columnName);
+        if (column == null || columnName.contains("`")) {
+            throw new UnsupportedFilterException("column " + columnName);
+        }
+        return column;
+    }
+
+    private IntPredicate compileWhereClause(Condition condition, Map<String, ColumnVector> columns) {
+        if (!Condition.isValid(condition)) {
+            return row -> true;
+        }
+
+        IntPredicate predicate = compileLogicalExpression(condition.getValue(), condition.getOperator(), columns);
+        return predicate == null ? row -> true : predicate;
+    }
+
+    /**
+     * Mirrors `FilterDataServiceCE.generateLogicalExpression`. Returns null for an empty expression.
+     */
+    private IntPredicate compileLogicalExpression(Object conditionsValue, ConditionalOperator logicOp,
+                                                  Map<String, ColumnVector> columns) {
+        if (!(conditionsValue instanceof List)) {
+            throw new UnsupportedFilterException("conditions are not a list");
+        }
+
+        List<IntPredicate> predicates = new ArrayList<>();
+        boolean firstCondition = true;
+        for (Object conditionObject : (List<?>) conditionsValue) {
+            if (!(conditionObject instanceof Condition)) {
+                throw new UnsupportedFilterException("unknown condition " + conditionObject);
+            }
+            Condition condition = (Condition) conditionObject;
+            ConditionalOperator operator = condition.getOperator();
+
+            if (operator == ConditionalOperator.AND || operator == ConditionalOperator.OR) {
+                IntPredicate subPredicate = compileLogicalExpression(condition.getValue(), operator, columns);
+                if (subPredicate != null) {
+                    if (firstCondition) {
+                        // The generated SQL starts with a dangling logical operator in this case.
+                        throw new UnsupportedFilterException("leading nested condition");
+                    }
+                    predicates.add(subPredicate);
+                }
+                continue;
+            }
+
+            firstCondition = false;
+            if (StringUtils.isEmpty(condition.getPath()) || operator == null) {
+                throw new UnsupportedFilterException("incomplete condition");
+            }
+            predicates.add(compileCondition(condition, columns));
+        }
+
+        if (predicates.isEmpty()) {
+            return null;
+        }
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+
+        IntPredicate[] parts = predicates.toArray(new IntPredicate[0]);
+        if (logicOp == ConditionalOperator.AND) {
+            return row -> {
+                for (IntPredicate part : parts) {
+                    if (!part.test(row)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        } else if (logicOp == ConditionalOperator.OR) {
+            return row -> {
+                for (IntPredicate part : parts) {
+                    if (part.test(row)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+
+        throw new UnsupportedFilterException("logical operator " + logicOp);
+    }
+
+    /**
+     * Compiles a single `column <operator> value` condition. Since the where clause never negates a sub expression,
+     * an UNKNOWN outcome (i.e. a comparison involving NULL) can safely be treated as false.
+     */
+    private IntPredicate compileCondition(Condition condition, Map<String, ColumnVector> columns) {
+        ColumnVector column = columns.get(condition.getPath());
+        if (column == null) {
+            throw new UnsupportedFilterException("column " + condition.getPath());
+        }
+
+        Object objValue = condition.getValue();
+        if (objValue != null && !(objValue instanceof String)) {
+            throw new UnsupportedFilterException("non string value for column " + condition.getPath());
+        }
+        String value = (String) objValue;
+        ConditionalOperator operator = condition.getOperator();
+
+        if (StringUtils.isEmpty(value)) {
+            if (IS_NULL_OPERATORS.contains(operator)) {
+                return column::isNull;
+            } else if (IS_NOT_NULL_OPERATORS.contains(operator)) {
+                return row -> !column.isNull(row);
+            }
+            throw new UnsupportedFilterException("operator " + operator);
+        }
+
+        if (column.kind == ColumnKind.FLOAT) {
+            // Comparisons between REAL columns and NUMERIC parameters depend on H2's internal type promotion.
+            throw new UnsupportedFilterException("condition on REAL column " + column.name);
+        }
+
+        switch (operator) {
+            case CONTAINS: {
+                if (column.kind != ColumnKind.STRING) {
+                    throw new UnsupportedFilterException("LIKE on non string column " + column.name);
+                }
+                return row -> !column.isNull(row) && column.stringValues[row].contains(value);
+            }
+            case IN:
+            case NOT_IN: {
+                List<Object> arrayValues;
+                try {
+                    arrayValues = objectMapper.readValue(value, List.class);
+                } catch (IOException e) {
+                    throw new UnsupportedFilterException("array value " + value);
+                }
+                if (arrayValues.isEmpty()) {
+                    throw new UnsupportedFilterException("empty array value");
+                }
+
+                List<Object> parameters = new ArrayList<>();
+                boolean hasNullParameter = false;
+                for (Object fieldValue : arrayValues) {
+                    Object parameter = column.coerceParameter(String.valueOf(fieldValue));
+                    if (parameter == null) {
+                        hasNullParameter = true;
+                    } else {
+                        parameters.add(parameter);
+                    }
+                }
+                Object[] parameterArray = parameters.toArray();
+                boolean nullParameterFound = hasNullParameter;
+
+                if (operator == ConditionalOperator.IN) {
+                    return row -> !column.isNull(row) && column.matchesAny(row, parameterArray);
+                }
+                return row -> !column.isNull(row) && !nullParameterFound && !column.matchesAny(row, parameterArray);
+            }
+            case LT:
+            case LTE:
+            case EQ:
+            case NOT_EQ:
+            case GT:
+            case GTE: {
+                Object parameter = column.coerceParameter(value);
+                if (parameter == null) {
+                    return NEVER;
+                }
+                switch (operator) {
+                    case LT:
+                        return row -> !column.isNull(row) && column.compareToParameter(row, parameter) < 0;
+                    case LTE:
+                        return row -> !column.isNull(row) && column.compareToParameter(row, parameter) <= 0;
+                    case EQ:
+                        return row -> !column.isNull(row) && column.compareToParameter(row, parameter) == 0;
+                    case NOT_EQ:
+                        return row -> !column.isNull(row) && column.compareToParameter(row, parameter) != 0;
+                    case GT:
+                        return row -> !column.isNull(row) && column.compareToParameter(row, parameter) > 0;
+                    default:
+                        return row -> !column.isNull(row) && column.compareToParameter(row, parameter) >= 0;
+                }
+            }
+            default:
+                throw new UnsupportedFilterException("operator " + operator);
+        }
+    }
+
+    /**
+     * The storage used for a column. Column data types that are stored as VARCHAR in H2 are all stored as strings.
+     */
+    private enum ColumnKind {
+        INTEGER,
+        LONG,
+        FLOAT,
+        DOUBLE,
+        BOOLEAN,
+        STRING;
+
+        static ColumnKind from(DataType dataType) {
+            switch (dataType) {
+                case INTEGER:
+                    return INTEGER;
+                case LONG:
+                    return LONG;
+                case FLOAT:
+                    return FLOAT;
+                case DOUBLE:
+                    return DOUBLE;
+                case BOOLEAN:
+                    return BOOLEAN;
+                case DATE:
+                case TIMESTAMP:
+                    throw new UnsupportedFilterException("column type " + dataType);
+                default:
+                    return STRING;
+            }
+        }
+    }
+
+    private static final class ColumnVector {
+        private final String name;
+        private final DataType dataType;
+        private final ColumnKind kind;
+        private final boolean[] nulls;
+        private DataType bindDataType;
+        private boolean bindsAsDecimal;
+        private long[] longValues;
+        private float[] floatValues;
+        private double[] doubleValues;
+        private boolean[] booleanValues;
+        private String[] stringValues;
+
+        ColumnVector(String name, DataType dataType, int size) {
+            this.name = name;
+            this.dataType = dataType;
+            this.kind = ColumnKind.from(dataType);
+            this.nulls = new boolean[size];
+            switch (kind) {
+                case INTEGER:
+                case LONG:
+                    longValues = new long[size];
+                    break;
+                case FLOAT:
+                    floatValues = new float[size];
+                    break;
+                case DOUBLE:
+                    doubleValues = new double[size];
+                    break;
+                case BOOLEAN:
+                    booleanValues = new boolean[size];
+                    break;
+                default:
+                    stringValues = new String[size];
+            }
+        }
+
+        boolean isNull(int row) {
+            return nulls[row];
+        }
+
+        /**
+         * Cells are bound using the column data type after applying the conversion map once more. This differs from
+         * the column data type only for columns that skipped the conversion while generating the schema (e.g.
+         * `rowIndex`), in which case H2 converts the bound DECIMAL into the INT or BIGINT column.
+         */
+        void setBindDataType(DataType bindDataType) {
+            ColumnKind bindKind = ColumnKind.from(bindDataType);
+            bindsAsDecimal = bindKind != kind;
+            if (bindsAsDecimal && !((kind == ColumnKind.INTEGER || kind == ColumnKind.LONG)
+                    && (bindKind == ColumnKind.FLOAT || bindKind == ColumnKind.DOUBLE))) {
+                throw new UnsupportedFilterException("conversion of column " + name + " to " + bindDataType);
+            }
+            this.bindDataType = bindDataType;
+        }
+
+        /**
+         * Mirrors the way `FilterDataServiceCE.setValueInStatement` binds a cell while inserting it into H2.
+         */
+        void load(int row, String value, Map<DataType, DataType> dataTypeConversionMap) {
+            if (StringUtils.isEmpty(value)) {
+                nulls[row] = true;
+                return;
+            }
+
+            DataType currentRowDataType = stringToKnownDataTypeConverter(value);
+            DataType inputDataType = currentRowDataType;
+            if (dataTypeConversionMap != null) {
+                inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
+            }
+            if (DataType.NULL.equals(inputDataType) || (dataTypeConversionMap != null && inputDataType != bindDataType)) {
+                nulls[row] = true;
+                return;
+            }
+
+            String strNumericValue = value.trim().replaceAll(",", "");
+            try {
+                switch (kind) {
+                    case INTEGER:
+                        longValues[row] = bindsAsDecimal
+                                ? parseIntegralDecimal(strNumericValue, Integer.MIN_VALUE, Integer.MAX_VALUE)
+                                : Integer.parseInt(strNumericValue);
+                        break;
+                    case LONG:
+                        longValues[row] = bindsAsDecimal
+                                ? parseIntegralDecimal(strNumericValue, Long.MIN_VALUE, Long.MAX_VALUE)
+                                : Long.parseLong(strNumericValue);
+                        break;
+                    case FLOAT:
+                        floatValues[row] = new BigDecimal(strNumericValue).floatValue();
+                        if (Float.isInfinite(floatValues[row])) {
+                            throw new UnsupportedFilterException("REAL overflow in column " + name);
+                        }
+                        break;
+                    case DOUBLE:
+                        doubleValues[row] = new BigDecimal(strNumericValue).doubleValue();
+                        if (Double.isInfinite(doubleValues[row])) {
+                            throw new UnsupportedFilterException("DOUBLE overflow in column " + name);
+                        }
+                        break;
+                    case BOOLEAN:
+                        booleanValues[row] = Boolean.parseBoolean(value);
+                        break;
+                    default:
+                        stringValues[row] = value;
+                }
+            } catch (NumberFormatException e) {
+                // H2 path fails with an ingestion error here.
+                throw new UnsupportedFilterException("value " + value + " in column " + name);
+            }
+        }
+
+        /**
+         * Only whole numbers are accepted, so that we don't have to replicate H2's rounding of DECIMAL values that get
+         * stored in an integer column.
+         */
+        private long parseIntegralDecimal(String strNumericValue, long minValue, long maxValue) {
+            BigDecimal decimalValue = new BigDecimal(strNumericValue);
+            if (decimalValue.signum() != 0 && decimalValue.stripTrailingZeros().scale() > 0) {
+                throw new UnsupportedFilterException("fractional value " + strNumericValue + " in column " + name);
+            }
+
+            long value;
+            try {
+                value = decimalValue.longValueExact();
+            } catch (ArithmeticException e) {
+                throw new UnsupportedFilterException("out of range value " + strNumericValue + " in column " + name);
+            }
+            if (value < minValue || value > maxValue) {
+                throw new UnsupportedFilterException("out of range value " + strNumericValue + " in column " + name);
+            }
+            return value;
+        }
+
+        /**
+         * Mirrors the way `FilterDataServiceCE.setValueInStatement` binds a condition value. Returns null for a NULL
+         * parameter.
+         */
+        Object coerceParameter(String value) {
+            if (StringUtils.isEmpty(value) || DataType.NULL.equals(stringToKnownDataTypeConverter(value))) {
+                return null;
+            }
+
+            String strNumericValue = value.trim().replaceAll(",", "");
+            try {
+                switch (kind) {
+                    case INTEGER:
+                        return (long) Integer.parseInt(strNumericValue);
+                    case LONG:
+                        return Long.parseLong(strNumericValue);
+                    case DOUBLE: {
+                        BigDecimal decimalValue = new BigDecimal(strNumericValue);
+                        double doubleValue = decimalValue.doubleValue();
+                        // Only values that survive the round trip to a double compare the same way in H2 whichever
+                        // type it promotes the comparison to.
+                        if (Double.isInfinite(doubleValue) || BigDecimal.valueOf(doubleValue).compareTo(decimalValue) != 0) {
+                            throw new UnsupportedFilterException("inexact DOUBLE parameter " + value);
+                        }
+                        return doubleValue;
+                    }
+                    case BOOLEAN:
+                        return Boolean.parseBoolean(value);
+                    case STRING:
+                        return value;
+                    default:
+                        throw new UnsupportedFilterException("parameter for column " + name);
+                }
+            } catch (NumberFormatException e) {
+                throw new UnsupportedFilterException("parameter " + value + " for column " + name);
+            }
+        }
+
+        int compareToParameter(int row, Object parameter) {
+            switch (kind) {
+                case INTEGER:
+                case LONG:
+                    return Long.compare(longValues[row], (Long) parameter);
+                case DOUBLE:
+                    return Double.compare(doubleValues[row], (Double) parameter);
+                case BOOLEAN:
+                    return Boolean.compare(booleanValues[row], (Boolean) parameter);
+                default:
+                    return stringValues[row].compareTo((String) parameter);
+            }
+        }
+
+        boolean matchesAny(int row, Object[] parameters) {
+            for (Object parameter : parameters) {
+                if (compareToParameter(row, parameter) == 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Orders rows by this column with NULLs first, which is the default in H2 for ascending order.
+         */
+        int compareRows(Integer rowA, Integer rowB) {
+            boolean nullA = nulls[rowA];
+            boolean nullB = nulls[rowB];
+            if (nullA || nullB) {
+                return nullA == nullB ? 0 : (nullA ? -1 : 1);
+            }
+
+            switch (kind) {
+                case INTEGER:
+                case LONG:
+                    return Long.compare(longValues[rowA], longValues[rowB]);
+                case FLOAT:
+                    return Float.compare(floatValues[rowA], floatValues[rowB]);
+                case DOUBLE:
+                    return Double.compare(doubleValues[rowA], doubleValues[rowB]);
+                case BOOLEAN:
+                    return Boolean.compare(booleanValues[rowA], booleanValues[rowB]);
+                default:
+                    return stringValues[rowA].compareTo(stringValues[rowB]);
+            }
+        }
+
+        /**
+         * Writes the value the same way H2's result set value would have been converted to a tree, with NULLs being
+         * replaced by empty strings.
+         */
+        void writeTo(ObjectNode rowNode, int row) {
+            if (nulls[row]) {
+                rowNode.put(name, "");
+                return;
+            }
+
+            switch (kind) {
+                case INTEGER:
+                    rowNode.put(name, (int) longValues[row]);
+                    break;
+                case LONG:
+                    rowNode.put(name, longValues[row]);
+                    break;
+                case FLOAT:
+                    rowNode.put(name, floatValues[row]);
+                    break;
+                case DOUBLE:
+                    rowNode.put(name, doubleValues[row]);
+                    break;
+                case BOOLEAN:
+                    rowNode.put(name, booleanValues[row]);
+                    break;
+                default:
+                    rowNode.put(name, stringValues[row]);
+            }
+        }
+    }
+
+    /**
+     * Raised while compiling or loading a filter that can not be evaluated natively. Never escapes this class.
+     */
+    private static class UnsupportedFilterException extends RuntimeException {
+        UnsupportedFilterException(String reason) {
+            super(reason, null, false, false);
+        }
+    }
+}
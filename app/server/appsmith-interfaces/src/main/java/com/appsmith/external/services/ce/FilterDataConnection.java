@@ -0,0 +1,131 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.DataType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A single pooled connection to the in memory filtering database along with the scratch tables that have been created
+ * on it. A connection is borrowed by exactly one filtering request at a time, hence none of the methods here need to be
+ * thread safe.
+ * <p>
+ * Scratch tables are keyed by the schema of the data being filtered. Once a request is done with a scratch table, the
+ * table is truncated and kept around so that the next request with the same schema (e.g. the same Google Sheet or
+ * S3 bucket being queried again) does not have to pay for a CREATE TABLE / DROP TABLE.
+ */
+@Slf4j
+class FilterDataConnection {
+
+    private final String url;
+
+    private final int maxScratchTables;
+
+    private Connection connection;
+
+    /**
+     * Schema signature -> scratch table name. Kept in access order so that the least recently used table is dropped
+     * once we go beyond `maxScratchTables`.
+     */
+    private final LinkedHashMap<String, String> scratchTables;
+
+    FilterDataConnection(String url, int maxScratchTables) throws SQLException {
+        this.url = url;
+        this.maxScratchTables = maxScratchTables;
+        this.connection = DriverManager.getConnection(url);
+        this.scratchTables = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns a live connection, re-opening it if the earlier one has gone stale. Scratch tables created on the stale
+     * connection are dropped on a best effort basis, since the in memory database outlives any single connection.
+     */
+    Connection getConnection() throws SQLException {
+        if (connection == null || connection.isClosed() || !connection.isValid(5)) {
+            connection = DriverManager.getConnection(url);
+            scratchTables.values().forEach(this::dropQuietly);
+            scratchTables.clear();
+        }
+
+        return connection;
+    }
+
+    /**
+     * Returns an empty table matching the given schema, creating one with `tableCreator` if none exists yet on this
+     * connection.
+     */
+    String acquireScratchTable(Map<String, DataType> schema, Function<Connection, String> tableCreator) throws SQLException {
+        Connection conn = getConnection();
+        String signature = generateSchemaSignature(schema);
+
+        String tableName = scratchTables.get(signature);
+        if (tableName != null) {
+            return tableName;
+        }
+
+        tableName = tableCreator.apply(conn);
+        scratchTables.put(signature, tableName);
+
+        // Evict the least recently used scratch tables so that the in memory database does not keep growing with
+        // every new schema seen.
+        while (scratchTables.size() > maxScratchTables) {
+            Map.Entry<String, String> eldest = scratchTables.entrySet().iterator().next();
+            scratchTables.remove(eldest.getKey());
+            dropQuietly(eldest.getValue());
+        }
+
+        return tableName;
+    }
+
+    /**
+     * Empties the scratch table so that it can be reused by the next request. If the table can not be truncated, it is
+     * dropped and forgotten instead.
+     */
+    void releaseScratchTable(String tableName) {
+        try (Statement statement = getConnection().createStatement()) {
+            statement.execute("TRUNCATE TABLE " + tableName + ";");
+        } catch (SQLException e) {
+            log.error("Failed to truncate in memory filter table {} : {}", tableName, e.getMessage());
+            scratchTables.values().remove(tableName);
+            dropQuietly(tableName);
+        }
+    }
+
+    void close() {
+        scratchTables.values().forEach(this::dropQuietly);
+        scratchTables.clear();
+        try {
+            if (connection != null) {
+                connection.close();
+            }
+        } catch (SQLException e) {
+            log.error("Failed to close in memory filter connection : {}", e.getMessage());
+        }
+    }
+
+    private void dropQuietly(String tableName) {
+        try (Statement statement = getConnection().createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + tableName + ";");
+        } catch (SQLException e) {
+            log.error("Failed to drop in memory filter table {} : {}", tableName, e.getMessage());
+        }
+    }
+
+    /**
+     * Column names can not contain quotes (see FilterDataServiceCE.generateSchema), hence quoting them gives us an
+     * unambiguous signature for the schema.
+     */
+    private static String generateSchemaSignature(Map<String, DataType> schema) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, DataType> entry : schema.entrySet()) {
+            sb.append('"').append(entry.getKey()).append("\":").append(entry.getValue()).append(',');
+        }
+        return sb.toString();
+    }
+}
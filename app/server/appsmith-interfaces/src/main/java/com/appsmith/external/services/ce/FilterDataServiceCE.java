@@ -20,19 +20,23 @@ import org.springframework.util.CollectionUtils;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -51,9 +55,31 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public static final String PAGINATE_OFFSET_KEY = "offset";
 
     private final ObjectMapper objectMapper;
-    private Connection connection;
 
-    private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE";
+    private final ColumnarFilterEngine columnarFilterEngine;
+
+    /**
+     * Pool of connections to the in memory database. Every filtering request borrows a connection exclusively for its
+     * whole lifetime, so concurrent requests (e.g. parallel Google Sheets and S3 list queries) no longer funnel through
+     * a single connection. The pool keeps up to `CONNECTION_POOL_SIZE` idle connections. Requests that find none of
+     * them free open a connection of their own instead of waiting, which gets closed once they are done.
+     */
+    private final BlockingQueue<FilterDataConnection> connectionPool;
+
+    // DB_CLOSE_DELAY=-1 keeps the in memory database alive even if all the pooled connections get closed at some point
+    private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1";
+
+    private static final int CONNECTION_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final int MAX_SCRATCH_TABLES_PER_CONNECTION = 8;
+
+    private static final int DEFAULT_INSERT_BATCH_SIZE = 1000;
+
+    /**
+     * Number of rows sent to H2 in a single `executeBatch` while loading the data to be filtered. Can be tuned using the
+     * `APPSMITH_FILTER_INSERT_BATCH_SIZE` environment variable.
+     */
+    private final int insertBatchSize;
 
     private static final Map<DataType, String> SQL_DATATYPE_MAP = Map.of(
             DataType.INTEGER, "INT",
@@ -81,15 +107,38 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public FilterDataServiceCE() {
 
         objectMapper = new ObjectMapper();
+        columnarFilterEngine = new ColumnarFilterEngine(objectMapper);
+        insertBatchSize = getInsertBatchSize();
+        connectionPool = new ArrayBlockingQueue<>(CONNECTION_POOL_SIZE);
 
         try {
-            connection = DriverManager.getConnection(URL);
+            for (int i = 0; i < CONNECTION_POOL_SIZE; i++) {
+                connectionPool.add(new FilterDataConnection(URL, MAX_SCRATCH_TABLES_PER_CONNECTION));
+            }
         } catch (SQLException e) {
             log.error(e.getMessage());
+            connectionPool.forEach(FilterDataConnection::close);
             throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Failed to connect to the in memory database. Unable to perform filtering : " + e.getMessage());
         }
     }
 
+    private static int getInsertBatchSize() {
+        String configuredBatchSize = System.getenv("APPSMITH_FILTER_INSERT_BATCH_SIZE");
+        if (StringUtils.isNotBlank(configuredBatchSize)) {
+            try {
+                int batchSize = Integer.parseInt(configuredBatchSize.trim());
+                if (batchSize > 0) {
+                    return batchSize;
+                }
+            } catch (NumberFormatException e) {
+                // Fall back to the default batch size
+            }
+            log.warn("Ignoring invalid value {} for APPSMITH_FILTER_INSERT_BATCH_SIZE", configuredBatchSize);
+        }
+
+        return DEFAULT_INSERT_BATCH_SIZE;
+    }
+
     /**
      * This filter method is using the new UQI format.
      *
@@ -113,23 +162,51 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
 
         Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
-        String tableName = generateTable(schema);
 
-        // insert the data
-        insertAllData(tableName, items, schema, dataTypeConversionMap);
+        // Most filters can be evaluated directly on the rows. H2 is only needed for whatever the columnar engine can
+        // not handle.
+        Optional<ArrayNode> columnarResult = columnarFilterEngine.filter(items, schema, uqiDataFilterParams, dataTypeConversionMap);
+        if (columnarResult.isPresent()) {
+            return columnarResult.get();
+        }
 
-        // Filter the data
-        List<Map<String, Object>> finalResults = executeFilterQueryNew(tableName, schema, uqiDataFilterParams);
+        return filterDataUsingH2(items, schema, uqiDataFilterParams, dataTypeConversionMap);
+    }
 
-        // Now that the data has been filtered. Clean Up. Drop the table
-        dropTable(tableName);
+    /**
+     * Filters the data by loading it into a scratch table in the in memory H2 database and querying it.
+     */
+    ArrayNode filterDataUsingH2(ArrayNode items, Map<String, DataType> schema, UQIDataFilterParams uqiDataFilterParams,
+                                Map<DataType, DataType> dataTypeConversionMap) {
+
+        List<Map<String, Object>> finalResults;
+        FilterDataConnection filterDataConnection = borrowConnection();
+        try {
+            String tableName = filterDataConnection.acquireScratchTable(schema, conn -> generateTable(conn, schema));
+            try {
+                Connection conn = filterDataConnection.getConnection();
+
+                // insert the data
+                insertAllData(conn, tableName, items, schema, dataTypeConversionMap);
+
+                // Filter the data
+                finalResults = executeFilterQueryNew(conn, tableName, schema, uqiDataFilterParams);
+            } finally {
+                // Now that the data has been filtered. Clean Up. Empty the table so that it can be reused
+                filterDataConnection.releaseScratchTable(tableName);
+            }
+        } catch (SQLException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Failed to connect to the filtering database");
+        } finally {
+            returnConnection(filterDataConnection);
+        }
 
         ArrayNode finalResultsNode = objectMapper.valueToTree(finalResults);
 
         return finalResultsNode;
     }
 
-    private List<Map<String, Object>> executeFilterQueryNew(String tableName, Map<String, DataType> schema,
+    private List<Map<String, Object>> executeFilterQueryNew(Connection conn, String tableName, Map<String, DataType> schema,
                                                             UQIDataFilterParams uqiDataFilterParams) {
 
         Condition condition = uqiDataFilterParams.getCondition();
@@ -137,8 +214,6 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
         Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
 
-        Connection conn = checkAndGetConnection();
-
         StringBuilder sb = new StringBuilder();
 
         // Add projection columns condition otherwise use `select *`
@@ -180,8 +255,7 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         String selectQuery = sb.toString();
         log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), selectQuery);
 
-        try {
-            PreparedStatement preparedStatement = conn.prepareStatement(selectQuery);
+        try (PreparedStatement preparedStatement = conn.prepareStatement(selectQuery)) {
             Iterator<PreparedStatementValueDTO> iterator = values.iterator();
             for (int i = 0; iterator.hasNext(); i++) {
                 PreparedStatementValueDTO dataInfo = iterator.next();
@@ -337,17 +411,22 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
      * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
      */
     public void insertAllData(String tableName, ArrayNode items, Map<String, DataType> schema, Map<DataType, DataType> dataTypeConversionMap) {
+        FilterDataConnection filterDataConnection = borrowConnection();
+        try {
+            insertAllData(filterDataConnection.getConnection(), tableName, items, schema, dataTypeConversionMap);
+        } catch (SQLException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Failed to connect to the filtering database");
+        } finally {
+            returnConnection(filterDataConnection);
+        }
+    }
 
-        List<String> columnNames = schema.keySet().stream().collect(Collectors.toList());
-
-        List<String> quotedColumnNames = columnNames.stream().map(name -> "\"" + name + "\"").collect(Collectors.toList());
+    private void insertAllData(Connection conn, String tableName, ArrayNode items, Map<String, DataType> schema,
+                               Map<DataType, DataType> dataTypeConversionMap) {
 
-        StringBuilder insertQueryBuilder = new StringBuilder("INSERT INTO ");
-        insertQueryBuilder.append(tableName);
+        List<String> columnNames = new ArrayList<>(schema.keySet());
 
-        StringBuilder columnNamesBuilder = new StringBuilder("(");
-        columnNamesBuilder.append(String.join(", ", quotedColumnNames));
-        columnNamesBuilder.append(")");
+        List<String> quotedColumnNames = columnNames.stream().map(name -> "\"" + name + "\"").collect(Collectors.toList());
 
         // In order data types of all the columns
         List<DataType> columnTypes = new ArrayList<>();
@@ -355,74 +434,52 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             columnTypes.add(schema.get(columnName));
         }
 
-        insertQueryBuilder.append(columnNamesBuilder);
-        insertQueryBuilder.append(" VALUES ");
-
-        StringBuilder valuesMasterBuilder = new StringBuilder();
-
-        int counter = 0;
-        List<String> inOrderValues = new ArrayList<>();
-
-        for (JsonNode item : items) {
-
-            // If the number of values inserted is greater than 1000, the insert would fail. Once we have reached 1000
-            // rows, execute the insert for rows so far and start afresh for the rest of the rows
-            if (counter == 1000) {
+        // A single parameterized statement is prepared per table and every row is added to it as a batch entry.
+        String insertQuery = "INSERT INTO " + tableName +
+                "(" + String.join(", ", quotedColumnNames) + ")" +
+                " VALUES (" + String.join(", ", Collections.nCopies(columnNames.size(), "?")) + ");";
 
-                insertReadyData(insertQueryBuilder.toString(), valuesMasterBuilder, inOrderValues, columnTypes, dataTypeConversionMap);
-                // Reset the values builder and counter for new insert queries.
-                valuesMasterBuilder = new StringBuilder();
-                counter = 0;
-                inOrderValues = new ArrayList<>();
-            }
-
-            StringBuilder valuesBuilder = new StringBuilder();
-
-            if (counter != 0) {
-                // If not the first row, add a separator between rows
-                valuesBuilder.append(",");
-            }
-
-            // Start the row
-            valuesBuilder.append("(");
+        try (PreparedStatement preparedStatement = conn.prepareStatement(insertQuery)) {
 
-            Boolean firstEntry = true;
-            for (String columnName : columnNames) {
+            int batchedRows = 0;
+            for (JsonNode item : items) {
 
-                if (!firstEntry) {
-                    // Add a separator before adding a new entry
-                    valuesBuilder.append(",");
-                } else {
-                    // For future iterations, set flag to false
-                    firstEntry = false;
+                for (int columnIndex = 0; columnIndex < columnNames.size(); columnIndex++) {
+                    String columnName = columnNames.get(columnIndex);
+                    JsonNode fieldNode = item.get(columnName);
+                    if (fieldNode == null) {
+                        throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                                "Error in ingesting the data : value missing for column " + columnName);
+                    }
+                    setValueInStatement(preparedStatement, columnIndex + 1, fieldNode.asText(),
+                            columnTypes.get(columnIndex), dataTypeConversionMap);
                 }
 
-                JsonNode fieldNode = item.get(columnName);
-                if (fieldNode != null) {
-                    valuesBuilder.append("?");
-                    inOrderValues.add(fieldNode.asText());
+                preparedStatement.addBatch();
+                batchedRows++;
+
+                if (batchedRows == insertBatchSize) {
+                    preparedStatement.executeBatch();
+                    batchedRows = 0;
                 }
             }
 
-            // End the row
-            valuesBuilder.append(")");
-
-            valuesMasterBuilder.append(valuesBuilder);
-            counter++;
-        }
+            if (batchedRows > 0) {
+                preparedStatement.executeBatch();
+            }
 
-        if (valuesMasterBuilder.length() > 0) {
-            insertReadyData(insertQueryBuilder.toString(), valuesMasterBuilder, inOrderValues, columnTypes, dataTypeConversionMap);
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Error in ingesting the data : " + e.getMessage());
         }
     }
 
-    private void executeDbQuery(String query) {
+    private void executeDbQuery(Connection conn, String query) {
 
-        Connection conn = checkAndGetConnection();
         log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), query);
 
-        try {
-            conn.createStatement().execute(query);
+        try (Statement statement = conn.createStatement()) {
+            statement.execute(query);
         } catch (SQLException e) {
             log.error(e.getMessage());
             // Getting a SQL Exception here means that our generated query is incorrect. Raise an alarm!
@@ -430,48 +487,45 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
     }
 
-    private void insertReadyData(String partialInsertQuery, StringBuilder valuesBuilder, List<String> inOrderValues, List<DataType> columnTypes, Map<DataType, DataType> dataTypeConversionMap) {
-
-        Connection conn = checkAndGetConnection();
-
-        StringBuilder insertQueryBuilder = new StringBuilder(partialInsertQuery);
-        insertQueryBuilder.append(valuesBuilder);
-        insertQueryBuilder.append(";");
-
-        String finalInsertQuery = insertQueryBuilder.toString();
+    /**
+     * Borrows a connection from the pool for the exclusive use of the calling request. Callers must hand it back using
+     * `returnConnection` once done.
+     */
+    private FilterDataConnection borrowConnection() {
+        FilterDataConnection filterDataConnection = connectionPool.poll();
+        if (filterDataConnection != null) {
+            return filterDataConnection;
+        }
 
+        // All the pooled connections are in use. Filtering runs on the threads of the calling plugins, hence the
+        // request gets a connection of its own rather than holding its thread up until one is returned.
         try {
-            PreparedStatement preparedStatement = conn.prepareStatement(finalInsertQuery);
-
-            int valueCounter = 0;
-            while (valueCounter < inOrderValues.size()) {
-
-                for (int columnTypeCounter = 0; columnTypeCounter < columnTypes.size(); columnTypeCounter++, valueCounter++) {
-                    setValueInStatement(preparedStatement, valueCounter + 1, inOrderValues.get(valueCounter), columnTypes.get(columnTypeCounter), dataTypeConversionMap);
-                }
-            }
-
-            preparedStatement.executeUpdate();
-
+            return new FilterDataConnection(URL, MAX_SCRATCH_TABLES_PER_CONNECTION);
         } catch (SQLException e) {
-            e.printStackTrace();
-            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Error in ingesting the data : " + e.getMessage());
+            log.error(e.getMessage());
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Failed to connect to the filtering database");
+        }
+    }
+
+    private void returnConnection(FilterDataConnection filterDataConnection) {
+        // The pool is full when the connection was opened for a burst of requests, it's not kept beyond that
+        if (!connectionPool.offer(filterDataConnection)) {
+            filterDataConnection.close();
         }
     }
 
-    private Connection checkAndGetConnection() {
+    public String generateTable(Map<String, DataType> schema) {
+        FilterDataConnection filterDataConnection = borrowConnection();
         try {
-            if (connection == null || connection.isClosed() || !connection.isValid(5)) {
-                connection = DriverManager.getConnection(URL);
-            }
+            return generateTable(filterDataConnection.getConnection(), schema);
         } catch (SQLException e) {
             throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Failed to connect to the filtering database");
+        } finally {
+            returnConnection(filterDataConnection);
         }
-
-        return connection;
     }
 
-    public String generateTable(Map<String, DataType> schema) {
+    private String generateTable(Connection conn, Map<String, DataType> schema) {
 
         // Generate table name
         String generateUniqueId = new ObjectId().toString().toUpperCase();
@@ -514,7 +568,7 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
 
         String createTableQuery = sb.toString();
 
-        executeDbQuery(createTableQuery);
+        executeDbQuery(conn, createTableQuery);
 
         return tableName;
 
@@ -524,7 +578,14 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
 
         String dropTableQuery = "DROP TABLE " + tableName + ";";
 
-        executeDbQuery(dropTableQuery);
+        FilterDataConnection filterDataConnection = borrowConnection();
+        try {
+            executeDbQuery(filterDataConnection.getConnection(), dropTableQuery);
+        } catch (SQLException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Failed to connect to the filtering database");
+        } finally {
+            returnConnection(filterDataConnection);
+        }
     }
 
     /**
@@ -7,4 +7,75 @@ public interface SharedConfigCE {
     int getMaxResponseSize();
 
     String getRemoteExecutionUrl();
+
+    /**
+     * Maximum number of connections kept open by the REST API plugin's connection pool, per remote host.
+     */
+    default int getRestApiMaxConnections() {
+        return 50;
+    }
+
+    /**
+     * Time in seconds after which an idle connection of the REST API plugin's connection pool gets closed.
+     */
+    default int getRestApiMaxIdleTimeInSeconds() {
+        return 60;
+    }
+
+    /**
+     * Maximum number of REST API calls to the same remote host that may wait for a connection of the pool while all of
+     * them are in use. Calls beyond this fail right away.
+     */
+    default int getRestApiPendingAcquireMaxCount() {
+        return 1000;
+    }
+
+    /**
+     * Time in seconds a REST API call waits for a connection of the pool before it fails.
+     */
+    default int getRestApiPendingAcquireTimeoutInSeconds() {
+        return 45;
+    }
+
+    /**
+     * Whether the REST API plugin should offer HTTP/2 in addition to HTTP/1.1 when connecting over TLS.
+     */
+    default boolean isRestApiHttp2Enabled() {
+        return false;
+    }
+
+    /**
+     * Number of connections the MySQL plugin opens upfront when it creates the connection pool of a datasource.
+     */
+    default int getMySqlInitialPoolSize() {
+        return 1;
+    }
+
+    /**
+     * Maximum number of connections the MySQL plugin opens per datasource.
+     */
+    default int getMySqlMaxPoolSize() {
+        return 5;
+    }
+
+    /**
+     * Time in seconds after which an idle connection of the MySQL plugin's connection pool gets closed.
+     */
+    default int getMySqlMaxIdleTimeInSeconds() {
+        return 600;
+    }
+
+    /**
+     * Time in seconds a query of the MySQL plugin waits for a connection from the connection pool before it fails.
+     */
+    default int getMySqlMaxAcquireTimeInSeconds() {
+        return 10;
+    }
+
+    /**
+     * Maximum number of documents the MongoDB plugin reads from the cursor of a `find` or `aggregate` command.
+     */
+    default int getMongoMaxCursorRows() {
+        return 10000;
+    }
 }
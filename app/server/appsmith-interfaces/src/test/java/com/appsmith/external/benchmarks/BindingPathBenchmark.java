@@ -0,0 +1,202 @@
+package com.appsmith.external.benchmarks;
+
+import com.appsmith.external.helpers.BindingPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Measures the throughput and allocations of walking the `dynamicBindingPathList` of every widget of a DSL, the way
+ * saving a layout does. The DSL is generated to be about 1 MB when serialized, with tables and charts nested in
+ * containers, e.g.
+ * <pre>
+ *     java -cp target/test-classes:&lt;test classpath&gt; com.appsmith.external.benchmarks.BindingPathBenchmark
+ * </pre>
+ * `findStringsWithRegex` walks the paths the way they were walked before they were parsed once and cached, as a
+ * baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BindingPathBenchmark {
+
+    private static final int CONTAINER_COUNT = 40;
+
+    private static final int COLUMN_COUNT = 24;
+
+    private Map<String, Object> dsl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dsl = generateDsl();
+    }
+
+    @Benchmark
+    public int findStrings() {
+        return walkWidgets(dsl, true);
+    }
+
+    @Benchmark
+    public int findStringsWithRegex() {
+        return walkWidgets(dsl, false);
+    }
+
+    private static int walkWidgets(Map<String, Object> widget, boolean isParsed) {
+        int leafCount = 0;
+        final List<Object> dynamicBindingPathList = (List<Object>) widget.get("dynamicBindingPathList");
+        if (dynamicBindingPathList != null) {
+            for (Object binding : dynamicBindingPathList) {
+                final String path = String.valueOf(((Map) binding).get("key"));
+                final Object leaf = isParsed ? BindingPath.parse(path).findString(widget) : findStringWithRegex(widget, path);
+                if (leaf != null) {
+                    leafCount++;
+                }
+            }
+        }
+
+        final List<Object> children = (List<Object>) widget.get("children");
+        if (children != null) {
+            for (Object child : children) {
+                leafCount += walkWidgets((Map<String, Object>) child, isParsed);
+            }
+        }
+        return leafCount;
+    }
+
+    private static Object findStringWithRegex(Map<String, Object> widget, String fieldPath) {
+        String[] fields = fieldPath.split("[].\\[]");
+        Object parent = widget;
+        Iterator<String> fieldsIterator = Arrays.stream(fields).filter(fieldToken -> !fieldToken.isBlank()).iterator();
+        while (fieldsIterator.hasNext()) {
+            String nextKey = fieldsIterator.next();
+            if (parent instanceof Map) {
+                parent = ((Map<String, ?>) parent).get(nextKey);
+            } else if (parent instanceof List) {
+                if (Pattern.matches(Pattern.compile("[0-9]+").toString(), nextKey)) {
+                    parent = ((List) parent).get(Integer.parseInt(nextKey));
+                } else {
+                    throw new IllegalArgumentException(fieldPath);
+                }
+            }
+            if (parent == null) {
+                throw new IllegalArgumentException(fieldPath);
+            } else if (parent instanceof String) {
+                return parent;
+            }
+        }
+        return null;
+    }
+
+    static Map<String, Object> generateDsl() {
+        final List<Object> containers = new ArrayList<>();
+        for (int i = 0; i < CONTAINER_COUNT; i++) {
+            final List<Object> widgets = new ArrayList<>();
+            for (int j = 0; j < 4; j++) {
+                widgets.add(generateTable("Table" + i + "_" + j));
+                widgets.add(generateChart("Chart" + i + "_" + j));
+                widgets.add(generateInput("Input" + i + "_" + j));
+            }
+            final Map<String, Object> container = generateWidget("Container" + i, "CONTAINER_WIDGET");
+            container.put("children", widgets);
+            containers.add(container);
+        }
+
+        final Map<String, Object> dsl = generateWidget("MainContainer", "CANVAS_WIDGET");
+        dsl.put("children", containers);
+        return dsl;
+    }
+
+    private static Map<String, Object> generateWidget(String widgetName, String type) {
+        final Map<String, Object> widget = new LinkedHashMap<>();
+        widget.put("widgetName", widgetName);
+        widget.put("widgetId", widgetName.toLowerCase());
+        widget.put("type", type);
+        widget.put("leftColumn", 0);
+        widget.put("rightColumn", 64);
+        widget.put("topRow", 0);
+        widget.put("bottomRow", 40);
+        return widget;
+    }
+
+    private static Map<String, Object> generateTable(String widgetName) {
+        final Map<String, Object> table = generateWidget(widgetName, "TABLE_WIDGET");
+        final List<Object> dynamicBindingPathList = new ArrayList<>();
+        table.put("tableData", "{{ Query1.data.filter(row => row.status === StatusSelect.selectedOptionValue) }}");
+        dynamicBindingPathList.add(Map.of("key", "tableData"));
+
+        final Map<String, Object> primaryColumns = new LinkedHashMap<>();
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            final String columnName = "column" + i;
+            final Map<String, Object> column = new LinkedHashMap<>();
+            column.put("id", columnName);
+            column.put("label", "Column " + i);
+            column.put("columnType", "text");
+            column.put("textSize", "PARAGRAPH");
+            column.put("horizontalAlignment", "LEFT");
+            column.put("computedValue", "{{ " + widgetName + ".sanitizedTableData.map((currentRow) => ( currentRow."
+                    + columnName + "))}}");
+            primaryColumns.put(columnName, column);
+            dynamicBindingPathList.add(Map.of("key", "primaryColumns." + columnName + ".computedValue"));
+        }
+        table.put("primaryColumns", primaryColumns);
+        table.put("dynamicBindingPathList", dynamicBindingPathList);
+        return table;
+    }
+
+    private static Map<String, Object> generateChart(String widgetName) {
+        final Map<String, Object> chart = generateWidget(widgetName, "CHART_WIDGET");
+        final List<Object> chartData = new ArrayList<>();
+        final List<Object> dynamicBindingPathList = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            chartData.add(new LinkedHashMap<>(Map.of(
+                    "seriesName", "Series " + i,
+                    "data", "{{ Query" + i + ".data.map(row => ({ x: row.month, y: row.total })) }}"
+            )));
+            dynamicBindingPathList.add(Map.of("key", "chartData[" + i + "].data"));
+        }
+        chart.put("chartData", chartData);
+        chart.put("dynamicBindingPathList", dynamicBindingPathList);
+        return chart;
+    }
+
+    private static Map<String, Object> generateInput(String widgetName) {
+        final Map<String, Object> input = generateWidget(widgetName, "INPUT_WIDGET");
+        input.put("defaultText", "{{ Table1_0.selectedRow.column0 }}");
+        input.put("placeholderText", "Enter a value");
+        input.put("dynamicBindingPathList", List.of(Map.of("key", "defaultText")));
+        return input;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(BindingPathBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
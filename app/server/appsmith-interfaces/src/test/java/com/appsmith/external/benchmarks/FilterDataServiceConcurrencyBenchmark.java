@@ -0,0 +1,121 @@
+package com.appsmith.external.benchmarks;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.FilterDataService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+
+/**
+ * Measures the throughput of `FilterDataService.filterDataNew` when a number of requests filter data at the same time,
+ * the way concurrent Google Sheets and S3 list queries do. Compare the results across thread counts to see how
+ * filtering scales with cores, e.g.
+ * <pre>
+ *     java -cp target/test-classes:&lt;test classpath&gt; com.appsmith.external.benchmarks.FilterDataServiceConcurrencyBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FilterDataServiceConcurrencyBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int rowCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private FilterDataService filterDataService;
+
+    private ArrayNode items;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        filterDataService = FilterDataService.getInstance();
+        items = generateRows(objectMapper, rowCount);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ArrayNode filterSingleThread() {
+        return filterDataService.filterDataNew(items, generateFilterParams());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ArrayNode filterFourThreads() {
+        return filterDataService.filterDataNew(items, generateFilterParams());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public ArrayNode filterAllCores() {
+        return filterDataService.filterDataNew(items, generateFilterParams());
+    }
+
+    static ArrayNode generateRows(ObjectMapper objectMapper, int rowCount) {
+        ArrayNode rows = objectMapper.createArrayNode();
+        for (int i = 0; i < rowCount; i++) {
+            ObjectNode row = rows.addObject();
+            row.put("id", String.valueOf(i));
+            row.put("email", "user" + i + "@example.com");
+            row.put("userName", "User " + i);
+            row.put("orderAmount", String.valueOf((i % 500) + 0.99));
+            row.put("orderStatus", i % 3 == 0 ? "READY" : "NOT READY");
+            row.put("date", "2021-09-" + String.format("%02d", (i % 28) + 1));
+        }
+        return rows;
+    }
+
+    /**
+     * Filter params are mutated by `filterDataNew` (value data types get added to the conditions), hence a fresh
+     * instance is generated for every invocation.
+     */
+    static UQIDataFilterParams generateFilterParams() {
+        Condition amountCondition = new Condition("orderAmount", ConditionalOperator.GT.name(), "100");
+        Condition statusCondition = new Condition("orderStatus", ConditionalOperator.EQ.name(), "READY");
+        Condition whereCondition = new Condition(null, ConditionalOperator.AND, List.of(amountCondition, statusCondition), null);
+
+        List<Map<String, String>> sortBy = List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "orderAmount", SORT_BY_TYPE_KEY, "DESCENDING"));
+        Map<String, String> paginateBy = Map.of(PAGINATE_LIMIT_KEY, "50", PAGINATE_OFFSET_KEY, "0");
+
+        return new UQIDataFilterParams(whereCondition, List.of("id", "userName", "orderAmount"), sortBy, paginateBy);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(FilterDataServiceConcurrencyBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
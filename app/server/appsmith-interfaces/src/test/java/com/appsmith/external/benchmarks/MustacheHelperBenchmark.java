@@ -0,0 +1,120 @@
+package com.appsmith.external.benchmarks;
+
+import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
+import org.apache.commons.text.StringEscapeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput and allocations of the variable substitution done on the configurations of every action
+ * execution. The GC profiler reports the allocation rate per operation along with the throughput, e.g.
+ * <pre>
+ *     java -cp target/test-classes:&lt;test classpath&gt; com.appsmith.external.benchmarks.MustacheHelperBenchmark
+ * </pre>
+ * `renderWithoutCompiling` renders the body the way it was rendered before templates were compiled, as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MustacheHelperBenchmark {
+
+    private static final String BODY = "SELECT * FROM users WHERE name ILIKE {{ '%' + SearchInput.text + '%' }} "
+            + "AND status = {{ StatusSelect.selectedOptionValue }} ORDER BY {{ Table1.sortOrder.column || 'id' }} "
+            + "LIMIT {{ Table1.pageSize }} OFFSET {{ (Table1.pageNo - 1) * Table1.pageSize }};";
+
+    private final Map<String, String> context = Map.of(
+            "'%' + SearchInput.text + '%'", "'%john%'",
+            "StatusSelect.selectedOptionValue", "'ACTIVE'",
+            "Table1.sortOrder.column || 'id'", "created_at",
+            "Table1.pageSize", "20",
+            "(Table1.pageNo - 1) * Table1.pageSize", "40",
+            "Api.token", "Bearer abc",
+            "host", "db.example.com"
+    );
+
+    @Benchmark
+    public String renderTemplate() {
+        return MustacheHelper.render(BODY, context);
+    }
+
+    @Benchmark
+    public String renderWithoutCompiling() {
+        final StringBuilder rendered = new StringBuilder();
+        for (String token : MustacheHelper.tokenize(BODY)) {
+            if (token.startsWith("{{") && token.endsWith("}}")) {
+                rendered.append(context.get(token.substring(2, token.length() - 2).trim()));
+            } else {
+                rendered.append(token);
+            }
+        }
+        return StringEscapeUtils.unescapeHtml4(rendered.toString());
+    }
+
+    /**
+     * Configurations are rendered in place, hence fresh ones are generated for every invocation.
+     */
+    @Benchmark
+    public ActionConfiguration renderConfigurations() {
+        MustacheHelper.renderFieldValues(generateDatasourceConfiguration(), context);
+        return MustacheHelper.renderFieldValues(generateActionConfiguration(), context);
+    }
+
+    static ActionConfiguration generateActionConfiguration() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(BODY);
+        actionConfiguration.setPath("/api/v1/users");
+        actionConfiguration.setHeaders(List.of(
+                new Property("Authorization", "{{ Api.token }}"),
+                new Property("Content-Type", "application/json")
+        ));
+
+        List<Property> queryParameters = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            queryParameters.add(new Property("param" + i, i % 2 == 0 ? "{{ Table1.pageSize }}" : "value" + i));
+        }
+        actionConfiguration.setQueryParameters(queryParameters);
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", true)));
+        actionConfiguration.setFormData(Map.of("command", "FIND", "limit", "{{ Table1.pageSize }}"));
+        return actionConfiguration;
+    }
+
+    static DatasourceConfiguration generateDatasourceConfiguration() {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("https://{{ host }}/api");
+        datasourceConfiguration.setEndpoints(List.of(new Endpoint("db.example.com", 5432L)));
+        datasourceConfiguration.setHeaders(List.of(new Property("Accept", "application/json")));
+        return datasourceConfiguration;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MustacheHelperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
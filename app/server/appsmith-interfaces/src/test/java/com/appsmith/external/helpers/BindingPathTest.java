@@ -0,0 +1,52 @@
+package com.appsmith.external.helpers;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+public class BindingPathTest {
+
+    @Test
+    public void tokenize_isSameAsSplittingWithRegex() {
+        for (String path : List.of("text", "primaryColumns.name.computedValue", "chartData[0].data", "list[1][2]",
+                ".leading", "trailing.", "a..b", "a. .b", "")) {
+            final List<String> expectedTokens = new ArrayList<>();
+            for (String token : path.split("[].\\[]")) {
+                if (!token.isBlank()) {
+                    expectedTokens.add(token);
+                }
+            }
+            assertThat(BindingPath.tokenize(path)).isEqualTo(expectedTokens);
+        }
+    }
+
+    @Test
+    public void findString_walksMapsAndLists() {
+        final Map<String, Object> widget = Map.of(
+                "text", "{{ Input1.text }}",
+                "primaryColumns", Map.of("name", Map.of("computedValue", "{{ Table1.data }}")),
+                "chartData", List.of(Map.of("data", "{{ Api1.data }}")),
+                "rightColumn", 10
+        );
+
+        assertThat(BindingPath.parse("text").findString(widget)).isEqualTo("{{ Input1.text }}");
+        assertThat(BindingPath.parse("primaryColumns.name.computedValue").findString(widget)).isEqualTo("{{ Table1.data }}");
+        assertThat(BindingPath.parse("chartData[0].data").findString(widget)).isEqualTo("{{ Api1.data }}");
+        assertThat(BindingPath.parse("chartData.0.data").findString(widget)).isEqualTo("{{ Api1.data }}");
+        // The path ends at the first string found along it
+        assertThat(BindingPath.parse("text.length").findString(widget)).isEqualTo("{{ Input1.text }}");
+        assertThat(BindingPath.parse("rightColumn").findString(widget)).isNull();
+        assertThat(BindingPath.parse("chartData[0].data")).isSameAs(BindingPath.parse("chartData[0].data"));
+
+        assertThrows(IllegalArgumentException.class, () -> BindingPath.parse("missing").findString(widget));
+        assertThrows(IllegalArgumentException.class, () -> BindingPath.parse("chartData[1].data").findString(widget));
+        assertThrows(IllegalArgumentException.class, () -> BindingPath.parse("chartData.first.data").findString(widget));
+        assertThrows(IllegalArgumentException.class,
+                () -> BindingPath.parse("chartData[99999999999].data").findString(widget));
+    }
+}
@@ -6,12 +6,29 @@ import com.appsmith.external.models.ParsedDataType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import org.bson.BsonInvalidOperationException;
+import org.bson.Document;
+import org.bson.json.JsonParseException;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
 
 import static com.appsmith.external.helpers.DataTypeStringUtils.getDisplayDataTypes;
 import static com.appsmith.external.helpers.DataTypeStringUtils.stringToKnownDataTypeConverter;
@@ -232,4 +249,165 @@ public class DataTypeStringUtilsTest {
 
         assertThat(displayDataTypes).anyMatch(parsedDataType -> parsedDataType.getDataType().equals(DisplayDataType.TABLE));
     }
+
+    @Test
+    public void testGetDisplayDataTypes_withLargeArrayNode_returnsWithTable() {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final ArrayNode data = objectMapper.createArrayNode();
+        for (int i = 0; i < 20000; i++) {
+            data.addObject().put("id", i).put("name", "row" + i);
+        }
+
+        final List<ParsedDataType> displayDataTypes = getDisplayDataTypes(data);
+
+        assertThat(displayDataTypes).extracting(ParsedDataType::getDataType)
+                .containsExactly(DisplayDataType.TABLE, DisplayDataType.JSON, DisplayDataType.RAW);
+    }
+
+    @Test
+    public void testGetDisplayDataTypes_withPrimitivesInArrayNodeOrString_returnsWithoutTable() {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final ArrayNode data = objectMapper.createArrayNode();
+        data.addObject().put("k", "v");
+        data.add(1);
+
+        assertThat(getDisplayDataTypes(data)).extracting(ParsedDataType::getDataType)
+                .containsExactly(DisplayDataType.JSON, DisplayDataType.RAW);
+        assertThat(getDisplayDataTypes(data.toString())).extracting(ParsedDataType::getDataType)
+                .containsExactly(DisplayDataType.JSON, DisplayDataType.RAW);
+        assertThat(getDisplayDataTypes("not a json")).extracting(ParsedDataType::getDataType)
+                .containsExactly(DisplayDataType.RAW);
+    }
+
+    /**
+     * Checks that the data types inferred by `stringToKnownDataTypeConverter` are still the ones inferred by its
+     * original implementation, which tried parsing the input as each of the data types in turn.
+     */
+    @Test
+    public void testStringToKnownDataTypeConverter_matchesParsingEachDataType() {
+        final List<String> corpus = new ArrayList<>(List.of(
+                "0", "-0", "+7", "2147483647", "2147483648", "-2147483648", "-2147483649", "9223372036854775807",
+                "9223372036854775808", "-9223372036854775808", "-9223372036854775809", "123456789012345678901234567890",
+                "1,000", "1,000,000.50", "1, 000", "5 ,", " ,5", " 42 ", "1.5", "-.5", "1.", ".", "1e5", "1E-5", "1.e5",
+                ".e5", "1e", "1e+", "2.5f", "2.5D", "1L", "0x1p3", "0x10", "NaN", "-Infinity", "Infinity1",
+                "\u0663\u0664", "\uFF11", "+", "-", "", " ", "true", "FALSE", " True ", "fal\u017Fe", "null", "NULL",
+                "2021-09-01", "2021-09-01 10:11:12", "2021-09-01T10:11:12", "+10000-01-01", " 2021-09-01", "10:11",
+                "10:11:12.123", "25:00", "[]", "[ ]", "[1, 2]", "{}", " {\"a\": 1}", "{\"a\": 1", "{a: 1}",
+                "\u2003{\"a\": 1}", "Abracadabra"
+        ));
+
+        final String alphabet = "0123456789+-.,eEfFdDxXpNaIintyrlsTFu :{}[]\"'\t\u0663";
+        final Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            final StringBuilder value = new StringBuilder();
+            final int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                value.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            corpus.add(value.toString());
+        }
+
+        for (String value : corpus) {
+            assertThat(inferDataType(() -> stringToKnownDataTypeConverter(value)))
+                    .as("Data type of [%s]", value)
+                    .isEqualTo(inferDataType(() -> parseEachDataType(value)));
+        }
+    }
+
+    private static String inferDataType(Supplier<DataType> inference) {
+        try {
+            return inference.get().name();
+        } catch (RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    private static DataType parseEachDataType(String input) {
+        String strNumericValue = input.trim().replaceAll(",", "");
+
+        if (input.startsWith("[") && input.endsWith("]")) {
+            return input.substring(1, input.length() - 1).trim().isEmpty() ? DataType.NULL : DataType.ARRAY;
+        }
+
+        try {
+            Integer.parseInt(strNumericValue);
+            return DataType.INTEGER;
+        } catch (NumberFormatException e) {
+            // Not an integer
+        }
+
+        try {
+            Long.parseLong(strNumericValue);
+            return DataType.LONG;
+        } catch (NumberFormatException e) {
+            // Not long
+        }
+
+        try {
+            Float.parseFloat(strNumericValue);
+            return DataType.FLOAT;
+        } catch (NumberFormatException e) {
+            // Not float
+        }
+
+        try {
+            Double.parseDouble(strNumericValue);
+            return DataType.DOUBLE;
+        } catch (NumberFormatException e) {
+            // Not double
+        }
+
+        String copyInput = String.valueOf(input).toLowerCase().trim();
+        if (copyInput.equals("true") || copyInput.equals("false")) {
+            return DataType.BOOLEAN;
+        }
+
+        if (copyInput.equals("null")) {
+            return DataType.NULL;
+        }
+
+        try {
+            LocalDateTime.parse(input, new DateTimeFormatterBuilder()
+                    .appendOptional(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+                    .toFormatter());
+            return DataType.TIMESTAMP;
+        } catch (DateTimeParseException e) {
+            // Not timestamp
+        }
+
+        try {
+            LocalDate.parse(input, new DateTimeFormatterBuilder()
+                    .appendOptional(DateTimeFormatter.ISO_LOCAL_DATE)
+                    .toFormatter());
+            return DataType.DATE;
+        } catch (DateTimeParseException e) {
+            // Not date
+        }
+
+        try {
+            LocalTime.parse(input, new DateTimeFormatterBuilder()
+                    .appendOptional(DateTimeFormatter.ISO_LOCAL_TIME)
+                    .toFormatter());
+            return DataType.TIME;
+        } catch (DateTimeParseException e) {
+            // Not time
+        }
+
+        try (JsonReader reader = new JsonReader(new StringReader(input))) {
+            new Gson().getAdapter(JsonObject.class).read(reader);
+            reader.hasNext();
+            return DataType.JSON_OBJECT;
+        } catch (IOException | JsonSyntaxException e) {
+            // Not a strict JSON object
+        }
+
+        try {
+            Document.parse(input);
+            return DataType.BSON;
+        } catch (JsonParseException | BsonInvalidOperationException e) {
+            // Not BSON
+        }
+
+        return DataType.STRING;
+    }
 }
@@ -631,4 +631,38 @@ public class MustacheHelperTest {
         assertThat(rendered).isEqualTo("leading value1 and then value2 tailing.");
     }
 
+    @Test
+    public void renderCompiledTemplateUnescapesEntities() {
+        final MustacheTemplate template = MustacheTemplate.compile("{{ a }} &amp; {{b}} and {{missing}}");
+        assertThat(template.hasBindings()).isTrue();
+        assertThat(template.render(Map.of("a", "&lt;one&gt;", "b", "two"))).isEqualTo("<one> & two and null");
+        assertThat(template.render(Map.of("a", "three", "b", "four"))).isEqualTo("three & four and null");
+
+        assertThat(MustacheTemplate.compile("no bindings &quot;here&quot;").render(Map.of()))
+                .isEqualTo("no bindings \"here\"");
+    }
+
+    @Test
+    public void renderFieldValuesKeepsUnchangedValues() {
+        final List<Property> headers = List.of(new Property("header1", "static value"));
+        final List<Property> queryParameters = List.of(new Property("param1", "{{ value }}"));
+
+        ActionConfiguration configuration = new ActionConfiguration();
+        configuration.setBody("SELECT * FROM users WHERE id = {{ value }}");
+        configuration.setPath("/users");
+        configuration.setHeaders(headers);
+        configuration.setQueryParameters(queryParameters);
+        configuration.setFormData(Map.of("limit", "{{ value }}", "offset", "0"));
+
+        renderFieldValues(configuration, Map.of("value", "10"));
+
+        assertThat(configuration.getBody()).isEqualTo("SELECT * FROM users WHERE id = 10");
+        assertThat(configuration.getPath()).isEqualTo("/users");
+        assertThat(configuration.getHeaders()).isSameAs(headers);
+        // Properties are rendered in place
+        assertThat(configuration.getQueryParameters()).isSameAs(queryParameters);
+        assertThat(configuration.getQueryParameters().get(0).getValue()).isEqualTo("10");
+        assertThat(configuration.getFormData()).isEqualTo(Map.of("limit", "10", "offset", "0"));
+    }
+
 }
@@ -0,0 +1,77 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class ResultSizeEstimatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testEstimateSizeGrowsWithContent() {
+        Map<String, Object> smallRow = new LinkedHashMap<>();
+        smallRow.put("id", 1);
+        smallRow.put("name", "a");
+
+        Map<String, Object> largeRow = new LinkedHashMap<>();
+        largeRow.put("id", 1);
+        largeRow.put("name", "a".repeat(1000));
+        largeRow.put("tags", new String[]{"x", "y", "z"});
+        largeRow.put("attributes", List.of(true, false, 2.5));
+
+        long smallRowSize = ResultSizeEstimator.estimateSize(smallRow);
+        long largeRowSize = ResultSizeEstimator.estimateSize(largeRow);
+
+        assertThat(smallRowSize).isGreaterThan(0);
+        assertThat(largeRowSize).isGreaterThan(smallRowSize + 1000);
+    }
+
+    @Test
+    public void testEstimateSizeOfJsonNodeMatchesEquivalentMap() throws IOException {
+        String json = "{\"name\": \"appsmith\", \"stars\": 1000, \"tags\": [\"low-code\", \"internal-tools\"], \"open\": true}";
+
+        long jsonNodeSize = ResultSizeEstimator.estimateSize(objectMapper.readTree(json));
+        long mapSize = ResultSizeEstimator.estimateSize(objectMapper.readValue(json, LinkedHashMap.class));
+
+        assertEquals(mapSize, jsonNodeSize);
+    }
+
+    @Test
+    public void testSizeIsAccountedIncrementally() {
+        ResultSizeEstimator resultSizeEstimator = new ResultSizeEstimator(Long.MAX_VALUE);
+        Map<String, Object> row = Map.of("name", "appsmith");
+
+        long sizeAfterFirstRow = resultSizeEstimator.addRow(row);
+        long sizeAfterSecondRow = resultSizeEstimator.addRow(row);
+
+        assertEquals(2 * sizeAfterFirstRow, sizeAfterSecondRow);
+        assertEquals(sizeAfterSecondRow, resultSizeEstimator.getEstimatedSizeInBytes());
+    }
+
+    @Test
+    public void testLimitIsEnforced() {
+        ResultSizeEstimator resultSizeEstimator = new ResultSizeEstimator(100);
+        Map<String, Object> row = Map.of("name", "a".repeat(40));
+
+        resultSizeEstimator.addRowAndCheckLimit(row);
+        assertFalse(resultSizeEstimator.isLimitExceeded());
+
+        AppsmithPluginException exception = assertThrows(AppsmithPluginException.class,
+                () -> resultSizeEstimator.addRowAndCheckLimit(row));
+        assertTrue(resultSizeEstimator.isLimitExceeded());
+        assertEquals(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED.getAppErrorCode(), exception.getAppErrorCode());
+    }
+}
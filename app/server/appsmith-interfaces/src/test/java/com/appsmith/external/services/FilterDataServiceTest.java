@@ -16,6 +16,10 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -1383,4 +1387,51 @@ public class FilterDataServiceTest {
             Assert.fail(e.getMessage());
         }
     }
+
+    @Test
+    public void testConcurrentFilteringReusesScratchTablesWithoutLeakingRows() throws Exception {
+        String data = "[\n" +
+                "  {\n" +
+                "    \"id\": 2381224,\n" +
+                "    \"userName\": \"Michael Lawson\",\n" +
+                "    \"orderAmount\": 4.99,\n" +
+                "    \"orderStatus\": \"READY\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"id\": 2736212,\n" +
+                "    \"userName\": \"Lindsay Ferguson\",\n" +
+                "    \"orderAmount\": 9.99,\n" +
+                "    \"orderStatus\": \"READY\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"id\": 6788734,\n" +
+                "    \"userName\": \"Tobias Funke\",\n" +
+                "    \"orderAmount\": 19.99,\n" +
+                "    \"orderStatus\": \"NOT READY\"\n" +
+                "  }\n" +
+                "]";
+
+        ArrayNode items = (ArrayNode) objectMapper.readTree(data);
+
+        // The same schema is filtered over and over again from a number of threads. If scratch tables were shared
+        // between requests, or not emptied between uses, the row counts would drift.
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(executorService.submit(() -> {
+                    Condition condition = new Condition("orderStatus", ConditionalOperator.EQ.name(), "READY");
+                    Condition whereCondition = new Condition(null, ConditionalOperator.AND, List.of(condition), null);
+                    return filterDataService.filterDataNew(items, new UQIDataFilterParams(whereCondition, null,
+                            null, null)).size();
+                }));
+            }
+
+            for (Future<Integer> result : results) {
+                assertEquals(2, (int) result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
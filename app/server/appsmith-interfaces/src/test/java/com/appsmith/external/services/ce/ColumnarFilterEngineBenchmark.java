@@ -0,0 +1,110 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+
+/**
+ * Compares the H2 based filtering with the columnar engine on Google Sheets like data (every numeric column is a
+ * DOUBLE column) for a typical UQI query : a where clause, a sort and a page of results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ColumnarFilterEngineBenchmark {
+
+    private static final Map<DataType, DataType> SHEETS_DATA_TYPE_CONVERSION_MAP = Map.of(
+            DataType.INTEGER, DataType.DOUBLE,
+            DataType.LONG, DataType.DOUBLE,
+            DataType.FLOAT, DataType.DOUBLE
+    );
+
+    @Param({"10000", "100000"})
+    public int rowCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private FilterDataServiceCE filterDataService;
+
+    private ColumnarFilterEngine columnarFilterEngine;
+
+    private ArrayNode items;
+
+    private Map<String, DataType> schema;
+
+    private UQIDataFilterParams params;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        filterDataService = new FilterDataServiceCE();
+        columnarFilterEngine = new ColumnarFilterEngine(objectMapper);
+
+        items = objectMapper.createArrayNode();
+        for (int i = 0; i < rowCount; i++) {
+            ObjectNode row = items.addObject();
+            row.put("rowIndex", String.valueOf(i));
+            row.put("email", "user" + i + "@example.com");
+            row.put("userName", "User " + i);
+            row.put("orderAmount", String.valueOf((i % 500) + 0.5));
+            row.put("orderStatus", i % 3 == 0 ? "READY" : "NOT READY");
+        }
+        schema = filterDataService.generateSchema(items, SHEETS_DATA_TYPE_CONVERSION_MAP);
+
+        Condition whereCondition = new Condition(null, ConditionalOperator.AND, List.of(
+                new Condition("orderAmount", ConditionalOperator.GT, "100", null),
+                new Condition("orderStatus", ConditionalOperator.EQ, "READY", null)
+        ), null);
+        List<Map<String, String>> sortBy = List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "orderAmount", SORT_BY_TYPE_KEY, "DESCENDING"));
+        Map<String, String> paginateBy = Map.of(PAGINATE_LIMIT_KEY, "50", PAGINATE_OFFSET_KEY, "100");
+        params = new UQIDataFilterParams(whereCondition, null, sortBy, paginateBy);
+    }
+
+    @Benchmark
+    public ArrayNode filterUsingH2() {
+        return filterDataService.filterDataUsingH2(items, schema, params, SHEETS_DATA_TYPE_CONVERSION_MAP);
+    }
+
+    @Benchmark
+    public ArrayNode filterUsingColumnarEngine() {
+        return columnarFilterEngine.filter(items, schema, params, SHEETS_DATA_TYPE_CONVERSION_MAP).orElseThrow();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ColumnarFilterEngineBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
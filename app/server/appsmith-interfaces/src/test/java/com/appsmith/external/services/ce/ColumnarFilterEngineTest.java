@@ -0,0 +1,195 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Differential tests that check that the columnar engine returns exactly what the H2 based filtering returns.
+ */
+public class ColumnarFilterEngineTest {
+
+    private static final Map<DataType, DataType> SHEETS_DATA_TYPE_CONVERSION_MAP = Map.of(
+            DataType.INTEGER, DataType.DOUBLE,
+            DataType.LONG, DataType.DOUBLE,
+            DataType.FLOAT, DataType.DOUBLE
+    );
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FilterDataServiceCE filterDataService = new FilterDataServiceCE();
+    private final ColumnarFilterEngine columnarFilterEngine = new ColumnarFilterEngine(objectMapper);
+
+    private ArrayNode generateRows(int rowCount) {
+        ArrayNode rows = objectMapper.createArrayNode();
+        for (int i = 0; i < rowCount; i++) {
+            ObjectNode row = rows.addObject();
+            // Like Google Sheets rows, `rowIndex` keeps its INTEGER type even when a conversion map is used
+            row.put("rowIndex", String.valueOf(i));
+            row.put("id", String.valueOf(i));
+            row.put("bigId", String.valueOf(3000000000L + i));
+            row.put("userName", i % 7 == 0 ? "" : "User " + (i % 13));
+            row.put("active", i % 2 == 0 ? "true" : "false");
+            row.put("orderAmount", i % 5 == 0 ? "" : (i % 50) + ".5");
+            row.put("orderStatus", i % 3 == 0 ? "READY" : (i % 3 == 1 ? "NOT READY" : "null"));
+        }
+        return rows;
+    }
+
+    private static Condition condition(String path, ConditionalOperator operator, String value) {
+        return new Condition(path, operator, value, null);
+    }
+
+    private static Condition group(ConditionalOperator operator, Condition... conditions) {
+        return new Condition(null, operator, List.of(conditions), null);
+    }
+
+    private static List<Map<String, String>> sortBy(String... columnAndOrder) {
+        List<Map<String, String>> sortBy = new ArrayList<>();
+        for (int i = 0; i < columnAndOrder.length; i += 2) {
+            sortBy.add(Map.of(SORT_BY_COLUMN_NAME_KEY, columnAndOrder[i], SORT_BY_TYPE_KEY, columnAndOrder[i + 1]));
+        }
+        return sortBy;
+    }
+
+    private static Map<String, String> paginate(String limit, String offset) {
+        return Map.of(PAGINATE_LIMIT_KEY, limit, PAGINATE_OFFSET_KEY, offset);
+    }
+
+    private List<UQIDataFilterParams> generateSupportedParams() {
+        List<UQIDataFilterParams> paramsList = new ArrayList<>();
+        List<List<Map<String, String>>> sorts = new ArrayList<>();
+        sorts.add(null);
+        sorts.add(sortBy("id", "DESCENDING"));
+        sorts.add(sortBy("orderStatus", "ASCENDING", "id", "DESCENDING"));
+        sorts.add(sortBy("userName", "DESCENDING", "", "ASCENDING", "id", "ASCENDING"));
+        sorts.add(sortBy("orderAmount", "ASCENDING", "id", "ASCENDING"));
+        sorts.add(sortBy("active", "DESCENDING", "bigId", "ASCENDING"));
+
+        List<Map<String, String>> paginations = new ArrayList<>();
+        paginations.add(null);
+        paginations.add(paginate("10", "0"));
+        paginations.add(paginate("7", "15"));
+        paginations.add(paginate("", ""));
+        paginations.add(paginate("1,000", "990"));
+
+        List<Condition> conditions = new ArrayList<>();
+        conditions.add(null);
+        conditions.add(group(ConditionalOperator.AND, condition("id", ConditionalOperator.LT, "50")));
+        conditions.add(group(ConditionalOperator.OR,
+                condition("orderStatus", ConditionalOperator.EQ, "READY"),
+                condition("bigId", ConditionalOperator.GTE, "3000000150")));
+        conditions.add(group(ConditionalOperator.AND,
+                condition("userName", ConditionalOperator.CONTAINS, "ser 1"),
+                group(ConditionalOperator.OR,
+                        condition("active", ConditionalOperator.EQ, "true"),
+                        condition("id", ConditionalOperator.IN, "[1, 2, 3, 30, \"40\"]"))));
+        conditions.add(group(ConditionalOperator.AND,
+                condition("userName", ConditionalOperator.EQ, ""),
+                condition("orderStatus", ConditionalOperator.NOT_EQ, "")));
+        conditions.add(group(ConditionalOperator.AND,
+                condition("orderStatus", ConditionalOperator.NOT_IN, "[\"READY\"]"),
+                condition("id", ConditionalOperator.NOT_IN, "[4, \"\"]")));
+        conditions.add(group(ConditionalOperator.AND,
+                condition("orderStatus", ConditionalOperator.EQ, "null"),
+                condition("id", ConditionalOperator.GT, "1,0")));
+
+        for (Condition condition : conditions) {
+            for (List<Map<String, String>> sort : sorts) {
+                for (Map<String, String> pagination : paginations) {
+                    paramsList.add(new UQIDataFilterParams(condition, null, sort, pagination));
+                }
+            }
+        }
+
+        paramsList.add(new UQIDataFilterParams(null, List.of("userName", "id"), sortBy("id", "DESCENDING"), null));
+        paramsList.add(new UQIDataFilterParams(
+                group(ConditionalOperator.AND, condition("rowIndex", ConditionalOperator.GTE, "500")),
+                List.of("rowIndex", "userName"), sortBy("rowIndex", "DESCENDING"), paginate("25", "10")));
+        paramsList.add(new UQIDataFilterParams(null, List.of("orderAmount", "orderAmount", "active"), null,
+                paginate("5", "5")));
+
+        return paramsList;
+    }
+
+    private void assertSameResults(ArrayNode items, UQIDataFilterParams params, Map<DataType, DataType> conversionMap) {
+        Map<String, DataType> schema = filterDataService.generateSchema(items, conversionMap);
+
+        Optional<ArrayNode> columnarResult = columnarFilterEngine.filter(items, schema, params, conversionMap);
+        assertTrue("Columnar engine should support " + params, columnarResult.isPresent());
+
+        ArrayNode h2Result = filterDataService.filterDataUsingH2(items, schema, params, conversionMap);
+        assertEquals("Mismatch for " + params, h2Result, columnarResult.get());
+    }
+
+    @Test
+    public void testColumnarEngineMatchesH2() {
+        ArrayNode items = generateRows(1000);
+
+        for (UQIDataFilterParams params : generateSupportedParams()) {
+            assertSameResults(items, params, null);
+        }
+    }
+
+    @Test
+    public void testColumnarEngineMatchesH2WithDataTypeConversion() {
+        ArrayNode items = generateRows(1000);
+
+        List<UQIDataFilterParams> paramsList = generateSupportedParams();
+        paramsList.add(new UQIDataFilterParams(
+                group(ConditionalOperator.AND,
+                        condition("orderAmount", ConditionalOperator.GTE, "10.5"),
+                        condition("orderAmount", ConditionalOperator.LT, "30")),
+                null, sortBy("orderAmount", "DESCENDING", "id", "ASCENDING"), paginate("20", "3")));
+        paramsList.add(new UQIDataFilterParams(
+                group(ConditionalOperator.AND, condition("orderAmount", ConditionalOperator.IN, "[1.5, 2.5, \"3.5\"]")),
+                null, null, null));
+
+        for (UQIDataFilterParams params : paramsList) {
+            // Every numeric column is a DOUBLE column here, hence `id` based IN conditions are exercised as well.
+            assertSameResults(items, params, SHEETS_DATA_TYPE_CONVERSION_MAP);
+        }
+    }
+
+    @Test
+    public void testColumnarEngineFallsBackForUnsupportedFilters() {
+        ArrayNode items = generateRows(100);
+        Map<String, DataType> schema = filterDataService.generateSchema(items, null);
+
+        List<UQIDataFilterParams> unsupportedParams = List.of(
+                // Comparisons on REAL columns are left to H2
+                new UQIDataFilterParams(group(ConditionalOperator.AND,
+                        condition("orderAmount", ConditionalOperator.LT, "10")), null, null, null),
+                // H2 rejects a where clause that starts with a nested condition
+                new UQIDataFilterParams(group(ConditionalOperator.AND,
+                        group(ConditionalOperator.OR, condition("id", ConditionalOperator.EQ, "1"))), null, null, null),
+                // Unknown column
+                new UQIDataFilterParams(null, List.of("unknown"), null, null),
+                // Value that can not be bound to an INT column
+                new UQIDataFilterParams(group(ConditionalOperator.AND,
+                        condition("id", ConditionalOperator.EQ, "1.5")), null, null, null)
+        );
+
+        for (UQIDataFilterParams params : unsupportedParams) {
+            assertFalse("Columnar engine should not support " + params,
+                    columnarFilterEngine.filter(items, schema, params, null).isPresent());
+        }
+    }
+}
@@ -33,6 +33,7 @@ import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -180,6 +181,8 @@ public class GoogleSheetsPlugin extends BasePlugin {
                                         "Bearer " + oauth2.getAuthenticationResponse().getToken()))
                                 .exchange()
                                 .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
+                                // Transforming the response may filter the rows, which blocks on the filtering database
+                                .publishOn(Schedulers.boundedElastic())
                                 .map(response -> {
                                     // Populate result object
                                     ActionExecutionResult result = new ActionExecutionResult();
@@ -25,37 +25,25 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.constants.MongoSpecialDataTypes;
+import com.external.plugins.utils.MongoCursorReader;
 import com.external.plugins.utils.MongoErrorUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mongodb.ConnectionString;
-import com.mongodb.DBRefCodecProvider;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoSocketWriteException;
 import com.mongodb.MongoTimeoutException;
-import com.mongodb.client.gridfs.codecs.GridFSFileCodecProvider;
-import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
-import org.bson.codecs.BsonTypeClassMap;
-import org.bson.codecs.BsonValueCodecProvider;
-import org.bson.codecs.DocumentCodec;
-import org.bson.codecs.DocumentCodecProvider;
-import org.bson.codecs.IterableCodecProvider;
-import org.bson.codecs.MapCodecProvider;
-import org.bson.codecs.ValueCodecProvider;
-import org.bson.codecs.configuration.CodecRegistries;
-import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.reactivestreams.Publisher;
@@ -66,14 +54,9 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Duration;
-import java.time.Instant;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -109,6 +92,10 @@ import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.FieldName.SUCCESS;
 import static com.external.plugins.constants.FieldName.UPDATE_OPERATION;
 import static com.external.plugins.constants.FieldName.UPDATE_QUERY;
+import static com.external.plugins.utils.BsonToJsonNodeConverter.toArrayNode;
+import static com.external.plugins.utils.BsonToJsonNodeConverter.toBigInteger;
+import static com.external.plugins.utils.BsonToJsonNodeConverter.toIntegralNode;
+import static com.external.plugins.utils.BsonToJsonNodeConverter.toJsonNode;
 import static com.external.plugins.utils.DatasourceUtils.buildClientURI;
 import static com.external.plugins.utils.DatasourceUtils.buildURIFromExtractedInfo;
 import static com.external.plugins.utils.DatasourceUtils.extractInfoFromConnectionStringURI;
@@ -116,6 +103,7 @@ import static com.external.plugins.utils.DatasourceUtils.hasNonEmptyURI;
 import static com.external.plugins.utils.DatasourceUtils.isAuthenticated;
 import static com.external.plugins.utils.DatasourceUtils.isHostStringConnectionURI;
 import static com.external.plugins.utils.DatasourceUtils.isUsingURI;
+import static com.external.plugins.utils.MongoCursorReader.CURSOR;
 import static com.external.plugins.utils.MongoPluginUtils.convertMongoFormInputToRawCommand;
 import static com.external.plugins.utils.MongoPluginUtils.generateTemplatesAndStructureForACollection;
 import static com.external.plugins.utils.MongoPluginUtils.getDatabaseName;
@@ -194,18 +182,10 @@ public class MongoPlugin extends BasePlugin {
 
     private static final MongoErrorUtils mongoErrorUtils = MongoErrorUtils.getInstance();
 
-    private static final CodecRegistry DEFAULT_REGISTRY = CodecRegistries.fromProviders(Arrays.asList(
-            new ValueCodecProvider(),
-            new IterableCodecProvider(),
-            new BsonValueCodecProvider(),
-            new DocumentCodecProvider(),
-            new MapCodecProvider(),
-            new DBRefCodecProvider(),
-            new GeoJsonCodecProvider(),
-            new GridFSFileCodecProvider()
-    ));
+    private static final String TRUNCATED = "truncated";
 
-    private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new org.bson.codecs.BsonTypeClassMap();
+    private static final String TRUNCATED_RESULT_MESSAGE = "Only the first %d documents of the result have been " +
+            "fetched as the result is too large. Please use a more selective query or a limit to fetch the rest.";
 
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -217,6 +197,12 @@ public class MongoPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.elastic();
 
+        private final SharedConfig sharedConfig;
+
+        public MongoPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * also update the datasource and action configuration for pagination and some minor cleanup of the configuration before execution
@@ -315,7 +301,26 @@ public class MongoPlugin extends BasePlugin {
             String query = PluginUtils.getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE);
             Bson command = Document.parse(query);
 
-            Mono<Document> mongoOutputMono = Mono.from(database.runCommand(command));
+            /*
+             * Commands like `find` and `aggregate` only return the first batch of their result, the cursor gets
+             * followed with `getMore` commands in the same session to read the remaining batches.
+             */
+            final MongoCursorReader cursorReader = new MongoCursorReader(
+                    sharedConfig.getMongoMaxCursorRows(),
+                    sharedConfig.getMaxResponseSize()
+            );
+            Mono<Document> mongoOutputMono = Mono.usingWhen(
+                    Mono.from(mongoClient.startSession()),
+                    session -> Mono.from(database.runCommand(session, command))
+                            .flatMap(mongoOutput -> {
+                                if (!mongoOutput.containsKey(CURSOR)) {
+                                    return Mono.just(mongoOutput);
+                                }
+
+                                return cursorReader.read(database, session, mongoOutput).thenReturn(mongoOutput);
+                            }),
+                    session -> Mono.fromRunnable(session::close)
+            );
             ActionExecutionResult result = new ActionExecutionResult();
             List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null
                     , null, null));
@@ -345,20 +350,13 @@ public class MongoPlugin extends BasePlugin {
                     .flatMap(mongoOutput -> {
                         try {
                             /*
-                             * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
-                             * processing of DbRef Object.
-                             * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
+                             * The output document is converted to JSON nodes directly, instead of going through its
+                             * extended JSON string. ObjectIds, dates, longs and decimals are simplified on the way,
+                             * see BsonToJsonNodeConverter.
                              */
-                            DocumentCodec documentCodec = new DocumentCodec(
-                                    DEFAULT_REGISTRY,
-                                    DEFAULT_BSON_TYPE_CLASS_MAP
-                            );
-
-                            JSONObject outputJson = new JSONObject(mongoOutput.toJson(documentCodec));
-
-                            //The output json contains the key "ok". This is the status of the command
-                            BigInteger status = outputJson.getBigInteger("ok");
-                            JSONArray headerArray = new JSONArray();
+                            //The output document contains the key "ok". This is the status of the command
+                            BigInteger status = toBigInteger(mongoOutput.get("ok"));
+                            ArrayNode headerArray = objectMapper.createArrayNode();
 
                             if (BigInteger.ONE.equals(status)) {
                                 result.setIsExecutionSuccess(true);
@@ -372,59 +370,62 @@ public class MongoPlugin extends BasePlugin {
                                   we either get the modified new value or the pre-modified old value (depending on the
                                   `new` field in the command. Let's return that value to the user.
                                  */
-                                if (outputJson.has(VALUE)) {
-                                    result.setBody(objectMapper.readTree(
-                                            cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE))).toString()
-                                    ));
+                                if (mongoOutput.containsKey(VALUE)) {
+                                    ObjectNode body = objectMapper.createObjectNode();
+                                    body.set(VALUE, toJsonNode(mongoOutput.get(VALUE)));
+                                    result.setBody(body);
                                 }
 
                                 /*
-                                  The json contains key "cursor" when find command was issued and there are 1 or more
-                                  results. In case there are no results for find, this key is not present in the result json.
+                                  The document contains key "cursor" when find or aggregate command was issued. The rows
+                                  have been read from the cursor already. If they had to be cut short because of the
+                                  row or size limit, this is reported in the headers and as a message to the user.
                                  */
-                                if (outputJson.has("cursor")) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
+                                if (mongoOutput.containsKey(CURSOR)) {
+                                    result.setBody(cursorReader.getRows());
+                                    headerArray.add(objectMapper.createObjectNode()
+                                            .put(TRUNCATED, cursorReader.isTruncated()));
+
+                                    if (cursorReader.isTruncated()) {
+                                        result.setMessages(Set.of(String.format(TRUNCATED_RESULT_MESSAGE,
+                                                cursorReader.getRows().size())));
+                                    }
                                 }
 
                                 /*
-                                  The json contains key "n" when insert/update command is issued. "n" for update
+                                  The document contains key "n" when insert/update command is issued. "n" for update
                                   signifies the no of documents selected for update. "n" in case of insert signifies the
                                   number of documents inserted.
                                  */
-                                if (outputJson.has("n")) {
-                                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
+                                if (mongoOutput.containsKey("n")) {
+                                    ObjectNode body = objectMapper.createObjectNode();
+                                    body.set("n", toIntegralNode(toBigInteger(mongoOutput.get("n"))));
+                                    result.setBody(body);
+                                    headerArray.add(body.deepCopy());
                                 }
 
                                 /*
-                                  The json key contains key "nModified" in case of update command. This signifies the no of
+                                  The document contains key "nModified" in case of update command. This signifies the no of
                                   documents updated.
                                  */
-                                if (outputJson.has(N_MODIFIED)) {
-                                    JSONObject body = new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
+                                if (mongoOutput.containsKey(N_MODIFIED)) {
+                                    ObjectNode body = objectMapper.createObjectNode();
+                                    body.set(N_MODIFIED, toIntegralNode(toBigInteger(mongoOutput.get(N_MODIFIED))));
+                                    result.setBody(body);
+                                    headerArray.add(body.deepCopy());
                                 }
 
                                 /*
-                                  The json contains key "values" when distinct command is used.
+                                  The document contains key "values" when distinct command is used.
                                  */
-                                if (outputJson.has(VALUES)) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONArray(VALUES));
-
+                                if (mongoOutput.containsKey(VALUES)) {
                                     ObjectNode resultNode = objectMapper.createObjectNode();
 
                                     // Create a JSON structure with the results stored with a key to abide by the
                                     // Server-Client contract of only sending array of objects in result.
-                                    resultNode
-                                            .putArray(VALUES)
-                                            .addAll((ArrayNode) objectMapper.readTree(outputResult.toString()));
+                                    resultNode.set(VALUES, toArrayNode(mongoOutput.getList(VALUES, Object.class)));
 
-                                    result.setBody(objectMapper.readTree(resultNode.toString()));
+                                    result.setBody(resultNode);
                                 }
 
                                 /*
@@ -433,9 +434,10 @@ public class MongoPlugin extends BasePlugin {
                                  */
                             }
 
-                            JSONObject statusJson = new JSONObject().put("ok", status);
-                            headerArray.put(statusJson);
-                            result.setHeaders(objectMapper.readTree(headerArray.toString()));
+                            ObjectNode statusJson = objectMapper.createObjectNode();
+                            statusJson.set("ok", status == null ? objectMapper.nullNode() : toIntegralNode(status));
+                            headerArray.add(statusJson);
+                            result.setHeaders(headerArray);
                         } catch (Exception e) {
                             return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e));
                         }
@@ -912,58 +914,4 @@ public class MongoPlugin extends BasePlugin {
         }
     }
 
-    private static Object cleanUp(Object object) {
-        if (object instanceof JSONObject) {
-            JSONObject jsonObject = (JSONObject) object;
-            final boolean isSingleKey = jsonObject.keySet().size() == 1;
-
-            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
-                return jsonObject.getBigInteger("$numberLong");
-
-            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
-                return jsonObject.getString("$oid");
-
-            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
-                JSONObject dateJSON = jsonObject.optJSONObject("$date");
-                /*
-                    For dates before Jan 1, 1970 then the output json from MongoDB driver looks like
-                    "$date": {
-                        "$numberLong": "-493033770000"
-                    }
-                    And for dates on or after Jan 1, 1970 the output json from MongoDB driver is readily available and looks like
-                    "$date": "2022-07-01T10:32:37.318Z"
-                */
-                if (dateJSON != null && dateJSON.keySet().size() == 1 &&
-                        "$numberLong".equals(dateJSON.keys().next())) {
-                    return DateTimeFormatter.ISO_INSTANT.format(
-                            Instant.ofEpochMilli(dateJSON.getLong("$numberLong")));
-                }
-                return DateTimeFormatter.ISO_INSTANT.format(
-                        Instant.parse(jsonObject.getString("$date"))
-                );
-
-            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
-                return new BigDecimal(jsonObject.getString("$numberDecimal"));
-
-            } else {
-                for (String key : new HashSet<>(jsonObject.keySet())) {
-                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
-                }
-
-            }
-
-        } else if (object instanceof JSONArray) {
-            Collection<Object> cleaned = new ArrayList<>();
-
-            for (Object child : (JSONArray) object) {
-                cleaned.add(cleanUp(child));
-            }
-
-            return new JSONArray(cleaned);
-
-        }
-
-        return object;
-    }
-
 }
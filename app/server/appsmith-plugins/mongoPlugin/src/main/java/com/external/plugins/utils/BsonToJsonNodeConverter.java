@@ -0,0 +1,207 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mongodb.DBRef;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.bson.BsonNull;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.BsonUndefined;
+import org.bson.types.Binary;
+import org.bson.types.Code;
+import org.bson.types.CodeWithScope;
+import org.bson.types.Decimal128;
+import org.bson.types.MaxKey;
+import org.bson.types.MinKey;
+import org.bson.types.ObjectId;
+import org.bson.types.Symbol;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Converts the output of a Mongo command to Jackson nodes in a single pass over the decoded document.
+ * <p>
+ * The nodes are the same as the ones we used to get by writing the document as relaxed extended JSON, parsing it and
+ * replacing the extended JSON wrappers that users care about with plain values :
+ * <ul>
+ *     <li>ObjectIds become their hex string, also inside DBRefs</li>
+ *     <li>Dates become ISO-8601 instants, e.g. "2018-12-31T00:00:00Z", including the ones before 1970</li>
+ *     <li>64-bit integers and decimals become plain numbers</li>
+ * </ul>
+ * All other BSON types keep their relaxed extended JSON representation, e.g. {"$binary": {...}}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BsonToJsonNodeConverter {
+
+    private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    // Relaxed extended JSON writes doubles from this magnitude onwards in scientific notation
+    private static final double SCIENTIFIC_NOTATION_THRESHOLD = 1e7;
+
+    public static JsonNode toJsonNode(Object value) {
+        if (value == null || value instanceof BsonNull) {
+            return nodeFactory.nullNode();
+        } else if (value instanceof String) {
+            return nodeFactory.textNode((String) value);
+        } else if (value instanceof Boolean) {
+            return nodeFactory.booleanNode((Boolean) value);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return nodeFactory.numberNode(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            return toIntegralNode(BigInteger.valueOf((Long) value));
+        } else if (value instanceof Double || value instanceof Float) {
+            return toDoubleNode(((Number) value).doubleValue());
+        } else if (value instanceof Decimal128) {
+            return toDecimalNode((Decimal128) value);
+        } else if (value instanceof ObjectId) {
+            return nodeFactory.textNode(((ObjectId) value).toHexString());
+        } else if (value instanceof Date) {
+            return nodeFactory.textNode(DateTimeFormatter.ISO_INSTANT.format(((Date) value).toInstant()));
+        } else if (value instanceof Map) {
+            return toObjectNode((Map<?, ?>) value);
+        } else if (value instanceof Iterable) {
+            return toArrayNode((Iterable<?>) value);
+        } else if (value instanceof DBRef) {
+            final DBRef dbRef = (DBRef) value;
+            final ObjectNode dbRefNode = nodeFactory.objectNode();
+            dbRefNode.put("$ref", dbRef.getCollectionName());
+            dbRefNode.set("$id", toJsonNode(dbRef.getId()));
+            if (dbRef.getDatabaseName() != null) {
+                dbRefNode.put("$db", dbRef.getDatabaseName());
+            }
+            return dbRefNode;
+        } else if (value instanceof UUID) {
+            return nodeFactory.textNode(value.toString());
+        } else if (value instanceof Binary) {
+            final Binary binary = (Binary) value;
+            final ObjectNode binaryNode = nodeFactory.objectNode();
+            binaryNode.putObject("$binary")
+                    .put("base64", Base64.getEncoder().encodeToString(binary.getData()))
+                    .put("subType", String.format("%02X", binary.getType()));
+            return binaryNode;
+        } else if (value instanceof BsonTimestamp) {
+            final BsonTimestamp timestamp = (BsonTimestamp) value;
+            final ObjectNode timestampNode = nodeFactory.objectNode();
+            timestampNode.putObject("$timestamp")
+                    .put("t", Integer.toUnsignedLong(timestamp.getTime()))
+                    .put("i", Integer.toUnsignedLong(timestamp.getInc()));
+            return timestampNode;
+        } else if (value instanceof BsonRegularExpression) {
+            final BsonRegularExpression regularExpression = (BsonRegularExpression) value;
+            final ObjectNode regularExpressionNode = nodeFactory.objectNode();
+            regularExpressionNode.putObject("$regularExpression")
+                    .put("pattern", regularExpression.getPattern())
+                    .put("options", regularExpression.getOptions());
+            return regularExpressionNode;
+        } else if (value instanceof CodeWithScope) {
+            final CodeWithScope codeWithScope = (CodeWithScope) value;
+            final ObjectNode codeNode = nodeFactory.objectNode().put("$code", codeWithScope.getCode());
+            codeNode.set("$scope", toObjectNode(codeWithScope.getScope()));
+            return codeNode;
+        } else if (value instanceof Code) {
+            return nodeFactory.objectNode().put("$code", ((Code) value).getCode());
+        } else if (value instanceof Symbol) {
+            return nodeFactory.objectNode().put("$symbol", ((Symbol) value).getSymbol());
+        } else if (value instanceof MinKey) {
+            return nodeFactory.objectNode().put("$minKey", 1);
+        } else if (value instanceof MaxKey) {
+            return nodeFactory.objectNode().put("$maxKey", 1);
+        } else if (value instanceof BsonUndefined) {
+            return nodeFactory.objectNode().put("$undefined", true);
+        }
+
+        return nodeFactory.textNode(String.valueOf(value));
+    }
+
+    public static ObjectNode toObjectNode(Map<?, ?> document) {
+        final ObjectNode objectNode = nodeFactory.objectNode();
+        for (Map.Entry<?, ?> entry : document.entrySet()) {
+            objectNode.set(String.valueOf(entry.getKey()), toJsonNode(entry.getValue()));
+        }
+
+        return objectNode;
+    }
+
+    public static ArrayNode toArrayNode(Iterable<?> values) {
+        final ArrayNode arrayNode = nodeFactory.arrayNode();
+        for (Object value : values) {
+            arrayNode.add(toJsonNode(value));
+        }
+
+        return arrayNode;
+    }
+
+    /**
+     * Integers are represented with the smallest node that fits them, which is what parsing them from JSON gives.
+     */
+    public static JsonNode toIntegralNode(BigInteger value) {
+        if (value.bitLength() < Integer.SIZE) {
+            return nodeFactory.numberNode(value.intValue());
+        } else if (value.bitLength() < Long.SIZE) {
+            return nodeFactory.numberNode(value.longValue());
+        }
+
+        return nodeFactory.numberNode(value);
+    }
+
+    /**
+     * Reads a numeric field of the command output, e.g. "ok" or "n", as an integer. These are doubles for some commands
+     * and integers for others.
+     */
+    public static BigInteger toBigInteger(Object value) {
+        if (value instanceof Decimal128) {
+            return new BigDecimal(value.toString()).toBigInteger();
+        } else if (value instanceof Double || value instanceof Float) {
+            return BigDecimal.valueOf(((Number) value).doubleValue()).toBigInteger();
+        } else if (value instanceof Number) {
+            return BigInteger.valueOf(((Number) value).longValue());
+        }
+
+        return null;
+    }
+
+    private static JsonNode toDoubleNode(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return nodeFactory.objectNode().put("$numberDouble", Double.toString(value));
+        }
+
+        // Whole numbers written without scientific notation, e.g. 42.0, have always been sent without their fraction
+        if (value == Math.rint(value) && Math.abs(value) < SCIENTIFIC_NOTATION_THRESHOLD) {
+            return nodeFactory.numberNode((int) value);
+        }
+
+        return nodeFactory.numberNode(value);
+    }
+
+    private static JsonNode toDecimalNode(Decimal128 value) {
+        if (value.isNaN() || value.isInfinite()) {
+            return nodeFactory.objectNode().put("$numberDecimal", value.toString());
+        }
+
+        // Parsed from the string since negative zero has no BigDecimal value
+        String text = new BigDecimal(value.toString()).toString();
+        final boolean isScientific = text.indexOf('E') >= 0;
+        if (text.indexOf('.') >= 0 && !isScientific) {
+            text = text.replaceAll("0+$", "");
+            if (text.endsWith(".")) {
+                text = text.substring(0, text.length() - 1);
+            }
+        }
+
+        if (isScientific || text.indexOf('.') >= 0) {
+            return nodeFactory.numberNode(Double.parseDouble(text));
+        }
+
+        return toIntegralNode(new BigInteger(text));
+    }
+}
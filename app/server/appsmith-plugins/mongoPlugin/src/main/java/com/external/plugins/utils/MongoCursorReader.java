@@ -0,0 +1,133 @@
+package com.external.plugins.utils;
+
+import com.appsmith.external.helpers.ResultSizeEstimator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.mongodb.reactivestreams.client.ClientSession;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static com.external.plugins.utils.BsonToJsonNodeConverter.toJsonNode;
+
+/**
+ * Reads the documents of the cursor returned by a command like `find` or `aggregate`. The server only returns the
+ * first batch of documents along with the command's output, the remaining batches are fetched with `getMore` commands
+ * until the cursor is exhausted, or until the result has reached the maximum number of rows or bytes. In the latter
+ * case the cursor gets killed on the server and the result is marked as truncated.
+ * <p>
+ * Every batch is converted to JSON nodes as soon as it arrives. The `getMore` commands must run in the session that
+ * created the cursor, hence the command itself has to be run in an explicit session.
+ */
+@Slf4j
+public class MongoCursorReader {
+
+    public static final String CURSOR = "cursor";
+
+    private static final String FIRST_BATCH = "firstBatch";
+
+    private static final String NEXT_BATCH = "nextBatch";
+
+    private final int maxRows;
+
+    private final ResultSizeEstimator resultSizeEstimator;
+
+    @Getter
+    private final ArrayNode rows = JsonNodeFactory.instance.arrayNode();
+
+    /**
+     * Whether the cursor was closed before all its documents could be read.
+     */
+    @Getter
+    private boolean truncated = false;
+
+    public MongoCursorReader(int maxRows, long maxSizeInBytes) {
+        this.maxRows = maxRows;
+        this.resultSizeEstimator = new ResultSizeEstimator(maxSizeInBytes);
+    }
+
+    /**
+     * @param database      : database the command was run on
+     * @param session       : session the command was run in
+     * @param commandOutput : output of a command which contains a cursor
+     * @return completes once all the rows have been read and the cursor has been closed
+     */
+    public Mono<Void> read(MongoDatabase database, ClientSession session, Document commandOutput) {
+        final Document cursor = commandOutput.get(CURSOR, Document.class);
+
+        // The namespace is of the form <database>.<collection>, the collection being `$cmd.aggregate` for aggregations
+        // that do not run on a collection.
+        final String namespace = cursor.getString("ns");
+        final String collection = namespace.substring(namespace.indexOf('.') + 1);
+
+        addBatch(cursor.getList(FIRST_BATCH, Object.class));
+        return readNextBatches(database, session, collection, getCursorId(cursor));
+    }
+
+    private Mono<Void> readNextBatches(MongoDatabase database, ClientSession session, String collection, long cursorId) {
+        if (cursorId == 0) {
+            return Mono.empty();
+        }
+
+        if (truncated || rows.size() >= maxRows) {
+            truncated = true;
+            return killCursor(database, session, collection, cursorId);
+        }
+
+        final Document getMoreCommand = new Document("getMore", cursorId)
+                .append("collection", collection)
+                .append("batchSize", maxRows - rows.size());
+
+        return Mono.from(database.runCommand(session, getMoreCommand))
+                .flatMap(output -> {
+                    final Document cursor = output.get(CURSOR, Document.class);
+                    addBatch(cursor.getList(NEXT_BATCH, Object.class));
+                    return readNextBatches(database, session, collection, getCursorId(cursor));
+                });
+    }
+
+    private void addBatch(List<Object> documents) {
+        if (documents == null) {
+            return;
+        }
+
+        for (Object document : documents) {
+            if (rows.size() >= maxRows) {
+                truncated = true;
+                return;
+            }
+
+            final JsonNode row = toJsonNode(document);
+            resultSizeEstimator.addRow(row);
+            if (resultSizeEstimator.isLimitExceeded()) {
+                truncated = true;
+                return;
+            }
+
+            rows.add(row);
+        }
+    }
+
+    private Mono<Void> killCursor(MongoDatabase database, ClientSession session, String collection, long cursorId) {
+        final Document killCursorsCommand = new Document("killCursors", collection)
+                .append("cursors", List.of(cursorId));
+
+        return Mono.from(database.runCommand(session, killCursorsCommand))
+                .onErrorResume(error -> {
+                    // The server closes idle cursors on its own after a while, no need to fail the execution
+                    log.debug("Failed to kill the cursor of a truncated Mongo result", error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private static long getCursorId(Document cursor) {
+        final Object cursorId = cursor.get("id");
+        return cursorId instanceof Number ? ((Number) cursorId).longValue() : 0;
+    }
+}
@@ -18,6 +18,7 @@ import com.appsmith.external.models.ParsedDataType;
 import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.services.SharedConfig;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -82,6 +83,7 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doReturn;
@@ -95,7 +97,25 @@ import static org.mockito.Mockito.when;
 
 public class    MongoPluginTest {
 
-    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor();
+    public class MockSharedConfig implements SharedConfig {
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return 5 * 1024 * 1024;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+    }
+
+    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig());
 
     private static String address;
     private static Integer port;
@@ -253,7 +273,7 @@ public class    MongoPluginTest {
          *      - On calling testDatasource(...) -> call the real method.
          *      - On calling datasourceCreate(...) -> throw the mock exception defined above.
          */
-        MongoPlugin.MongoPluginExecutor mongoPluginExecutor = new MongoPlugin.MongoPluginExecutor();
+        MongoPlugin.MongoPluginExecutor mongoPluginExecutor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig());
         MongoPlugin.MongoPluginExecutor spyMongoPluginExecutor = spy(mongoPluginExecutor);
         /* Please check this out before modifying this line: https://stackoverflow
          * .com/questions/11620103/mockito-trying-to-spy-on-method-is-calling-the-original-method
@@ -458,6 +478,78 @@ public class    MongoPluginTest {
         dsConnectionMono.flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration)).block();
     }
 
+    @Test
+    public void testExecuteReadQueryFollowsCursorBeyondFirstBatch() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(configMap, BODY, "{\n" +
+                "      find: \"users\",\n" +
+                "      filter: { \"age\": { \"$gte\": 20 } },\n" +
+                "      sort: { age: 1 },\n" +
+                "      batchSize: 1,\n" +
+                "    }");
+        actionConfiguration.setFormData(configMap);
+
+        Mono<Object> executeMono = dsConnectionMono.flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertTrue(result.getIsExecutionSuccess());
+                    // The first batch only holds one document, the others are fetched with getMore
+                    ArrayNode rows = (ArrayNode) result.getBody();
+                    assertEquals(3, rows.size());
+                    assertEquals("Cierra Vega", rows.get(0).get("name").asText());
+                    assertEquals("Kierra Gentry", rows.get(2).get("name").asText());
+                    assertFalse(result.getHeaders().get(0).get("truncated").asBoolean());
+                    assertNull(result.getMessages());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteReadQueryTruncatesResultAtMaxRows() {
+        MongoPlugin.MongoPluginExecutor limitedPluginExecutor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig() {
+            @Override
+            public int getMongoMaxCursorRows() {
+                return 2;
+            }
+        });
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = limitedPluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(configMap, BODY, "{\n" +
+                "      find: \"users\",\n" +
+                "      filter: { \"age\": { \"$gte\": 20 } },\n" +
+                "      sort: { age: 1 },\n" +
+                "      batchSize: 1,\n" +
+                "    }");
+        actionConfiguration.setFormData(configMap);
+
+        Mono<Object> executeMono = dsConnectionMono.flatMap(conn -> limitedPluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(2, ((ArrayNode) result.getBody()).size());
+                    assertTrue(result.getHeaders().get(0).get("truncated").asBoolean());
+                    assertEquals(1, result.getMessages().size());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testFindAndModify() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -0,0 +1,73 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+import static com.external.plugins.utils.BsonToJsonNodeConverter.toJsonNode;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BsonToJsonNodeConverterTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testSpecialTypesAreSimplified() {
+        final ObjectId objectId = new ObjectId("5f7e2a1b9d3e4c0012345678");
+        final Document document = new Document()
+                .append("_id", objectId)
+                .append("dob", new Date(1546214400000L))
+                .append("oldDob", new Date(-493033770000L))
+                .append("netWorth", new Decimal128(new BigDecimal("123456.789012")))
+                .append("population", 8000000000L)
+                .append("friend", new DBRef("users", objectId));
+
+        final JsonNode node = toJsonNode(document);
+
+        assertEquals("5f7e2a1b9d3e4c0012345678", node.get("_id").asText());
+        assertEquals("2018-12-31T00:00:00Z", node.get("dob").asText());
+        assertEquals("1954-05-18T14:10:30Z", node.get("oldDob").asText());
+        assertEquals("123456.789012", node.get("netWorth").toString());
+        assertEquals(8000000000L, node.get("population").longValue());
+        assertEquals("users", node.get("friend").get("$ref").asText());
+        assertEquals("5f7e2a1b9d3e4c0012345678", node.get("friend").get("$id").asText());
+    }
+
+    @Test
+    public void testNodesMatchParsedJson() throws Exception {
+        final Document document = new Document()
+                .append("name", "Alden Cantrell")
+                .append("age", 30)
+                .append("score", 42.0)
+                .append("ratio", 2.5)
+                .append("count", 12L)
+                .append("price", new Decimal128(new BigDecimal("12.50")))
+                .append("tags", List.of("a", "b"))
+                .append("address", new Document("city", "Bengaluru").append("pin", null));
+
+        final JsonNode expected = objectMapper.readTree("{\"name\": \"Alden Cantrell\", \"age\": 30, \"score\": 42, "
+                + "\"ratio\": 2.5, \"count\": 12, \"price\": 12.5, \"tags\": [\"a\", \"b\"], "
+                + "\"address\": {\"city\": \"Bengaluru\", \"pin\": null}}");
+
+        assertEquals(expected, toJsonNode(document));
+    }
+
+    @Test
+    public void testOtherTypesKeepExtendedJson() {
+        final JsonNode node = toJsonNode(new Document("data", new Binary(new byte[]{1, 2, 3})));
+
+        assertTrue(node.get("data").has("$binary"));
+        assertEquals("AQID", node.get("data").get("$binary").get("base64").asText());
+        assertEquals("00", node.get("data").get("$binary").get("subType").asText());
+    }
+}
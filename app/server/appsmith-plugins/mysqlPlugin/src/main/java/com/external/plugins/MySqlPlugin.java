@@ -22,17 +22,21 @@ import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
+import com.external.utils.ConnectionPoolMetrics;
 import com.external.utils.QueryUtils;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.spi.ColumnMetadata;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactories;
 import io.r2dbc.spi.ConnectionFactoryOptions;
 import io.r2dbc.spi.Option;
+import io.r2dbc.spi.R2dbcTimeoutException;
 import io.r2dbc.spi.Result;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
 import io.r2dbc.spi.Statement;
-import io.r2dbc.spi.ValidationDepth;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
@@ -78,7 +82,8 @@ public class MySqlPlugin extends BasePlugin {
     private static final String DATE_COLUMN_TYPE_NAME = "date";
     private static final String DATETIME_COLUMN_TYPE_NAME = "datetime";
     private static final String TIMESTAMP_COLUMN_TYPE_NAME = "timestamp";
-    private static final int VALIDATION_CHECK_TIMEOUT = 4; // seconds
+    private static final String VALIDATION_QUERY = "SELECT 1";
+    private static final int POOL_EVICTION_INTERVAL = 60; // seconds
     private static final String IS_KEY = "is";
 
     /**
@@ -139,18 +144,24 @@ public class MySqlPlugin extends BasePlugin {
 
     @Slf4j
     @Extension
-    public static class MySqlPluginExecutor implements PluginExecutor<Connection>, SmartSubstitutionInterface {
+    public static class MySqlPluginExecutor implements PluginExecutor<ConnectionPool>, SmartSubstitutionInterface {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
         private final Scheduler scheduler = Schedulers.elastic();
 
+        private final SharedConfig sharedConfig;
+
+        public MySqlPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * to use PreparedStatement (if configured) which requires the variable substitution, etc. to happen in a particular format
          * supported by PreparedStatement. In case of PreparedStatement turned off, the action and datasource configurations are
          * prepared (binding replacement) using PluginExecutor.variableSubstitution
          *
-         * @param connection              : This is the connection that is established to the data source. This connection is according
+         * @param connectionPool          : This is the connection pool that is established to the data source. This pool is according
          *                                to the parameters in Datasource Configuration
          * @param executeActionDTO        : This is the data structure sent by the client during execute. This contains the params
          *                                which would be used for substitution
@@ -159,7 +170,7 @@ public class MySqlPlugin extends BasePlugin {
          * @return
          */
         @Override
-        public Mono<ActionExecutionResult> executeParameterized(Connection connection,
+        public Mono<ActionExecutionResult> executeParameterized(ConnectionPool connectionPool,
                                                                 ExecuteActionDTO executeActionDTO,
                                                                 DatasourceConfiguration datasourceConfiguration,
                                                                 ActionConfiguration actionConfiguration) {
@@ -207,7 +218,7 @@ public class MySqlPlugin extends BasePlugin {
             // In case of non prepared statement, simply do binding replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
                 prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
-                return executeCommon(connection, actionConfiguration, FALSE, null, null, requestData);
+                return executeCommon(connectionPool, actionConfiguration, FALSE, null, null, requestData);
             }
 
             //This has to be executed as Prepared Statement
@@ -217,10 +228,10 @@ public class MySqlPlugin extends BasePlugin {
             String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
             // Set the query with bindings extracted and replaced with '?' back in config
             actionConfiguration.setBody(updatedQuery);
-            return executeCommon(connection, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO, requestData);
+            return executeCommon(connectionPool, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO, requestData);
         }
 
-        public Mono<ActionExecutionResult> executeCommon(Connection connection,
+        public Mono<ActionExecutionResult> executeCommon(ConnectionPool connectionPool,
                                                          ActionConfiguration actionConfiguration,
                                                          Boolean preparedStatement,
                                                          List<String> mustacheValuesInOrder,
@@ -257,56 +268,51 @@ public class MySqlPlugin extends BasePlugin {
             List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY,
                     transformedQuery, null, null, psParams));
 
-            // TODO: need to write a JUnit TC for VALIDATION_CHECK_TIMEOUT
-            Flux<Result> resultFlux = Mono.from(connection.validate(ValidationDepth.REMOTE))
-                    .timeout(Duration.ofSeconds(VALIDATION_CHECK_TIMEOUT))
-                    .onErrorMap(TimeoutException.class, error -> new StaleConnectionException())
-                    .flatMapMany(isValid -> {
-                        if (isValid) {
-                            return createAndExecuteQueryFromConnection(finalQuery,
-                                    connection,
-                                    preparedStatement,
-                                    mustacheValuesInOrder,
-                                    executeActionDTO,
-                                    requestData,
-                                    psParams);
+            Mono<List<Map<String, Object>>> resultMono = Mono.usingWhen(
+                    getConnectionFromConnectionPool(connectionPool),
+                    connection -> {
+                        Flux<Result> resultFlux = createAndExecuteQueryFromConnection(finalQuery,
+                                connection,
+                                preparedStatement,
+                                mustacheValuesInOrder,
+                                executeActionDTO,
+                                requestData,
+                                psParams);
+
+                        if (isSelectOrShowOrDescQuery) {
+                            return resultFlux
+                                    .flatMap(result ->
+                                            result.map((row, meta) -> {
+                                                        rowsList.add(getRow(row, meta));
+
+                                                        if (columnsList.isEmpty()) {
+                                                            columnsList.addAll(meta.getColumnNames());
+                                                        }
+
+                                                        return result;
+                                                    }
+                                            )
+                                    )
+                                    .collectList()
+                                    .thenReturn(rowsList);
                         }
-                        return Flux.error(new StaleConnectionException());
-                    });
-
-            Mono<List<Map<String, Object>>> resultMono;
-
-            if (isSelectOrShowOrDescQuery) {
-                resultMono = resultFlux
-                        .flatMap(result ->
-                                result.map((row, meta) -> {
-                                            rowsList.add(getRow(row, meta));
-
-                                            if (columnsList.isEmpty()) {
-                                                columnsList.addAll(meta.getColumnNames());
-                                            }
 
-                                            return result;
-                                        }
-                                )
-                        )
-                        .collectList()
-                        .thenReturn(rowsList);
-            } else {
-                resultMono = resultFlux
-                        .flatMap(Result::getRowsUpdated)
-                        .collectList()
-                        .flatMap(list -> Mono.just(list.get(list.size() - 1)))
-                        .map(rowsUpdated -> {
-                            rowsList.add(
-                                    Map.of(
-                                            "affectedRows",
-                                            ObjectUtils.defaultIfNull(rowsUpdated, 0)
-                                    )
-                            );
-                            return rowsList;
-                        });
-            }
+                        return resultFlux
+                                .flatMap(Result::getRowsUpdated)
+                                .collectList()
+                                .flatMap(list -> Mono.just(list.get(list.size() - 1)))
+                                .map(rowsUpdated -> {
+                                    rowsList.add(
+                                            Map.of(
+                                                    "affectedRows",
+                                                    ObjectUtils.defaultIfNull(rowsUpdated, 0)
+                                            )
+                                    );
+                                    return rowsList;
+                                });
+                    },
+                    // Returns the connection to the pool
+                    Connection::close);
 
             return resultMono
                     .map(res -> {
@@ -341,6 +347,24 @@ public class MySqlPlugin extends BasePlugin {
 
         }
 
+        /**
+         * Acquires a connection from the datasource's pool. The pool validates the connection before handing it out and
+         * replaces it if it has gone stale. The connection must be closed to be returned to the pool.
+         */
+        private Mono<Connection> getConnectionFromConnectionPool(ConnectionPool connectionPool) {
+            if (connectionPool == null || connectionPool.isDisposed()) {
+                return Mono.error(new StaleConnectionException());
+            }
+
+            return Mono.from(connectionPool.create())
+                    // The pool gives up on the acquisition after the max acquire time, e.g. when all its connections
+                    // are in use. The pool itself is fine, hence this is reported as is rather than as a stale connection.
+                    .onErrorMap(error -> error instanceof TimeoutException || error instanceof R2dbcTimeoutException,
+                            error -> new AppsmithPluginException(AppsmithPluginError.PLUGIN_DATASOURCE_TIMEOUT_ERROR,
+                                    "Timed out while waiting for a connection to the MySQL database. All the connections " +
+                                            "to it may be in use by other queries, please try again."));
+        }
+
         private boolean isIsOperatorUsed(String query) {
             String queryKeyWordsOnly = query.replaceAll(MATCH_QUOTED_WORDS_REGEX, "");
             return Arrays.stream(queryKeyWordsOnly.split("\\s"))
@@ -492,13 +516,13 @@ public class MySqlPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<ActionExecutionResult> execute(Connection connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
+        public Mono<ActionExecutionResult> execute(ConnectionPool connectionPool, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
             // Unused function
             return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Unsupported Operation"));
         }
 
         @Override
-        public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<ConnectionPool> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
 
             StringBuilder urlBuilder = new StringBuilder();
@@ -583,19 +607,35 @@ public class MySqlPlugin extends BasePlugin {
                     );
             }
 
-            return (Mono<Connection>) Mono.from(ConnectionFactories.get(ob.build()).create())
-                    .onErrorResume(exception -> Mono.error(new AppsmithPluginException(
-                            AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
-                            exception
-                    )))
+            final ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration
+                    .builder(ConnectionFactories.get(ob.build()))
+                    .initialSize(sharedConfig.getMySqlInitialPoolSize())
+                    .maxSize(sharedConfig.getMySqlMaxPoolSize())
+                    .maxIdleTime(Duration.ofSeconds(sharedConfig.getMySqlMaxIdleTimeInSeconds()))
+                    .backgroundEvictionInterval(Duration.ofSeconds(POOL_EVICTION_INTERVAL))
+                    .maxAcquireTime(Duration.ofSeconds(sharedConfig.getMySqlMaxAcquireTimeInSeconds()))
+                    .validationQuery(VALIDATION_QUERY)
+                    .build();
+            final ConnectionPool connectionPool = new ConnectionPool(poolConfiguration);
+
+            // Acquire a connection once, so that an unreachable server or wrong credentials are reported right away
+            return connectionPool.warmup()
+                    .then(Mono.usingWhen(connectionPool.create(), connection -> Mono.just(connectionPool), Connection::close))
+                    .doOnNext(ConnectionPoolMetrics::add)
+                    .onErrorResume(exception -> connectionPool.disposeLater()
+                            .then(Mono.<ConnectionPool>error(new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                                    exception
+                            ))))
                     .subscribeOn(scheduler);
         }
 
         @Override
-        public void datasourceDestroy(Connection connection) {
+        public void datasourceDestroy(ConnectionPool connectionPool) {
 
-            if (connection != null) {
-                Mono.from(connection.close())
+            if (connectionPool != null) {
+                ConnectionPoolMetrics.remove(connectionPool);
+                connectionPool.disposeLater()
                         .onErrorResume(exception -> {
                             log.debug("In datasourceDestroy function error mode.", exception);
                             return Mono.empty();
@@ -664,7 +704,7 @@ public class MySqlPlugin extends BasePlugin {
         @Override
         public Mono<DatasourceTestResult> testDatasource(DatasourceConfiguration datasourceConfiguration) {
             return datasourceCreate(datasourceConfiguration)
-                    .flatMap(connection -> Mono.from(connection.close()))
+                    .flatMap(connectionPool -> connectionPool.disposeLater())
                     .then(Mono.just(new DatasourceTestResult()))
                     .onErrorResume(error -> {
                         // We always expect to have an error object, but the error object may not be well formed
@@ -824,38 +864,32 @@ public class MySqlPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+        public Mono<DatasourceStructure> getStructure(ConnectionPool connectionPool, DatasourceConfiguration datasourceConfiguration) {
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
             final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
 
-            return Mono.from(connection.validate(ValidationDepth.REMOTE))
-                    .timeout(Duration.ofSeconds(VALIDATION_CHECK_TIMEOUT))
-                    .onErrorMap(TimeoutException.class, error -> new StaleConnectionException())
-                    .flatMapMany(isValid -> {
-                        if (isValid) {
-                            return connection.createStatement(COLUMNS_QUERY).execute();
-                        } else {
-                            return Flux.error(new StaleConnectionException());
-                        }
-                    })
-                    .flatMap(result -> {
-                        return result.map((row, meta) -> {
-                            getTableInfo(row, meta, tablesByName);
+            return Mono.usingWhen(
+                            getConnectionFromConnectionPool(connectionPool),
+                            connection -> Flux.from(connection.createStatement(COLUMNS_QUERY).execute())
+                                    .flatMap(result -> {
+                                        return result.map((row, meta) -> {
+                                            getTableInfo(row, meta, tablesByName);
 
-                            return result;
-                        });
-                    })
-                    .collectList()
-                    .thenMany(Flux.from(connection.createStatement(KEYS_QUERY).execute()))
-                    .flatMap(result -> {
-                        return result.map((row, meta) -> {
-                            getKeyInfo(row, meta, tablesByName, keyRegistry);
-
-                            return result;
-                        });
-                    })
-                    .collectList()
+                                            return result;
+                                        });
+                                    })
+                                    .collectList()
+                                    .thenMany(Flux.from(connection.createStatement(KEYS_QUERY).execute()))
+                                    .flatMap(result -> {
+                                        return result.map((row, meta) -> {
+                                            getKeyInfo(row, meta, tablesByName, keyRegistry);
+
+                                            return result;
+                                        });
+                                    })
+                                    .collectList(),
+                            Connection::close)
                     .map(list -> {
                         /* Get templates for each table and put those in. */
                         getTemplates(tablesByName);
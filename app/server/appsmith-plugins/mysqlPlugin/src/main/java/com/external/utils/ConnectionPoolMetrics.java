@@ -0,0 +1,65 @@
+package com.external.utils;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Reports the number of connections of the connection pools of the MySQL datasources, summed over all the pools, as
+ * gauges of the global Micrometer registry. The server binds its own registry to the global one, hence the gauges get
+ * exported along with the server's metrics.
+ */
+public class ConnectionPoolMetrics {
+
+    public static final String CONNECTIONS_METRIC_NAME = "appsmith.plugin.mysql.pool.connections";
+
+    public static final String STATE_TAG = "state";
+
+    private static final Set<ConnectionPool> connectionPools = ConcurrentHashMap.newKeySet();
+
+    static {
+        registerGauges(Metrics.globalRegistry);
+    }
+
+    /**
+     * Registers the gauges with the registry. Registering them again with the same registry has no effect.
+     */
+    public static void registerGauges(MeterRegistry meterRegistry) {
+        registerGauge(meterRegistry, "acquired", PoolMetrics::acquiredSize);
+        registerGauge(meterRegistry, "idle", PoolMetrics::idleSize);
+        registerGauge(meterRegistry, "allocated", PoolMetrics::allocatedSize);
+        registerGauge(meterRegistry, "pending", PoolMetrics::pendingAcquireSize);
+    }
+
+    private static void registerGauge(MeterRegistry meterRegistry, String state, ToIntFunction<PoolMetrics> metric) {
+        Gauge.builder(CONNECTIONS_METRIC_NAME, connectionPools, pools -> sum(pools, metric))
+                .tag(STATE_TAG, state)
+                .description("Connections of the connection pools of the MySQL datasources")
+                .register(meterRegistry);
+    }
+
+    private static double sum(Set<ConnectionPool> pools, ToIntFunction<PoolMetrics> metric) {
+        // Pools that were disposed without being removed no longer hold any connection
+        pools.removeIf(ConnectionPool::isDisposed);
+        return pools.stream()
+                .map(ConnectionPool::getMetrics)
+                .filter(Optional::isPresent)
+                .mapToInt(poolMetrics -> metric.applyAsInt(poolMetrics.get()))
+                .sum();
+    }
+
+    public static void add(ConnectionPool connectionPool) {
+        connectionPools.add(connectionPool);
+    }
+
+    public static void remove(ConnectionPool connectionPool) {
+        connectionPools.remove(connectionPool);
+    }
+}
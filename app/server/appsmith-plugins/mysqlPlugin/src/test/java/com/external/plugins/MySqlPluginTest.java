@@ -1,6 +1,7 @@
 package com.external.plugins;
 
 import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.models.ActionConfiguration;
@@ -14,9 +15,14 @@ import com.appsmith.external.models.Property;
 import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.services.SharedConfig;
+import com.external.utils.ConnectionPoolMetrics;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactories;
 import io.r2dbc.spi.ConnectionFactoryOptions;
@@ -32,6 +38,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -45,6 +52,7 @@ import java.util.stream.Stream;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -52,7 +60,25 @@ import static org.junit.Assert.assertTrue;
 @Slf4j
 public class MySqlPluginTest {
 
-    MySqlPlugin.MySqlPluginExecutor pluginExecutor = new MySqlPlugin.MySqlPluginExecutor();
+    public class MockSharedConfig implements SharedConfig {
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return 10000;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+    }
+
+    MySqlPlugin.MySqlPluginExecutor pluginExecutor = new MySqlPlugin.MySqlPluginExecutor(new MockSharedConfig());
 
     @SuppressWarnings("rawtypes") // The type parameter for the container type is just itself and is pseudo-optional.
     @ClassRule
@@ -167,7 +193,7 @@ public class MySqlPluginTest {
     @Test
     public void testConnectMySQLContainer() {
 
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         StepVerifier.create(dsConnectionMono)
                 .assertNext(Assert::assertNotNull)
@@ -182,7 +208,7 @@ public class MySqlPluginTest {
                 new Property("serverTimezone", "UTC")
         ));
 
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         StepVerifier.create(dsConnectionMono)
                 .assertNext(Assert::assertNotNull)
@@ -273,7 +299,7 @@ public class MySqlPluginTest {
         Set<String> output = pluginExecutor.validateDatasource(dsConfig);
         assertTrue(output.isEmpty());
         // test connect
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         StepVerifier.create(dsConnectionMono)
                 .assertNext(Assert::assertNotNull)
@@ -299,7 +325,7 @@ public class MySqlPluginTest {
         Set<String> output = pluginExecutor.validateDatasource(dsConfig);
         assertTrue(output.isEmpty());
         // test connect
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         StepVerifier.create(dsConnectionMono)
                 .assertNext(Assert::assertNotNull)
@@ -314,7 +340,7 @@ public class MySqlPluginTest {
 
     @Test
     public void testExecute() {
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("show databases");
@@ -333,7 +359,7 @@ public class MySqlPluginTest {
     @Test
     public void testExecuteWithFormattingWithShowCmd() {
         dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("show\n\tdatabases");
@@ -354,7 +380,7 @@ public class MySqlPluginTest {
     @Test
     public void testExecuteWithFormattingWithSelectCmd() {
         dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("select\n\t*\nfrom\nusers where id=1");
@@ -392,16 +418,110 @@ public class MySqlPluginTest {
     public void testStaleConnectionCheck() {
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("show databases");
-        Connection connection = pluginExecutor.datasourceCreate(dsConfig).block();
+        ConnectionPool connectionPool = pluginExecutor.datasourceCreate(dsConfig).block();
 
-        Flux<ActionExecutionResult> resultFlux = Mono.from(connection.close())
-                .thenMany(pluginExecutor.executeParameterized(connection, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+        Flux<ActionExecutionResult> resultFlux = connectionPool.disposeLater()
+                .thenMany(pluginExecutor.executeParameterized(connectionPool, new ExecuteActionDTO(), dsConfig, actionConfiguration));
 
         StepVerifier.create(resultFlux)
                 .expectErrorMatches(throwable -> throwable instanceof StaleConnectionException)
                 .verify();
     }
 
+    @Test
+    public void testConcurrentExecutionsUseDifferentPooledConnections() {
+        ConnectionPool connectionPool = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        Mono<ActionExecutionResult> firstResultMono = Mono.defer(() -> {
+            ActionConfiguration actionConfiguration = new ActionConfiguration();
+            actionConfiguration.setBody("SELECT CONNECTION_ID() AS connection_id, SLEEP(1) AS slept");
+            return pluginExecutor.executeParameterized(connectionPool, new ExecuteActionDTO(), dsConfig, actionConfiguration);
+        });
+        Mono<ActionExecutionResult> secondResultMono = Mono.defer(() -> {
+            ActionConfiguration actionConfiguration = new ActionConfiguration();
+            actionConfiguration.setBody("SELECT CONNECTION_ID() AS connection_id, SLEEP(1) AS slept");
+            return pluginExecutor.executeParameterized(connectionPool, new ExecuteActionDTO(), dsConfig, actionConfiguration);
+        });
+
+        StepVerifier.create(Mono.zip(firstResultMono, secondResultMono))
+                .assertNext(results -> {
+                    assertTrue(results.getT1().getIsExecutionSuccess());
+                    assertTrue(results.getT2().getIsExecutionSuccess());
+                    final JsonNode firstConnectionId = ((ArrayNode) results.getT1().getBody()).get(0).get("connection_id");
+                    final JsonNode secondConnectionId = ((ArrayNode) results.getT2().getBody()).get(0).get("connection_id");
+                    assertNotEquals(firstConnectionId, secondConnectionId);
+                })
+                .verifyComplete();
+
+        pluginExecutor.datasourceDestroy(connectionPool);
+    }
+
+    @Test
+    public void testExecutionFailsWhenNoPooledConnectionIsAcquiredInTime() {
+        MySqlPlugin.MySqlPluginExecutor singleConnectionPluginExecutor = new MySqlPlugin.MySqlPluginExecutor(
+                new MockSharedConfig() {
+                    @Override
+                    public int getMySqlMaxPoolSize() {
+                        return 1;
+                    }
+
+                    @Override
+                    public int getMySqlMaxAcquireTimeInSeconds() {
+                        return 1;
+                    }
+                });
+        ConnectionPool connectionPool = singleConnectionPluginExecutor.datasourceCreate(dsConfig).block();
+
+        Mono<ActionExecutionResult> longResultMono = Mono.defer(() -> {
+            ActionConfiguration actionConfiguration = new ActionConfiguration();
+            actionConfiguration.setBody("SELECT SLEEP(3) AS slept");
+            return singleConnectionPluginExecutor.executeParameterized(connectionPool, new ExecuteActionDTO(), dsConfig, actionConfiguration);
+        });
+        Mono<ActionExecutionResult> waitingResultMono = Mono.defer(() -> {
+            ActionConfiguration actionConfiguration = new ActionConfiguration();
+            actionConfiguration.setBody("SELECT 1");
+            return singleConnectionPluginExecutor.executeParameterized(connectionPool, new ExecuteActionDTO(), dsConfig, actionConfiguration);
+        }).delaySubscription(Duration.ofMillis(500));
+
+        StepVerifier.create(Mono.zip(longResultMono, waitingResultMono))
+                .assertNext(results -> {
+                    assertTrue(results.getT1().getIsExecutionSuccess());
+                    assertFalse(results.getT2().getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_DATASOURCE_TIMEOUT_ERROR.getAppErrorCode().toString(),
+                            results.getT2().getStatusCode());
+                })
+                .verifyComplete();
+
+        singleConnectionPluginExecutor.datasourceDestroy(connectionPool);
+    }
+
+    @Test
+    public void testPoolMetricsAreReportedAsGauges() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConnectionPoolMetrics.registerGauges(meterRegistry);
+        ConnectionPool connectionPool = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        StepVerifier.create(Mono.usingWhen(connectionPool.create(), connection -> Mono.fromCallable(() -> {
+                    assertEquals(1, getPoolConnections(meterRegistry, "acquired"), 0);
+                    assertTrue(getPoolConnections(meterRegistry, "allocated") >= 1);
+                    return connection;
+                }), Connection::close))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(0, getPoolConnections(meterRegistry, "acquired"), 0);
+        assertEquals(0, getPoolConnections(meterRegistry, "pending"), 0);
+
+        pluginExecutor.datasourceDestroy(connectionPool);
+    }
+
+    private static double getPoolConnections(MeterRegistry meterRegistry, String state) {
+        return meterRegistry.get(ConnectionPoolMetrics.CONNECTIONS_METRIC_NAME)
+                .tag(ConnectionPoolMetrics.STATE_TAG, state)
+                .gauge()
+                .value();
+    }
+
     @Test
     public void testValidateDatasourceNullCredentials() {
         dsConfig.setConnection(new com.appsmith.external.models.Connection());
@@ -460,7 +580,7 @@ public class MySqlPluginTest {
     @Test
     public void testAliasColumnNames() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("SELECT id as user_id FROM users WHERE id = 1");
@@ -489,7 +609,7 @@ public class MySqlPluginTest {
     @Test
     public void testPreparedStatementErrorWithIsKeyword() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         /**
@@ -541,7 +661,7 @@ public class MySqlPluginTest {
                 .blockLast(); //wait until completion of all the queries
 
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         /**
@@ -614,7 +734,7 @@ public class MySqlPluginTest {
                 .blockLast(); //wait until completion of all the queries
 
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("SELECT id FROM test_boolean_type WHERE c_boolean={{binding1}};");
@@ -656,7 +776,7 @@ public class MySqlPluginTest {
     @Test
     public void testExecuteWithPreparedStatement() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("SELECT id FROM users WHERE id = {{binding1}} limit 1 offset {{binding2}};");
@@ -732,7 +852,7 @@ public class MySqlPluginTest {
     @Test
     public void testExecuteDataTypes() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("SELECT * FROM users WHERE id = 1");
@@ -852,7 +972,7 @@ public class MySqlPluginTest {
     }
 
     private void testExecute(String query) {
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody(query);
         Mono<Object> executeMono = dsConnectionMono.flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
@@ -1000,7 +1120,7 @@ public class MySqlPluginTest {
 
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         datasourceConfiguration.getConnection().getSsl().setAuthType(SSLDetails.AuthType.DISABLED);
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
         Mono<Object> executeMono = dsConnectionMono
                 .flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig,
                         actionConfiguration));
@@ -1023,7 +1143,7 @@ public class MySqlPluginTest {
 
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         datasourceConfiguration.getConnection().getSsl().setAuthType(SSLDetails.AuthType.REQUIRED);
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
         Mono<Object> executeMono = dsConnectionMono
                 .flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig,
                         actionConfiguration));
@@ -1047,7 +1167,7 @@ public class MySqlPluginTest {
 
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         datasourceConfiguration.getConnection().getSsl().setAuthType(SSLDetails.AuthType.PREFERRED);
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
         Mono<Object> executeMono = dsConnectionMono
                 .flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig,
                         actionConfiguration));
@@ -1071,7 +1191,7 @@ public class MySqlPluginTest {
 
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         datasourceConfiguration.getConnection().getSsl().setAuthType(SSLDetails.AuthType.DEFAULT);
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
         Mono<Object> executeMono = dsConnectionMono
                 .flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig,
                         actionConfiguration));
@@ -1091,7 +1211,7 @@ public class MySqlPluginTest {
     @Test
     public void testDuplicateColumnNames() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("SELECT id, username as id, password, email as password FROM users WHERE id = 1");
@@ -1130,7 +1250,7 @@ public class MySqlPluginTest {
     @Test
     public void testExecuteDescribeTableCmd() {
         dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("describe users");
@@ -1151,7 +1271,7 @@ public class MySqlPluginTest {
     @Test
     public void testExecuteDescTableCmd() {
         dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ConnectionPool> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("desc users");
@@ -7,6 +7,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -28,6 +29,7 @@ import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 import com.zaxxer.hikari.pool.HikariProxyConnection;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
@@ -35,9 +37,11 @@ import org.pf4j.PluginWrapper;
 import org.postgresql.util.PGobject;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuples;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -65,6 +69,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -73,7 +78,6 @@ import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATI
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
-import static com.appsmith.external.helpers.Sizeof.sizeof;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DATE;
@@ -113,14 +117,13 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int HEAVY_OP_FREQUENCY = 100;
-
     private static int MAX_SIZE_SUPPORTED;
 
     public PostgresPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
 
+    @Slf4j
     @Extension
     public static class PostgresPluginExecutor implements SmartSubstitutionInterface, PluginExecutor<HikariDataSource> {
 
@@ -169,6 +172,9 @@ public class PostgresPlugin extends BasePlugin {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
+        // Number of rows fetched from the server side cursor at a time while streaming a result
+        private static final int STREAMING_FETCH_SIZE = 1000;
+
         private final SharedConfig sharedConfig;
 
         public PostgresPluginExecutor(SharedConfig sharedConfig) {
@@ -204,24 +210,7 @@ public class PostgresPlugin extends BasePlugin {
                         "parameter: Query."));
             }
 
-            Boolean isPreparedStatement;
-
-            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
-                //In case the prepared statement configuration is missing, default to true.
-                isPreparedStatement = true;
-            } else if (properties.get(PREPARED_STATEMENT_INDEX) != null){
-                Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
-                if (psValue instanceof  Boolean) {
-                    isPreparedStatement = (Boolean) psValue;
-                } else if (psValue instanceof String) {
-                    isPreparedStatement = Boolean.parseBoolean((String) psValue);
-                } else {
-                    isPreparedStatement = true;
-                }
-            } else {
-                isPreparedStatement = true;
-            }
+            Boolean isPreparedStatement = isPreparedStatement(actionConfiguration);
 
             // In case of non prepared statement, simply do binding replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
@@ -241,6 +230,268 @@ public class PostgresPlugin extends BasePlugin {
                     mustacheKeysInOrder, executeActionDTO, explicitCastDataTypes);
         }
 
+        private Boolean isPreparedStatement(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
+                //In case the prepared statement configuration is missing, default to true.
+                return true;
+            }
+
+            Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
+            if (psValue instanceof  Boolean) {
+                return (Boolean) psValue;
+            } else if (psValue instanceof String) {
+                return Boolean.parseBoolean((String) psValue);
+            }
+
+            return true;
+        }
+
+        /**
+         * Executes the query the same way as {@link #executeParameterized} does, except that the rows are read off a
+         * server side cursor, STREAMING_FETCH_SIZE rows at a time, and get emitted one by one after the result envelope
+         * instead of being collected into the result body. Since the rows are never held in memory together, the
+         * maximum response size check does not apply here. The connection taken from the pool is held until all the
+         * rows have been read or the subscription gets cancelled.
+         */
+        @Override
+        public Flux<Object> executeParameterizedAndStream(HikariDataSource connection,
+                                                          ExecuteActionDTO executeActionDTO,
+                                                          DatasourceConfiguration datasourceConfiguration,
+                                                          ActionConfiguration actionConfiguration) {
+
+            String query = actionConfiguration.getBody();
+            // Check for query parameter before performing the probably expensive fetch connection from the pool op.
+            if (query == null) {
+                return Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "Missing required " +
+                        "parameter: Query."));
+            }
+
+            final boolean preparedStatement = TRUE.equals(isPreparedStatement(actionConfiguration));
+            final List<String> mustacheKeysInOrder;
+            final List<DataType> explicitCastDataTypes;
+            if (preparedStatement) {
+                mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+                String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+                explicitCastDataTypes = extractExplicitCasting(updatedQuery);
+                actionConfiguration.setBody(updatedQuery);
+            } else {
+                prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+                mustacheKeysInOrder = null;
+                explicitCastDataTypes = null;
+            }
+
+            final String finalQuery = actionConfiguration.getBody();
+            final Map<String, Object> requestData = new HashMap<>();
+            requestData.put("preparedStatement", preparedStatement);
+            Map<String, Object> psParams = preparedStatement ? new LinkedHashMap<>() : null;
+            String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(finalQuery) : finalQuery;
+
+            final ActionExecutionRequest request = new ActionExecutionRequest();
+            request.setQuery(finalQuery);
+            request.setProperties(requestData);
+            request.setRequestParams(List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY,
+                    transformedQuery, null, null, psParams)));
+
+            return Mono.fromCallable(() -> openResultStream(connection, datasourceConfiguration, finalQuery,
+                            preparedStatement, mustacheKeysInOrder, executeActionDTO, explicitCastDataTypes,
+                            requestData, psParams))
+                    // The result stream holds on to a connection from the pool. Release it in case it never gets read.
+                    .doOnDiscard(PostgresResultStream.class, PostgresResultStream::close)
+                    .timeout(Duration.ofMillis(actionConfiguration.getTimeoutInMillisecond()))
+                    .subscribeOn(scheduler)
+                    .map(resultStream -> {
+                        ActionExecutionResult result = new ActionExecutionResult();
+                        result.setMessages(populateHintMessages(resultStream.getColumnNames()));
+                        result.setIsExecutionSuccess(true);
+                        result.setRequest(request);
+                        log.debug("Streaming the result of the action execution in the PostgresPlugin");
+                        return Tuples.of(result, resultStream.rows().subscribeOn(scheduler));
+                    })
+                    .onErrorResume(error -> {
+                        // Errors reaching here have happened before any row could be read, hence they are reported
+                        // in the envelope the same way executeCommon reports them.
+                        if (error instanceof StaleConnectionException) {
+                            return Mono.error(error);
+                        }
+                        ActionExecutionResult result = new ActionExecutionResult();
+                        result.setIsExecutionSuccess(false);
+                        result.setErrorInfo(error);
+                        result.setRequest(request);
+                        return Mono.just(Tuples.of(result, Flux.<Object>empty()));
+                    })
+                    .flatMapMany(tuple -> Flux.concat(Mono.just(tuple.getT1()), tuple.getT2()));
+        }
+
+        private PostgresResultStream openResultStream(HikariDataSource connection,
+                                                      DatasourceConfiguration datasourceConfiguration,
+                                                      String query,
+                                                      boolean preparedStatement,
+                                                      List<String> mustacheValuesInOrder,
+                                                      ExecuteActionDTO executeActionDTO,
+                                                      List<DataType> explicitCastDataTypes,
+                                                      Map<String, Object> requestData,
+                                                      Map<String, Object> psParams) throws SQLException {
+
+            Connection connectionFromPool;
+
+            try {
+                connectionFromPool = getConnectionFromConnectionPool(connection, datasourceConfiguration);
+            } catch (SQLException | StaleConnectionException e) {
+                // Same as in executeCommon, any failure to get a connection should lead to the recreation of the pool.
+                throw e instanceof StaleConnectionException ? (StaleConnectionException) e : new StaleConnectionException();
+            }
+
+            Statement statement = null;
+            try {
+                // The driver only reads the rows off a cursor, a batch at a time, when auto commit is turned off.
+                connectionFromPool.setAutoCommit(false);
+
+                boolean isResultSet;
+                if (!preparedStatement) {
+                    statement = connectionFromPool.createStatement();
+                    statement.setFetchSize(STREAMING_FETCH_SIZE);
+                    isResultSet = statement.execute(query);
+                } else {
+                    PreparedStatement preparedQuery = connectionFromPool.prepareStatement(query);
+                    statement = preparedQuery;
+                    preparedQuery.setFetchSize(STREAMING_FETCH_SIZE);
+
+                    List<Map.Entry<String, String>> parameters = new ArrayList<>();
+                    preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(preparedQuery,
+                            mustacheValuesInOrder,
+                            executeActionDTO.getParams(),
+                            parameters,
+                            connectionFromPool,
+                            explicitCastDataTypes);
+
+                    IntStream.range(0, parameters.size())
+                            .forEachOrdered(i ->
+                                    psParams.put(
+                                            getPSParamLabel(i+1),
+                                            new PsParameterDTO(parameters.get(i).getKey(),parameters.get(i).getValue())));
+
+                    requestData.put("ps-parameters", parameters);
+                    isResultSet = preparedQuery.execute();
+                }
+
+                if (!isResultSet) {
+                    Object updateCount = ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0);
+                    connectionFromPool.commit();
+                    return new PostgresResultStream(connectionFromPool, statement, null, List.of(),
+                            Map.of("affectedRows", updateCount));
+                }
+
+                ResultSet resultSet = statement.getResultSet();
+                return new PostgresResultStream(connectionFromPool, statement, resultSet,
+                        getColumnsListForJdbcPlugin(resultSet.getMetaData()), null);
+
+            } catch (SQLException | RuntimeException e) {
+                new PostgresResultStream(connectionFromPool, statement).close();
+                if (e instanceof SQLException) {
+                    log.error("Error while executing the query to stream in the PostgresPlugin", e);
+                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, e.getMessage());
+                }
+                throw e;
+            }
+        }
+
+        /**
+         * Holds on to the connection, statement and result set of a query while its rows are being streamed back.
+         */
+        private class PostgresResultStream {
+
+            private final Connection connectionFromPool;
+
+            private final Statement statement;
+
+            private final ResultSet resultSet;
+
+            private final List<String> columnNames;
+
+            private final Map<String, Object> updateCountRow;
+
+            private final AtomicBoolean closed = new AtomicBoolean(false);
+
+            private PostgresResultStream(Connection connectionFromPool, Statement statement) {
+                this(connectionFromPool, statement, null, List.of(), null);
+            }
+
+            private PostgresResultStream(Connection connectionFromPool,
+                                         Statement statement,
+                                         ResultSet resultSet,
+                                         List<String> columnNames,
+                                         Map<String, Object> updateCountRow) {
+                this.connectionFromPool = connectionFromPool;
+                this.statement = statement;
+                this.resultSet = resultSet;
+                this.columnNames = columnNames;
+                this.updateCountRow = updateCountRow;
+            }
+
+            private List<String> getColumnNames() {
+                return columnNames;
+            }
+
+            private Flux<Object> rows() {
+                if (resultSet == null) {
+                    return Flux.<Object>just(updateCountRow).doFinally(signalType -> close());
+                }
+
+                return Flux.<Object>generate(sink -> {
+                            try {
+                                if (resultSet.next()) {
+                                    ResultSetMetaData metaData = resultSet.getMetaData();
+                                    sink.next(getRow(resultSet, metaData, metaData.getColumnCount()));
+                                } else {
+                                    connectionFromPool.commit();
+                                    sink.complete();
+                                }
+                            } catch (SQLException e) {
+                                log.error("Error while streaming rows in the PostgresPlugin", e);
+                                sink.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, e.getMessage()));
+                            } catch (IOException e) {
+                                // Since postgres json type field can only hold valid json data, this exception is not
+                                // expected to occur.
+                                sink.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
+                            }
+                        })
+                        .doFinally(signalType -> close());
+            }
+
+            private void close() {
+                if (!closed.compareAndSet(false, true)) {
+                    return;
+                }
+
+                if (resultSet != null) {
+                    try {
+                        resultSet.close();
+                    } catch (SQLException e) {
+                        log.error("Error closing the streamed Postgres ResultSet", e);
+                    }
+                }
+
+                if (statement != null) {
+                    try {
+                        statement.close();
+                    } catch (SQLException e) {
+                        log.error("Error closing the streamed Postgres Statement", e);
+                    }
+                }
+
+                if (connectionFromPool != null) {
+                    try {
+                        // Anything left uncommitted, i.e. when the stream did not complete, gets rolled back by the
+                        // pool when the connection is returned to it.
+                        connectionFromPool.close();
+                    } catch (SQLException e) {
+                        log.error("Error returning the streamed Postgres connection to the pool", e);
+                    }
+                }
+            }
+        }
+
         private Mono<ActionExecutionResult> executeCommon(HikariDataSource connection,
                                                           DatasourceConfiguration datasourceConfiguration,
                                                           ActionConfiguration actionConfiguration,
@@ -333,81 +584,22 @@ public class PostgresPlugin extends BasePlugin {
                         int colCount = metaData.getColumnCount();
                         columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
-                        int iterator = 0;
+                        // Size of the result is accounted for incrementally as each row gets added
+                        ResultSizeEstimator resultSizeEstimator = new ResultSizeEstimator(MAX_SIZE_SUPPORTED);
                         while (resultSet.next()) {
 
-                            // Only check the data size at low frequency to ensure the performance is not impacted heavily
-                            if (iterator% HEAVY_OP_FREQUENCY == 0) {
-                                int objectSize = sizeof(rowsList);
-
-                                if (objectSize > MAX_SIZE_SUPPORTED) {
-                                    System.out.println(Thread.currentThread().getName() +
-                                            "[PostgresPlugin] Result size greater than maximum supported size of "
-                                            + MAX_SIZE_SUPPORTED + "bytes. Current size : " + objectSize);
-                                    return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED, (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
-                                }
-                            }
-
-                            // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                            Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                            for (int i = 1; i <= colCount; i++) {
-                                Object value;
-                                final String typeName = metaData.getColumnTypeName(i);
-
-                                if (resultSet.getObject(i) == null) {
-                                    value = null;
-
-                                } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                    value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
-
-                                } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                    value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                            LocalDateTime.of(
-                                                    resultSet.getDate(i).toLocalDate(),
-                                                    resultSet.getTime(i).toLocalTime()
-                                            )
-                                    ) + "Z";
-
-                                } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                    value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                            resultSet.getObject(i, OffsetDateTime.class)
-                                    );
-
-                                } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                    value = resultSet.getString(i);
-
-                                } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                    value = resultSet.getObject(i).toString();
-
-                                } else if (typeName.startsWith("_")) {
-                                    value = resultSet.getArray(i).getArray();
-
-                                } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
-                                        || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                    value = objectMapper.readTree(resultSet.getString(i));
-                                } else {
-                                    value = resultSet.getObject(i);
-
-                                    /**
-                                     * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
-                                     * two attributes: type and value. Hence, when PGobject gets serialized, it gets
-                                     * converted into a JSON like {"type":"citext", "value":"someText"}. Since we are
-                                     * only interested in the value and not the type, it makes sense to extract out
-                                     * the value as a string.
-                                     * Reference: https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
-                                     */
-                                    if (value instanceof PGobject) {
-                                        value = ((PGobject) value).getValue();
-                                    }
-                                }
-
-                                row.put(metaData.getColumnName(i), value);
-                            }
+                            Map<String, Object> row = getRow(resultSet, metaData, colCount);
 
                             rowsList.add(row);
 
-                            iterator++;
+                            try {
+                                resultSizeEstimator.addRowAndCheckLimit(row);
+                            } catch (AppsmithPluginException e) {
+                                log.debug("{}: Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                        Thread.currentThread().getName(), MAX_SIZE_SUPPORTED,
+                                        resultSizeEstimator.getEstimatedSizeInBytes());
+                                return Mono.error(e);
+                            }
                         }
                     }
 
@@ -500,6 +692,69 @@ public class PostgresPlugin extends BasePlugin {
 
         }
 
+        private Map<String, Object> getRow(ResultSet resultSet, ResultSetMetaData metaData, int colCount)
+                throws SQLException, IOException {
+
+            // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
+            Map<String, Object> row = new LinkedHashMap<>(colCount);
+
+            for (int i = 1; i <= colCount; i++) {
+                Object value;
+                final String typeName = metaData.getColumnTypeName(i);
+
+                if (resultSet.getObject(i) == null) {
+                    value = null;
+
+                } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
+
+                } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(
+                            LocalDateTime.of(
+                                    resultSet.getDate(i).toLocalDate(),
+                                    resultSet.getTime(i).toLocalTime()
+                            )
+                    ) + "Z";
+
+                } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(
+                            resultSet.getObject(i, OffsetDateTime.class)
+                    );
+
+                } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = resultSet.getString(i);
+
+                } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = resultSet.getObject(i).toString();
+
+                } else if (typeName.startsWith("_")) {
+                    value = resultSet.getArray(i).getArray();
+
+                } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
+                        || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = objectMapper.readTree(resultSet.getString(i));
+                } else {
+                    value = resultSet.getObject(i);
+
+                    /**
+                     * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
+                     * two attributes: type and value. Hence, when PGobject gets serialized, it gets
+                     * converted into a JSON like {"type":"citext", "value":"someText"}. Since we are
+                     * only interested in the value and not the type, it makes sense to extract out
+                     * the value as a string.
+                     * Reference: https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
+                     */
+                    if (value instanceof PGobject) {
+                        value = ((PGobject) value).getValue();
+                    }
+                }
+
+                row.put(metaData.getColumnName(i), value);
+            }
+
+            return row;
+        }
+
         private Set<String> populateHintMessages(List<String> columnNames) {
 
             Set<String> messages = new HashSet<>();
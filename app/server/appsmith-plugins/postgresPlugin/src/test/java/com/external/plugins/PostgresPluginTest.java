@@ -24,11 +24,13 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 import org.testcontainers.containers.PostgreSQLContainer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
@@ -47,6 +49,7 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -1428,4 +1431,137 @@ public class PostgresPluginTest {
                 .flatMap(pool -> pluginExecutor.executeParameterized(pool, executeActionDTO, dsConfig, actionConfiguration)).block();
 
     }
+
+    /**
+     * Executes the statement on a connection of its own, outside of the plugin's pool.
+     *
+     * @return the first value of the first row of the result, if any
+     */
+    private static Object executeStatement(String query) throws SQLException {
+        Properties properties = new Properties();
+        properties.putAll(Map.of(
+                "user", username,
+                "password", password
+        ));
+
+        try (Connection connection = DriverManager.getConnection(
+                "jdbc:postgresql://" + address + ":" + port + "/" + username,
+                properties
+        );
+             Statement statement = connection.createStatement()) {
+            if (!statement.execute(query)) {
+                return null;
+            }
+            try (ResultSet resultSet = statement.getResultSet()) {
+                resultSet.next();
+                return resultSet.getObject(1);
+            }
+        }
+    }
+
+    private static void awaitNoActiveConnections(HikariDataSource pool) throws InterruptedException {
+        for (int i = 0; i < 50 && pool.getHikariPoolMXBean().getActiveConnections() > 0; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(0, pool.getHikariPoolMXBean().getActiveConnections());
+    }
+
+    private static ActionConfiguration createStreamedActionConfiguration(String query) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(query);
+
+        List<Property> pluginSpecifiedTemplates = new ArrayList<>();
+        pluginSpecifiedTemplates.add(new Property("preparedStatement", "false"));
+        actionConfiguration.setPluginSpecifiedTemplates(pluginSpecifiedTemplates);
+        return actionConfiguration;
+    }
+
+    @Test
+    public void testExecuteAndStream_readsTheRowsOffACursorInOrder() throws Exception {
+        executeStatement("CREATE SEQUENCE streamed_rows_seq");
+
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource pool = pluginExecutor.datasourceCreate(dsConfig).block();
+        // The sequence is incremented as each row is read off the cursor
+        ActionConfiguration actionConfiguration = createStreamedActionConfiguration(
+                "SELECT g AS id, nextval('streamed_rows_seq') AS seq FROM generate_series(1, 2500) g");
+
+        Flux<Object> resultFlux = pluginExecutor.executeParameterizedAndStream(pool, new ExecuteActionDTO(),
+                dsConfig, actionConfiguration);
+
+        StepVerifier.create(resultFlux)
+                .assertNext(envelope -> {
+                    ActionExecutionResult result = (ActionExecutionResult) envelope;
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertNull(result.getBody());
+                })
+                .assertNext(row -> {
+                    assertEquals(1, ((Map<String, Object>) row).get("id"));
+                    try {
+                        // Only the first batch of rows has been read off the cursor
+                        assertEquals(1000L, executeStatement("SELECT last_value FROM streamed_rows_seq"));
+                    } catch (SQLException e) {
+                        throw new AssertionError(e);
+                    }
+                    assertEquals(1, pool.getHikariPoolMXBean().getActiveConnections());
+                })
+                .recordWith(ArrayList::new)
+                .thenConsumeWhile(row -> true)
+                .consumeRecordedWith(rows -> {
+                    assertEquals(2499, rows.size());
+                    int expectedId = 2;
+                    for (Object row : rows) {
+                        assertEquals(expectedId++, ((Map<String, Object>) row).get("id"));
+                    }
+                })
+                .verifyComplete();
+
+        awaitNoActiveConnections(pool);
+        pool.close();
+    }
+
+    @Test
+    public void testExecuteAndStream_commitsOnceAllRowsAreRead() throws Exception {
+        executeStatement("CREATE TABLE streamed_inserts (id int)");
+
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource pool = pluginExecutor.datasourceCreate(dsConfig).block();
+        ActionConfiguration actionConfiguration = createStreamedActionConfiguration(
+                "INSERT INTO streamed_inserts SELECT g FROM generate_series(1, 10) g RETURNING id");
+
+        Flux<Object> resultFlux = pluginExecutor.executeParameterizedAndStream(pool, new ExecuteActionDTO(),
+                dsConfig, actionConfiguration);
+
+        StepVerifier.create(resultFlux)
+                .assertNext(envelope -> assertTrue(((ActionExecutionResult) envelope).getIsExecutionSuccess()))
+                .expectNextCount(10)
+                .verifyComplete();
+
+        awaitNoActiveConnections(pool);
+        assertEquals(10L, executeStatement("SELECT count(*) FROM streamed_inserts"));
+        pool.close();
+    }
+
+    @Test
+    public void testExecuteAndStream_whenCancelled_closesTheResultSetAndRollsBack() throws Exception {
+        executeStatement("CREATE TABLE cancelled_inserts (id int)");
+
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource pool = pluginExecutor.datasourceCreate(dsConfig).block();
+        ActionConfiguration actionConfiguration = createStreamedActionConfiguration(
+                "INSERT INTO cancelled_inserts SELECT g FROM generate_series(1, 2500) g RETURNING id");
+
+        Flux<Object> resultFlux = pluginExecutor.executeParameterizedAndStream(pool, new ExecuteActionDTO(),
+                dsConfig, actionConfiguration);
+
+        StepVerifier.create(resultFlux.take(6))
+                .assertNext(envelope -> assertTrue(((ActionExecutionResult) envelope).getIsExecutionSuccess()))
+                .expectNextCount(5)
+                .verifyComplete();
+
+        // The connection is returned to the pool, which rolls back what was left uncommitted
+        awaitNoActiveConnections(pool);
+        assertEquals(0L, executeStatement("SELECT count(*) FROM cancelled_inserts"));
+        pool.close();
+    }
 }
@@ -15,6 +15,9 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
@@ -27,7 +30,6 @@ import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -42,7 +44,6 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -55,11 +56,12 @@ import static com.appsmith.external.models.Connection.Mode.READ_ONLY;
 public class RedshiftPlugin extends BasePlugin {
     static final String JDBC_DRIVER = "com.amazon.redshift.jdbc.Driver";
     private static final String JDBC_PROTOCOL = "jdbc:redshift://";
-    private static final String USER = "user";
-    private static final String PASSWORD = "password";
     private static final String SSL = "ssl";
     private static final int VALIDITY_CHECK_TIMEOUT = 5; /* must be positive, otherwise may receive exception */
     private static final String DATE_COLUMN_TYPE_NAME = "date";
+    private static final int MINIMUM_POOL_SIZE = 1;
+    private static final int MAXIMUM_POOL_SIZE = 5;
+    private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
     public RedshiftPlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -67,7 +69,7 @@ public class RedshiftPlugin extends BasePlugin {
 
     @Slf4j
     @Extension
-    public static class RedshiftPluginExecutor implements PluginExecutor<Connection> {
+    public static class RedshiftPluginExecutor implements PluginExecutor<HikariDataSource> {
 
         private final Scheduler scheduler = Schedulers.elastic();
 
@@ -210,13 +212,13 @@ public class RedshiftPlugin extends BasePlugin {
          *    can be triggered.
          */
         private void checkConnectionValidity(Connection connection) throws SQLException {
-            if (connection == null || connection.isClosed()) {
+            if (connection == null || connection.isClosed() || !connection.isValid(VALIDITY_CHECK_TIMEOUT)) {
                 throw new StaleConnectionException();
             }
         }
 
         @Override
-        public Mono<ActionExecutionResult> execute(Connection connection,
+        public Mono<ActionExecutionResult> execute(HikariDataSource connectionPool,
                                                    DatasourceConfiguration datasourceConfiguration,
                                                    ActionConfiguration actionConfiguration) {
 
@@ -235,11 +237,20 @@ public class RedshiftPlugin extends BasePlugin {
 
             return Mono.fromCallable(() -> {
                 /*
-                 * 1. If there is any issue with checking connection validity then assume that the connection is stale.
+                 * 1. If there is any issue with fetching a connection from the pool or with checking its validity then
+                 *    assume that the connection is stale.
                  */
+                final Connection connection;
+                try {
+                    connection = getConnectionFromConnectionPool(connectionPool);
+                } catch (SQLException | StaleConnectionException e) {
+                    return Mono.error(new StaleConnectionException());
+                }
+
                 try {
                     checkConnectionValidity(connection);
-                } catch (SQLException e) {
+                } catch (SQLException | StaleConnectionException e) {
+                    closeConnection(connection);
                     return Mono.error(new StaleConnectionException());
                 }
 
@@ -288,12 +299,7 @@ public class RedshiftPlugin extends BasePlugin {
                         }
                     }
 
-                    try {
-                        connection.close();
-                    } catch (SQLException e) {
-                        log.warn("Error closing Redshift Connection", e);
-                    }
-
+                    closeConnection(connection);
                 }
 
                 ActionExecutionResult result = new ActionExecutionResult();
@@ -352,81 +358,24 @@ public class RedshiftPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             try {
                 Class.forName(JDBC_DRIVER);
             } catch (ClassNotFoundException e) {
                 return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Error loading Redshift JDBC Driver class."));
             }
 
-            String url;
-            DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
-
-            com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
-
-            final boolean isSslEnabled = configurationConnection != null
-                    && configurationConnection.getSsl() != null
-                    && !SSLDetails.AuthType.NO_SSL.equals(configurationConnection.getSsl().getAuthType());
-
-            Properties properties = new Properties();
-            properties.put(SSL, isSslEnabled);
-            if (authentication.getUsername() != null) {
-                properties.put(USER, authentication.getUsername());
-            }
-            if (authentication.getPassword() != null) {
-                properties.put(PASSWORD, authentication.getPassword());
-            }
-
-            if (CollectionUtils.isEmpty(datasourceConfiguration.getEndpoints())) {
-                url = datasourceConfiguration.getUrl();
-
-            } else {
-                StringBuilder urlBuilder = new StringBuilder(JDBC_PROTOCOL);
-                for (Endpoint endpoint : datasourceConfiguration.getEndpoints()) {
-                    urlBuilder
-                            .append(endpoint.getHost())
-                            .append(':')
-                            .append(ObjectUtils.defaultIfNull(endpoint.getPort(), 5439L))
-                            .append('/');
-
-                    if (!StringUtils.isEmpty(authentication.getDatabaseName())) {
-                        urlBuilder.append(authentication.getDatabaseName());
-                    }
-                }
-                url = urlBuilder.toString();
-            }
-
             return Mono.fromCallable(() -> {
-                try {
-                    System.out.println(Thread.currentThread().getName() + ": Connecting to Redshift db");
-                    Connection connection = DriverManager.getConnection(url, properties);
-                    connection.setReadOnly(
-                            configurationConnection != null && READ_ONLY.equals(configurationConnection.getMode()));
-                    return Mono.just(connection);
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                    return Mono.error(
-                            new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
-                                    e.getMessage()
-                            )
-                    );
-                }
+                System.out.println(Thread.currentThread().getName() + ": Connecting to Redshift db");
+                return createConnectionPool(datasourceConfiguration);
             })
-                    .flatMap(obj -> obj)
-                    .map(conn -> (Connection) conn)
                     .subscribeOn(scheduler);
         }
 
         @Override
-        public void datasourceDestroy(Connection connection) {
-            try {
-                if (connection != null) {
-                    connection.close();
-                }
-            } catch (SQLException e) {
-                System.out.println(Thread.currentThread().getName() + ": Error closing Redshift Connection. " + e);
-                log.error("Error closing Redshift Connection.", e);
+        public void datasourceDestroy(HikariDataSource connectionPool) {
+            if (connectionPool != null) {
+                connectionPool.close();
             }
         }
 
@@ -475,13 +424,9 @@ public class RedshiftPlugin extends BasePlugin {
         @Override
         public Mono<DatasourceTestResult> testDatasource(DatasourceConfiguration datasourceConfiguration) {
             return datasourceCreate(datasourceConfiguration)
-                    .map(connection -> {
-                        try {
-                            if (connection != null) {
-                                connection.close();
-                            }
-                        } catch (SQLException e) {
-                            log.warn("Error closing Redshift connection that was made for testing.", e);
+                    .map(connectionPool -> {
+                        if (connectionPool != null) {
+                            connectionPool.close();
                         }
 
                         return new DatasourceTestResult();
@@ -630,77 +575,173 @@ public class RedshiftPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
-            /*
-             * 1. If there is any issue with checking connection validity then assume that the connection is stale.
-             */
-            try {
-                checkConnectionValidity(connection);
-            } catch (SQLException e) {
-                return Mono.error(new StaleConnectionException());
-            }
-
+        public Mono<DatasourceStructure> getStructure(HikariDataSource connectionPool, DatasourceConfiguration datasourceConfiguration) {
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
             final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
 
-            return Mono.fromSupplier(() -> {
-                // Ref: <https://docs.oracle.com/en/java/javase/11/docs/api/java.sql/java/sql/DatabaseMetaData.html>.
-                System.out.println(Thread.currentThread().getName() + ": Getting Redshift Db structure");
-                try (Statement statement = connection.createStatement()) {
+            // The connection is borrowed on subscription, i.e. on the scheduler, since borrowing it may block
+            return Mono.defer(() -> {
+                /*
+                 * 1. If there is any issue with fetching a connection from the pool or with checking its validity then
+                 *    assume that the connection is stale.
+                 */
+                final Connection connection;
+                try {
+                    connection = getConnectionFromConnectionPool(connectionPool);
+                } catch (SQLException | StaleConnectionException e) {
+                    return Mono.error(new StaleConnectionException());
+                }
 
-                    // Get tables' schema and fill up their columns.
-                    ResultSet columnsResultSet = statement.executeQuery(TABLES_QUERY);
-                    getTablesInfo(columnsResultSet, tablesByName);
+                try {
+                    checkConnectionValidity(connection);
+                } catch (SQLException | StaleConnectionException e) {
+                    closeConnection(connection);
+                    return Mono.error(new StaleConnectionException());
+                }
 
-                    // Get tables' primary key constraints and fill those up.
-                    ResultSet primaryKeyConstraintsResultSet = statement.executeQuery(KEYS_QUERY_PRIMARY_KEY);
-                    getKeysInfo(primaryKeyConstraintsResultSet, tablesByName, keyRegistry);
+                return Mono.fromSupplier(() -> {
+                    // Ref: <https://docs.oracle.com/en/java/javase/11/docs/api/java.sql/java/sql/DatabaseMetaData.html>.
+                    System.out.println(Thread.currentThread().getName() + ": Getting Redshift Db structure");
+                    try (Statement statement = connection.createStatement()) {
 
-                    // Get tables' foreign key constraints and fill those up.
-                    ResultSet foreignKeyConstraintsResultSet = statement.executeQuery(KEYS_QUERY_FOREIGN_KEY);
-                    getKeysInfo(foreignKeyConstraintsResultSet, tablesByName, keyRegistry);
+                        // Get tables' schema and fill up their columns.
+                        ResultSet columnsResultSet = statement.executeQuery(TABLES_QUERY);
+                        getTablesInfo(columnsResultSet, tablesByName);
 
-                    // Get templates for each table and put those in.
-                    getTemplates(tablesByName);
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                    return Mono.error(
-                            new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_GET_STRUCTURE_ERROR,
-                                    e.getMessage()
-                            )
-                    );
-                } catch (AppsmithPluginException e) {
-                    e.printStackTrace();
-                    return Mono.error(e);
+                        // Get tables' primary key constraints and fill those up.
+                        ResultSet primaryKeyConstraintsResultSet = statement.executeQuery(KEYS_QUERY_PRIMARY_KEY);
+                        getKeysInfo(primaryKeyConstraintsResultSet, tablesByName, keyRegistry);
 
-                } finally {
-                    try {
-                        connection.close();
+                        // Get tables' foreign key constraints and fill those up.
+                        ResultSet foreignKeyConstraintsResultSet = statement.executeQuery(KEYS_QUERY_FOREIGN_KEY);
+                        getKeysInfo(foreignKeyConstraintsResultSet, tablesByName, keyRegistry);
+
+                        // Get templates for each table and put those in.
+                        getTemplates(tablesByName);
                     } catch (SQLException e) {
-                        log.warn("Error closing Redshift Connection", e);
+                        e.printStackTrace();
+                        return Mono.error(
+                                new AppsmithPluginException(
+                                        AppsmithPluginError.PLUGIN_GET_STRUCTURE_ERROR,
+                                        e.getMessage()
+                                )
+                        );
+                    } catch (AppsmithPluginException e) {
+                        e.printStackTrace();
+                        return Mono.error(e);
+
+                    } finally {
+                        closeConnection(connection);
                     }
 
-                }
+                    structure.setTables(new ArrayList<>(tablesByName.values()));
 
-                structure.setTables(new ArrayList<>(tablesByName.values()));
+                    for (DatasourceStructure.Table table : structure.getTables()) {
+                        table.getKeys().sort(Comparator.naturalOrder());
+                    }
 
-                for (DatasourceStructure.Table table : structure.getTables()) {
-                    table.getKeys().sort(Comparator.naturalOrder());
-                }
+                    return structure;
+                })
+                        .map(resultStructure -> (DatasourceStructure) resultStructure)
+                        .onErrorMap(e -> {
+                            if (!(e instanceof AppsmithPluginException)) {
+                                return new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage());
+                            }
 
-                return structure;
+                            return e;
+                        });
             })
-                    .map(resultStructure -> (DatasourceStructure) resultStructure)
-                    .onErrorMap(e -> {
-                        if (!(e instanceof AppsmithPluginException)) {
-                            return new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage());
-                        }
-
-                        return e;
-                    })
                     .subscribeOn(scheduler);
         }
+
+        /**
+         * Returns the connection to the pool.
+         */
+        private void closeConnection(Connection connection) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                log.warn("Error closing Redshift Connection", e);
+            }
+        }
+    }
+
+    /**
+     * This function is blocking in nature which connects to the database and creates a connection pool
+     *
+     * @param datasourceConfiguration
+     * @return connection pool
+     */
+    private static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration) throws AppsmithPluginException {
+        DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
+        com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
+
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName(JDBC_DRIVER);
+        config.setMinimumIdle(MINIMUM_POOL_SIZE);
+        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+        // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
+        // should get tracked (may be falsely for long running queries) as leaked connection
+        config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+        config.setReadOnly(configurationConnection != null && READ_ONLY.equals(configurationConnection.getMode()));
+
+        final boolean isSslEnabled = configurationConnection != null
+                && configurationConnection.getSsl() != null
+                && !SSLDetails.AuthType.NO_SSL.equals(configurationConnection.getSsl().getAuthType());
+        config.addDataSourceProperty(SSL, isSslEnabled);
+
+        if (authentication.getUsername() != null) {
+            config.setUsername(authentication.getUsername());
+        }
+
+        if (authentication.getPassword() != null) {
+            config.setPassword(authentication.getPassword());
+        }
+
+        if (CollectionUtils.isEmpty(datasourceConfiguration.getEndpoints())) {
+            config.setJdbcUrl(datasourceConfiguration.getUrl());
+        } else {
+            StringBuilder urlBuilder = new StringBuilder(JDBC_PROTOCOL);
+            for (Endpoint endpoint : datasourceConfiguration.getEndpoints()) {
+                urlBuilder
+                        .append(endpoint.getHost())
+                        .append(':')
+                        .append(ObjectUtils.defaultIfNull(endpoint.getPort(), 5439L))
+                        .append('/');
+
+                if (!StringUtils.isEmpty(authentication.getDatabaseName())) {
+                    urlBuilder.append(authentication.getDatabaseName());
+                }
+            }
+            config.setJdbcUrl(urlBuilder.toString());
+        }
+
+        try {
+            return new HikariDataSource(config);
+        } catch (PoolInitializationException e) {
+            // Report the error of the driver, e.g. "The connection attempt failed.", instead of Hikari's wrapper around it
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                    e.getCause() != null ? e.getCause().getMessage() : e.getMessage()
+            );
+        }
+    }
+
+    /**
+     * First checks if the connection pool is still valid. If yes, we fetch a connection from the pool and return
+     * In case a connection is not available in the pool, SQL Exception is thrown
+     *
+     * @param connectionPool
+     * @return SQL Connection
+     */
+    private static Connection getConnectionFromConnectionPool(HikariDataSource connectionPool) throws SQLException {
+        if (connectionPool == null || connectionPool.isClosed() || !connectionPool.isRunning()) {
+            System.out.println(Thread.currentThread().getName() +
+                    ": Encountered stale connection pool in Redshift plugin. Reporting back.");
+            throw new StaleConnectionException();
+        }
+
+        return connectionPool.getConnection();
     }
 }
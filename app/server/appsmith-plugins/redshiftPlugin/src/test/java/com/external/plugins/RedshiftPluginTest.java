@@ -14,6 +14,7 @@ import com.appsmith.external.plugins.PluginExecutor;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -47,6 +48,8 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -88,10 +91,18 @@ public class RedshiftPluginTest {
         return dsConfig;
     }
 
+    private HikariDataSource mockConnectionPool(Connection connection) throws SQLException {
+        HikariDataSource mockConnectionPool = mock(HikariDataSource.class);
+        when(mockConnectionPool.isClosed()).thenReturn(false);
+        when(mockConnectionPool.isRunning()).thenReturn(true);
+        when(mockConnectionPool.getConnection()).thenReturn(connection);
+        return mockConnectionPool;
+    }
+
     @Test
     public void testDatasourceCreateConnectionFailure() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<HikariDataSource> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         StepVerifier.create(dsConnectionMono)
                 .expectErrorMatches(throwable ->
@@ -121,13 +132,49 @@ public class RedshiftPluginTest {
         when(mockConnection.isClosed()).thenReturn(true);
         when(mockConnection.isValid(Mockito.anyInt())).thenReturn(false);
 
-        Mono<ActionExecutionResult> resultMono = pluginExecutor.execute(mockConnection, dsConfig, actionConfiguration);
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.execute(mockConnectionPool(mockConnection), dsConfig,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .expectErrorMatches(throwable -> throwable instanceof StaleConnectionException)
+                .verify();
+    }
+
+    @Test
+    public void testStaleConnectionPoolCheck() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("show databases");
+
+        HikariDataSource mockConnectionPool = mock(HikariDataSource.class);
+        when(mockConnectionPool.isClosed()).thenReturn(true);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.execute(mockConnectionPool, dsConfig, actionConfiguration);
 
         StepVerifier.create(resultMono)
                 .expectErrorMatches(throwable -> throwable instanceof StaleConnectionException)
                 .verify();
     }
 
+    @Test
+    public void testGetStructureBorrowsTheConnectionOnSubscription() throws SQLException {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+
+        Connection mockConnection = mock(Connection.class);
+        when(mockConnection.isClosed()).thenReturn(true);
+        when(mockConnection.isValid(Mockito.anyInt())).thenReturn(false);
+        HikariDataSource mockConnectionPool = mockConnectionPool(mockConnection);
+
+        Mono<DatasourceStructure> structureMono = pluginExecutor.getStructure(mockConnectionPool, dsConfig);
+        verify(mockConnectionPool, never()).getConnection();
+
+        StepVerifier.create(structureMono)
+                .expectErrorMatches(throwable -> throwable instanceof StaleConnectionException)
+                .verify();
+        verify(mockConnectionPool).getConnection();
+        verify(mockConnection).close();
+    }
+
     @Test
     public void itShouldValidateDatasourceWithEmptyEndpoints() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -238,7 +285,7 @@ public class RedshiftPluginTest {
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("SELECT * FROM users WHERE id = 1");
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = Mono.just(mockConnection);
+        Mono<HikariDataSource> dsConnectionMono = Mono.just(mockConnectionPool(mockConnection));
 
         Mono<ActionExecutionResult> executeMono = dsConnectionMono
                 .flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
@@ -368,7 +415,7 @@ public class RedshiftPluginTest {
         doNothing().when(mockResultSet).close();
 
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = Mono.just(mockConnection);
+        Mono<HikariDataSource> dsConnectionMono = Mono.just(mockConnectionPool(mockConnection));
         Mono<DatasourceStructure> structureMono = dsConnectionMono
                 .flatMap(connection -> pluginExecutor.getStructure(connection, dsConfig));
 
@@ -512,7 +559,7 @@ public class RedshiftPluginTest {
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("SELECT id, id, username, username FROM users WHERE id = 1");
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = Mono.just(mockConnection);
+        Mono<HikariDataSource> dsConnectionMono = Mono.just(mockConnectionPool(mockConnection));
 
         Mono<ActionExecutionResult> executeMono = dsConnectionMono
                 .flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
@@ -3,12 +3,20 @@ package com.external.connections;
 import com.appsmith.external.helpers.SSLHelper;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.OAuth2;
+import com.external.helpers.HttpClientRegistry;
+import lombok.Getter;
+import lombok.Setter;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import reactor.netty.http.client.HttpClient;
 
 // Parent type for all API connections that need to be created during datasource create method.
 public abstract class APIConnection implements ExchangeFilterFunction {
 
+    // Client held while this datasource connection exists, so that its connection pool stays warm between executions.
+    @Getter
+    @Setter
+    private HttpClientRegistry.PooledHttpClient pooledHttpClient;
+
     HttpClient getSecuredHttpClient(DatasourceConfiguration datasourceConfiguration) {
         final OAuth2 oAuth2 = (OAuth2) datasourceConfiguration.getAuthentication();
         HttpClient httpClient = HttpClient.create();
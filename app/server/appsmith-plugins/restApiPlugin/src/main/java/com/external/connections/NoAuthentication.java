@@ -0,0 +1,15 @@
+package com.external.connections;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+// Connection for datasources without authentication, it only carries the pooled http client of the datasource.
+public class NoAuthentication extends APIConnection {
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return next.exchange(request);
+    }
+}
@@ -0,0 +1,167 @@
+package com.external.helpers;
+
+import com.appsmith.external.helpers.SSLHelper;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import com.appsmith.external.services.SharedConfig;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hands out `HttpClient` instances backed by long-lived connection pools, so that TCP connections and TLS sessions to
+ * an API get reused across action executions instead of being set up for every call.
+ * <p>
+ * Datasources with the same TLS configuration share a client. The connection pool of a client keeps its connections
+ * per remote host, hence two datasources pointing to the same host reuse each other's connections. A client is
+ * acquired by a datasource when its connection gets created and released when its connection gets destroyed, and by
+ * every execution for as long as its call is in flight. The connection pool gets disposed of once the last of them has
+ * released it, except for the pool of the default TLS configuration which lives as long as the plugin.
+ */
+@Slf4j
+public class HttpClientRegistry {
+
+    private static final String CONNECTION_PROVIDER_NAME = "rest-api-provider";
+
+    private static final String DEFAULT_SSL_CONFIGURATION_KEY = "default";
+
+    private static final String SELF_SIGNED_CERTIFICATE_KEY_PREFIX = "self-signed:";
+
+    // Connections are recycled after this duration even if they are busy, so that DNS changes eventually get picked up
+    private static final Duration MAX_LIFE_TIME = Duration.ofSeconds(600);
+
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(30);
+
+    private final SharedConfig sharedConfig;
+
+    private final Map<String, PooledHttpClient> pooledHttpClients = new HashMap<>();
+
+    public HttpClientRegistry(SharedConfig sharedConfig) {
+        this.sharedConfig = sharedConfig;
+    }
+
+    /**
+     * Returns the pooled client for the TLS configuration of the datasource, and records one more user for it, i.e. a
+     * datasource connection or an execution in flight. Every call must be matched by a call to
+     * {@link #release(PooledHttpClient)}.
+     */
+    public synchronized PooledHttpClient acquire(DatasourceConfiguration datasourceConfiguration) {
+        PooledHttpClient pooledHttpClient = getOrCreate(datasourceConfiguration);
+        pooledHttpClient.references++;
+        return pooledHttpClient;
+    }
+
+    /**
+     * Records one more user for the client held by a datasource connection, without looking it up again. Falls back to
+     * {@link #acquire(DatasourceConfiguration)} if the client has been released by all its users in the meantime.
+     */
+    public synchronized PooledHttpClient acquire(PooledHttpClient pooledHttpClient, DatasourceConfiguration datasourceConfiguration) {
+        if (pooledHttpClient == null || pooledHttpClient.references <= 0) {
+            return acquire(datasourceConfiguration);
+        }
+
+        pooledHttpClient.references++;
+        return pooledHttpClient;
+    }
+
+    public synchronized void release(PooledHttpClient pooledHttpClient) {
+        if (pooledHttpClient == null || pooledHttpClient.references <= 0) {
+            return;
+        }
+
+        pooledHttpClient.references--;
+        // Most datasources share the default pool, which is kept for them to not set up their connections again
+        if (pooledHttpClient.references == 0
+                && !DEFAULT_SSL_CONFIGURATION_KEY.equals(pooledHttpClient.key)
+                && pooledHttpClients.remove(pooledHttpClient.key, pooledHttpClient)) {
+            log.debug("Disposing REST API connection pool as no datasource uses it anymore");
+            pooledHttpClient.connectionProvider.disposeLater().subscribe();
+        }
+    }
+
+    private PooledHttpClient getOrCreate(DatasourceConfiguration datasourceConfiguration) {
+        return pooledHttpClients.computeIfAbsent(
+                getSslConfigurationKey(datasourceConfiguration),
+                key -> createPooledHttpClient(key, datasourceConfiguration)
+        );
+    }
+
+    private PooledHttpClient createPooledHttpClient(String key, DatasourceConfiguration datasourceConfiguration) {
+        final ConnectionProvider connectionProvider = ConnectionProvider
+                .builder(CONNECTION_PROVIDER_NAME)
+                .maxConnections(sharedConfig.getRestApiMaxConnections())
+                // Bursts of calls to the same host wait for a connection instead of failing beyond Reactor Netty's
+                // default of twice the maximum number of connections
+                .pendingAcquireMaxCount(sharedConfig.getRestApiPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofSeconds(sharedConfig.getRestApiPendingAcquireTimeoutInSeconds()))
+                .maxIdleTime(Duration.ofSeconds(sharedConfig.getRestApiMaxIdleTimeInSeconds()))
+                .maxLifeTime(MAX_LIFE_TIME)
+                .evictInBackground(EVICTION_INTERVAL)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider);
+
+        if (sharedConfig.isRestApiHttp2Enabled()) {
+            // HTTP/2 gets negotiated with the server through ALPN during the TLS handshake, which the SSL context has to
+            // offer. Plain HTTP connections stay on HTTP/1.1.
+            final Http2SslContextSpec http2SslContextSpec = Http2SslContextSpec.forClient()
+                    .configure(sslContextBuilder -> SSLHelper.trustSelfSignedCertificate(sslContextBuilder, datasourceConfiguration));
+            httpClient = httpClient
+                    .protocol(HttpProtocol.HTTP11, HttpProtocol.H2)
+                    .secure(sslContextSpec -> sslContextSpec.sslContext(http2SslContextSpec));
+        } else {
+            httpClient = httpClient.secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration));
+        }
+
+        httpClient = httpClient.compress(true);
+
+        if ("true".equals(System.getProperty("java.net.useSystemProxies"))
+                && (!System.getProperty("http.proxyHost", "").isEmpty() || !System.getProperty("https.proxyHost", "").isEmpty())) {
+            httpClient = httpClient.proxyWithSystemProperties();
+        }
+
+        return new PooledHttpClient(key, connectionProvider, httpClient);
+    }
+
+    /**
+     * The client depends on nothing but the certificate trusted by the datasource, if any. Every other setting is the
+     * same for all datasources.
+     */
+    static String getSslConfigurationKey(DatasourceConfiguration datasourceConfiguration) {
+        if (datasourceConfiguration.getConnection() != null
+                && datasourceConfiguration.getConnection().getSsl() != null
+                && datasourceConfiguration.getConnection().getSsl().getAuthType() == SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE) {
+            final UploadedFile certificateFile = datasourceConfiguration.getConnection().getSsl().getCertificateFile();
+            return SELF_SIGNED_CERTIFICATE_KEY_PREFIX + (certificateFile == null ? "" : certificateFile.getBase64Content());
+        }
+
+        return DEFAULT_SSL_CONFIGURATION_KEY;
+    }
+
+    public static class PooledHttpClient {
+
+        private final String key;
+
+        private final ConnectionProvider connectionProvider;
+
+        @Getter
+        private final HttpClient httpClient;
+
+        // Number of datasource connections and executions using this client, guarded by the registry
+        private int references = 0;
+
+        private PooledHttpClient(String key, ConnectionProvider connectionProvider, HttpClient httpClient) {
+            this.key = key;
+            this.connectionProvider = connectionProvider;
+            this.httpClient = httpClient;
+        }
+    }
+}
@@ -6,7 +6,6 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.helpers.PluginUtils;
-import com.appsmith.external.helpers.SSLHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -22,10 +21,12 @@ import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.appsmith.external.services.SharedConfig;
 import com.external.connections.APIConnection;
 import com.external.connections.APIConnectionFactory;
+import com.external.connections.NoAuthentication;
 import com.external.constants.ResponseDataType;
 import com.external.helpers.BufferingFilter;
 import com.external.helpers.DataUtils;
 import com.external.helpers.DatasourceValidator;
+import com.external.helpers.HttpClientRegistry;
 import com.external.helpers.RequestCaptureFilter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -52,8 +53,6 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
-import reactor.netty.http.client.HttpClient;
-import reactor.netty.resources.ConnectionProvider;
 import reactor.util.function.Tuple2;
 
 import javax.crypto.SecretKey;
@@ -65,7 +64,6 @@ import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Date;
@@ -105,6 +103,7 @@ public class RestApiPlugin extends BasePlugin {
 
         private final SharedConfig sharedConfig;
         private final DataUtils dataUtils;
+        private final HttpClientRegistry httpClientRegistry;
 
         // Setting max content length. This would've been coming from `spring.codec.max-in-memory-size` property if the
         // `WebClient` instance was loaded as an auto-wired bean.
@@ -118,6 +117,7 @@ public class RestApiPlugin extends BasePlugin {
         public RestApiPluginExecutor(SharedConfig sharedConfig) {
             this.sharedConfig = sharedConfig;
             this.dataUtils = DataUtils.getInstance();
+            this.httpClientRegistry = new HttpClientRegistry(sharedConfig);
             this.EXCHANGE_STRATEGIES = ExchangeStrategies
                     .builder()
                     .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(sharedConfig.getCodecSize()))
@@ -288,23 +288,8 @@ public class RestApiPlugin extends BasePlugin {
                 return Mono.just(errorResult);
             }
 
-            // Initializing webClient to be used for http call
-            final ConnectionProvider provider = ConnectionProvider
-                    .builder("rest-api-provider")
-                    .maxIdleTime(Duration.ofSeconds(600))
-                    .maxLifeTime(Duration.ofSeconds(600))
-                    .build();
-
-            HttpClient httpClient = HttpClient.create(provider)
-                    .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
-                    .compress(true);
-
-            if ("true".equals(System.getProperty("java.net.useSystemProxies"))
-                    && (!System.getProperty("http.proxyHost", "").isEmpty() || !System.getProperty("https.proxyHost", "").isEmpty())) {
-                httpClient = httpClient.proxyWithSystemProperties();
-            }
-
-            WebClient.Builder webClientBuilder = WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient));
+            // Initializing webClient to be used for http call. Its connector is set once the pooled client is acquired.
+            WebClient.Builder webClientBuilder = WebClient.builder();
 
             // Adding headers from datasource
             if (datasourceConfiguration.getHeaders() != null) {
@@ -388,11 +373,25 @@ public class RestApiPlugin extends BasePlugin {
             final RequestCaptureFilter requestCaptureFilter = new RequestCaptureFilter(objectMapper);
             webClientBuilder.filter(requestCaptureFilter);
 
-            WebClient client = webClientBuilder.exchangeStrategies(EXCHANGE_STRATEGIES).build();
-
-            // Triggering the actual REST API call
-            return httpCall(client, httpMethod, uri, requestBodyObj, 0, reqContentType)
-                    .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
+            webClientBuilder.exchangeStrategies(EXCHANGE_STRATEGIES);
+
+            // Triggering the actual REST API call. The pooled client of the datasource connection is held until the
+            // response has been read, so that its connection pool doesn't get disposed of while the call is in flight.
+            final Object finalRequestBodyObj = requestBodyObj;
+            final String finalReqContentType = reqContentType;
+            final HttpClientRegistry.PooledHttpClient connectionHttpClient =
+                    apiConnection == null ? null : apiConnection.getPooledHttpClient();
+            return Mono.using(
+                            () -> httpClientRegistry.acquire(connectionHttpClient, datasourceConfiguration),
+                            pooledHttpClient -> {
+                                WebClient client = webClientBuilder.clone()
+                                        .clientConnector(new ReactorClientHttpConnector(pooledHttpClient.getHttpClient()))
+                                        .build();
+                                return httpCall(client, httpMethod, uri, finalRequestBodyObj, 0, finalReqContentType)
+                                        .flatMap(clientResponse -> clientResponse.toEntity(byte[].class));
+                            },
+                            httpClientRegistry::release
+                    )
                     .map(stringResponseEntity -> {
                         HttpHeaders headers = stringResponseEntity.getHeaders();
                         /*
@@ -597,12 +596,19 @@ public class RestApiPlugin extends BasePlugin {
 
         @Override
         public Mono<APIConnection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
-            return APIConnectionFactory.createConnection(datasourceConfiguration);
+            return APIConnectionFactory.createConnection(datasourceConfiguration)
+                    .switchIfEmpty(Mono.fromSupplier(NoAuthentication::new))
+                    .map(apiConnection -> {
+                        apiConnection.setPooledHttpClient(httpClientRegistry.acquire(datasourceConfiguration));
+                        return apiConnection;
+                    });
         }
 
         @Override
         public void datasourceDestroy(APIConnection connection) {
-            // REST API plugin doesn't have a datasource.
+            if (connection != null) {
+                httpClientRegistry.release(connection.getPooledHttpClient());
+            }
         }
 
         @Override
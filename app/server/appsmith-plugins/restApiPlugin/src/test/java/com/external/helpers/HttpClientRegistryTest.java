@@ -0,0 +1,173 @@
+package com.external.helpers;
+
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import com.appsmith.external.services.SharedConfig;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class HttpClientRegistryTest {
+
+    private static class MockSharedConfig implements SharedConfig {
+
+        private final boolean isHttp2Enabled;
+
+        private MockSharedConfig(boolean isHttp2Enabled) {
+            this.isHttp2Enabled = isHttp2Enabled;
+        }
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return 10000;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+
+        @Override
+        public boolean isRestApiHttp2Enabled() {
+            return isHttp2Enabled;
+        }
+    }
+
+    private final HttpClientRegistry httpClientRegistry = new HttpClientRegistry(new MockSharedConfig(false));
+
+    private static DatasourceConfiguration getDatasourceConfiguration(String url, String certificate) {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl(url);
+        if (certificate != null) {
+            SSLDetails sslDetails = new SSLDetails();
+            sslDetails.setAuthType(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE);
+            UploadedFile certificateFile = new UploadedFile();
+            certificateFile.setBase64Content(certificate);
+            sslDetails.setCertificateFile(certificateFile);
+            Connection connection = new Connection();
+            connection.setSsl(sslDetails);
+            datasourceConfiguration.setConnection(connection);
+        }
+        return datasourceConfiguration;
+    }
+
+    @Test
+    public void testSslConfigurationKey() {
+        assertEquals(
+                HttpClientRegistry.getSslConfigurationKey(getDatasourceConfiguration("https://one.example.com", null)),
+                HttpClientRegistry.getSslConfigurationKey(getDatasourceConfiguration("https://two.example.com", null)));
+        assertNotEquals(
+                HttpClientRegistry.getSslConfigurationKey(getDatasourceConfiguration("https://one.example.com", null)),
+                HttpClientRegistry.getSslConfigurationKey(getDatasourceConfiguration("https://one.example.com", "Y2VydA==")));
+    }
+
+    @Test
+    public void testDatasourcesWithSameSslConfigurationShareTheClient() {
+        HttpClientRegistry.PooledHttpClient first =
+                httpClientRegistry.acquire(getDatasourceConfiguration("https://one.example.com", null));
+        HttpClientRegistry.PooledHttpClient second =
+                httpClientRegistry.acquire(getDatasourceConfiguration("https://two.example.com", null));
+        HttpClientRegistry.PooledHttpClient selfSigned =
+                httpClientRegistry.acquire(getDatasourceConfiguration("https://one.example.com", "Y2VydA=="));
+
+        assertSame(first, second);
+        assertNotSame(first, selfSigned);
+    }
+
+    @Test
+    public void testClientIsRecreatedOnceReleasedByAllDatasources() {
+        DatasourceConfiguration datasourceConfiguration = getDatasourceConfiguration("https://one.example.com", "Y2VydA==");
+        HttpClientRegistry.PooledHttpClient first = httpClientRegistry.acquire(datasourceConfiguration);
+        HttpClientRegistry.PooledHttpClient second = httpClientRegistry.acquire(datasourceConfiguration);
+
+        httpClientRegistry.release(first);
+        HttpClientRegistry.PooledHttpClient third = httpClientRegistry.acquire(datasourceConfiguration);
+        assertSame(second, third);
+
+        httpClientRegistry.release(second);
+        httpClientRegistry.release(third);
+        assertNotSame(second, httpClientRegistry.acquire(datasourceConfiguration));
+    }
+
+    @Test
+    public void testDefaultClientIsKeptOnceReleasedByAllDatasources() {
+        DatasourceConfiguration datasourceConfiguration = getDatasourceConfiguration("https://one.example.com", null);
+        HttpClientRegistry.PooledHttpClient first = httpClientRegistry.acquire(datasourceConfiguration);
+
+        httpClientRegistry.release(first);
+        assertSame(first, httpClientRegistry.acquire(datasourceConfiguration));
+    }
+
+    @Test
+    public void testClientHeldByTheConnectionIsUsedUntilReleasedByAllDatasources() {
+        DatasourceConfiguration datasourceConfiguration = getDatasourceConfiguration("https://one.example.com", "Y2VydA==");
+        HttpClientRegistry.PooledHttpClient connectionClient = httpClientRegistry.acquire(datasourceConfiguration);
+
+        HttpClientRegistry.PooledHttpClient executionClient = httpClientRegistry.acquire(connectionClient, datasourceConfiguration);
+        assertSame(connectionClient, executionClient);
+        httpClientRegistry.release(executionClient);
+
+        // The connection has been destroyed, its client has been disposed of along with its connection pool
+        httpClientRegistry.release(connectionClient);
+        executionClient = httpClientRegistry.acquire(connectionClient, datasourceConfiguration);
+        assertNotSame(connectionClient, executionClient);
+        assertSame(executionClient, httpClientRegistry.acquire(null, datasourceConfiguration));
+    }
+
+    @Test
+    public void testHttp2IsNegotiatedOverTlsOnlyWhenEnabled() throws Exception {
+        SelfSignedCertificate certificate = new SelfSignedCertificate();
+        DisposableServer server = HttpServer.create()
+                .port(0)
+                .protocol(HttpProtocol.HTTP11, HttpProtocol.H2)
+                .secure(sslContextSpec -> sslContextSpec.sslContext(
+                        Http2SslContextSpec.forServer(certificate.certificate(), certificate.privateKey())))
+                .handle((request, response) -> response.sendString(Mono.just("ok")))
+                .bindNow();
+
+        try {
+            DatasourceConfiguration datasourceConfiguration = getDatasourceConfiguration(
+                    "https://localhost:" + server.port(),
+                    Base64.getEncoder().encodeToString(certificate.cert().getEncoded()));
+
+            HttpClientRegistry http2ClientRegistry = new HttpClientRegistry(new MockSharedConfig(true));
+            assertEquals("HTTP/2.0", getNegotiatedProtocol(http2ClientRegistry, datasourceConfiguration));
+            assertEquals("HTTP/1.1", getNegotiatedProtocol(httpClientRegistry, datasourceConfiguration));
+        } finally {
+            server.disposeNow();
+            certificate.delete();
+        }
+    }
+
+    private static String getNegotiatedProtocol(HttpClientRegistry registry, DatasourceConfiguration datasourceConfiguration) {
+        HttpClientRegistry.PooledHttpClient pooledHttpClient = registry.acquire(datasourceConfiguration);
+        try {
+            return pooledHttpClient.getHttpClient()
+                    .get()
+                    .uri(datasourceConfiguration.getUrl())
+                    .responseSingle((response, body) -> body.asString().thenReturn(response.version().text()))
+                    .block(Duration.ofSeconds(10));
+        } finally {
+            registry.release(pooledHttpClient);
+        }
+    }
+}
@@ -13,6 +13,9 @@ import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.external.utils.SqlUtils;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 import lombok.extern.slf4j.Slf4j;
 import net.snowflake.client.jdbc.SnowflakeReauthenticationRequest;
 import org.pf4j.Extension;
@@ -23,7 +26,6 @@ import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -35,7 +37,6 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
 
 import static com.external.utils.ExecutionUtils.getRowsFromQueryResult;
@@ -43,18 +44,26 @@ import static com.external.utils.ValidationUtils.validateWarehouseDatabaseSchema
 
 public class SnowflakePlugin extends BasePlugin {
 
+    private static final String JDBC_DRIVER = "net.snowflake.client.jdbc.SnowflakeDriver";
+
+    private static final int MINIMUM_POOL_SIZE = 1;
+
+    private static final int MAXIMUM_POOL_SIZE = 5;
+
+    private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
+
     public SnowflakePlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
 
     @Slf4j
     @Extension
-    public static class SnowflakePluginExecutor implements PluginExecutor<Connection> {
+    public static class SnowflakePluginExecutor implements PluginExecutor<HikariDataSource> {
 
         private final Scheduler scheduler = Schedulers.elastic();
 
         @Override
-        public Mono<ActionExecutionResult> execute(Connection connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
+        public Mono<ActionExecutionResult> execute(HikariDataSource connectionPool, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
 
             String query = actionConfiguration.getBody();
 
@@ -66,11 +75,14 @@ public class SnowflakePlugin extends BasePlugin {
 
             return Mono
                     .fromCallable(() -> {
+                        final Connection connection = getConnectionFromConnectionPool(connectionPool);
                         try {
                             // Connection staleness is checked as part of this method call.
                             return getRowsFromQueryResult(connection, query);
                         } catch (AppsmithPluginException | StaleConnectionException e) {
                             throw e;
+                        } finally {
+                            closeConnection(connection);
                         }
                     })
                     .map(rowsList -> {
@@ -86,47 +98,23 @@ public class SnowflakePlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             try {
-                Class.forName("net.snowflake.client.jdbc.SnowflakeDriver");
+                Class.forName(JDBC_DRIVER);
             } catch (ClassNotFoundException ex) {
                 System.err.println("Driver not found");
                 return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, ex.getMessage()));
             }
-            DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
-            Properties properties = new Properties();
-            properties.setProperty("user", authentication.getUsername());
-            properties.setProperty("password", authentication.getPassword());
-            properties.setProperty("warehouse", String.valueOf(datasourceConfiguration.getProperties().get(0).getValue()));
-            properties.setProperty("db", String.valueOf(datasourceConfiguration.getProperties().get(1).getValue()));
-            properties.setProperty("schema", String.valueOf(datasourceConfiguration.getProperties().get(2).getValue()));
-            properties.setProperty("role", String.valueOf(datasourceConfiguration.getProperties().get(3).getValue()));
 
             return Mono
-                    .fromCallable(() -> {
-                        Connection conn;
-                        try {
-                            conn = DriverManager.getConnection("jdbc:snowflake://" + datasourceConfiguration.getUrl() + ".snowflakecomputing.com", properties);
-                        } catch (SQLException e) {
-                            e.printStackTrace();
-                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR, e.getMessage());
-                        }
-                        if (conn == null) {
-                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Unable to create connection to Snowflake URL");
-                        }
-                        return conn;
-                    })
+                    .fromCallable(() -> createConnectionPool(datasourceConfiguration))
                     .subscribeOn(scheduler);
         }
 
         @Override
-        public void datasourceDestroy(Connection connection) {
-            if (connection != null) {
-                try {
-                    connection.close();
-                } catch (SQLException throwable) {
-                    throwable.printStackTrace();
-                }
+        public void datasourceDestroy(HikariDataSource connectionPool) {
+            if (connectionPool != null) {
+                connectionPool.close();
             }
         }
 
@@ -181,9 +169,9 @@ public class SnowflakePlugin extends BasePlugin {
         @Override
         public Mono<DatasourceTestResult> testDatasource(DatasourceConfiguration datasourceConfiguration) {
             return datasourceCreate(datasourceConfiguration)
-                    .flatMap(connection -> {
-                        if (connection != null) {
-                            try {
+                    .flatMap(connectionPool -> {
+                        if (connectionPool != null) {
+                            try (Connection connection = getConnectionFromConnectionPool(connectionPool)) {
                                 Set<String> invalids = validateWarehouseDatabaseSchema(connection);
                                 if (!invalids.isEmpty()) {
                                     return Mono.error(
@@ -193,10 +181,11 @@ public class SnowflakePlugin extends BasePlugin {
                                             )
                                     );
                                 }
-                                connection.close();
                             } catch (SQLException throwable) {
                                 throwable.printStackTrace();
                                 return Mono.error(throwable);
+                            } finally {
+                                connectionPool.close();
                             }
                         }
 
@@ -206,13 +195,14 @@ public class SnowflakePlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+        public Mono<DatasourceStructure> getStructure(HikariDataSource connectionPool, DatasourceConfiguration datasourceConfiguration) {
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
             final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
 
             return Mono
                     .fromSupplier(() -> {
+                        final Connection connection = getConnectionFromConnectionPool(connectionPool);
                         try {
                             // Connection staleness is checked as part of this method call.
                             Set<String> invalids = validateWarehouseDatabaseSchema(connection);
@@ -250,10 +240,81 @@ public class SnowflakePlugin extends BasePlugin {
                         } catch (SQLException throwable) {
                             throwable.printStackTrace();
                             throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, throwable.getMessage());
+                        } finally {
+                            closeConnection(connection);
                         }
                         return structure;
                     })
                     .subscribeOn(scheduler);
         }
+
+        /**
+         * Returns the connection to the pool.
+         */
+        private void closeConnection(Connection connection) {
+            try {
+                connection.close();
+            } catch (SQLException throwable) {
+                throwable.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * This function is blocking in nature which connects to the database and creates a connection pool
+     *
+     * @param datasourceConfiguration
+     * @return connection pool
+     */
+    private static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration) throws AppsmithPluginException {
+        DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
+
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName(JDBC_DRIVER);
+        config.setMinimumIdle(MINIMUM_POOL_SIZE);
+        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+        // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
+        // should get tracked (may be falsely for long running queries) as leaked connection
+        config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+
+        config.setJdbcUrl("jdbc:snowflake://" + datasourceConfiguration.getUrl() + ".snowflakecomputing.com");
+        config.setUsername(authentication.getUsername());
+        config.setPassword(authentication.getPassword());
+        config.addDataSourceProperty("warehouse", String.valueOf(datasourceConfiguration.getProperties().get(0).getValue()));
+        config.addDataSourceProperty("db", String.valueOf(datasourceConfiguration.getProperties().get(1).getValue()));
+        config.addDataSourceProperty("schema", String.valueOf(datasourceConfiguration.getProperties().get(2).getValue()));
+        config.addDataSourceProperty("role", String.valueOf(datasourceConfiguration.getProperties().get(3).getValue()));
+
+        try {
+            return new HikariDataSource(config);
+        } catch (PoolInitializationException e) {
+            e.printStackTrace();
+            // Report the error of the driver instead of Hikari's wrapper around it
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                    e.getCause() != null ? e.getCause().getMessage() : e.getMessage()
+            );
+        }
+    }
+
+    /**
+     * First checks if the connection pool is still valid. If yes, we fetch a connection from the pool and return
+     * In case a connection is not available in the pool, the pool is considered stale as well
+     *
+     * @param connectionPool
+     * @return SQL Connection
+     */
+    private static Connection getConnectionFromConnectionPool(HikariDataSource connectionPool) throws StaleConnectionException {
+        if (connectionPool == null || connectionPool.isClosed() || !connectionPool.isRunning()) {
+            System.out.println(Thread.currentThread().getName() +
+                    ": Encountered stale connection pool in Snowflake plugin. Reporting back.");
+            throw new StaleConnectionException();
+        }
+
+        try {
+            return connectionPool.getConnection();
+        } catch (SQLException e) {
+            throw new StaleConnectionException();
+        }
     }
 }
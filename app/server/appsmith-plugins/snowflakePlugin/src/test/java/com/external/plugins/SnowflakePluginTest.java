@@ -10,6 +10,7 @@ import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Property;
 import com.external.utils.ExecutionUtils;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.extern.slf4j.Slf4j;
 import net.snowflake.client.jdbc.SnowflakeReauthenticationRequest;
 import org.junit.Test;
@@ -49,6 +50,14 @@ public class SnowflakePluginTest {
 
     SnowflakePlugin.SnowflakePluginExecutor pluginExecutor = new SnowflakePlugin.SnowflakePluginExecutor();
 
+    private HikariDataSource mockConnectionPool(Connection connection) throws SQLException {
+        HikariDataSource mockConnectionPool = mock(HikariDataSource.class);
+        when(mockConnectionPool.isClosed()).thenReturn(false);
+        when(mockConnectionPool.isRunning()).thenReturn(true);
+        when(mockConnectionPool.getConnection()).thenReturn(connection);
+        return mockConnectionPool;
+    }
+
     @Test
     public void testValidateDatasource_withInvalidCredentials_returnsInvalids() {
         DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
@@ -84,7 +93,21 @@ public class SnowflakePluginTest {
         final ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody(testQuery);
         final Mono<ActionExecutionResult> actionExecutionResultMono =
-                pluginExecutor.execute(connection, new DatasourceConfiguration(), actionConfiguration);
+                pluginExecutor.execute(mockConnectionPool(connection), new DatasourceConfiguration(), actionConfiguration);
+
+        StepVerifier.create(actionExecutionResultMono)
+                .expectErrorMatches(e -> e instanceof StaleConnectionException)
+                .verify();
+    }
+
+    @Test
+    public void testExecute_closedConnectionPool_returnsStaleConnectionException() {
+        final HikariDataSource connectionPool = mock(HikariDataSource.class);
+        when(connectionPool.isClosed()).thenReturn(true);
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("testQuery");
+        final Mono<ActionExecutionResult> actionExecutionResultMono =
+                pluginExecutor.execute(connectionPool, new DatasourceConfiguration(), actionConfiguration);
 
         StepVerifier.create(actionExecutionResultMono)
                 .expectErrorMatches(e -> e instanceof StaleConnectionException)
@@ -97,13 +120,14 @@ public class SnowflakePluginTest {
      * coverage.
      */
     @Test
-    public void test_testDatasource_withBadDatabaseName() {
+    public void test_testDatasource_withBadDatabaseName() throws SQLException {
         // Create spyPluginExecutor to mock internal methods.
         SnowflakePlugin.SnowflakePluginExecutor spyPluginExecutor = spy(SnowflakePlugin.SnowflakePluginExecutor.class);
 
-        // Mock datasourceCreate method to return mockConnection.
+        // Mock datasourceCreate method to return a pool of mockConnection.
         Connection mockConnection = mock(Connection.class);
-        doReturn(Mono.just(mockConnection)).when(spyPluginExecutor).datasourceCreate(any());
+        HikariDataSource mockConnectionPool = mockConnectionPool(mockConnection);
+        doReturn(Mono.just(mockConnectionPool)).when(spyPluginExecutor).datasourceCreate(any());
 
         // Mock getRowsFromQueryResult method to return row list.
         List<Map<String, Object>> rowList = new ArrayList<>();
@@ -152,7 +176,8 @@ public class SnowflakePluginTest {
         mockStatic(ExecutionUtils.class);
         when(ExecutionUtils.getRowsFromQueryResult(any(), anyString())).thenAnswer((Answer<List>) invocation -> rowList);
 
-        Mono<DatasourceStructure> structure = spyPluginExecutor.getStructure(mockConnection, new DatasourceConfiguration());
+        Mono<DatasourceStructure> structure = spyPluginExecutor.getStructure(mockConnectionPool(mockConnection),
+                new DatasourceConfiguration());
         StepVerifier.create(structure)
                 .expectErrorSatisfies(error -> {
                     assertTrue(error instanceof AppsmithPluginException);
@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.util.StringUtils;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
@@ -31,6 +32,10 @@ public class CommonConfig {
 
     private static final String ELASTIC_THREAD_POOL_NAME = "appsmith-elastic-pool";
 
+    private static final String DSL_TRAVERSAL_THREAD_POOL_NAME = "dsl-traversal";
+
+    public static final String DSL_TRAVERSAL_SCHEDULER = "dslTraversalScheduler";
+
     @Value("${appsmith.instance.name:}")
     private String instanceName;
 
@@ -65,10 +70,20 @@ public class CommonConfig {
     private List<String> allowedDomains;
 
     @Bean
+    @Primary
     public Scheduler scheduler() {
         return Schedulers.newElastic(ELASTIC_THREAD_POOL_NAME);
     }
 
+    /**
+     * Bounded scheduler the widgets of large DSLs are traversed on, so that the traversal doesn't hold up the request
+     * threads.
+     */
+    @Bean(name = DSL_TRAVERSAL_SCHEDULER, destroyMethod = "dispose")
+    public Scheduler dslTraversalScheduler() {
+        return Schedulers.newParallel(DSL_TRAVERSAL_THREAD_POOL_NAME, Math.min(Runtime.getRuntime().availableProcessors(), 8));
+    }
+
     @Bean
     public Validator validator() {
         return Validation.buildDefaultValidatorFactory().getValidator();
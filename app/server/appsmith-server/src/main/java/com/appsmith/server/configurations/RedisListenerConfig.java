@@ -1,7 +1,10 @@
 package com.appsmith.server.configurations;
 
+import com.appsmith.server.dtos.ActionExecutionPlanInvalidationRedisDTO;
 import com.appsmith.server.dtos.InstallPluginRedisDTO;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.services.PluginService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,17 +24,22 @@ public class RedisListenerConfig {
     private final ObjectMapper objectMapper;
     private final PluginService pluginService;
     private final ChannelTopic topic;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
 
     @Autowired
-    public RedisListenerConfig(ObjectMapper objectMapper, PluginService pluginService, ChannelTopic topic) {
+    public RedisListenerConfig(ObjectMapper objectMapper,
+                               PluginService pluginService,
+                               ChannelTopic topic,
+                               ActionExecutionPlanCache actionExecutionPlanCache) {
         this.objectMapper = objectMapper;
         this.pluginService = pluginService;
         this.topic = topic;
+        this.actionExecutionPlanCache = actionExecutionPlanCache;
     }
 
     /**
      * This is the listener that will receive all the messages from the Redis channel topic configured in topic().
-     * Currently the only topic we are listening to is for install plugin requests.
+     * Currently the topic carries install plugin requests and invalidations of action execution plans.
      *
      * @param factory
      * @return
@@ -48,7 +56,11 @@ public class RedisListenerConfig {
                 .map(p -> p.getMessage())
                 .map(msg -> {
                     try {
-                        InstallPluginRedisDTO installPluginRedisDTO = objectMapper.readValue(msg, InstallPluginRedisDTO.class);
+                        JsonNode messageNode = objectMapper.readTree(msg);
+                        if (ActionExecutionPlanInvalidationRedisDTO.TYPE.equals(messageNode.path("type").asText())) {
+                            return objectMapper.treeToValue(messageNode, ActionExecutionPlanInvalidationRedisDTO.class);
+                        }
+                        InstallPluginRedisDTO installPluginRedisDTO = objectMapper.treeToValue(messageNode, InstallPluginRedisDTO.class);
                         return installPluginRedisDTO;
                     } catch (Exception e) {
                         log.error("", e);
@@ -56,7 +68,13 @@ public class RedisListenerConfig {
                     }
                 })
                 // Actual processing of the message.
-                .map(redisPluginObj -> pluginService.redisInstallPlugin((InstallPluginRedisDTO) redisPluginObj))
+                .map(redisObj -> {
+                    if (redisObj instanceof ActionExecutionPlanInvalidationRedisDTO) {
+                        actionExecutionPlanCache.invalidateLocally((ActionExecutionPlanInvalidationRedisDTO) redisObj);
+                        return redisObj;
+                    }
+                    return pluginService.redisInstallPlugin((InstallPluginRedisDTO) redisObj);
+                })
                 // Handle this error because it prevents the Redis connection from shutting down when the server is shut down
                 // TODO: Verify if this is invoked in normal redis pubsub execution as well
                 .doOnError(throwable -> {
@@ -18,6 +18,36 @@ public class SharedConfigImpl implements SharedConfig {
     @Value("${appsmith.cloud_services.base_url}")
     private String cloudServicesBaseUrl;
 
+    @Value("${appsmith.plugin.rest-api.max-connections:50}")
+    private int restApiMaxConnections;
+
+    @Value("${appsmith.plugin.rest-api.max-idle-time:60}")
+    private int restApiMaxIdleTimeInSeconds;
+
+    @Value("${appsmith.plugin.rest-api.pending-acquire.max-count:1000}")
+    private int restApiPendingAcquireMaxCount;
+
+    @Value("${appsmith.plugin.rest-api.pending-acquire.timeout:45}")
+    private int restApiPendingAcquireTimeoutInSeconds;
+
+    @Value("${appsmith.plugin.rest-api.http2.enabled:false}")
+    private boolean restApiHttp2Enabled;
+
+    @Value("${appsmith.plugin.mysql.pool.initial-size:1}")
+    private int mySqlInitialPoolSize;
+
+    @Value("${appsmith.plugin.mysql.pool.max-size:5}")
+    private int mySqlMaxPoolSize;
+
+    @Value("${appsmith.plugin.mysql.pool.max-idle-time:600}")
+    private int mySqlMaxIdleTimeInSeconds;
+
+    @Value("${appsmith.plugin.mysql.pool.max-acquire-time:10}")
+    private int mySqlMaxAcquireTimeInSeconds;
+
+    @Value("${appsmith.plugin.mongo.cursor.max-rows:10000}")
+    private int mongoMaxCursorRows;
+
     @Override
     public int getCodecSize() {
         return this.CODEC_SIZE * 1024 * 1024;
@@ -32,4 +62,54 @@ public class SharedConfigImpl implements SharedConfig {
     public String getRemoteExecutionUrl() {
         return cloudServicesBaseUrl + "/api/v1/actions/execute";
     }
+
+    @Override
+    public int getRestApiMaxConnections() {
+        return this.restApiMaxConnections;
+    }
+
+    @Override
+    public int getRestApiMaxIdleTimeInSeconds() {
+        return this.restApiMaxIdleTimeInSeconds;
+    }
+
+    @Override
+    public int getRestApiPendingAcquireMaxCount() {
+        return this.restApiPendingAcquireMaxCount;
+    }
+
+    @Override
+    public int getRestApiPendingAcquireTimeoutInSeconds() {
+        return this.restApiPendingAcquireTimeoutInSeconds;
+    }
+
+    @Override
+    public boolean isRestApiHttp2Enabled() {
+        return this.restApiHttp2Enabled;
+    }
+
+    @Override
+    public int getMySqlInitialPoolSize() {
+        return this.mySqlInitialPoolSize;
+    }
+
+    @Override
+    public int getMySqlMaxPoolSize() {
+        return this.mySqlMaxPoolSize;
+    }
+
+    @Override
+    public int getMySqlMaxIdleTimeInSeconds() {
+        return this.mySqlMaxIdleTimeInSeconds;
+    }
+
+    @Override
+    public int getMySqlMaxAcquireTimeInSeconds() {
+        return this.mySqlMaxAcquireTimeInSeconds;
+    }
+
+    @Override
+    public int getMongoMaxCursorRows() {
+        return this.mongoMaxCursorRows;
+    }
 }
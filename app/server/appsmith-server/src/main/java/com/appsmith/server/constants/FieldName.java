@@ -33,6 +33,8 @@ public class FieldName {
     public static String DYNAMIC_BINDING_PATH_LIST = "dynamicBindingPathList";
     public static String KEY = "key";
     public static String CHILDREN = "children";
+    public static String DSL = "dsl";
+    public static String PATCHES = "patches";
     public static String ORIGIN = "origin";
     public static String USER = "user";
     public static String PROVIDER_ID = "providerId";
@@ -77,6 +79,8 @@ public class FieldName {
     public static final String TOKEN = "token";
     public static String WIDGET_TYPE = "type";
     public static String TABLE_WIDGET = "TABLE_WIDGET";
+    public static String LIST_WIDGET = "LIST_WIDGET";
+    public static String TEMPLATE = "template";
     public static String CONTAINER_WIDGET = "CONTAINER_WIDGET";
     public static String CANVAS_WIDGET = "CANVAS_WIDGET";
     public static String FORM_WIDGET = "FORM_WIDGET";
@@ -113,4 +117,5 @@ public class FieldName {
     public static final String THEME = "theme";
     public static final String EDIT_MODE_THEME = "editModeTheme";
     public static final String FLOW_NAME = "flowName";
+    public static final String WAVES = "waves";
 }
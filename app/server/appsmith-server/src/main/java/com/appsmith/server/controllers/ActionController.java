@@ -2,6 +2,7 @@ package com.appsmith.server.controllers;
 
 import com.appsmith.server.constants.Url;
 import com.appsmith.server.controllers.ce.ActionControllerCE;
+import com.appsmith.server.helpers.ActionExecutionResultStreamWriter;
 import com.appsmith.server.services.ActionCollectionService;
 import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.NewActionService;
@@ -17,9 +18,10 @@ public class ActionController extends ActionControllerCE {
 
     public ActionController(ActionCollectionService actionCollectionService,
                             LayoutActionService layoutActionService,
-                            NewActionService newActionService) {
+                            NewActionService newActionService,
+                            ActionExecutionResultStreamWriter actionExecutionResultStreamWriter) {
 
-        super(actionCollectionService, layoutActionService, newActionService);
+        super(actionCollectionService, layoutActionService, newActionService, actionExecutionResultStreamWriter);
 
     }
 
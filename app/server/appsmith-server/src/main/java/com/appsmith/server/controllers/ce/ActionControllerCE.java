@@ -6,9 +6,12 @@ import com.appsmith.server.constants.Url;
 import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.ActionMoveDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.ExecuteActionBatchDTO;
+import com.appsmith.server.dtos.ExecuteActionBatchResultDTO;
 import com.appsmith.server.dtos.LayoutDTO;
 import com.appsmith.server.dtos.RefactorActionNameDTO;
 import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.helpers.ActionExecutionResultStreamWriter;
 import com.appsmith.server.services.ActionCollectionService;
 import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.NewActionService;
@@ -42,14 +45,17 @@ public class ActionControllerCE {
     private final ActionCollectionService actionCollectionService;
     private final LayoutActionService layoutActionService;
     private final NewActionService newActionService;
+    private final ActionExecutionResultStreamWriter actionExecutionResultStreamWriter;
 
     @Autowired
     public ActionControllerCE(ActionCollectionService actionCollectionService,
                               LayoutActionService layoutActionService,
-                              NewActionService newActionService) {
+                              NewActionService newActionService,
+                              ActionExecutionResultStreamWriter actionExecutionResultStreamWriter) {
         this.actionCollectionService = actionCollectionService;
         this.layoutActionService = layoutActionService;
         this.newActionService = newActionService;
+        this.actionExecutionResultStreamWriter = actionExecutionResultStreamWriter;
     }
 
     @PostMapping
@@ -79,6 +85,29 @@ public class ActionControllerCE {
                 .map(updatedResource -> new ResponseDTO<>(HttpStatus.OK.value(), updatedResource, null));
     }
 
+    /**
+     * Opt-in alternative to `executeAction`, picked when the request has the query parameter `stream=true`. The
+     * response has the same shape, but is written as chunked JSON : the result envelope goes out as soon as the query
+     * has been executed and the rows of the body follow as the plugin reads them off the data source.
+     */
+    @PostMapping(value = "/execute", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, params = "stream=true")
+    public Mono<Void> executeActionAndStream(@RequestBody Flux<Part> partFlux,
+                                             @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName,
+                                             ServerWebExchange exchange) {
+        return actionExecutionResultStreamWriter.write(exchange.getResponse(),
+                newActionService.executeActionAndStream(partFlux, branchName));
+    }
+
+    /**
+     * Executes several actions in a single request, e.g. all the actions to run on page load. The results are written
+     * as newline delimited JSON, one line per action as soon as it has been executed.
+     */
+    @PostMapping(value = "/execute/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ExecuteActionBatchResultDTO> executeActionBatch(@RequestBody ExecuteActionBatchDTO executeActionBatchDTO,
+                                                                @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
+        return newActionService.executeActionBatch(executeActionBatchDTO, branchName);
+    }
+
     @PutMapping("/move")
     public Mono<ResponseDTO<ActionDTO>> moveAction(@RequestBody @Valid ActionMoveDTO actionMoveDTO,
                                                    @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
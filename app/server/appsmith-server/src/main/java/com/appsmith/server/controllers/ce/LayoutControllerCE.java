@@ -4,6 +4,7 @@ import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.constants.Url;
 import com.appsmith.server.domains.Layout;
 import com.appsmith.server.dtos.LayoutDTO;
+import com.appsmith.server.dtos.LayoutPatchDTO;
 import com.appsmith.server.dtos.RefactorNameDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.services.LayoutActionService;
@@ -12,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -63,6 +65,16 @@ public class LayoutControllerCE {
                 .map(created -> new ResponseDTO<>(HttpStatus.OK.value(), created, null));
     }
 
+    @PatchMapping("/{layoutId}/pages/{pageId}")
+    public Mono<ResponseDTO<LayoutDTO>> patchLayout(@PathVariable String pageId,
+                                                    @PathVariable String layoutId,
+                                                    @RequestBody LayoutPatchDTO layoutPatch,
+                                                    @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
+        log.debug("patch layout received for page {}", pageId);
+        return layoutActionService.patchLayout(pageId, layoutId, layoutPatch, branchName)
+                .map(patched -> new ResponseDTO<>(HttpStatus.OK.value(), patched, null));
+    }
+
     @GetMapping("/{layoutId}/pages/{pageId}/view")
     public Mono<ResponseDTO<Layout>> getLayoutView(@PathVariable String pageId,
                                                    @PathVariable String layoutId,
@@ -82,6 +82,13 @@ public class Application extends BaseDomain {
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     Instant lastDeployedAt; // when this application was last deployed
 
+    /**
+     * When the last successful publish of this application, manual or not, started. The pages, actions and collections
+     * which haven't been updated since then are already published.
+     */
+    @JsonIgnore
+    Instant lastPublishedAt;
+
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     Integer evaluationVersion;
 
@@ -181,6 +188,7 @@ public class Application extends BaseDomain {
         this.setModifiedBy(null);
         this.setCreatedBy(null);
         this.setLastDeployedAt(null);
+        this.setLastPublishedAt(null);
         this.setLastEditedAt(null);
         this.setGitApplicationMetadata(null);
         this.setEditModeThemeId(null);
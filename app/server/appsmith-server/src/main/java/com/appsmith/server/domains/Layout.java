@@ -12,6 +12,7 @@ import lombok.ToString;
 import net.minidev.json.JSONObject;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -30,6 +31,9 @@ public class Layout extends BaseDomain {
 
     JSONObject dsl;
 
+    // Incremented every time the DSL is updated, so that changes made to an older version of the DSL can be rejected
+    Long dslVersion;
+
     @JsonIgnore
     JSONObject publishedDsl;
 
@@ -63,6 +67,21 @@ public class Layout extends BaseDomain {
     @JsonIgnore
     Boolean validOnPageLoadActions = TRUE;
 
+    /**
+     * Identifies the widget names, the dynamic bindings of the widgets and the versions of the actions in the page which
+     * the on page load actions were last computed from. The computation only needs to be done again once it changes.
+     */
+    @JsonIgnore
+    String onPageLoadActionsSignature;
+
+    /**
+     * Ids of the widgets referencing each entity name, in their bindings, triggers or own name, by the entity name. Only
+     * the first word of the names is indexed, e.g. `JSObject1` for `JSObject1.myFun`. Renaming an entity then only needs
+     * to go through these widgets instead of the whole DSL.
+     */
+    @JsonIgnore
+    Map<String, Set<String>> widgetIdsReferencingNames;
+
     /**
      * If view mode, the dsl returned should be the publishedDSL, else if the edit mode is on (view mode = false)
      * the dsl returned should be JSONObject dsl
@@ -87,6 +106,9 @@ public class Layout extends BaseDomain {
         this.setAllOnPageLoadActionEdges(null);
         this.setActionsUsedInDynamicBindings(null);
         this.setWidgetNames(null);
+        this.setOnPageLoadActionsSignature(null);
+        this.setDslVersion(null);
+        this.setWidgetIdsReferencingNames(null);
         List<Set<DslActionDTO>> layoutOnLoadActions = this.getLayoutOnLoadActions();
         if (!CollectionUtils.isNullOrEmpty(layoutOnLoadActions)) {
             // Sort actions based on id to commit to git in ordered manner
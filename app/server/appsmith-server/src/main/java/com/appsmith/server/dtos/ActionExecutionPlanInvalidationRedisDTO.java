@@ -0,0 +1,27 @@
+package com.appsmith.server.dtos;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Set;
+
+/**
+ * Broadcast over the Redis topic so that every server drops the execution plans which may have become stale.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ActionExecutionPlanInvalidationRedisDTO {
+
+    // Tells these messages apart from the other ones sent over the same topic
+    public static final String TYPE = "ACTION_EXECUTION_PLAN_INVALIDATION";
+
+    String type = TYPE;
+
+    Set<String> applicationIds;
+
+    Set<String> datasourceIds;
+
+    boolean invalidateAll;
+}
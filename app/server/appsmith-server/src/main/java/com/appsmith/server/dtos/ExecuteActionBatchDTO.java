@@ -0,0 +1,25 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Actions to be executed in a single request, e.g. the actions to run on page load. The actions of a wave are
+ * executed concurrently, the waves one after the other, in the same way as `layoutOnLoadActions` are scheduled.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class ExecuteActionBatchDTO {
+
+    List<List<ExecuteActionDTO>> waves;
+
+    // Maximum number of actions of a wave executed at the same time
+    Integer parallelism;
+}
@@ -0,0 +1,21 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecuteActionBatchResultDTO {
+
+    // Id of the action as it was sent in the batch, i.e. the default action id
+    String actionId;
+
+    ActionExecutionResult result;
+}
@@ -19,6 +19,8 @@ public class LayoutDTO {
 
     JSONObject dsl;
 
+    Long dslVersion;
+
     List<Set<DslActionDTO>> layoutOnLoadActions;
 
     // All the actions which have been updated as part of updateLayout function call
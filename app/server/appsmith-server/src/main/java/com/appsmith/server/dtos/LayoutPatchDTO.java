@@ -0,0 +1,19 @@
+package com.appsmith.server.dtos;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Changes to the DSL of a layout, made against the given version of the DSL. The changes are rejected if the DSL has
+ * been updated since.
+ */
+@Getter
+@Setter
+public class LayoutPatchDTO {
+
+    Long dslVersion;
+
+    List<WidgetPatchDTO> patches;
+}
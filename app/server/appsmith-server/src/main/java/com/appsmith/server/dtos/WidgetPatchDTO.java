@@ -0,0 +1,28 @@
+package com.appsmith.server.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A change to a property of a widget in the DSL of a layout, in the manner of a JSON Patch operation. The property is
+ * identified by its path in the widget, e.g. `leftColumn`, `primaryColumns.name.label` or `children.0`.
+ * <p>
+ * Adding a property sets it, unless its parent is a list, in which case the value gets inserted at the given index.
+ * Replacing a property sets it, and removing it removes it from its parent.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WidgetPatchDTO {
+
+    WidgetPatchOperation op;
+
+    String widgetId;
+
+    String path;
+
+    Object value;
+}
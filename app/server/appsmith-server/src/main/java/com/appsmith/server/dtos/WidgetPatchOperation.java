@@ -0,0 +1,12 @@
+package com.appsmith.server.dtos;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public enum WidgetPatchOperation {
+    @JsonProperty("add")
+    ADD,
+    @JsonProperty("replace")
+    REPLACE,
+    @JsonProperty("remove")
+    REMOVE
+}
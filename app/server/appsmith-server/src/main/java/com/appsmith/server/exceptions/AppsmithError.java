@@ -143,6 +143,7 @@ public enum AppsmithError {
     REPOSITORY_NOT_FOUND(404, 4051, "Unable to find the repository for application {0}, please refresh the page to auto-sync with the remote. This might take couple of minutes", AppsmithErrorAction.DEFAULT, "Repository Not Found Exception", ErrorType.REPOSITORY_NOT_FOUND, null),
     UNKNOWN_PLUGIN_REFERENCE(400, 4052, " Unable to find the {0} plugin. Please reach out to Appsmith customer support to resolve this.", AppsmithErrorAction.DEFAULT, null, ErrorType.CONFIGURATION_ERROR, null),
     ENV_FILE_NOT_FOUND(500, 5019, "Admin Settings is unavailable. Unable to read and write to Environment file.", AppsmithErrorAction.DEFAULT, null, ErrorType.CONFIGURATION_ERROR, null),
+    STALE_LAYOUT_VERSION(409, 4053, "The layout {0} has been updated since version {1} of its DSL. Please refresh the page to get the latest changes.", AppsmithErrorAction.DEFAULT, null, ErrorType.BAD_REQUEST, null),
     ;
 
     private final Integer httpErrorCode;
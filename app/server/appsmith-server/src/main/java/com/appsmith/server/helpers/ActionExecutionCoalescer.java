@@ -0,0 +1,84 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Lets identical executions of an action that are in flight at the same time share a single execution, e.g. when a
+ * lot of viewers open the same published page at once and all of them run its on load actions. The first execution
+ * is cached the same way the datasource contexts are, and every execution with the same key that starts before it
+ * completes subscribes to it instead of running the action again.
+ * <p>
+ * The number of executions that have been shared, and of the ones that have actually run, are published as the
+ * `appsmith.action.execution.coalescing` counter. Its hit rate is the ratio of shared executions to all executions.
+ */
+@Slf4j
+@Component
+public class ActionExecutionCoalescer {
+
+    public static final String COALESCING_METRIC = "appsmith.action.execution.coalescing";
+
+    private final Map<String, Mono<ActionExecutionResult>> inFlightExecutions = new ConcurrentHashMap<>();
+
+    private final Counter sharedExecutionsCounter;
+
+    private final Counter executedExecutionsCounter;
+
+    public ActionExecutionCoalescer(MeterRegistry meterRegistry) {
+        this.sharedExecutionsCounter = Counter.builder(COALESCING_METRIC)
+                .description("Action executions that joined an identical execution in flight, or ran on their own")
+                .tag("outcome", "shared")
+                .register(meterRegistry);
+        this.executedExecutionsCounter = Counter.builder(COALESCING_METRIC)
+                .description("Action executions that joined an identical execution in flight, or ran on their own")
+                .tag("outcome", "executed")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize(COALESCING_METRIC + ".in-flight", Tags.empty(), inFlightExecutions);
+    }
+
+    public Mono<ActionExecutionResult> coalesce(String key, Mono<ActionExecutionResult> execution) {
+        return coalesce(key, execution, Function.identity());
+    }
+
+    /**
+     * @param key               : identifies the executions that give the same result
+     * @param execution         : runs the action, only subscribed to if no identical execution is in flight
+     * @param onSharedExecution : applied to the result of an execution that joins the one in flight instead of running,
+     *                          e.g. to do for it what the execution in flight does for itself
+     * @return a copy of the result of the execution in flight, which the caller is free to modify
+     */
+    public Mono<ActionExecutionResult> coalesce(String key,
+                                                Mono<ActionExecutionResult> execution,
+                                                Function<Mono<ActionExecutionResult>, Mono<ActionExecutionResult>> onSharedExecution) {
+        return Mono.defer(() -> {
+            final AtomicBoolean isShared = new AtomicBoolean(true);
+            final Mono<ActionExecutionResult> inFlightExecution = inFlightExecutions.computeIfAbsent(key, k -> {
+                isShared.set(false);
+                return execution
+                        // Executions starting from now on run the action again
+                        .doFinally(signalType -> inFlightExecutions.remove(k))
+                        .cache();
+            });
+
+            final Mono<ActionExecutionResult> resultMono = inFlightExecution.map(ActionResultCache::copy);
+            if (isShared.get()) {
+                log.debug("Sharing the execution in flight for key {}", key);
+                sharedExecutionsCounter.increment();
+                return onSharedExecution.apply(resultMono);
+            }
+
+            executedExecutionsCounter.increment();
+            return resultMono;
+        });
+    }
+}
@@ -0,0 +1,228 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.OAuth2;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.ActionDTO;
+import com.appsmith.server.dtos.ActionExecutionPlanInvalidationRedisDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.services.SessionUserService;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.appsmith.external.helpers.AppsmithBeanUtils.copyNewFieldValuesIntoOldObject;
+
+/**
+ * Keeps the resolved execution plans of published actions, i.e. everything that has to be fetched from the database
+ * before an action can be executed in view mode. Executing the same published action again does not need any of
+ * these lookups as long as its plan is in the cache.
+ * <p>
+ * A plan is cached for a user and the groups the user belongs to, since the lookups are subject to their permissions.
+ * Plans expire after a while, and get invalidated on all the servers through the Redis topic whenever the application
+ * gets published, or the datasource or permissions used by the plans change.
+ */
+@Slf4j
+@Component
+public class ActionExecutionPlanCache {
+
+    private final SessionUserService sessionUserService;
+    private final ReactiveRedisTemplate<String, String> reactiveTemplate;
+    private final ChannelTopic topic;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper datasourceConfigurationMapper;
+    private final Cache<String, ActionExecutionPlan> executionPlans;
+
+    public ActionExecutionPlanCache(SessionUserService sessionUserService,
+                                    ReactiveRedisTemplate<String, String> reactiveTemplate,
+                                    ChannelTopic topic,
+                                    ObjectMapper objectMapper,
+                                    @Value("${appsmith.action.execution-plan-cache.max-size:1000}") long maxSize,
+                                    @Value("${appsmith.action.execution-plan-cache.ttl:300}") long ttlInSeconds) {
+        this.sessionUserService = sessionUserService;
+        this.reactiveTemplate = reactiveTemplate;
+        this.topic = topic;
+        this.objectMapper = objectMapper;
+        // Secrets like passwords are write only in JSON, yet they have to be part of the copies of the configurations
+        this.datasourceConfigurationMapper = objectMapper.copy()
+                .setAnnotationIntrospector(new JacksonAnnotationIntrospector() {
+                    @Override
+                    public JsonProperty.Access findPropertyAccess(Annotated annotated) {
+                        return JsonProperty.Access.AUTO;
+                    }
+                });
+        this.executionPlans = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlInSeconds))
+                .build();
+    }
+
+    /**
+     * @param actionId : id of the action to execute
+     * @return the key under which the plan of this action is cached for the current user
+     */
+    public Mono<String> getKey(String actionId) {
+        return sessionUserService.getCurrentUser()
+                .map(user -> actionId + ":" + getPermissionSetKey(user));
+    }
+
+    public Mono<ActionExecutionPlan> get(String key) {
+        return Mono.justOrEmpty(executionPlans.getIfPresent(key));
+    }
+
+    public void put(String key, ActionExecutionPlan executionPlan) {
+        // The access token of an OAuth2 datasource gets refreshed on the datasource itself during the execution
+        if (executionPlan.getDatasource().getDatasourceConfiguration() != null
+                && executionPlan.getDatasource().getDatasourceConfiguration().getAuthentication() instanceof OAuth2) {
+            return;
+        }
+
+        executionPlans.put(key, executionPlan);
+    }
+
+    public Mono<Void> invalidateApplication(String applicationId) {
+        ActionExecutionPlanInvalidationRedisDTO invalidationDTO = new ActionExecutionPlanInvalidationRedisDTO();
+        invalidationDTO.setApplicationIds(Set.of(applicationId));
+        return invalidate(invalidationDTO);
+    }
+
+    public Mono<Void> invalidateDatasources(Set<String> datasourceIds) {
+        ActionExecutionPlanInvalidationRedisDTO invalidationDTO = new ActionExecutionPlanInvalidationRedisDTO();
+        invalidationDTO.setDatasourceIds(datasourceIds);
+        return invalidate(invalidationDTO);
+    }
+
+    public Mono<Void> invalidateAll() {
+        ActionExecutionPlanInvalidationRedisDTO invalidationDTO = new ActionExecutionPlanInvalidationRedisDTO();
+        invalidationDTO.setInvalidateAll(true);
+        return invalidate(invalidationDTO);
+    }
+
+    /**
+     * Drops the plans matching the invalidation on this server only. Invoked for the invalidations received through
+     * the Redis topic, including the ones sent by this server.
+     */
+    public void invalidateLocally(ActionExecutionPlanInvalidationRedisDTO invalidationDTO) {
+        if (invalidationDTO.isInvalidateAll()) {
+            executionPlans.invalidateAll();
+            return;
+        }
+
+        final Set<String> applicationIds = invalidationDTO.getApplicationIds() == null
+                ? Set.of() : invalidationDTO.getApplicationIds();
+        final Set<String> datasourceIds = invalidationDTO.getDatasourceIds() == null
+                ? Set.of() : invalidationDTO.getDatasourceIds();
+
+        // Embedded datasources have no id
+        executionPlans.asMap().values().removeIf(executionPlan ->
+                applicationIds.contains(executionPlan.getNewAction().getApplicationId())
+                        || (executionPlan.getDatasource().getId() != null
+                        && datasourceIds.contains(executionPlan.getDatasource().getId())));
+    }
+
+    /**
+     * Plugins are free to modify the configurations they get to execute. The action and datasource of a cached plan
+     * are shared by all its executions, hence each execution has to work on its own copies.
+     */
+    public ActionDTO copyForExecution(ActionDTO action) {
+        ActionDTO actionCopy = new ActionDTO();
+        copyNewFieldValuesIntoOldObject(action, actionCopy);
+
+        if (action.getActionConfiguration() != null) {
+            try {
+                actionCopy.setActionConfiguration(objectMapper.readValue(
+                        objectMapper.writeValueAsBytes(action.getActionConfiguration()),
+                        ActionConfiguration.class
+                ));
+            } catch (IOException e) {
+                throw new AppsmithException(AppsmithError.INTERNAL_SERVER_ERROR, e.getMessage());
+            }
+        }
+
+        return actionCopy;
+    }
+
+    public Datasource copyForExecution(Datasource datasource) {
+        Datasource datasourceCopy = new Datasource();
+        copyNewFieldValuesIntoOldObject(datasource, datasourceCopy);
+
+        final DatasourceConfiguration datasourceConfiguration = datasource.getDatasourceConfiguration();
+        if (datasourceConfiguration != null) {
+            // Rendering the bindings of the configuration changes its nested objects, e.g. headers and authentication
+            try {
+                DatasourceConfiguration datasourceConfigurationCopy = datasourceConfigurationMapper.readValue(
+                        datasourceConfigurationMapper.writeValueAsBytes(datasourceConfiguration),
+                        DatasourceConfiguration.class
+                );
+                if (datasourceConfiguration.getAuthentication() != null) {
+                    datasourceConfigurationCopy.getAuthentication().setAuthenticationResponse(
+                            datasourceConfiguration.getAuthentication().getAuthenticationResponse());
+                }
+                datasourceCopy.setDatasourceConfiguration(datasourceConfigurationCopy);
+            } catch (IOException e) {
+                throw new AppsmithException(AppsmithError.INTERNAL_SERVER_ERROR, e.getMessage());
+            }
+        }
+
+        return datasourceCopy;
+    }
+
+    private Mono<Void> invalidate(ActionExecutionPlanInvalidationRedisDTO invalidationDTO) {
+        String jsonString;
+        try {
+            jsonString = objectMapper.writeValueAsString(invalidationDTO);
+        } catch (JsonProcessingException e) {
+            log.error("", e);
+            return Mono.fromRunnable(() -> invalidateLocally(invalidationDTO));
+        }
+
+        return Mono.fromRunnable(() -> invalidateLocally(invalidationDTO))
+                .then(reactiveTemplate.convertAndSend(topic.getTopic(), jsonString))
+                // The other servers still drop their stale plans once they expire
+                .onErrorResume(error -> {
+                    log.error("Failed to broadcast the invalidation of action execution plans", error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private static String getPermissionSetKey(User user) {
+        final Set<String> groupIds = user.getGroupIds() == null ? Set.of() : new TreeSet<>(user.getGroupIds());
+        return user.getUsername() + ":" + String.join(",", groupIds);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ActionExecutionPlan {
+        NewAction newAction;
+        ActionDTO action;
+        Datasource datasource;
+        Plugin plugin;
+        PluginExecutor pluginExecutor;
+        Map editorConfigLabelMap;
+    }
+}
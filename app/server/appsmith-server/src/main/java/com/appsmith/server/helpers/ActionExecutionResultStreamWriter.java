@@ -0,0 +1,159 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.dtos.ResponseMetaDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes a streamed action execution result, i.e. the result envelope followed by the rows of the body, to the
+ * response as chunked JSON. The JSON has the same shape as a regular `ResponseDTO<ActionExecutionResult>` response :
+ * <pre>
+ *     {"responseMeta":{...},"data":{"isExecutionSuccess":true,...,"body":[row1,row2,...]}}
+ * </pre>
+ * Everything up to the opening bracket of the body is written as soon as the envelope is available, the rows are then
+ * flushed to the client ROWS_PER_CHUNK at a time.
+ * <p>
+ * Once the first bytes have been written, the status of the response can not be changed anymore. Hence, an error while
+ * the rows are being read closes the body and then writes the error fields of the result (`isExecutionSuccess`,
+ * `statusCode`, `title`, `errorType` and `readableError`) in a trailing `streamError` field, after the rows read so far :
+ * <pre>
+ *     {"responseMeta":{...},"data":{"isExecutionSuccess":true,...,"body":[row1,row2],"streamError":{...}}}
+ * </pre>
+ * Clients are expected to check for the `streamError` field once they have read the body.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class ActionExecutionResultStreamWriter {
+
+    private static final int ROWS_PER_CHUNK = 100;
+
+    private static final String BODY = "body";
+
+    private static final String STREAM_ERROR = "streamError";
+
+    private static final byte[] RESULT_SUFFIX = "]}}".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+
+    public Mono<Void> write(ServerHttpResponse response, Flux<Object> resultFlux) {
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        final DataBufferFactory bufferFactory = response.bufferFactory();
+
+        Flux<byte[]> chunks = resultFlux
+                .<byte[]>switchOnFirst((firstSignal, flux) -> {
+                    if (!firstSignal.hasValue()) {
+                        // Nothing has been written yet, errors go through the usual exception handling.
+                        return Flux.error(firstSignal.isOnError()
+                                ? firstSignal.getThrowable()
+                                : new AppsmithException(AppsmithError.INTERNAL_SERVER_ERROR));
+                    }
+
+                    final ActionExecutionResult result = (ActionExecutionResult) firstSignal.get();
+                    if (result.getBody() != null) {
+                        // There are no rows to stream, the envelope is the complete result.
+                        return Mono
+                                .fromCallable(() -> objectMapper.writeValueAsBytes(
+                                        new ResponseDTO<>(HttpStatus.OK.value(), result, null)))
+                                .flux();
+                    }
+
+                    final AtomicBoolean isFirstRow = new AtomicBoolean(true);
+                    Flux<byte[]> rowChunks = flux
+                            .skip(1)
+                            .buffer(ROWS_PER_CHUNK)
+                            .<byte[]>handle((rows, sink) -> {
+                                try {
+                                    sink.next(getRowsChunk(rows, isFirstRow));
+                                } catch (IOException e) {
+                                    sink.error(e);
+                                }
+                            });
+
+                    Flux<byte[]> rowsAndSuffix = Flux
+                            .concat(rowChunks, Mono.just(RESULT_SUFFIX))
+                            .onErrorResume(error -> {
+                                log.error("Error while streaming the result of action execution", error);
+                                return Mono.fromCallable(() -> getErrorSuffix(error));
+                            });
+
+                    return Flux.concat(Mono.fromCallable(() -> getResultPrefix(result)), rowsAndSuffix);
+                });
+
+        return response.writeAndFlushWith(chunks.map(bytes -> Mono.just(bufferFactory.wrap(bytes))));
+    }
+
+    /**
+     * Serializes the response with the envelope as its data, leaving the data object open with the opening bracket of
+     * the body as its last field.
+     */
+    private byte[] getResultPrefix(ActionExecutionResult result) throws IOException {
+        ObjectNode data = objectMapper.valueToTree(result);
+        data.remove(BODY);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write("{\"responseMeta\":".getBytes(StandardCharsets.UTF_8));
+        outputStream.write(objectMapper.writeValueAsBytes(new ResponseMetaDTO(HttpStatus.OK.value(), null)));
+        outputStream.write(",\"data\":".getBytes(StandardCharsets.UTF_8));
+
+        byte[] dataBytes = objectMapper.writeValueAsBytes(data);
+        // Drop the closing brace of the data object
+        outputStream.write(dataBytes, 0, dataBytes.length - 1);
+        if (data.size() > 0) {
+            outputStream.write(',');
+        }
+        outputStream.write(("\"" + BODY + "\":[").getBytes(StandardCharsets.UTF_8));
+
+        return outputStream.toByteArray();
+    }
+
+    private byte[] getRowsChunk(List<Object> rows, AtomicBoolean isFirstRow) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for (Object row : rows) {
+            if (!isFirstRow.compareAndSet(true, false)) {
+                outputStream.write(',');
+            }
+            outputStream.write(objectMapper.writeValueAsBytes(row));
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    private byte[] getErrorSuffix(Throwable error) throws IOException {
+        ActionExecutionResult errorResult = new ActionExecutionResult();
+        errorResult.setIsExecutionSuccess(false);
+        errorResult.setErrorInfo(error);
+        if (errorResult.getReadableError() == null) {
+            errorResult.setReadableError(String.valueOf(errorResult.getBody()));
+        }
+
+        ObjectNode errorFields = objectMapper.valueToTree(errorResult);
+        errorFields.remove(BODY);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(("],\"" + STREAM_ERROR + "\":").getBytes(StandardCharsets.UTF_8));
+        outputStream.write(objectMapper.writeValueAsBytes(errorFields));
+        outputStream.write("}}".getBytes(StandardCharsets.UTF_8));
+
+        return outputStream.toByteArray();
+    }
+}
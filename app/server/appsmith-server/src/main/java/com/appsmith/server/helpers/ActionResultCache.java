@@ -0,0 +1,388 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.constants.DisplayDataType;
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.helpers.PluginUtils;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.Param;
+import com.appsmith.external.models.ParsedDataType;
+import com.appsmith.external.models.Property;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.dtos.ActionDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static com.appsmith.external.helpers.AppsmithBeanUtils.copyNewFieldValuesIntoOldObject;
+import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
+
+/**
+ * Keeps the results of published read only queries for which a result cache TTL has been set on the action, so that
+ * executing such a query again with the same parameters is answered without hitting the datasource. Only queries that
+ * cannot modify any data are cached: SELECT queries on Postgres and MySQL, GET requests of REST APIs and Mongo finds.
+ * <p>
+ * Results are cached against the action, the values of its parameters and the datasource. The versions of the action
+ * and the datasource are part of the key, hence publishing the action or updating the datasource makes the cached
+ * results unreachable. Every server keeps the results in an LRU in memory, bounded by the estimated size of the
+ * results, and results above a maximum size are not cached at all. Optionally, they are also shared by all the servers
+ * through Redis.
+ */
+@Slf4j
+@Component
+public class ActionResultCache {
+
+    private static final String KEY_PREFIX = "action-result:";
+
+    private static final String POSTGRES_PLUGIN = "postgres-plugin";
+    private static final String MYSQL_PLUGIN = "mysql-plugin";
+    private static final String RESTAPI_PLUGIN = "restapi-plugin";
+    private static final String MONGO_PLUGIN = "mongo-plugin";
+
+    private static final String DATA_TYPES = "dataTypes";
+
+    // Statements beginning with a SELECT may still write data, with an INTO clause or by locking the selected rows
+    private static final Pattern SQL_WRITE_PATTERN = Pattern.compile("\\b(into|for\\s+update|for\\s+share)\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    // The first key of a Mongo command is the name of the command
+    private static final Pattern MONGO_FIND_PATTERN = Pattern.compile("^\\{\\s*[\"']?find[\"']?\\s*:");
+
+    private static final ObjectMapper copyObjectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final ReactiveRedisTemplate<String, String> reactiveTemplate;
+    private final ObjectMapper objectMapper;
+    private final long maxResultSize;
+    private final long maxTtlInSeconds;
+    private final boolean isRedisEnabled;
+    private final Cache<String, CachedResult> results;
+
+    public ActionResultCache(ReactiveRedisTemplate<String, String> reactiveTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${appsmith.action.result-cache.max-memory:64}") long maxMemoryInMb,
+                             @Value("${appsmith.action.result-cache.max-result-size:1024}") long maxResultSizeInKb,
+                             @Value("${appsmith.action.result-cache.max-ttl:3600}") long maxTtlInSeconds,
+                             @Value("${appsmith.action.result-cache.redis.enabled:false}") boolean isRedisEnabled) {
+        this.reactiveTemplate = reactiveTemplate;
+        this.objectMapper = objectMapper;
+        this.maxResultSize = maxResultSizeInKb * 1024;
+        this.maxTtlInSeconds = maxTtlInSeconds;
+        this.isRedisEnabled = isRedisEnabled;
+        this.results = CacheBuilder.newBuilder()
+                .maximumWeight(maxMemoryInMb * 1024 * 1024)
+                .weigher((String key, CachedResult cachedResult) -> cachedResult.size)
+                .expireAfterWrite(Duration.ofSeconds(maxTtlInSeconds))
+                .build();
+    }
+
+    /**
+     * @return the time for which the results of the given action may be cached, or null if they must not be cached
+     */
+    public Duration getTtl(ActionDTO action, Plugin plugin) {
+        final ActionConfiguration actionConfiguration = action.getActionConfiguration();
+        if (actionConfiguration == null || actionConfiguration.getResultCacheTtlInSeconds() == null
+                || actionConfiguration.getResultCacheTtlInSeconds() <= 0 || !isReadOnly(actionConfiguration, plugin)) {
+            return null;
+        }
+
+        return Duration.ofSeconds(Math.min(actionConfiguration.getResultCacheTtlInSeconds(), maxTtlInSeconds));
+    }
+
+    /**
+     * @return the key under which the results of the given execution are cached
+     */
+    public String getKey(NewAction newAction, Datasource datasource, ExecuteActionDTO executeActionDTO) {
+        final StringBuilder key = new StringBuilder()
+                .append(newAction.getId()).append('\n')
+                .append(newAction.getUpdatedAt()).append('\n')
+                .append(datasource.getId()).append('\n')
+                .append(datasource.getUpdatedAt()).append('\n');
+
+        if (executeActionDTO.getParams() != null) {
+            final List<Param> params = new ArrayList<>(executeActionDTO.getParams());
+            params.sort(Comparator.comparing(Param::getKey, Comparator.nullsFirst(Comparator.naturalOrder())));
+            for (Param param : params) {
+                // Lengths keep the boundaries between keys and values unambiguous
+                appendWithLength(key, param.getKey());
+                appendWithLength(key, param.getValue());
+            }
+        }
+
+        // Parameter values can be large, the digest keeps the key short
+        return KEY_PREFIX + DigestUtils.sha256Hex(key.toString());
+    }
+
+    /**
+     * @return a copy of the cached result, which the caller is free to modify
+     */
+    public Mono<ActionExecutionResult> get(String key) {
+        final CachedResult cachedResult = results.getIfPresent(key);
+        if (cachedResult != null) {
+            if (cachedResult.expiresAt.isAfter(Instant.now())) {
+                return Mono.just(copy(cachedResult.result));
+            }
+            results.invalidate(key);
+        }
+
+        if (!isRedisEnabled) {
+            return Mono.empty();
+        }
+
+        return Mono.zip(reactiveTemplate.opsForValue().get(key), reactiveTemplate.getExpire(key))
+                .flatMap(tuple -> {
+                    final ActionExecutionResult result = fromJson(tuple.getT1());
+                    if (result == null) {
+                        return Mono.empty();
+                    }
+                    // Hold on to the result locally, for the time it remains in Redis
+                    if (!tuple.getT2().isNegative() && !tuple.getT2().isZero()) {
+                        results.put(key, new CachedResult(copy(result), Instant.now().plus(tuple.getT2()),
+                                tuple.getT1().length()));
+                    }
+                    return Mono.just(result);
+                })
+                .onErrorResume(error -> {
+                    log.error("Failed to read a cached action result from Redis", error);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Caches the given result if it is the result of a successful execution, and is not too large to be cached.
+     */
+    public Mono<Void> put(String key, ActionExecutionResult result, Duration ttl) {
+        if (!Boolean.TRUE.equals(result.getIsExecutionSuccess())) {
+            return Mono.empty();
+        }
+
+        final int size = estimateSize(result);
+        if (size > maxResultSize) {
+            return Mono.empty();
+        }
+
+        results.put(key, new CachedResult(copy(result), Instant.now().plus(ttl), size));
+
+        if (!isRedisEnabled) {
+            return Mono.empty();
+        }
+
+        return Mono.fromCallable(() -> toJson(result))
+                .flatMap(json -> reactiveTemplate.opsForValue().set(key, json, ttl))
+                .onErrorResume(error -> {
+                    // The result is still cached on this server
+                    log.error("Failed to cache an action result in Redis", error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * @return whether the given action is a query which cannot modify any data, and hence whose results only depend on
+     * the values of its parameters for as long as the data does not change.
+     */
+    public boolean isReadOnly(ActionConfiguration actionConfiguration, Plugin plugin) {
+        if (actionConfiguration == null || plugin.getPackageName() == null) {
+            return false;
+        }
+
+        switch (plugin.getPackageName()) {
+            case POSTGRES_PLUGIN:
+            case MYSQL_PLUGIN:
+                return isReadOnlySql(actionConfiguration);
+            case RESTAPI_PLUGIN:
+                return HttpMethod.GET.equals(actionConfiguration.getHttpMethod());
+            case MONGO_PLUGIN:
+                return isMongoFind(actionConfiguration);
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isReadOnlySql(ActionConfiguration actionConfiguration) {
+        final String body = actionConfiguration.getBody();
+        if (body == null) {
+            return false;
+        }
+
+        String query = body.trim();
+        if (query.endsWith(";")) {
+            query = query.substring(0, query.length() - 1);
+        }
+
+        // Values bound into a query without a prepared statement could change what the query does
+        if (query.contains("{{") && !isPreparedStatement(actionConfiguration)) {
+            return false;
+        }
+
+        return query.regionMatches(true, 0, "select", 0, "select".length())
+                && query.indexOf(';') < 0
+                && !SQL_WRITE_PATTERN.matcher(query).find();
+    }
+
+    private static boolean isPreparedStatement(ActionConfiguration actionConfiguration) {
+        // Both the Postgres and MySQL plugins keep this setting as their first template, and default to true
+        final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+        if (properties == null || properties.isEmpty() || properties.get(0) == null) {
+            return true;
+        }
+
+        final Object value = properties.get(0).getValue();
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        } else if (value instanceof String) {
+            return Boolean.parseBoolean((String) value);
+        }
+        return true;
+    }
+
+    private static boolean isMongoFind(ActionConfiguration actionConfiguration) {
+        final Map<String, Object> formData = actionConfiguration.getFormData();
+        try {
+            final String command = PluginUtils.getDataValueSafelyFromFormData(formData, "command", STRING_TYPE);
+            if ("FIND".equals(command)) {
+                return true;
+            }
+
+            if (!"RAW".equals(command)) {
+                return false;
+            }
+
+            final String body = PluginUtils.getDataValueSafelyFromFormData(formData, "body", STRING_TYPE);
+            return body != null && MONGO_FIND_PATTERN.matcher(body.trim()).find();
+        } catch (ClassCastException | IllegalArgumentException e) {
+            // Form data in an unexpected shape, better not to cache anything for it
+            return false;
+        }
+    }
+
+    private static void appendWithLength(StringBuilder builder, String value) {
+        if (value == null) {
+            builder.append(-1).append(':');
+        } else {
+            builder.append(value.length()).append(':').append(value);
+        }
+    }
+
+    /**
+     * Copies the given result, so that a result handed out to more than one caller is never modified by another one.
+     * The body and the headers are copied deeply, since callers modify them in place. Results are only cached in view
+     * mode, where their request has already been removed.
+     */
+    static ActionExecutionResult copy(ActionExecutionResult result) {
+        final ActionExecutionResult resultCopy = new ActionExecutionResult();
+        copyNewFieldValuesIntoOldObject(result, resultCopy);
+        resultCopy.setBody(copyBody(result.getBody()));
+        if (result.getHeaders() != null) {
+            resultCopy.setHeaders(result.getHeaders().deepCopy());
+        }
+        if (result.getDataTypes() != null) {
+            resultCopy.setDataTypes(new ArrayList<>(result.getDataTypes()));
+        }
+        return resultCopy;
+    }
+
+    /**
+     * @return the approximate number of bytes held by the result, i.e. the size of its body once serialized, or the
+     * maximum integer if it can't be serialized
+     */
+    static int estimateSize(ActionExecutionResult result) {
+        final Object body = result.getBody();
+        if (body == null) {
+            return 0;
+        } else if (body instanceof String) {
+            return ((String) body).length();
+        }
+
+        try {
+            return copyObjectMapper.writeValueAsBytes(body).length;
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to estimate the size of the body of an action result", e);
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private static Object copyBody(Object body) {
+        if (body == null || body instanceof String || body instanceof Number || body instanceof Boolean) {
+            return body;
+        } else if (body instanceof JsonNode) {
+            return ((JsonNode) body).deepCopy();
+        }
+
+        try {
+            // Lists and maps of rows are copied through a JSON tree, which holds the same values as they are served
+            return copyObjectMapper.treeToValue(copyObjectMapper.valueToTree(body), Object.class);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            log.warn("Failed to copy the body of an action result, it is shared with the cached result", e);
+            return body;
+        }
+    }
+
+    /**
+     * Parsed data types have no default constructor, they are written as the names of their display data types.
+     */
+    private String toJson(ActionExecutionResult result) throws Exception {
+        final ActionExecutionResult resultCopy = copy(result);
+        resultCopy.setDataTypes(null);
+
+        final ObjectNode resultNode = objectMapper.valueToTree(resultCopy);
+        resultNode.remove(DATA_TYPES);
+        if (result.getDataTypes() != null) {
+            final List<String> dataTypes = new ArrayList<>();
+            for (ParsedDataType parsedDataType : result.getDataTypes()) {
+                dataTypes.add(parsedDataType.getDataType().name());
+            }
+            resultNode.set(DATA_TYPES, objectMapper.valueToTree(dataTypes));
+        }
+
+        return objectMapper.writeValueAsString(resultNode);
+    }
+
+    private ActionExecutionResult fromJson(String json) {
+        try {
+            final ObjectNode resultNode = (ObjectNode) objectMapper.readTree(json);
+            final JsonNode dataTypesNode = resultNode.remove(DATA_TYPES);
+
+            final ActionExecutionResult result = objectMapper.treeToValue(resultNode, ActionExecutionResult.class);
+            if (dataTypesNode != null && dataTypesNode.isArray()) {
+                final List<ParsedDataType> dataTypes = new ArrayList<>();
+                for (JsonNode dataTypeNode : dataTypesNode) {
+                    dataTypes.add(new ParsedDataType(DisplayDataType.valueOf(dataTypeNode.asText())));
+                }
+                result.setDataTypes(dataTypes);
+            }
+
+            return result;
+        } catch (Exception e) {
+            log.error("Failed to read a cached action result", e);
+            return null;
+        }
+    }
+
+    @AllArgsConstructor
+    private static class CachedResult {
+        ActionExecutionResult result;
+        Instant expiresAt;
+        int size;
+    }
+}
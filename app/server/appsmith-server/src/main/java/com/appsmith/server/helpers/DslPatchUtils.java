@@ -0,0 +1,160 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.dtos.WidgetPatchDTO;
+import com.appsmith.server.dtos.WidgetPatchOperation;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Applies the changes of a {@link com.appsmith.server.dtos.LayoutPatchDTO} to the widgets of a DSL.
+ */
+public class DslPatchUtils {
+
+    private static final String PATH_SEPARATOR = ".";
+
+    private static final String APPEND_INDEX = "-";
+
+    private static final Pattern INDEX_PATTERN = Pattern.compile("[0-9]+");
+
+    /**
+     * @param dsl : root widget of the DSL
+     * @return the widgets of the DSL by their widget id
+     */
+    public static Map<String, Map<String, Object>> getWidgetsById(Map<String, Object> dsl) {
+        Map<String, Map<String, Object>> widgetsById = new HashMap<>();
+        collectWidgets(dsl, "", widgetsById, new HashMap<>());
+        return widgetsById;
+    }
+
+    /**
+     * @param dsl : root widget of the DSL
+     * @return the path of the widgets in the DSL by their widget id, e.g. `children.2.children.0`. The path of the root
+     * widget is empty.
+     */
+    public static Map<String, String> getWidgetPaths(Map<String, Object> dsl) {
+        Map<String, String> widgetPaths = new HashMap<>();
+        collectWidgets(dsl, "", new HashMap<>(), widgetPaths);
+        return widgetPaths;
+    }
+
+    private static void collectWidgets(Map<String, Object> widget,
+                                       String path,
+                                       Map<String, Map<String, Object>> widgetsById,
+                                       Map<String, String> widgetPaths) {
+        Object widgetId = widget.get(FieldName.WIDGET_ID);
+        if (widgetId != null) {
+            widgetsById.put(widgetId.toString(), widget);
+            widgetPaths.put(widgetId.toString(), path);
+        }
+
+        if (!(widget.get(FieldName.CHILDREN) instanceof List)) {
+            return;
+        }
+
+        List<Object> children = (List<Object>) widget.get(FieldName.CHILDREN);
+        for (int i = 0; i < children.size(); i++) {
+            if (children.get(i) instanceof Map) {
+                String childPath = getPath(path, FieldName.CHILDREN + PATH_SEPARATOR + i);
+                collectWidgets((Map<String, Object>) children.get(i), childPath, widgetsById, widgetPaths);
+            }
+        }
+    }
+
+    public static String getPath(String parentPath, String path) {
+        return parentPath.isEmpty() ? path : parentPath + PATH_SEPARATOR + path;
+    }
+
+    /**
+     * @return the property of the widget that is changed by the patch, i.e. the first key of its path
+     */
+    public static String getPatchedProperty(WidgetPatchDTO patch) {
+        return patch.getPath().split(Pattern.quote(PATH_SEPARATOR))[0];
+    }
+
+    /**
+     * Applies the patch to the widget in place.
+     *
+     * @param widget : widget with the id of the patch
+     * @param patch  : change to apply
+     * @throws AppsmithException if the path of the patch doesn't exist in the widget
+     */
+    public static void applyPatch(Map<String, Object> widget, WidgetPatchDTO patch) throws AppsmithException {
+        final String path = patch.getPath();
+        if (patch.getOp() == null) {
+            throw new AppsmithException(AppsmithError.INVALID_PARAMETER, "op");
+        }
+        // The widget id identifies the widget to patch, hence it can't be changed
+        if (path == null || path.isBlank() || FieldName.WIDGET_ID.equals(path)) {
+            throw new AppsmithException(AppsmithError.INVALID_PARAMETER, "path");
+        }
+
+        String[] keys = path.split(Pattern.quote(PATH_SEPARATOR));
+        Object parent = widget;
+        for (int i = 0; i < keys.length - 1; i++) {
+            parent = getChild(parent, keys[i], path);
+        }
+
+        final String key = keys[keys.length - 1];
+        if (parent instanceof Map) {
+            Map<String, Object> parentMap = (Map<String, Object>) parent;
+            if (patch.getOp() != WidgetPatchOperation.ADD && !parentMap.containsKey(key)) {
+                throw new AppsmithException(AppsmithError.INVALID_PARAMETER, path);
+            }
+            if (patch.getOp() == WidgetPatchOperation.REMOVE) {
+                parentMap.remove(key);
+            } else {
+                parentMap.put(key, patch.getValue());
+            }
+        } else if (parent instanceof List) {
+            List<Object> parentList = (List<Object>) parent;
+            if (patch.getOp() == WidgetPatchOperation.ADD && APPEND_INDEX.equals(key)) {
+                parentList.add(patch.getValue());
+                return;
+            }
+
+            int index = getIndex(key, path);
+            int maxIndex = patch.getOp() == WidgetPatchOperation.ADD ? parentList.size() : parentList.size() - 1;
+            if (index > maxIndex) {
+                throw new AppsmithException(AppsmithError.INVALID_PARAMETER, path);
+            }
+            if (patch.getOp() == WidgetPatchOperation.ADD) {
+                parentList.add(index, patch.getValue());
+            } else if (patch.getOp() == WidgetPatchOperation.REPLACE) {
+                parentList.set(index, patch.getValue());
+            } else {
+                parentList.remove(index);
+            }
+        } else {
+            throw new AppsmithException(AppsmithError.INVALID_PARAMETER, path);
+        }
+    }
+
+    private static Object getChild(Object parent, String key, String path) {
+        Object child = null;
+        if (parent instanceof Map) {
+            child = ((Map<String, Object>) parent).get(key);
+        } else if (parent instanceof List) {
+            int index = getIndex(key, path);
+            List<Object> parentList = (List<Object>) parent;
+            child = index < parentList.size() ? parentList.get(index) : null;
+        }
+
+        if (child == null) {
+            throw new AppsmithException(AppsmithError.INVALID_PARAMETER, path);
+        }
+        return child;
+    }
+
+    private static int getIndex(String key, String path) {
+        if (!INDEX_PATTERN.matcher(key).matches()) {
+            throw new AppsmithException(AppsmithError.INVALID_PARAMETER, path);
+        }
+        return Integer.parseInt(key);
+    }
+}
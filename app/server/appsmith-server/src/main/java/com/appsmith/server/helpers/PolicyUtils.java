@@ -52,6 +52,7 @@ public class PolicyUtils {
     private final CommentThreadRepository commentThreadRepository;
     private final ActionCollectionRepository actionCollectionRepository;
     private final ThemeRepository themeRepository;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
 
     public <T extends BaseDomain> T addPoliciesToExistingObject(Map<String, Policy> policyMap, T obj) {
         // Making a deep copy here so we don't modify the `policyMap` object.
@@ -173,7 +174,9 @@ public class PolicyUtils {
                     }
                 })
                 .collectList()
-                .flatMapMany(updatedDatasources -> datasourceRepository.saveAll(updatedDatasources));
+                .flatMapMany(updatedDatasources -> datasourceRepository.saveAll(updatedDatasources)
+                        // The execution plans only know the datasources they use, not their workspaces
+                        .concatWith(actionExecutionPlanCache.invalidateAll().then(Mono.empty())));
     }
 
     public Flux<Datasource> updateWithNewPoliciesToDatasourcesByDatasourceIds(Set<String> ids, Map<String, Policy> datasourcePolicyMap, boolean addPolicyToObject) {
@@ -193,7 +196,8 @@ public class PolicyUtils {
                     return Mono.just(updatedDatasource);
                 })
                 .collectList()
-                .flatMapMany(datasources -> datasourceRepository.saveAll(datasources));
+                .flatMapMany(datasources -> datasourceRepository.saveAll(datasources)
+                        .concatWith(actionExecutionPlanCache.invalidateDatasources(ids).then(Mono.empty())));
     }
 
     public Flux<Application> updateWithNewPoliciesToApplicationsByWorkspaceId(String workspaceId, Map<String, Policy> newAppPoliciesMap, boolean addPolicyToObject) {
@@ -310,7 +314,8 @@ public class PolicyUtils {
                     }
                 })
                 .collectList()
-                .flatMapMany(newActionRepository::saveAll);
+                .flatMapMany(actions -> newActionRepository.saveAll(actions)
+                        .concatWith(actionExecutionPlanCache.invalidateApplication(applicationId).then(Mono.empty())));
     }
 
     public Flux<ActionCollection> updateWithPagePermissionsToAllItsActionCollections(String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
@@ -17,6 +17,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.Fields;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -63,6 +67,16 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
         );
     }
 
+    /**
+     * Matches the documents updated at or after the given time, along with the ones which have never been updated.
+     */
+    public static final Criteria updatedSinceCriteria(Instant updatedSince) {
+        return new Criteria().orOperator(
+                where(fieldName(QBaseDomain.baseDomain.updatedAt)).gte(updatedSince),
+                where(fieldName(QBaseDomain.baseDomain.updatedAt)).is(null)
+        );
+    }
+
     public static final Criteria userAcl(User user, AclPermission permission) {
 
         Criteria userCriteria = Criteria.where(fieldName(QBaseDomain.baseDomain.policies))
@@ -173,6 +187,29 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
         return mongoOperations.updateMulti(query, updateObj, this.genericDomain);
     }
 
+    /**
+     * Copies the value of a field into another one in all the documents with the given ids, in a single update which
+     * runs on the database server itself. The documents in which both fields already have the same value are left
+     * untouched, their `updatedAt` included.
+     */
+    protected Mono<UpdateResult> copyFieldValueByIds(List<String> ids, String sourceField, String targetField) {
+        if (CollectionUtils.isEmpty(ids)) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, "ids"));
+        }
+        Query query = new Query(new Criteria().andOperator(where("id").in(ids), notDeleted()));
+
+        final String updatedAtField = fieldName(QBaseDomain.baseDomain.updatedAt);
+        // The stages run in order, hence `updatedAt` is set before the target field gets overwritten
+        AggregationUpdate updateObj = AggregationUpdate.update()
+                .set(updatedAtField).toValueOf(ConditionalOperators
+                        .when(ComparisonOperators.valueOf(targetField).equalTo(sourceField))
+                        .thenValueOf(updatedAtField)
+                        .otherwise(Instant.now()))
+                .set(targetField).toValueOf(Fields.field(sourceField));
+
+        return mongoOperations.updateMulti(query, updateObj, this.genericDomain);
+    }
+
     protected Mono<T> queryOne(List<Criteria> criterias, AclPermission aclPermission) {
         return ReactiveSecurityContextHolder.getContext()
                 .map(ctx -> ctx.getAuthentication())
@@ -3,10 +3,12 @@ package com.appsmith.server.repositories.ce;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.repositories.AppsmithRepository;
+import com.mongodb.client.result.UpdateResult;
 import org.springframework.data.domain.Sort;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface CustomActionCollectionRepositoryCE extends AppsmithRepository<ActionCollection> {
@@ -23,4 +25,9 @@ public interface CustomActionCollectionRepositoryCE extends AppsmithRepository<A
 
     Mono<ActionCollection> findByBranchNameAndDefaultCollectionId(String branchName, String defaultCollectionId, AclPermission permission);
 
+    Mono<UpdateResult> publishActionCollections(List<String> ids);
+
+    Flux<ActionCollection> findByApplicationIdAndUpdatedSince(String applicationId, Instant updatedSince, AclPermission aclPermission);
+
+    Mono<Long> countByApplicationIdAndNonDeletedEditMode(String applicationId, AclPermission aclPermission);
 }
@@ -6,6 +6,7 @@ import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.QActionCollection;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
+import com.mongodb.client.result.UpdateResult;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
@@ -16,6 +17,7 @@ import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -145,4 +147,26 @@ public class CustomActionCollectionRepositoryCEImpl extends BaseAppsmithReposito
         Criteria branchCriteria = where(defaultResources + "." + FieldName.BRANCH_NAME).is(branchName);
         return queryOne(List.of(defaultCollectionIdCriteria, branchCriteria), permission);
     }
+
+    @Override
+    public Mono<UpdateResult> publishActionCollections(List<String> ids) {
+        return copyFieldValueByIds(ids, fieldName(QActionCollection.actionCollection.unpublishedCollection), fieldName(QActionCollection.actionCollection.publishedCollection));
+    }
+
+    @Override
+    public Flux<ActionCollection> findByApplicationIdAndUpdatedSince(String applicationId, Instant updatedSince, AclPermission aclPermission) {
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(where(fieldName(QActionCollection.actionCollection.applicationId)).is(applicationId));
+        if (updatedSince != null) {
+            criteria.add(updatedSinceCriteria(updatedSince));
+        }
+        return queryAll(criteria, aclPermission);
+    }
+
+    @Override
+    public Mono<Long> countByApplicationIdAndNonDeletedEditMode(String applicationId, AclPermission aclPermission) {
+        Criteria applicationCriterion = where(fieldName(QActionCollection.actionCollection.applicationId)).is(applicationId);
+        Criteria deletedCriterion = where(fieldName(QActionCollection.actionCollection.unpublishedCollection) + "." + fieldName(QActionCollection.actionCollection.unpublishedCollection.deletedAt)).is(null);
+        return count(List.of(applicationCriterion, deletedCriterion), aclPermission);
+    }
 }
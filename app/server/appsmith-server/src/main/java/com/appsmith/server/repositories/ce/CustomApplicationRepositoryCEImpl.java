@@ -122,6 +122,15 @@ public class CustomApplicationRepositoryCEImpl extends BaseAppsmithRepositoryImp
         return setAllAsNonDefaultMono.then(setDefaultMono);
     }
 
+    @Override
+    public Mono<UpdateResult> setLastPublishedAt(String applicationId, Instant lastPublishedAt) {
+        return mongoOperations.updateFirst(
+                Query.query(getIdCriteria(applicationId)),
+                new Update().set(fieldName(QApplication.application.lastPublishedAt), lastPublishedAt),
+                Application.class
+        );
+    }
+
     @Override
     public Mono<UpdateResult> setGitAuth(String applicationId, GitAuth gitAuth, AclPermission aclPermission) {
         Update updateObj = new Update();
@@ -3,12 +3,15 @@ package com.appsmith.server.repositories.ce;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.repositories.AppsmithRepository;
+import com.mongodb.client.result.UpdateResult;
 import org.springframework.data.domain.Sort;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 public interface CustomNewActionRepositoryCE extends AppsmithRepository<NewAction> {
 
@@ -44,4 +47,13 @@ public interface CustomNewActionRepositoryCE extends AppsmithRepository<NewActio
 
     Mono<NewAction> findByBranchNameAndDefaultActionId(String branchName, String defaultActionId, AclPermission permission);
 
+    Mono<UpdateResult> publishActions(List<String> ids);
+
+    Flux<NewAction> findByApplicationIdAndUpdatedSince(String applicationId, Instant updatedSince, AclPermission aclPermission);
+
+    Mono<Long> countByApplicationIdAndNonDeletedEditMode(String applicationId, AclPermission aclPermission);
+
+    Flux<NewAction> findUnpublishedActionVersionsByPageId(String pageId, AclPermission aclPermission);
+
+    Flux<NewAction> findUnpublishedActionsByPageIdAndJsonPathKeysMatching(String pageId, Pattern pattern, AclPermission aclPermission);
 }
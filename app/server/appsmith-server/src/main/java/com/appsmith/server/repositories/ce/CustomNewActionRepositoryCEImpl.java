@@ -7,6 +7,7 @@ import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.QNewAction;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
@@ -18,9 +19,11 @@ import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
@@ -302,4 +305,50 @@ public class CustomNewActionRepositoryCEImpl extends BaseAppsmithRepositoryImpl<
         Criteria branchCriteria = where(defaultResources + "." + FieldName.BRANCH_NAME).is(branchName);
         return queryOne(List.of(defaultActionIdCriteria, branchCriteria), permission);
     }
+
+    @Override
+    public Mono<UpdateResult> publishActions(List<String> ids) {
+        return copyFieldValueByIds(ids, fieldName(QNewAction.newAction.unpublishedAction), fieldName(QNewAction.newAction.publishedAction));
+    }
+
+    @Override
+    public Flux<NewAction> findByApplicationIdAndUpdatedSince(String applicationId, Instant updatedSince, AclPermission aclPermission) {
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(where(fieldName(QNewAction.newAction.applicationId)).is(applicationId));
+        if (updatedSince != null) {
+            criteria.add(updatedSinceCriteria(updatedSince));
+        }
+        return queryAll(criteria, aclPermission);
+    }
+
+    @Override
+    public Mono<Long> countByApplicationIdAndNonDeletedEditMode(String applicationId, AclPermission aclPermission) {
+        Criteria applicationCriterion = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
+        Criteria deletedCriterion = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.deletedAt)).is(null);
+        return count(List.of(applicationCriterion, deletedCriterion), aclPermission);
+    }
+
+    /**
+     * Only the id and the last update time of each action are fetched, which is enough to know if any of the actions
+     * in the page have changed.
+     */
+    @Override
+    public Flux<NewAction> findUnpublishedActionVersionsByPageId(String pageId, AclPermission aclPermission) {
+        Criteria pageCriterion = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.pageId)).is(pageId);
+        Criteria deletedCriterion = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.deletedAt)).is(null);
+        List<String> includeFields = List.of(fieldName(QNewAction.newAction.id), fieldName(QNewAction.newAction.updatedAt));
+        return queryAll(List.of(pageCriterion, deletedCriterion), includeFields, aclPermission, null);
+    }
+
+    /**
+     * Only fetches the actions with a mustache key matching the pattern, e.g. the actions that reference a given name.
+     */
+    @Override
+    public Flux<NewAction> findUnpublishedActionsByPageIdAndJsonPathKeysMatching(String pageId, Pattern pattern, AclPermission aclPermission) {
+        Criteria pageCriterion = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.pageId)).is(pageId);
+        Criteria deletedCriterion = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.deletedAt)).is(null);
+        // Matches the actions with any of the keys matching the pattern
+        Criteria jsonPathKeysCriterion = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.jsonPathKeys)).regex(pattern);
+        return queryAll(List.of(pageCriterion, deletedCriterion, jsonPathKeysCriterion), aclPermission);
+    }
 }
@@ -3,10 +3,13 @@ package com.appsmith.server.repositories.ce;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.repositories.AppsmithRepository;
+import com.mongodb.client.result.UpdateResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 public interface CustomNewPageRepositoryCE extends AppsmithRepository<NewPage> {
 
@@ -27,4 +30,10 @@ public interface CustomNewPageRepositoryCE extends AppsmithRepository<NewPage> {
     Mono<NewPage> findPageByBranchNameAndDefaultPageId(String branchName, String defaultPageId, AclPermission permission);
 
     Flux<NewPage> findSlugsByApplicationIds(List<String> applicationIds, AclPermission aclPermission);
+
+    Mono<UpdateResult> publishPages(List<String> ids);
+
+    Flux<NewPage> findByApplicationIdAndUpdatedSince(String applicationId, Instant updatedSince, AclPermission aclPermission);
+
+    Mono<UpdateResult> updateUnpublishedLayout(String pageId, String layoutId, Long dslVersion, Map<String, Object> layoutUpdates, AclPermission aclPermission);
 }
@@ -5,18 +5,24 @@ import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.QLayout;
 import com.appsmith.server.domains.QNewPage;
+import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
@@ -166,4 +172,54 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
                 null
         );
     }
+
+    @Override
+    public Mono<UpdateResult> publishPages(List<String> ids) {
+        return copyFieldValueByIds(ids, fieldName(QNewPage.newPage.unpublishedPage), fieldName(QNewPage.newPage.publishedPage));
+    }
+
+    @Override
+    public Flux<NewPage> findByApplicationIdAndUpdatedSince(String applicationId, Instant updatedSince, AclPermission aclPermission) {
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(where(fieldName(QNewPage.newPage.applicationId)).is(applicationId));
+        if (updatedSince != null) {
+            criteria.add(updatedSinceCriteria(updatedSince));
+        }
+        return queryAll(criteria, aclPermission);
+    }
+
+    /**
+     * Updates the fields of an unpublished layout of the page, given by their path in the layout, e.g. `dsl.children.0.leftColumn`.
+     * The fields mapped to null are removed. The update is only made if the DSL of the layout is still at the given
+     * version, which the caller can tell from the matched count of the result.
+     */
+    @Override
+    public Mono<UpdateResult> updateUnpublishedLayout(String pageId, String layoutId, Long dslVersion, Map<String, Object> layoutUpdates, AclPermission aclPermission) {
+        String layoutsKey = fieldName(QNewPage.newPage.unpublishedPage) + "." + fieldName(QNewPage.newPage.unpublishedPage.layouts);
+        Criteria layoutCriterion = where(layoutsKey).elemMatch(
+                where(fieldName(QLayout.layout.id)).is(layoutId)
+                        .and(fieldName(QLayout.layout.dslVersion)).is(dslVersion)
+        );
+
+        Update update = new Update();
+        layoutUpdates.forEach((path, value) -> {
+            // The positional operator refers to the layout matched by the criterion above
+            String key = layoutsKey + ".$." + path;
+            if (value == null) {
+                update.unset(key);
+            } else {
+                update.set(key, value);
+            }
+        });
+        // The auditing done when saving the page doesn't apply to updates
+        update.set(fieldName(QNewPage.newPage.updatedAt), Instant.now());
+
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> (User) ctx.getAuthentication().getPrincipal())
+                .flatMap(user -> mongoOperations.updateFirst(
+                        createQueryWithPermission(List.of(getIdCriteria(pageId), layoutCriterion), user, aclPermission),
+                        update,
+                        NewPage.class
+                ));
+    }
 }
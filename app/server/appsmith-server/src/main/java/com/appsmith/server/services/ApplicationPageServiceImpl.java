@@ -1,6 +1,7 @@
 package com.appsmith.server.services;
 
 import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.GitFileUtils;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.repositories.ApplicationRepository;
@@ -27,10 +28,11 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
                                       GitFileUtils gitFileUtils,
                                       CommentThreadRepository commentThreadRepository,
                                       ThemeService themeService,
-                                      ResponseUtils responseUtils) {
+                                      ResponseUtils responseUtils,
+                                      ActionExecutionPlanCache actionExecutionPlanCache) {
 
         super(applicationService, sessionUserService, workspaceRepository, layoutActionService, analyticsService,
                 policyGenerator, applicationRepository, newPageService, newActionService, actionCollectionService,
-                gitFileUtils, commentThreadRepository, themeService, responseUtils);
+                gitFileUtils, commentThreadRepository, themeService, responseUtils, actionExecutionPlanCache);
     }
 }
@@ -1,6 +1,7 @@
 package com.appsmith.server.services;
 
 import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.DatasourceRepository;
 import com.appsmith.server.repositories.NewActionRepository;
@@ -29,11 +30,12 @@ public class DatasourceServiceImpl extends DatasourceServiceCEImpl implements Da
                                  PluginExecutorHelper pluginExecutorHelper,
                                  PolicyGenerator policyGenerator,
                                  SequenceService sequenceService,
-                                 NewActionRepository newActionRepository) {
+                                 NewActionRepository newActionRepository,
+                                 ActionExecutionPlanCache actionExecutionPlanCache) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, workspaceService,
                 analyticsService, sessionUserService, pluginService, pluginExecutorHelper, policyGenerator,
-                sequenceService, newActionRepository);
+                sequenceService, newActionRepository, actionExecutionPlanCache);
 
     }
 }
@@ -1,11 +1,14 @@
 package com.appsmith.server.services;
 
+import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.services.ce.LayoutActionServiceCEImpl;
 import com.appsmith.server.solutions.PageLoadActionsUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Scheduler;
 
 @Service
 @Slf4j
@@ -20,10 +23,11 @@ public class LayoutActionServiceImpl extends LayoutActionServiceCEImpl implement
                                    ActionCollectionService actionCollectionService,
                                    CollectionService collectionService,
                                    ApplicationService applicationService,
-                                   ResponseUtils responseUtils) {
+                                   ResponseUtils responseUtils,
+                                   @Qualifier(CommonConfig.DSL_TRAVERSAL_SCHEDULER) Scheduler dslTraversalScheduler) {
 
         super(objectMapper, analyticsService, newPageService, newActionService, pageLoadActionsUtil, sessionUserService,
-                actionCollectionService, collectionService, applicationService, responseUtils);
+                actionCollectionService, collectionService, applicationService, responseUtils, dslTraversalScheduler);
 
     }
 }
@@ -1,6 +1,9 @@
 package com.appsmith.server.services;
 
 import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.helpers.ActionExecutionCoalescer;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
+import com.appsmith.server.helpers.ActionResultCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.helpers.ResponseUtils;
@@ -36,12 +39,16 @@ public class NewActionServiceImpl extends NewActionServiceCEImpl implements NewA
                                 PolicyUtils policyUtils,
                                 AuthenticationValidator authenticationValidator,
                                 ConfigService configService,
-                                ResponseUtils responseUtils) {
+                                ResponseUtils responseUtils,
+                                ActionExecutionPlanCache actionExecutionPlanCache,
+                                ActionResultCache actionResultCache,
+                                ActionExecutionCoalescer actionExecutionCoalescer) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService,
                 datasourceService, pluginService, datasourceContextService, pluginExecutorHelper, marketplaceService,
                 policyGenerator, newPageService, applicationService, sessionUserService, policyUtils,
-                authenticationValidator, configService, responseUtils);
+                authenticationValidator, configService, responseUtils, actionExecutionPlanCache, actionResultCache,
+                actionExecutionCoalescer);
 
     }
 }
@@ -7,11 +7,13 @@ import com.appsmith.server.dtos.ActionCollectionDTO;
 import com.appsmith.server.dtos.ActionCollectionViewDTO;
 import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.services.CrudService;
+import com.mongodb.client.result.UpdateResult;
 import org.springframework.data.domain.Sort;
 import org.springframework.util.MultiValueMap;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface ActionCollectionServiceCE extends CrudService<ActionCollection, String> {
@@ -24,6 +26,12 @@ public interface ActionCollectionServiceCE extends CrudService<ActionCollection,
 
     Flux<ActionCollection> saveAll(List<ActionCollection> collections);
 
+    Mono<UpdateResult> publishActionCollections(List<String> collectionIds);
+
+    Flux<ActionCollection> findByApplicationIdAndUpdatedSince(String applicationId, Instant updatedSince, AclPermission permission);
+
+    Mono<Long> countByApplicationIdAndNonDeletedEditMode(String applicationId, AclPermission permission);
+
     Flux<ActionCollectionDTO> getPopulatedActionCollectionsByViewMode(MultiValueMap<String, String> params, Boolean viewMode);
 
     Flux<ActionCollectionDTO> getPopulatedActionCollectionsByViewMode(MultiValueMap<String, String> params, Boolean viewMode, String branchName);
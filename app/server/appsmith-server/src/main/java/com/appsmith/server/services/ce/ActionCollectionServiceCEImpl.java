@@ -21,6 +21,7 @@ import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.ApplicationService;
 import com.appsmith.server.services.BaseService;
 import com.appsmith.server.services.NewActionService;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -111,6 +112,21 @@ public class ActionCollectionServiceCEImpl extends BaseService<ActionCollectionR
         return repository.saveAll(collections);
     }
 
+    @Override
+    public Mono<UpdateResult> publishActionCollections(List<String> collectionIds) {
+        return repository.publishActionCollections(collectionIds);
+    }
+
+    @Override
+    public Flux<ActionCollection> findByApplicationIdAndUpdatedSince(String applicationId, Instant updatedSince, AclPermission permission) {
+        return repository.findByApplicationIdAndUpdatedSince(applicationId, updatedSince, permission);
+    }
+
+    @Override
+    public Mono<Long> countByApplicationIdAndNonDeletedEditMode(String applicationId, AclPermission permission) {
+        return repository.countByApplicationIdAndNonDeletedEditMode(applicationId, permission);
+    }
+
     @Override
     public Mono<ActionCollection> findByIdAndBranchName(String id, String branchName) {
         // TODO sanitise resonse for default IDs
@@ -2,6 +2,7 @@ package com.appsmith.server.services.ce;
 
 import com.appsmith.external.helpers.AppsmithEventContext;
 import com.appsmith.external.helpers.AppsmithEventContextType;
+import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.DefaultResources;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
@@ -27,6 +28,7 @@ import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.dtos.PageNameIdDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.GitFileUtils;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.migrations.ApplicationVersion;
@@ -54,6 +56,7 @@ import reactor.core.publisher.Mono;
 import javax.annotation.Nullable;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -61,6 +64,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.helpers.AppsmithBeanUtils.copyNestedNonNullProperties;
@@ -93,10 +98,18 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
     private final CommentThreadRepository commentThreadRepository;
     private final ThemeService themeService;
     private final ResponseUtils responseUtils;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
 
 
     public static final Integer EVALUATION_VERSION = 2;
 
+    // Number of documents of a kind published by each update sent to the database while publishing an application
+    private static final int PUBLISH_BATCH_SIZE = 500;
+
+    // Documents updated up to this long before the last publish started are published again, in case their update was
+    // still in flight or was made on a server whose clock is behind
+    private static final Duration PUBLISH_CHANGES_MARGIN = Duration.ofMinutes(5);
+
 
     public Mono<PageDTO> createPage(PageDTO page) {
         if (page.getId() != null) {
@@ -891,10 +904,19 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
      */
     @Override
     public Mono<Application> publish(String applicationId, boolean isPublishedManually) {
+        final Instant publishStartedAt = Instant.now();
+
         Mono<Application> applicationMono = applicationService.findById(applicationId, MANAGE_APPLICATIONS)
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION, applicationId)))
                 .cache();
 
+        // Only the documents updated since the last publish need to be published again. Until the application has been
+        // published successfully, all of them are.
+        Mono<Optional<Instant>> updatedSinceMono = applicationMono
+                .map(application -> Optional.ofNullable(application.getLastPublishedAt())
+                        .map(lastPublishedAt -> lastPublishedAt.minus(PUBLISH_CHANGES_MARGIN)))
+                .cache();
+
         Mono<Theme> publishThemeMono = applicationMono.flatMap(
                 application ->  themeService.publishTheme(application.getId())
         );
@@ -950,21 +972,33 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                     return Mono.zip(archivePageListMono, applicationService.save(application))
                             .thenReturn(pages);
                 })
-                .flatMapMany(Flux::fromIterable)
-                //In each page, copy each layout's dsl to publishedDsl field
-                .flatMap(applicationPage -> newPageService
-                        .findById(applicationPage.getId(), MANAGE_PAGES)
-                        .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PAGE, applicationPage.getId())))
-                        .map(page -> {
-                            page.setPublishedPage(page.getUnpublishedPage());
-                            return page;
-                        }))
-                .flatMap(newPageService::save)
-                .collectList()
-                .cache(); // caching as we'll need this to send analytics attributes after publishing the app
+                .zipWith(updatedSinceMono)
+                .flatMap(tuple -> {
+                    final Set<String> pageIds = tuple.getT1().stream().map(ApplicationPage::getId).collect(Collectors.toSet());
+                    final Instant updatedSince = tuple.getT2().orElse(null);
+                    return newPageService.findByApplicationIdAndUpdatedSince(applicationId, updatedSince, MANAGE_PAGES)
+                            .filter(page -> pageIds.contains(page.getId()))
+                            .collectList()
+                            .flatMap(newPages -> {
+                                // Pages which haven't changed since the last publish are expected to be missing
+                                if (updatedSince == null && newPages.size() < pageIds.size()) {
+                                    newPages.forEach(page -> pageIds.remove(page.getId()));
+                                    return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PAGE, pageIds.iterator().next()));
+                                }
+                                //In each page, copy each layout's dsl to publishedDsl field
+                                newPages.forEach(page -> page.setPublishedPage(page.getUnpublishedPage()));
+                                return publishInBatches(
+                                        newPages,
+                                        page -> page.getGitSyncId() != null,
+                                        newPageService::saveAll,
+                                        newPageService::publishPages
+                                );
+                            });
+                });
 
-        Mono<List<NewAction>> publishedActionsListMono = newActionService
-                .findAllByApplicationIdAndViewMode(applicationId, false, MANAGE_ACTIONS, null)
+        Mono<List<NewAction>> publishedActionsListMono = updatedSinceMono
+                .flatMapMany(updatedSince -> newActionService
+                        .findByApplicationIdAndUpdatedSince(applicationId, updatedSince.orElse(null), MANAGE_ACTIONS))
                 .flatMap(newAction -> {
                     // If the action was deleted in edit mode, now this document can be safely archived
                     if (newAction.getUnpublishedAction().getDeletedAt() != null) {
@@ -975,12 +1009,20 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                     newAction.setPublishedAction(newAction.getUnpublishedAction());
                     return Mono.just(newAction);
                 })
-                .flatMap(newActionService::save)
                 .collectList()
-                .cache(); // caching as we'll need this to send analytics attributes after publishing the app
-
-        Mono<List<ActionCollection>> publishedActionCollectionsListMono = actionCollectionService
-                .findAllByApplicationIdAndViewMode(applicationId, false, MANAGE_ACTIONS, null)
+                .flatMap(newActions -> publishInBatches(
+                        newActions,
+                        // Saving an action fills in these fields when they are missing
+                        newAction -> newAction.getGitSyncId() != null
+                                && newAction.getPluginId() != null
+                                && newAction.getPluginType() != null,
+                        newActionService::saveAll,
+                        newActionService::publishActions
+                ));
+
+        Mono<List<ActionCollection>> publishedActionCollectionsListMono = updatedSinceMono
+                .flatMapMany(updatedSince -> actionCollectionService
+                        .findByApplicationIdAndUpdatedSince(applicationId, updatedSince.orElse(null), MANAGE_ACTIONS))
                 .flatMap(collection -> {
                     // If the collection was deleted in edit mode, now this can be safely deleted from the repository
                     if (collection.getUnpublishedCollection().getDeletedAt() != null) {
@@ -991,8 +1033,13 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                     collection.setPublishedCollection(collection.getUnpublishedCollection());
                     return Mono.just(collection);
                 })
-                .flatMap(actionCollectionService::save)
-                .collectList();
+                .collectList()
+                .flatMap(collections -> publishInBatches(
+                        collections,
+                        collection -> true,
+                        actionCollectionService::saveAll,
+                        actionCollectionService::publishActionCollections
+                ));
 
         return Mono.when(
                         publishApplicationAndPages,
@@ -1000,27 +1047,54 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                         publishedActionCollectionsListMono,
                         publishThemeMono
                 )
-                .then(sendApplicationPublishedEvent(publishApplicationAndPages, publishedActionsListMono, publishedActionCollectionsListMono, applicationId, isPublishedManually));
+                // Everything updated before this publish started is published now
+                .then(applicationRepository.setLastPublishedAt(applicationId, publishStartedAt))
+                // Executions in view mode must pick up the newly published actions
+                .then(actionExecutionPlanCache.invalidateApplication(applicationId))
+                .then(sendApplicationPublishedEvent(applicationId, isPublishedManually));
+    }
+
+    /**
+     * Publishes the documents of an application, in which the published resource has already been set to the
+     * unpublished one. The documents which are updated when they get saved, e.g. to generate their git sync id, are
+     * saved as they are. The others get published by updates running on the database server, in batches of ids, which
+     * only write the documents that have changed since they were last published.
+     *
+     * @return the given documents, once published
+     */
+    private <T extends BaseDomain> Mono<List<T>> publishInBatches(List<T> documents,
+                                                                  Predicate<T> isPublishableInBulk,
+                                                                  Function<List<T>, Flux<T>> saveAll,
+                                                                  Function<List<String>, Mono<UpdateResult>> publishByIds) {
+        final Map<Boolean, List<T>> documentsByPublishableInBulk = documents.stream()
+                .collect(Collectors.partitioningBy(isPublishableInBulk));
+        final List<T> documentsToSave = documentsByPublishableInBulk.get(false);
+
+        final Mono<Void> saveMono = documentsToSave.isEmpty() ? Mono.empty() : saveAll.apply(documentsToSave).then();
+        final Mono<Void> publishInBulkMono = Flux.fromIterable(documentsByPublishableInBulk.get(true))
+                .map(BaseDomain::getId)
+                .buffer(PUBLISH_BATCH_SIZE)
+                .concatMap(publishByIds)
+                .then();
+
+        return Mono.when(saveMono, publishInBulkMono)
+                .thenReturn(documents);
     }
 
-    private Mono<Application> sendApplicationPublishedEvent(Mono<List<NewPage>> publishApplicationAndPages,
-                                                            Mono<List<NewAction>> publishedActionsFlux,
-                                                            Mono<List<ActionCollection>> publishedActionsCollectionFlux,
-                                                            String applicationId,
-                                                            boolean isPublishedManually) {
+    private Mono<Application> sendApplicationPublishedEvent(String applicationId, boolean isPublishedManually) {
+        // Only the changed pages and actions get published, hence the ones in the application are counted instead
         return Mono.zip(
-                        publishApplicationAndPages,
-                        publishedActionsFlux,
-                        publishedActionsCollectionFlux,
+                        newActionService.countByApplicationIdAndNonDeletedEditMode(applicationId, MANAGE_ACTIONS),
+                        actionCollectionService.countByApplicationIdAndNonDeletedEditMode(applicationId, MANAGE_ACTIONS),
                         // not using existing applicationMono because we need the latest Application after published
                         applicationService.findById(applicationId, MANAGE_APPLICATIONS)
                 )
                 .flatMap(objects -> {
-                    Application application = objects.getT4();
+                    Application application = objects.getT3();
                     Map<String, Object> extraProperties = new HashMap<>();
-                    extraProperties.put("pageCount", objects.getT1().size());
-                    extraProperties.put("queryCount", objects.getT2().size());
-                    extraProperties.put("actionCollectionCount", objects.getT3().size());
+                    extraProperties.put("pageCount", application.getPublishedPages() == null ? 0 : application.getPublishedPages().size());
+                    extraProperties.put("queryCount", objects.getT1());
+                    extraProperties.put("actionCollectionCount", objects.getT2());
                     extraProperties.put("appId", defaultIfNull(application.getId(), ""));
                     extraProperties.put("appName", defaultIfNull(application.getName(), ""));
                     extraProperties.put("orgId", defaultIfNull(application.getWorkspaceId(), ""));
@@ -17,6 +17,7 @@ import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.Workspace;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.DatasourceRepository;
 import com.appsmith.server.repositories.NewActionRepository;
@@ -68,6 +69,7 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
     private final PolicyGenerator policyGenerator;
     private final SequenceService sequenceService;
     private final NewActionRepository newActionRepository;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
 
 
     @Autowired
@@ -83,7 +85,8 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
                                    PluginExecutorHelper pluginExecutorHelper,
                                    PolicyGenerator policyGenerator,
                                    SequenceService sequenceService,
-                                   NewActionRepository newActionRepository) {
+                                   NewActionRepository newActionRepository,
+                                   ActionExecutionPlanCache actionExecutionPlanCache) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.workspaceService = workspaceService;
@@ -93,6 +96,7 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
         this.policyGenerator = policyGenerator;
         this.sequenceService = sequenceService;
         this.newActionRepository = newActionRepository;
+        this.actionExecutionPlanCache = actionExecutionPlanCache;
     }
 
     @Override
@@ -211,6 +215,9 @@ public class DatasourceServiceCEImpl extends BaseService<DatasourceRepository, D
                     return dbDatasource;
                 })
                 .flatMap(this::validateAndSaveDatasourceToRepository)
+                .flatMap(savedDatasource -> actionExecutionPlanCache
+                        .invalidateDatasources(Set.of(savedDatasource.getId()))
+                        .thenReturn(savedDatasource))
                 .flatMap(savedDatasource ->
                         analyticsService.sendUpdateEvent(savedDatasource, getAnalyticsProperties(savedDatasource))
                 )
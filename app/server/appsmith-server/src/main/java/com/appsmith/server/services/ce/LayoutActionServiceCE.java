@@ -5,6 +5,7 @@ import com.appsmith.server.domains.Layout;
 import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.ActionMoveDTO;
 import com.appsmith.server.dtos.LayoutDTO;
+import com.appsmith.server.dtos.LayoutPatchDTO;
 import com.appsmith.server.dtos.RefactorActionNameDTO;
 import com.appsmith.server.dtos.RefactorNameDTO;
 import net.minidev.json.JSONObject;
@@ -16,6 +17,10 @@ public interface LayoutActionServiceCE {
 
     Mono<LayoutDTO> updateLayout(String pageId, String layoutId, Layout layout, String branchName);
 
+    Mono<LayoutDTO> patchLayout(String pageId, String layoutId, LayoutPatchDTO layoutPatch);
+
+    Mono<LayoutDTO> patchLayout(String defaultPageId, String layoutId, LayoutPatchDTO layoutPatch, String branchName);
+
     Mono<ActionDTO> moveAction(ActionMoveDTO actionMoveDTO);
 
     Mono<ActionDTO> moveAction(ActionMoveDTO actionMoveDTO, String branchName);
@@ -3,6 +3,7 @@ package com.appsmith.server.services.ce;
 import com.appsmith.external.helpers.AppsmithEventContext;
 import com.appsmith.external.helpers.AppsmithEventContextType;
 import com.appsmith.external.helpers.AppsmithBeanUtils;
+import com.appsmith.external.helpers.BindingPath;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.Datasource;
@@ -13,6 +14,7 @@ import com.appsmith.server.domains.ActionDependencyEdge;
 import com.appsmith.server.domains.Layout;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.QLayout;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.ActionCollectionDTO;
 import com.appsmith.server.dtos.ActionDTO;
@@ -20,12 +22,16 @@ import com.appsmith.server.dtos.ActionMoveDTO;
 import com.appsmith.server.dtos.DslActionDTO;
 import com.appsmith.server.dtos.LayoutActionUpdateDTO;
 import com.appsmith.server.dtos.LayoutDTO;
+import com.appsmith.server.dtos.LayoutPatchDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.dtos.RefactorActionNameDTO;
 import com.appsmith.server.dtos.RefactorNameDTO;
+import com.appsmith.server.dtos.WidgetPatchDTO;
+import com.appsmith.server.dtos.WidgetPatchOperation;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.DefaultResourcesUtils;
+import com.appsmith.server.helpers.DslPatchUtils;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.helpers.WidgetSpecificUtils;
 import com.appsmith.server.services.ActionCollectionService;
@@ -52,22 +58,28 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.retry.Retry;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static com.appsmith.server.acl.AclPermission.MANAGE_ACTIONS;
 import static com.appsmith.server.acl.AclPermission.MANAGE_PAGES;
 import static com.appsmith.server.acl.AclPermission.READ_PAGES;
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
 import static java.lang.Boolean.FALSE;
 import static java.util.stream.Collectors.toSet;
 
@@ -86,6 +98,7 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
     private final CollectionService collectionService;
     private final ApplicationService applicationService;
     private final ResponseUtils responseUtils;
+    private final Scheduler dslTraversalScheduler;
 
 
     /*
@@ -96,6 +109,12 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
     private final String preWord = "\\b(";
     private final String postWord = ")\\b";
 
+    // The top level children of DSLs with at least as many widgets are traversed in parallel
+    private static final int PARALLEL_DSL_TRAVERSAL_WIDGET_THRESHOLD = 300;
+
+    // Times the layout is refactored again from a fresh read when it's updated while a name is refactored
+    private static final int MAX_REFACTOR_NAME_LAYOUT_RETRIES = 3;
+
 
     /**
      * Called by Action controller to create Action
@@ -332,6 +351,11 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
      * Assumption here is that the refactoring name provided is indeed unique and is fit to be replaced everywhere.
      * <p>
      * At this point, the user must have MANAGE_PAGES and MANAGE_ACTIONS permissions for page and action respectively
+     * <p>
+     * Only the widgets indexed as referencing the old name in the layout, and the actions with a mustache key
+     * referencing it, are refactored. Layouts saved before the index was introduced have their whole DSL refactored.
+     * The widgets only reference names through their bindings, triggers, own name or list template keys, so the text of
+     * the widgets that don't reference the old name through any of them is left as is, since it's never evaluated.
      *
      * @param pageId
      * @param layoutId
@@ -344,43 +368,15 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
         String regexPattern = preWord + oldName + postWord;
         Pattern oldNamePattern = Pattern.compile(regexPattern);
 
-        Mono<PageDTO> updatePageMono = newPageService
-                // fetch the unpublished page
-                .findPageById(pageId, MANAGE_PAGES, false)
-                .flatMap(page -> {
-                    List<Layout> layouts = page.getLayouts();
-                    for (Layout layout : layouts) {
-                        if (layoutId.equals(layout.getId()) && layout.getDsl() != null) {
-                            final JsonNode dslNode = objectMapper.convertValue(layout.getDsl(), JsonNode.class);
-                            final JsonNode dslNodeAfterReplacement = this.replaceStringInJsonNode(dslNode, oldNamePattern, newName);
-                            layout.setDsl(objectMapper.convertValue(dslNodeAfterReplacement, JSONObject.class));
-
-                            // DSL has removed all the old names and replaced it with new name. If the change of name
-                            // was one of the mongoEscaped widgets, then update the names in the set as well
-                            Set<String> mongoEscapedWidgetNames = layout.getMongoEscapedWidgetNames();
-                            if (mongoEscapedWidgetNames != null && mongoEscapedWidgetNames.contains(oldName)) {
-                                mongoEscapedWidgetNames.remove(oldName);
-                                mongoEscapedWidgetNames.add(newName);
-                            }
-                            page.setLayouts(layouts);
-                            // Since the page has most probably changed, save the page and return.
-                            return newPageService.saveUnpublishedPage(page);
-                        }
-                    }
-                    // If we have reached here, the layout was not found and the page should be returned as is.
-                    return Mono.just(page);
-                });
-
         Set<String> updatableCollectionIds = new HashSet<>();
 
         Mono<Set<String>> updateActionsMono = newActionService
-                .findByPageIdAndViewMode(pageId, false, MANAGE_ACTIONS)
+                .findUnpublishedActionsByPageIdAndJsonPathKeysMatching(pageId, oldNamePattern, MANAGE_ACTIONS)
                 /*
                  * Assuming that the datasource should not be dependent on the widget and hence not going through the same
                  * to look for replacement pattern.
                  */
-                .flatMap(newAction1 -> {
-                    final NewAction newAction = newAction1;
+                .flatMap(newAction -> {
                     // We need actionDTO to be populated with pluginType from NewAction
                     // so that we can check for the JS path
                     Mono<ActionDTO> actionMono = newActionService.generateActionByViewMode(newAction, false);
@@ -403,7 +399,7 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
                         }
 
                         if (!actionUpdateRequired || actionConfiguration == null) {
-                            return Mono.just(newAction);
+                            return Mono.empty();
                         }
                         // if actionUpdateRequired is true AND actionConfiguration is not null
                         if (action.getCollectionId() != null) {
@@ -414,44 +410,115 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
 
                         ActionConfiguration newActionConfiguration = objectMapper.convertValue(actionConfigurationNodeAfterReplacement, ActionConfiguration.class);
                         action.setActionConfiguration(newActionConfiguration);
-                        NewAction newAction2 = newActionService.extractAndSetJsonPathKeys(newAction);
-                        return newActionService.save(newAction2);
+                        return Mono.just(newActionService.extractAndSetJsonPathKeys(newAction));
                     });
 
                 })
+                .collectList()
+                // Save all the refactored actions at once
+                .flatMapMany(newActionService::saveAll)
                 .map(savedAction -> savedAction.getUnpublishedAction().getName())
                 .collect(toSet())
                 .flatMap(updatedActions -> {
                     // If these actions belonged to collections, update the collection body
                     return Flux.fromIterable(updatableCollectionIds)
                             .flatMap(collectionId -> actionCollectionService.findById(collectionId, MANAGE_ACTIONS))
-                            .flatMap(actionCollection -> {
+                            .map(actionCollection -> {
                                 final ActionCollectionDTO unpublishedCollection = actionCollection.getUnpublishedCollection();
                                 Matcher matcher = oldNamePattern.matcher(unpublishedCollection.getBody());
                                 String newBodyAsString = matcher.replaceAll(newName);
                                 unpublishedCollection.setBody(newBodyAsString);
-                                return actionCollectionService.save(actionCollection);
+                                return actionCollection;
                             })
                             .collectList()
+                            .flatMapMany(actionCollectionService::saveAll)
+                            .then()
                             .thenReturn(updatedActions);
                 });
 
-        return Mono.zip(updateActionsMono, updatePageMono)
-                .flatMap(tuple -> {
-                    Set<String> updatedActionNames = tuple.getT1();
-                    PageDTO page = tuple.getT2();
+        // The layout is refactored from a fresh read of the page if it was updated in the meantime, since the actions
+        // are already refactored by then
+        Mono<LayoutDTO> refactorLayoutMono = Mono.defer(() -> newPageService.findPageById(pageId, MANAGE_PAGES, false))
+                .flatMap(page -> refactorNameInLayout(page, layoutId, oldName, oldNamePattern, newName))
+                .retryWhen(Retry.max(MAX_REFACTOR_NAME_LAYOUT_RETRIES)
+                        .filter(error -> error instanceof AppsmithException
+                                && AppsmithError.STALE_LAYOUT_VERSION.equals(((AppsmithException) error).getError()))
+                        .onRetryExhaustedThrow((retrySpec, retrySignal) -> retrySignal.failure()));
+
+        return updateActionsMono
+                .flatMap(updatedActionNames -> {
                     log.debug("Actions updated due to refactor name in page {} are : {}", pageId, updatedActionNames);
-                    List<Layout> layouts = page.getLayouts();
-                    for (Layout layout : layouts) {
-                        if (layoutId.equals(layout.getId())) {
-                            layout.setDsl(this.unescapeMongoSpecialCharacters(layout));
-                            return updateLayout(page.getId(), layout.getId(), layout);
-                        }
-                    }
-                    return Mono.empty();
+                    return refactorLayoutMono;
                 });
     }
 
+    private Mono<LayoutDTO> refactorNameInLayout(PageDTO page, String layoutId, String oldName, Pattern oldNamePattern, String newName) {
+        Layout layout = findLayoutById(page, layoutId);
+        if (layout == null) {
+            return Mono.empty();
+        }
+
+        if (layout.getDsl() != null && layout.getWidgetIdsReferencingNames() != null) {
+            // Only the widgets referencing the old name are written, the on page load actions are computed
+            // again in any case since they refer to the actions by their name.
+            LayoutPatchDTO layoutPatch = new LayoutPatchDTO();
+            layoutPatch.setDslVersion(layout.getDslVersion());
+            layoutPatch.setPatches(getRefactorNamePatches(layout, oldName, oldNamePattern, newName));
+            return applyLayoutPatch(page.getId(), layoutId, layoutPatch);
+        }
+
+        if (layout.getDsl() != null) {
+            final JsonNode dslNode = objectMapper.convertValue(layout.getDsl(), JsonNode.class);
+            final JsonNode dslNodeAfterReplacement = this.replaceStringInJsonNode(dslNode, oldNamePattern, newName);
+            layout.setDsl(objectMapper.convertValue(dslNodeAfterReplacement, JSONObject.class));
+
+            // DSL has removed all the old names and replaced it with new name. If the change of name
+            // was one of the mongoEscaped widgets, then update the names in the set as well
+            Set<String> mongoEscapedWidgetNames = layout.getMongoEscapedWidgetNames();
+            if (mongoEscapedWidgetNames != null && mongoEscapedWidgetNames.contains(oldName)) {
+                mongoEscapedWidgetNames.remove(oldName);
+                mongoEscapedWidgetNames.add(newName);
+            }
+        }
+        // Saving the layout saves the refactored DSL along with it
+        layout.setDsl(this.unescapeMongoSpecialCharacters(layout));
+        return updateLayout(page.getId(), layout.getId(), layout);
+    }
+
+    /**
+     * @return patches replacing the old name with the new one in the properties of the widgets indexed as referencing
+     * the old name
+     */
+    private List<WidgetPatchDTO> getRefactorNamePatches(Layout layout, String oldName, Pattern oldNamePattern, String newName) {
+        Map<String, Map<String, Object>> widgetsById = DslPatchUtils.getWidgetsById(this.unescapeMongoSpecialCharacters(layout));
+        // Only the first word of the names is indexed, e.g. the name of the collection of a JS action
+        String indexedName = oldName.split(Pattern.quote("."))[0];
+        Set<String> widgetIds = layout.getWidgetIdsReferencingNames().getOrDefault(indexedName, Set.of());
+
+        List<WidgetPatchDTO> patches = new ArrayList<>();
+        for (String widgetId : widgetIds) {
+            Map<String, Object> widget = widgetsById.get(widgetId);
+            if (widget == null) {
+                continue;
+            }
+
+            // The children of the widget are indexed on their own
+            Map<String, Object> widgetProperties = new HashMap<>(widget);
+            widgetProperties.remove(FieldName.CHILDREN);
+            final JsonNode widgetNode = objectMapper.convertValue(widgetProperties, JsonNode.class);
+            final JsonNode widgetNodeAfterReplacement = replaceStringInJsonNode(widgetNode.deepCopy(), oldNamePattern, newName);
+
+            widgetNode.fieldNames().forEachRemaining(property -> {
+                JsonNode value = widgetNodeAfterReplacement.get(property);
+                if (!widgetNode.get(property).equals(value)) {
+                    patches.add(new WidgetPatchDTO(WidgetPatchOperation.REPLACE, widgetId, property,
+                            objectMapper.convertValue(value, Object.class)));
+                }
+            });
+        }
+        return patches;
+    }
+
     private JsonNode replaceStringInJsonNode(JsonNode jsonNode, Pattern oldNamePattern, String newName) {
         // If this is a text node, perform replacement directly
         if (jsonNode.isTextual()) {
@@ -520,6 +587,7 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
      * @param pageId
      * @param layoutId
      * @param escapedWidgetNames
+     * @param widgetIdsReferencingNames
      * @return
      */
     private JSONObject extractAllWidgetNamesAndDynamicBindingsFromDSL(JSONObject dsl,
@@ -527,12 +595,47 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
                                                                       Map<String, Set<String>> widgetDynamicBindingsMap,
                                                                       String pageId,
                                                                       String layoutId,
-                                                                      Set<String> escapedWidgetNames) throws AppsmithException {
+                                                                      Set<String> escapedWidgetNames,
+                                                                      Map<String, Set<String>> widgetIdsReferencingNames) throws AppsmithException {
         if (dsl.get(FieldName.WIDGET_NAME) == null) {
             // This isn't a valid widget configuration. No need to traverse this.
             return dsl;
         }
 
+        extractWidgetNameAndDynamicBindings(dsl, widgetNames, widgetDynamicBindingsMap, pageId, layoutId,
+                escapedWidgetNames, widgetIdsReferencingNames);
+
+        // Fetch the children of the current node in the DSL and recursively iterate over them to extract bindings
+        ArrayList<Object> children = (ArrayList<Object>) dsl.get(FieldName.CHILDREN);
+        if (children != null) {
+            ArrayList<Object> newChildren = new ArrayList<>();
+            for (int i = 0; i < children.size(); i++) {
+                Map data = (Map) children.get(i);
+                JSONObject object = new JSONObject();
+                // If the children tag exists and there are entries within it
+                if (!CollectionUtils.isEmpty(data)) {
+                    object.putAll(data);
+                    JSONObject child = extractAllWidgetNamesAndDynamicBindingsFromDSL(object, widgetNames, widgetDynamicBindingsMap, pageId, layoutId,
+                            escapedWidgetNames, widgetIdsReferencingNames);
+                    newChildren.add(child);
+                }
+            }
+            dsl.put(FieldName.CHILDREN, newChildren);
+        }
+
+        return dsl;
+    }
+
+    /**
+     * Extracts the name, the dynamic bindings and the name references of the widget itself, leaving out its children.
+     */
+    private void extractWidgetNameAndDynamicBindings(JSONObject dsl,
+                                                     Set<String> widgetNames,
+                                                     Map<String, Set<String>> widgetDynamicBindingsMap,
+                                                     String pageId,
+                                                     String layoutId,
+                                                     Set<String> escapedWidgetNames,
+                                                     Map<String, Set<String>> widgetIdsReferencingNames) throws AppsmithException {
         String widgetName = dsl.getAsString(FieldName.WIDGET_NAME);
         String widgetId = dsl.getAsString(FieldName.WIDGET_ID);
         String widgetType = dsl.getAsString(FieldName.WIDGET_TYPE);
@@ -540,6 +643,14 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
         // Since we are parsing this widget in this, add it to the global set of widgets found so far in the DSL.
         widgetNames.add(widgetName);
 
+        // The names in the bindings are indexed below, along with the bindings themselves
+        addNameReferences(widgetIdsReferencingNames, widgetId, Set.of(widgetName));
+        addNameReferences(widgetIdsReferencingNames, widgetId, extractTriggerMustacheKeys(dsl));
+        if (FieldName.LIST_WIDGET.equals(widgetType) && dsl.get(FieldName.TEMPLATE) instanceof Map) {
+            // The names of the widgets in a list are the keys of its template
+            addNameReferences(widgetIdsReferencingNames, widgetId, ((Map<String, Object>) dsl.get(FieldName.TEMPLATE)).keySet());
+        }
+
         // Start by picking all fields where we expect to find dynamic bindings for this particular widget
         ArrayList<Object> dynamicallyBoundedPathList = (ArrayList<Object>) dsl.get(FieldName.DYNAMIC_BINDING_PATH_LIST);
 
@@ -549,92 +660,216 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
             // Each of these might have nested structures, so we iterate through them to find the leaf node for each
             for (Object x : dynamicallyBoundedPathList) {
                 final String fieldPath = String.valueOf(((Map) x).get(FieldName.KEY));
-                String[] fields = fieldPath.split("[].\\[]");
-                // For nested fields, the parent dsl to search in would shift by one level every iteration
-                Object parent = dsl;
-                Iterator<String> fieldsIterator = Arrays.stream(fields).filter(fieldToken -> !fieldToken.isBlank()).iterator();
-                boolean isLeafNode = false;
-                // This loop will end at either a leaf node, or the last identified JSON field (by throwing an exception)
-                // Valid forms of the fieldPath for this search could be:
+                // The path is walked until it reaches a leaf node. Valid forms of the fieldPath for this search could be:
                 // root.field.list[index].childField.anotherList.indexWithDotOperator.multidimensionalList[index1][index2]
-                while (fieldsIterator.hasNext()) {
-                    String nextKey = fieldsIterator.next();
-                    if (parent instanceof JSONObject) {
-                        parent = ((JSONObject) parent).get(nextKey);
-                    } else if (parent instanceof Map) {
-                        parent = ((Map<String, ?>) parent).get(nextKey);
-                    } else if (parent instanceof List) {
-                        if (Pattern.matches(Pattern.compile("[0-9]+").toString(), nextKey)) {
-                            try {
-                                parent = ((List) parent).get(Integer.parseInt(nextKey));
-                            } catch (IndexOutOfBoundsException e) {
-                                // The index being referred does not exist. Hence the path would not exist.
-                                throw new AppsmithException(AppsmithError.INVALID_DYNAMIC_BINDING_REFERENCE, widgetType,
-                                        widgetName, widgetId, fieldPath, pageId, layoutId, null);
-                            }
-                        } else {
+                final String leafNode;
+                try {
+                    leafNode = BindingPath.parse(fieldPath).findString(dsl);
+                } catch (IllegalArgumentException e) {
+                    // A key or an index in the path does not exist. Hence the path would not exist.
+                    throw new AppsmithException(AppsmithError.INVALID_DYNAMIC_BINDING_REFERENCE, widgetType,
+                            widgetName, widgetId, fieldPath, pageId, layoutId, null);
+                }
+
+                // Only extract mustache keys from leaf nodes
+                if (leafNode != null) {
+
+                    // We found the path. But if the path does not have any mustache bindings, throw the error
+                    if (!MustacheHelper.laxIsBindingPresentInString(leafNode)) {
+                        try {
+                            String bindingAsString = objectMapper.writeValueAsString(leafNode);
                             throw new AppsmithException(AppsmithError.INVALID_DYNAMIC_BINDING_REFERENCE, widgetType,
-                                    widgetName, widgetId, fieldPath, pageId, layoutId, null);
+                                    widgetName, widgetId, fieldPath, pageId, layoutId, bindingAsString);
+                        } catch (JsonProcessingException e) {
+                            throw new AppsmithException(AppsmithError.JSON_PROCESSING_ERROR, leafNode);
                         }
                     }
-                    // After updating the parent, check for the types
-                    if (parent == null) {
-                        throw new AppsmithException(AppsmithError.INVALID_DYNAMIC_BINDING_REFERENCE, widgetType,
-                                widgetName, widgetId, fieldPath, pageId, layoutId, null);
-                    } else if (parent instanceof String) {
-                        // If we get String value, then this is a leaf node
-                        isLeafNode = true;
-                    }
-
-                    // Only extract mustache keys from leaf nodes
-                    if (isLeafNode) {
-
-                        // We found the path. But if the path does not have any mustache bindings, throw the error
-                        if (!MustacheHelper.laxIsBindingPresentInString((String) parent)) {
-                            try {
-                                String bindingAsString = objectMapper.writeValueAsString(parent);
-                                throw new AppsmithException(AppsmithError.INVALID_DYNAMIC_BINDING_REFERENCE, widgetType,
-                                        widgetName, widgetId, fieldPath, pageId, layoutId, bindingAsString);
-                            } catch (JsonProcessingException e) {
-                                throw new AppsmithException(AppsmithError.JSON_PROCESSING_ERROR, parent);
-                            }
-                        }
 
-                        // Stricter extraction of dynamic bindings
-                        Set<String> mustacheKeysFromFields = MustacheHelper.extractMustacheKeysFromFields(parent);
+                    // Stricter extraction of dynamic bindings
+                    Set<String> mustacheKeysFromFields = MustacheHelper.extractMustacheKeysFromFields(leafNode);
 
-                        String completePath = widgetName + "." + fieldPath;
-                        if (widgetDynamicBindingsMap.containsKey(completePath)) {
-                            Set<String> mustacheKeysForWidget = widgetDynamicBindingsMap.get(completePath);
-                            mustacheKeysFromFields.addAll(mustacheKeysForWidget);
-                        }
-                        widgetDynamicBindingsMap.put(completePath, mustacheKeysFromFields);
+                    String completePath = widgetName + "." + fieldPath;
+                    if (widgetDynamicBindingsMap.containsKey(completePath)) {
+                        Set<String> mustacheKeysForWidget = widgetDynamicBindingsMap.get(completePath);
+                        mustacheKeysFromFields.addAll(mustacheKeysForWidget);
                     }
+                    widgetDynamicBindingsMap.put(completePath, mustacheKeysFromFields);
+                    addNameReferences(widgetIdsReferencingNames, widgetId, mustacheKeysFromFields);
                 }
             }
         }
 
         // Escape the widget keys if required and update dsl and escapedWidgetNames
         removeSpecialCharactersFromKeys(dsl, escapedWidgetNames);
+    }
 
-        // Fetch the children of the current node in the DSL and recursively iterate over them to extract bindings
-        ArrayList<Object> children = (ArrayList<Object>) dsl.get(FieldName.CHILDREN);
-        ArrayList<Object> newChildren = new ArrayList<>();
-        if (children != null) {
-            for (int i = 0; i < children.size(); i++) {
-                Map data = (Map) children.get(i);
-                JSONObject object = new JSONObject();
-                // If the children tag exists and there are entries within it
-                if (!CollectionUtils.isEmpty(data)) {
+    /**
+     * Extracts the widget names, dynamic bindings and name references of the DSL. The top level children of large DSLs
+     * are traversed in parallel on the DSL traversal scheduler, each into sets and maps of its own, which are then merged
+     * in the order of the children. The result is the same as a traversal of the DSL in order.
+     */
+    private Mono<DslTraversal> traverseDsl(JSONObject dsl, String pageId, String layoutId) {
+        if (dsl.get(FieldName.WIDGET_NAME) == null || !isParallelTraversalRequired(dsl)) {
+            return Mono.fromCallable(() -> traverseWidget(dsl, pageId, layoutId));
+        }
+
+        DslTraversal traversal = new DslTraversal();
+        traversal.dsl = dsl;
+        try {
+            extractWidgetNameAndDynamicBindings(dsl, traversal.widgetNames, traversal.widgetDynamicBindingsMap, pageId,
+                    layoutId, traversal.escapedWidgetNames, traversal.widgetIdsReferencingNames);
+        } catch (AppsmithException e) {
+            return Mono.error(e);
+        }
+
+        if (dsl.get(FieldName.CHILDREN) == null) {
+            return Mono.just(traversal);
+        }
+
+        List<Map> nonEmptyChildren = getNonEmptyChildren((List<Object>) dsl.get(FieldName.CHILDREN));
+        return traverseChildrenInParallel(nonEmptyChildren, data -> {
+                    JSONObject object = new JSONObject();
                     object.putAll(data);
-                    JSONObject child = extractAllWidgetNamesAndDynamicBindingsFromDSL(object, widgetNames, widgetDynamicBindingsMap, pageId, layoutId, escapedWidgetNames);
-                    newChildren.add(child);
+                    return traverseWidget(object, pageId, layoutId);
+                })
+                .map(childTraversals -> {
+                    ArrayList<Object> newChildren = new ArrayList<>();
+                    for (DslTraversal childTraversal : childTraversals) {
+                        newChildren.add(childTraversal.dsl);
+                        traversal.widgetNames.addAll(childTraversal.widgetNames);
+                        traversal.escapedWidgetNames.addAll(childTraversal.escapedWidgetNames);
+                        mergeSets(traversal.widgetDynamicBindingsMap, childTraversal.widgetDynamicBindingsMap);
+                        mergeSets(traversal.widgetIdsReferencingNames, childTraversal.widgetIdsReferencingNames);
+                    }
+                    dsl.put(FieldName.CHILDREN, newChildren);
+                    return traversal;
+                });
+    }
+
+    private DslTraversal traverseWidget(JSONObject widget, String pageId, String layoutId) throws AppsmithException {
+        DslTraversal traversal = new DslTraversal();
+        traversal.dsl = extractAllWidgetNamesAndDynamicBindingsFromDSL(widget, traversal.widgetNames,
+                traversal.widgetDynamicBindingsMap, pageId, layoutId, traversal.escapedWidgetNames,
+                traversal.widgetIdsReferencingNames);
+        return traversal;
+    }
+
+    /**
+     * Widget names, bindings and references found in a subtree of the DSL, when it is traversed on its own.
+     */
+    private static class DslTraversal {
+        JSONObject dsl;
+        final Set<String> widgetNames = new HashSet<>();
+        final Map<String, Set<String>> widgetDynamicBindingsMap = new HashMap<>();
+        final Set<String> escapedWidgetNames = new HashSet<>();
+        final Map<String, Set<String>> widgetIdsReferencingNames = new HashMap<>();
+    }
+
+    private static void mergeSets(Map<String, Set<String>> target, Map<String, Set<String>> source) {
+        source.forEach((key, values) -> target.merge(key, values, (targetValues, sourceValues) -> {
+            targetValues.addAll(sourceValues);
+            return targetValues;
+        }));
+    }
+
+    private static List<Map> getNonEmptyChildren(List<Object> children) {
+        List<Map> nonEmptyChildren = new ArrayList<>();
+        for (Object child : children) {
+            if (!CollectionUtils.isEmpty((Map) child)) {
+                nonEmptyChildren.add((Map) child);
+            }
+        }
+        return nonEmptyChildren;
+    }
+
+    /**
+     * Counts the widgets in the DSL, stopping once the limit is reached.
+     */
+    private static int countWidgets(Map<String, Object> dsl, int limit) {
+        int count = 1;
+        if (dsl.get(FieldName.CHILDREN) instanceof List) {
+            for (Object child : (List<Object>) dsl.get(FieldName.CHILDREN)) {
+                if (count >= limit) {
+                    break;
+                }
+                if (child instanceof Map) {
+                    count += countWidgets((Map<String, Object>) child, limit - count);
                 }
             }
-            dsl.put(FieldName.CHILDREN, newChildren);
         }
+        return count;
+    }
 
-        return dsl;
+    private static boolean isParallelTraversalRequired(Map<String, Object> dsl) {
+        return countWidgets(dsl, PARALLEL_DSL_TRAVERSAL_WIDGET_THRESHOLD) >= PARALLEL_DSL_TRAVERSAL_WIDGET_THRESHOLD;
+    }
+
+    /**
+     * Traverses each of the children of a widget on the DSL traversal scheduler.
+     *
+     * @param children  : non empty children to traverse
+     * @param traversal : traverses the subtree of a child, on its own
+     * @return the results of the traversals, in the order of the children
+     */
+    private <T> Mono<List<T>> traverseChildrenInParallel(List<Map> children, Function<Map, T> traversal) {
+        return Flux.fromIterable(children)
+                .flatMapSequential(child -> Mono.fromCallable(() -> traversal.apply(child))
+                        .subscribeOn(dslTraversalScheduler)
+                        .materialize())
+                .collectList()
+                .flatMap(signals -> {
+                    List<T> results = new ArrayList<>();
+                    for (Signal<T> signal : signals) {
+                        // The error of the first child that failed is thrown, the same as traversing the children in
+                        // order would
+                        if (signal.isOnError()) {
+                            return Mono.error(signal.getThrowable());
+                        }
+                        results.add(signal.get());
+                    }
+                    return Mono.just(results);
+                });
+    }
+
+    /**
+     * Indexes the widget under the first word of each of the names in the mustache keys, e.g. `JSObject1` for
+     * `{{ JSObject1.myFun() }}`, since that is the name that gets refactored when either the collection or the action
+     * is renamed.
+     */
+    private void addNameReferences(Map<String, Set<String>> widgetIdsReferencingNames, String widgetId, Set<String> mustacheKeys) {
+        for (String mustacheKey : mustacheKeys) {
+            for (String word : MustacheHelper.getWordsFromMustache(mustacheKey)) {
+                String name = word.split(Pattern.quote("."))[0];
+                widgetIdsReferencingNames.computeIfAbsent(name, key -> new HashSet<>()).add(widgetId);
+            }
+        }
+    }
+
+    /**
+     * @return the mustache keys in the triggers of the widget, e.g. `onClick`. Unlike the bindings, these aren't
+     * validated, hence paths which don't lead to a string are ignored.
+     */
+    private Set<String> extractTriggerMustacheKeys(JSONObject dsl) {
+        Set<String> mustacheKeys = new HashSet<>();
+        if (!(dsl.get(FieldName.DYNAMIC_TRIGGER_PATH_LIST) instanceof List)) {
+            return mustacheKeys;
+        }
+
+        for (Object trigger : (List<Object>) dsl.get(FieldName.DYNAMIC_TRIGGER_PATH_LIST)) {
+            if (!(trigger instanceof Map)) {
+                continue;
+            }
+            String value;
+            try {
+                value = BindingPath.parse(String.valueOf(((Map) trigger).get(FieldName.KEY))).findString(dsl);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            if (value != null) {
+                mustacheKeys.addAll(MustacheHelper.extractMustacheKeys(value));
+            }
+        }
+        return mustacheKeys;
     }
 
     private JSONObject removeSpecialCharactersFromKeys(JSONObject dsl, Set<String> escapedWidgetNames) {
@@ -857,23 +1092,57 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
 
     @Override
     public Mono<LayoutDTO> updateLayout(String pageId, String layoutId, Layout layout) {
+        Mono<PageDTO> pageMono = newPageService.findByIdAndLayoutsId(pageId, layoutId, MANAGE_PAGES, false)
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND,
+                        FieldName.PAGE_ID + " or " + FieldName.LAYOUT_ID, pageId + ", " + layoutId)));
+
+        return updateLayout(pageId, layoutId, layout, pageMono, page -> applicationService
+                .saveLastEditInformation(page.getApplicationId())
+                .then(newPageService.saveUnpublishedPage(page))
+                .flatMap(savedPage -> Mono.justOrEmpty(findLayoutById(savedPage, layoutId))));
+    }
+
+    /**
+     * Computes the widget names, the on page load actions and the dependency graph of the layout, and saves them with
+     * the layout to the page.
+     *
+     * @param pageMono   : page of the layout, as stored before the update
+     * @param saveLayout : saves the page, with the layout updated, and returns the saved layout
+     */
+    private Mono<LayoutDTO> updateLayout(String pageId,
+                                         String layoutId,
+                                         Layout layout,
+                                         Mono<PageDTO> pageMono,
+                                         Function<PageDTO, Mono<Layout>> saveLayout) {
         JSONObject dsl = layout.getDsl();
         if (dsl == null) {
             // There is no DSL here. No need to process anything. Return as is.
             return Mono.just(generateResponseDTO(layout));
         }
 
-        Set<String> widgetNames = new HashSet<>();
-        Map<String, Set<String>> widgetDynamicBindingsMap = new HashMap<>();
-        Set<String> escapedWidgetNames = new HashSet<>();
-        try {
-            dsl = extractAllWidgetNamesAndDynamicBindingsFromDSL(dsl, widgetNames, widgetDynamicBindingsMap, pageId, layoutId, escapedWidgetNames);
-        } catch (Throwable t) {
-            return sendUpdateLayoutAnalyticsEvent(pageId, layoutId, dsl, false, t)
-                    .then(Mono.error(t));
-        }
+        return traverseDsl(dsl, pageId, layoutId)
+                .onErrorResume(error -> sendUpdateLayoutAnalyticsEvent(pageId, layoutId, dsl, false, error)
+                        .then(Mono.error(error)))
+                .flatMap(traversal -> updateTraversedLayout(pageId, layoutId, layout, traversal, pageMono, saveLayout));
+    }
+
+    private Mono<LayoutDTO> updateTraversedLayout(String pageId,
+                                                  String layoutId,
+                                                  Layout layout,
+                                                  DslTraversal traversal,
+                                                  Mono<PageDTO> pageMono,
+                                                  Function<PageDTO, Mono<Layout>> saveLayout) {
+        Set<String> widgetNames = traversal.widgetNames;
+        Map<String, Set<String>> widgetDynamicBindingsMap = traversal.widgetDynamicBindingsMap;
+        Set<String> escapedWidgetNames = traversal.escapedWidgetNames;
+        Map<String, Set<String>> widgetIdsReferencingNames = traversal.widgetIdsReferencingNames;
 
         layout.setWidgetNames(widgetNames);
+        // The widgets are referred to by their id in the index, which the widgets of some older DSLs don't have
+        boolean isEveryWidgetIndexed = widgetIdsReferencingNames.values()
+                .stream()
+                .noneMatch(widgetIds -> widgetIds.contains(null));
+        layout.setWidgetIdsReferencingNames(isEveryWidgetIndexed ? widgetIdsReferencingNames : null);
 
         if (!escapedWidgetNames.isEmpty()) {
             layout.setMongoEscapedWidgetNames(escapedWidgetNames);
@@ -887,33 +1156,42 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
         List<String> messages = new ArrayList<>();
 
         AtomicReference<Boolean> validOnPageLoadActions = new AtomicReference<>(Boolean.TRUE);
+        AtomicReference<Boolean> reusedOnPageLoadActions = new AtomicReference<>(FALSE);
+        AtomicReference<String> onPageLoadActionsSignature = new AtomicReference<>();
 
-        Mono<List<Set<DslActionDTO>>> allOnLoadActionsMono = pageLoadActionsUtil
-                .findAllOnLoadActions(pageId, widgetNames, edges, widgetDynamicBindingsMap, flatmapPageLoadActions, actionsUsedInDSL)
-                .onErrorResume(AppsmithException.class, error -> {
-                    log.info(error.getMessage());
-                    validOnPageLoadActions.set(FALSE);
-                    return Mono.just(new ArrayList<>());
+        Mono<PageDTO> storedPageMono = pageMono.cache();
+
+        Mono<List<Set<DslActionDTO>>> allOnLoadActionsMono = Mono.zip(storedPageMono,
+                        pageLoadActionsUtil.getOnPageLoadActionsSignature(pageId, widgetNames, widgetDynamicBindingsMap))
+                .flatMap(tuple -> {
+                    Layout storedLayout = findLayoutById(tuple.getT1(), layoutId);
+                    onPageLoadActionsSignature.set(tuple.getT2());
+
+                    // Most of the layout updates only move or restyle widgets. As long as neither the widgets' bindings
+                    // nor the actions in the page change, the on page load actions stored with the layout still hold.
+                    if (isOnPageLoadActionsComputationReusable(storedLayout, tuple.getT2())) {
+                        edges.addAll(storedLayout.getAllOnPageLoadActionEdges());
+                        if (storedLayout.getActionsUsedInDynamicBindings() != null) {
+                            actionsUsedInDSL.addAll(storedLayout.getActionsUsedInDynamicBindings());
+                        }
+                        reusedOnPageLoadActions.set(Boolean.TRUE);
+                        return Mono.just(storedLayout.getLayoutOnLoadActions());
+                    }
+
+                    return pageLoadActionsUtil
+                            .findAllOnLoadActions(pageId, widgetNames, edges, widgetDynamicBindingsMap, flatmapPageLoadActions, actionsUsedInDSL)
+                            .onErrorResume(AppsmithException.class, error -> {
+                                log.info(error.getMessage());
+                                validOnPageLoadActions.set(FALSE);
+                                return Mono.just(new ArrayList<>());
+                            });
                 });
 
-        // First update the actions and set execute on load to true
-        JSONObject finalDsl = dsl;
+        // First update the page layout with the page load actions and the graph. The actions are only updated once the
+        // layout has been saved, since saving it may be rejected, e.g. when patching a DSL that has been updated since.
+        JSONObject finalDsl = traversal.dsl;
         return allOnLoadActionsMono
-                .flatMap(allOnLoadActions -> {
-                    // If there has been an error (e.g. cyclical dependency), then dont update any actions.
-                    // This is so that unnecessary updates don't happen to actions while the page is in invalid state.
-                    if (!validOnPageLoadActions.get()) {
-                        return Mono.just(allOnLoadActions);
-                    }
-                    // Update these actions to be executed on load, unless the user has touched the executeOnLoad setting for this
-                    return newActionService
-                            .updateActionsExecuteOnLoad(flatmapPageLoadActions, pageId, actionUpdates, messages)
-                            .thenReturn(allOnLoadActions);
-                })
-                .zipWith(newPageService.findByIdAndLayoutsId(pageId, layoutId, MANAGE_PAGES, false)
-                        .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND,
-                                FieldName.PAGE_ID + " or " + FieldName.LAYOUT_ID, pageId + ", " + layoutId))))
-                // Now update the page layout with the page load actions and the graph.
+                .zipWith(storedPageMono)
                 .flatMap(tuple -> {
                     List<Set<DslActionDTO>> onLoadActions = tuple.getT1();
                     PageDTO page = tuple.getT2();
@@ -928,9 +1206,13 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
                             layout.setAllOnPageLoadActionNames(actionNames);
                             layout.setAllOnPageLoadActionEdges(edges);
                             layout.setActionsUsedInDynamicBindings(actionsUsedInDSL);
+                            // Updating the actions below changes their versions, in which case this signature won't match
+                            // the next time around
+                            layout.setOnPageLoadActionsSignature(onPageLoadActionsSignature.get());
                             // The below field is to ensure that we record if the page load actions computation was valid
                             // when last stored in the database.
                             layout.setValidOnPageLoadActions(validOnPageLoadActions.get());
+                            layout.setDslVersion(storedLayout.getDslVersion() == null ? 1 : storedLayout.getDslVersion() + 1);
 
                             BeanUtils.copyProperties(layout, storedLayout);
                             storedLayout.setId(layoutId);
@@ -939,17 +1221,22 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
                         }
                     }
                     page.setLayouts(layoutList);
-                    return applicationService.saveLastEditInformation(page.getApplicationId())
-                            .then(newPageService.saveUnpublishedPage(page));
+                    return saveLayout.apply(page);
                 })
-                .flatMap(page -> {
-                    List<Layout> layoutList = page.getLayouts();
-                    for (Layout storedLayout : layoutList) {
-                        if (storedLayout.getId().equals(layoutId)) {
-                            return Mono.just(storedLayout);
-                        }
+                .flatMap(savedLayout -> {
+                    // If there has been an error (e.g. cyclical dependency), then dont update any actions.
+                    // This is so that unnecessary updates don't happen to actions while the page is in invalid state.
+                    // The actions have already been updated when the on page load actions are the stored ones.
+                    if (!validOnPageLoadActions.get() || reusedOnPageLoadActions.get()) {
+                        return Mono.just(savedLayout);
                     }
-                    return Mono.empty();
+                    // Update these actions to be executed on load, unless the user has touched the executeOnLoad setting for this
+                    return newActionService
+                            .updateActionsExecuteOnLoad(flatmapPageLoadActions, pageId, actionUpdates, messages)
+                            // The signature saved with the layout would otherwise skip updating the actions next time
+                            .onErrorResume(error -> clearOnPageLoadActionsSignature(pageId, savedLayout)
+                                    .then(Mono.error(error)))
+                            .thenReturn(savedLayout);
                 })
                 .map(savedLayout -> {
                     savedLayout.setDsl(this.unescapeMongoSpecialCharacters(savedLayout));
@@ -965,6 +1252,33 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
                 });
     }
 
+    private Mono<Void> clearOnPageLoadActionsSignature(String pageId, Layout layout) {
+        return newPageService
+                .updateUnpublishedLayout(pageId, layout.getId(), layout.getDslVersion(),
+                        Collections.singletonMap(fieldName(QLayout.layout.onPageLoadActionsSignature), null), MANAGE_PAGES)
+                .then();
+    }
+
+    private Layout findLayoutById(PageDTO page, String layoutId) {
+        return page.getLayouts()
+                .stream()
+                .filter(layout -> layoutId.equals(layout.getId()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * The on page load actions stored with a layout can be reused if they were computed successfully, from the same
+     * widget names and bindings, and from the same versions of the actions in the page.
+     */
+    private boolean isOnPageLoadActionsComputationReusable(Layout storedLayout, String onPageLoadActionsSignature) {
+        return storedLayout != null
+                && Boolean.TRUE.equals(storedLayout.getValidOnPageLoadActions())
+                && storedLayout.getLayoutOnLoadActions() != null
+                && storedLayout.getAllOnPageLoadActionEdges() != null
+                && onPageLoadActionsSignature.equals(storedLayout.getOnPageLoadActionsSignature());
+    }
+
     @Override
     public Mono<LayoutDTO> updateLayout(String defaultPageId, String layoutId, Layout layout, String branchName) {
         if (StringUtils.isEmpty(branchName)) {
@@ -975,6 +1289,152 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
                 .map(responseUtils::updateLayoutDTOWithDefaultResources);
     }
 
+    /**
+     * Applies the changes to the widgets of the layout, and only writes the properties of the widgets that were changed
+     * to the page, instead of the whole DSL. The changes are rejected if the DSL has been updated since the version they
+     * were made against.
+     */
+    @Override
+    public Mono<LayoutDTO> patchLayout(String pageId, String layoutId, LayoutPatchDTO layoutPatch) {
+        if (layoutPatch == null || CollectionUtils.isEmpty(layoutPatch.getPatches())) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.PATCHES));
+        }
+
+        return applyLayoutPatch(pageId, layoutId, layoutPatch);
+    }
+
+    private Mono<LayoutDTO> applyLayoutPatch(String pageId, String layoutId, LayoutPatchDTO layoutPatch) {
+        return newPageService.findByIdAndLayoutsId(pageId, layoutId, MANAGE_PAGES, false)
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND,
+                        FieldName.PAGE_ID + " or " + FieldName.LAYOUT_ID, pageId + ", " + layoutId)))
+                .flatMap(page -> {
+                    Layout storedLayout = findLayoutById(page, layoutId);
+                    if (!Objects.equals(layoutPatch.getDslVersion(), storedLayout.getDslVersion())) {
+                        return Mono.error(new AppsmithException(AppsmithError.STALE_LAYOUT_VERSION, layoutId,
+                                layoutPatch.getDslVersion()));
+                    }
+                    if (storedLayout.getDsl() == null) {
+                        return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.DSL));
+                    }
+
+                    // The widgets are written at their path in the DSL as stored
+                    Map<String, String> storedWidgetPaths = DslPatchUtils.getWidgetPaths(storedLayout.getDsl());
+
+                    // Apply the changes to a copy of the DSL, the stored one is still needed to update the layout
+                    JSONObject dsl = objectMapper.convertValue(unescapeMongoSpecialCharacters(storedLayout), JSONObject.class);
+                    Map<String, Map<String, Object>> widgetsById = DslPatchUtils.getWidgetsById(dsl);
+                    Map<String, Set<String>> patchedProperties = new HashMap<>();
+                    try {
+                        for (WidgetPatchDTO patch : layoutPatch.getPatches()) {
+                            Map<String, Object> widget = widgetsById.get(patch.getWidgetId());
+                            if (widget == null) {
+                                throw new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.WIDGET_ID);
+                            }
+
+                            DslPatchUtils.applyPatch(widget, patch);
+                            String patchedProperty = DslPatchUtils.getPatchedProperty(patch);
+                            patchedProperties.computeIfAbsent(patch.getWidgetId(), widgetId -> new HashSet<>())
+                                    .add(patchedProperty);
+
+                            // Widgets may have been added, removed or moved
+                            if (FieldName.CHILDREN.equals(patchedProperty)) {
+                                widgetsById = DslPatchUtils.getWidgetsById(dsl);
+                            }
+                        }
+                    } catch (AppsmithException e) {
+                        return Mono.error(e);
+                    }
+
+                    Layout layout = new Layout();
+                    layout.setId(layoutId);
+                    layout.setScreen(storedLayout.getScreen());
+                    layout.setDsl(dsl);
+
+                    return updateLayout(pageId, layoutId, layout, Mono.just(page), patchedPage -> savePatchedLayout(
+                            patchedPage, layoutId, layoutPatch.getDslVersion(), storedWidgetPaths, patchedProperties));
+                });
+    }
+
+    /**
+     * Writes the patched properties of the widgets, and the fields computed from the DSL, to the layout in the page.
+     *
+     * @param page              : page with the patched layout
+     * @param dslVersion        : version of the DSL the patch was made against
+     * @param storedWidgetPaths : path of the widgets in the stored DSL
+     * @param patchedProperties : properties patched, by the id of their widget
+     * @return the patched layout
+     */
+    private Mono<Layout> savePatchedLayout(PageDTO page,
+                                           String layoutId,
+                                           Long dslVersion,
+                                           Map<String, String> storedWidgetPaths,
+                                           Map<String, Set<String>> patchedProperties) {
+        Layout layout = findLayoutById(page, layoutId);
+        Map<String, Map<String, Object>> widgetsById = DslPatchUtils.getWidgetsById(layout.getDsl());
+        String dslKey = fieldName(QLayout.layout.dsl);
+
+        Map<String, Object> layoutUpdates = new HashMap<>();
+        List<String> patchedPaths = new ArrayList<>();
+        patchedProperties.forEach((widgetId, properties) -> {
+            String widgetPath = storedWidgetPaths.get(widgetId);
+            // Widgets added by the patch are written along with the children of their parent
+            if (widgetPath == null) {
+                return;
+            }
+            Map<String, Object> widget = widgetsById.get(widgetId);
+            // The path of the root widget is empty, its properties are those of the DSL itself
+            String widgetKey = widgetPath.isEmpty() ? dslKey : DslPatchUtils.getPath(dslKey, widgetPath);
+            for (String property : properties) {
+                String path = DslPatchUtils.getPath(widgetKey, property);
+                patchedPaths.add(path);
+                // Properties of widgets that have been removed are unset, unless their parent is written below
+                layoutUpdates.put(path, widget == null ? null : widget.get(property));
+            }
+        });
+
+        // The changes made to the widgets within the children written for their parent are written along with them
+        Collections.sort(patchedPaths);
+        List<String> writtenPaths = new ArrayList<>();
+        for (String path : patchedPaths) {
+            if (writtenPaths.stream().anyMatch(writtenPath -> path.startsWith(writtenPath + "."))) {
+                layoutUpdates.remove(path);
+            } else {
+                writtenPaths.add(path);
+            }
+        }
+
+        layoutUpdates.put(fieldName(QLayout.layout.dslVersion), layout.getDslVersion());
+        layoutUpdates.put(fieldName(QLayout.layout.widgetNames), layout.getWidgetNames());
+        layoutUpdates.put(fieldName(QLayout.layout.widgetIdsReferencingNames), layout.getWidgetIdsReferencingNames());
+        layoutUpdates.put(fieldName(QLayout.layout.mongoEscapedWidgetNames), layout.getMongoEscapedWidgetNames());
+        layoutUpdates.put(fieldName(QLayout.layout.layoutOnLoadActions), layout.getLayoutOnLoadActions());
+        layoutUpdates.put(fieldName(QLayout.layout.allOnPageLoadActionNames), layout.getAllOnPageLoadActionNames());
+        layoutUpdates.put(fieldName(QLayout.layout.allOnPageLoadActionEdges), layout.getAllOnPageLoadActionEdges());
+        layoutUpdates.put(fieldName(QLayout.layout.actionsUsedInDynamicBindings), layout.getActionsUsedInDynamicBindings());
+        layoutUpdates.put(fieldName(QLayout.layout.onPageLoadActionsSignature), layout.getOnPageLoadActionsSignature());
+        layoutUpdates.put(fieldName(QLayout.layout.validOnPageLoadActions), layout.getValidOnPageLoadActions());
+
+        return applicationService.saveLastEditInformation(page.getApplicationId())
+                .then(newPageService.updateUnpublishedLayout(page.getId(), layoutId, dslVersion, layoutUpdates, MANAGE_PAGES))
+                .flatMap(updateResult -> {
+                    // The layout has been updated since it was read
+                    if (updateResult.getMatchedCount() == 0) {
+                        return Mono.error(new AppsmithException(AppsmithError.STALE_LAYOUT_VERSION, layoutId, dslVersion));
+                    }
+                    return Mono.just(layout);
+                });
+    }
+
+    @Override
+    public Mono<LayoutDTO> patchLayout(String defaultPageId, String layoutId, LayoutPatchDTO layoutPatch, String branchName) {
+        if (StringUtils.isEmpty(branchName)) {
+            return patchLayout(defaultPageId, layoutId, layoutPatch);
+        }
+        return newPageService.findByBranchNameAndDefaultPageId(branchName, defaultPageId, MANAGE_PAGES)
+                .flatMap(branchedPage -> patchLayout(branchedPage.getId(), layoutId, layoutPatch))
+                .map(responseUtils::updateLayoutDTOWithDefaultResources);
+    }
+
     private LayoutDTO generateResponseDTO(Layout layout) {
 
         LayoutDTO layoutDTO = new LayoutDTO();
@@ -982,6 +1442,7 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
         layoutDTO.setId(layout.getId());
         layoutDTO.setDsl(layout.getDsl());
         layoutDTO.setScreen(layout.getScreen());
+        layoutDTO.setDslVersion(layout.getDslVersion());
         layoutDTO.setLayoutOnLoadActions(layout.getLayoutOnLoadActions());
         layoutDTO.setUserPermissions(layout.getUserPermissions());
 
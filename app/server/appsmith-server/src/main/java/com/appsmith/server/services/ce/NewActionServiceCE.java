@@ -7,17 +7,22 @@ import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.ExecuteActionBatchDTO;
+import com.appsmith.server.dtos.ExecuteActionBatchResultDTO;
 import com.appsmith.server.dtos.LayoutActionUpdateDTO;
 import com.appsmith.server.services.CrudService;
+import com.mongodb.client.result.UpdateResult;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.codec.multipart.Part;
 import org.springframework.util.MultiValueMap;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 public interface NewActionServiceCE extends CrudService<NewAction, String> {
 
@@ -38,6 +43,12 @@ public interface NewActionServiceCE extends CrudService<NewAction, String> {
     Mono<ActionExecutionResult> executeAction(ExecuteActionDTO executeActionDTO);
 
     Mono<ActionExecutionResult> executeAction(Flux<Part> partsFlux, String branchName);
+
+    Flux<Object> executeActionAndStream(ExecuteActionDTO executeActionDTO);
+
+    Flux<Object> executeActionAndStream(Flux<Part> partsFlux, String branchName);
+
+    Flux<ExecuteActionBatchResultDTO> executeActionBatch(ExecuteActionBatchDTO executeActionBatchDTO, String branchName);
     
     Mono<ActionDTO> getValidActionForExecution(ExecuteActionDTO executeActionDTO, String actionId, NewAction newAction);
 
@@ -77,6 +88,16 @@ public interface NewActionServiceCE extends CrudService<NewAction, String> {
 
     Flux<NewAction> saveAll(List<NewAction> actions);
 
+    Mono<UpdateResult> publishActions(List<String> actionIds);
+
+    Flux<NewAction> findByApplicationIdAndUpdatedSince(String applicationId, Instant updatedSince, AclPermission permission);
+
+    Mono<Long> countByApplicationIdAndNonDeletedEditMode(String applicationId, AclPermission permission);
+
+    Flux<NewAction> findUnpublishedActionVersionsByPageId(String pageId, AclPermission permission);
+
+    Flux<NewAction> findUnpublishedActionsByPageIdAndJsonPathKeysMatching(String pageId, Pattern pattern, AclPermission permission);
+
     Flux<NewAction> findByPageId(String pageId);
 
     Mono<NewAction> archive(NewAction newAction);
@@ -35,9 +35,15 @@ import com.appsmith.server.domains.PluginType;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.ExecuteActionBatchDTO;
+import com.appsmith.server.dtos.ExecuteActionBatchResultDTO;
 import com.appsmith.server.dtos.LayoutActionUpdateDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionCoalescer;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
+import com.appsmith.server.helpers.ActionExecutionPlanCache.ActionExecutionPlan;
+import com.appsmith.server.helpers.ActionResultCache;
 import com.appsmith.server.helpers.DateUtils;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.helpers.PolicyUtils;
@@ -57,6 +63,7 @@ import com.appsmith.server.services.SessionUserService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
@@ -75,6 +82,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import javax.lang.model.SourceVersion;
 import javax.validation.Validator;
@@ -91,9 +99,12 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.helpers.AppsmithBeanUtils.copyNewFieldValuesIntoOldObject;
@@ -122,6 +133,11 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
     public static final String NATIVE_QUERY_PATH_STATUS = NATIVE_QUERY_PATH + "." + STATUS;
     public static final PluginType JS_PLUGIN_TYPE = PluginType.JS;
     public static final String JS_PLUGIN_PACKAGE_NAME = "js-plugin";
+    public static final int DEFAULT_BATCH_EXECUTION_PARALLELISM = 5;
+    public static final int MAX_BATCH_EXECUTION_PARALLELISM = 20;
+
+    // Holds the lookups shared by the actions of a batch, in the context of the batch execution
+    private static final String BATCH_LOOKUPS_CONTEXT_KEY = "batchExecutionLookups";
 
     private final NewActionRepository repository;
     private final DatasourceService datasourceService;
@@ -138,6 +154,9 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
     private final AuthenticationValidator authenticationValidator;
     private final ConfigService configService;
     private final ResponseUtils responseUtils;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
+    private final ActionResultCache actionResultCache;
+    private final ActionExecutionCoalescer actionExecutionCoalescer;
 
     public NewActionServiceCEImpl(Scheduler scheduler,
                                   Validator validator,
@@ -157,7 +176,10 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                                   PolicyUtils policyUtils,
                                   AuthenticationValidator authenticationValidator,
                                   ConfigService configService,
-                                  ResponseUtils responseUtils) {
+                                  ResponseUtils responseUtils,
+                                  ActionExecutionPlanCache actionExecutionPlanCache,
+                                  ActionResultCache actionResultCache,
+                                  ActionExecutionCoalescer actionExecutionCoalescer) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.repository = repository;
@@ -175,6 +197,9 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
         this.objectMapper = new ObjectMapper();
         this.responseUtils = responseUtils;
         this.configService = configService;
+        this.actionExecutionPlanCache = actionExecutionPlanCache;
+        this.actionResultCache = actionResultCache;
+        this.actionExecutionCoalescer = actionExecutionCoalescer;
     }
 
     @Override
@@ -598,72 +623,76 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
     @Override
     public Mono<ActionExecutionResult> executeAction(ExecuteActionDTO executeActionDTO) {
         // 1. Validate input parameters which are required for mustache replacements
-        List<Param> params = executeActionDTO.getParams();
-        if (!CollectionUtils.isEmpty(params)) {
-            for (Param param : params) {
-                // In case the parameter values turn out to be null, set it to empty string instead to allow
-                // the execution to go through no matter what.
-                if (!StringUtils.isEmpty(param.getKey()) && param.getValue() == null) {
-                    param.setValue("");
-                }
-            }
-        }
+        setEmptyValueForNullParams(executeActionDTO);
 
         String actionId = executeActionDTO.getActionId();
         AtomicReference<String> actionName = new AtomicReference<>();
         // Initialize the name to be empty value
         actionName.set("");
+        // A published action that has been executed by this user before needs no lookups in the DB as long as its
+        // execution plan is still cached. Each of the lookups below only happens if there is no cached plan.
+        final boolean isViewMode = TRUE.equals(executeActionDTO.getViewMode());
+        Mono<String> executionPlanKeyMono = isViewMode
+                ? actionExecutionPlanCache.getKey(actionId).cache()
+                : Mono.empty();
+        Mono<ActionExecutionPlan> cachedExecutionPlanMono = executionPlanKeyMono
+                .flatMap(actionExecutionPlanCache::get)
+                .cache();
+
         // 2. Fetch the action from the DB and check if it can be executed
-        Mono<NewAction> actionMono = repository.findById(actionId, EXECUTE_ACTIONS)
-                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, actionId)))
+        Mono<NewAction> actionMono = cachedExecutionPlanMono
+                .map(ActionExecutionPlan::getNewAction)
+                .switchIfEmpty(repository.findById(actionId, EXECUTE_ACTIONS)
+                        .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, actionId))))
                 .cache();
 
-        Mono<ActionDTO> actionDTOMono = actionMono
-                .flatMap(action -> getValidActionForExecution(executeActionDTO, actionId, action))
+        Mono<ActionDTO> resolvedActionDTOMono = cachedExecutionPlanMono
+                .map(ActionExecutionPlan::getAction)
+                .switchIfEmpty(actionMono
+                        .flatMap(action -> getValidActionForExecution(executeActionDTO, actionId, action)))
                 .cache();
 
         // 3. Instantiate the implementation class based on the query type
 
-        Mono<Datasource> datasourceMono = actionDTOMono
-                .flatMap(action -> {
-                    // Global datasource requires us to fetch the datasource from DB.
-                    if (action.getDatasource() != null && action.getDatasource().getId() != null) {
-                        return datasourceService.findById(action.getDatasource().getId(), EXECUTE_DATASOURCES)
-                                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND,
-                                        FieldName.DATASOURCE,
-                                        action.getDatasource().getId())));
-                    }
+        Mono<Datasource> resolvedDatasourceMono = cachedExecutionPlanMono
+                .map(ActionExecutionPlan::getDatasource)
+                .switchIfEmpty(getDatasourceForExecution(resolvedActionDTOMono))
+                .cache();
 
-                    // This is a nested datasource. Return as is.
-                    return Mono.justOrEmpty(action.getDatasource());
-                })
+        Mono<Plugin> pluginMono = cachedExecutionPlanMono
+                .map(ActionExecutionPlan::getPlugin)
+                .switchIfEmpty(getPluginForExecution(resolvedDatasourceMono, actionId))
                 .cache();
 
-        Mono<Plugin> pluginMono = datasourceMono
-                .flatMap(datasource -> {
-                    // For embedded datasources, validate the datasource for each execution
-                    if (datasource.getId() == null) {
-                        return datasourceService.validateDatasource(datasource);
-                    }
+        Mono<PluginExecutor> pluginExecutorMono = cachedExecutionPlanMono
+                .map(ActionExecutionPlan::getPluginExecutor)
+                .switchIfEmpty(pluginExecutorHelper.getPluginExecutor(pluginMono))
+                .cache();
 
-                    // The external datasources have already been validated. No need to validate again.
-                    return Mono.just(datasource);
-                })
-                .flatMap(datasource -> {
-                    Set<String> invalids = datasource.getInvalids();
-                    if (!CollectionUtils.isEmpty(invalids)) {
-                        log.error("Unable to execute actionId: {} because it's datasource is not valid. Cause: {}",
-                                actionId, ArrayUtils.toString(invalids));
-                        return Mono.error(new AppsmithException(AppsmithError.INVALID_DATASOURCE,
-                                datasource.getName(),
-                                ArrayUtils.toString(invalids)));
-                    }
-                    return pluginService.findById(datasource.getPluginId());
-                })
-                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN)))
+        Mono<Map> editorConfigLabelMapMono = cachedExecutionPlanMono
+                .map(ActionExecutionPlan::getEditorConfigLabelMap)
+                .switchIfEmpty(getEditorConfigLabelMap(resolvedDatasourceMono))
                 .cache();
 
-        Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
+        // The resolved action and datasource may be shared with other executions through the cache
+        Mono<ActionDTO> actionDTOMono = isViewMode
+                ? resolvedActionDTOMono.map(actionExecutionPlanCache::copyForExecution).cache()
+                : resolvedActionDTOMono;
+
+        Mono<Datasource> datasourceMono = isViewMode
+                ? resolvedDatasourceMono.map(actionExecutionPlanCache::copyForExecution).cache()
+                : resolvedDatasourceMono;
+
+        // Only complete plans get cached, a failed lookup is never cached and fails the same way on the next execution
+        Mono<Void> cacheExecutionPlanMono = executionPlanKeyMono
+                .filterWhen(key -> cachedExecutionPlanMono.hasElement().map(isCached -> !isCached))
+                .flatMap(key -> Mono
+                        .zip(actionMono, resolvedActionDTOMono, resolvedDatasourceMono, pluginMono, pluginExecutorMono,
+                                editorConfigLabelMapMono)
+                        .doOnNext(tuple -> actionExecutionPlanCache.put(key, new ActionExecutionPlan(tuple.getT1(),
+                                tuple.getT2(), tuple.getT3(), tuple.getT4(), tuple.getT5(), tuple.getT6()))))
+                .onErrorResume(error -> Mono.empty())
+                .then();
 
         // 4. Execute the query
         Mono<ActionExecutionResult> actionExecutionResultMono = Mono
@@ -748,27 +777,7 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                             .onErrorResume(e -> {
                                 log.debug("{}: In the action execution error mode.",
                                         Thread.currentThread().getName(), e);
-                                ActionExecutionResult result = new ActionExecutionResult();
-                                result.setBody(e.getMessage());
-                                result.setIsExecutionSuccess(false);
-                                final ActionExecutionRequest actionExecutionRequest = new ActionExecutionRequest();
-                                actionExecutionRequest.setActionId(actionId);
-                                actionExecutionRequest.setRequestedAt(Instant.now());
-                                result.setRequest(actionExecutionRequest);
-                                // Set the status code for Appsmith plugin errors
-                                if (e instanceof AppsmithPluginException) {
-                                    result.setStatusCode(((AppsmithPluginException) e).getAppErrorCode().toString());
-                                    result.setTitle(((AppsmithPluginException) e).getTitle());
-                                    result.setErrorType(((AppsmithPluginException) e).getErrorType());
-                                } else {
-                                    result.setStatusCode(AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode().toString());
-
-                                    if (e instanceof AppsmithException) {
-                                        result.setTitle(((AppsmithException) e).getTitle());
-                                        result.setErrorType(((AppsmithException) e).getErrorType());
-                                    }
-                                }
-                                return Mono.just(result);
+                                return Mono.just(getExecutionErrorResult(e, actionId));
                             })
                             .elapsed()
                             // Now send the analytics event for this execution
@@ -796,30 +805,27 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                                     }
                             );
                 })
-                .onErrorResume(AppsmithException.class, error -> {
-                    ActionExecutionResult result = new ActionExecutionResult();
-                    result.setIsExecutionSuccess(false);
-                    result.setStatusCode(error.getAppErrorCode().toString());
-                    result.setBody(error.getMessage());
-                    result.setTitle(error.getTitle());
-                    result.setErrorType(error.getErrorType());
-                    return Mono.just(result);
-                });
-
-        Mono<Map> editorConfigLabelMapMono = datasourceMono
-                .flatMap(datasource -> {
-                    if (datasource.getId() != null) {
-                        return pluginService.getEditorConfigLabelMap(datasource.getPluginId());
-                    }
-
-                    return Mono.just(new HashMap());
-                });
-
-        return Mono.zip(actionExecutionResultMono, editorConfigLabelMapMono)
+                .onErrorResume(AppsmithException.class, error -> Mono.just(getAppsmithErrorResult(error)));
+
+        // Published read only queries with a result cache TTL are answered with the result of an earlier execution
+        // with the same parameters, as long as it is cached. Their executions are identified by this key. Queries that
+        // haven't opted in this way are always executed, as even a read only query may give a new value every time,
+        // e.g. `SELECT nextval(...)`.
+        Mono<Tuple2<String, Duration>> resultCacheEntryMono = isViewMode
+                ? Mono.zip(actionMono, resolvedActionDTOMono, resolvedDatasourceMono, pluginMono)
+                        .flatMap(tuple -> Mono.justOrEmpty(actionResultCache.getTtl(tuple.getT2(), tuple.getT4()))
+                                .map(ttl -> Tuples.of(actionResultCache.getKey(tuple.getT1(), tuple.getT3(), executeActionDTO), ttl)))
+                        // A failed lookup fails the execution below the same way
+                        .onErrorResume(error -> Mono.empty())
+                        .cache()
+                : Mono.empty();
+
+        Mono<ActionExecutionResult> executedResultMono = Mono.zip(actionExecutionResultMono, editorConfigLabelMapMono)
+                .delayUntil(tuple -> cacheExecutionPlanMono)
                 .flatMap(tuple -> {
                     ActionExecutionResult result = tuple.getT1();
                     // In case the action was executed in view mode, do not return the request object
-                    if (TRUE.equals(executeActionDTO.getViewMode())) {
+                    if (isViewMode) {
                         result.setRequest(null);
                         return Mono.just(result);
                     }
@@ -833,11 +839,257 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
 
                     return Mono.just(result);
                 })
-                .map(result -> addDataTypesAndSetSuggestedWidget(result, executeActionDTO.getViewMode()));
+                .map(result -> addDataTypesAndSetSuggestedWidget(result, executeActionDTO.getViewMode()))
+                .delayUntil(result -> resultCacheEntryMono
+                        .flatMap(entry -> actionResultCache.put(entry.getT1(), result, entry.getT2())));
+
+        // Identical executions of such a query that are running at the same time share a single execution. Each of them
+        // has gone through its own lookups above, i.e. through the permission checks of its own user. The executions
+        // that joined the one in flight are counted in the analytics like the ones that have been executed.
+        Mono<ActionExecutionResult> coalescedResultMono = resultCacheEntryMono
+                .flatMap(entry -> actionExecutionCoalescer.coalesce(entry.getT1(), executedResultMono,
+                        sharedResultMono -> sendReusedResultAnalyticsEvent(sharedResultMono, actionMono, actionDTOMono,
+                                datasourceMono, executeActionDTO.getViewMode(), false, true)))
+                .switchIfEmpty(executedResultMono);
+
+        // Results answered from the cache are counted in the analytics like the ones that have been executed
+        Mono<ActionExecutionResult> cachedResultMono = sendReusedResultAnalyticsEvent(
+                resultCacheEntryMono.flatMap(entry -> actionResultCache.get(entry.getT1())),
+                actionMono, actionDTOMono, datasourceMono, executeActionDTO.getViewMode(), true, false);
+
+        return cachedResultMono
+                .switchIfEmpty(coalescedResultMono);
+    }
+
+    /**
+     * Executes the action the same way as {@link #executeAction(ExecuteActionDTO)} does, but does not wait for the
+     * whole result to be available. The returned Flux emits the result envelope first, i.e. an ActionExecutionResult
+     * without the rows of the body, followed by the rows as the plugin reads them off the data source.
+     * <p>
+     * Any error before the envelope is reported in the envelope itself, like for a regular execution. An error while
+     * the rows are being read terminates the Flux with that error. Since the body is not available upfront, the data
+     * types and suggested widgets are only computed when the envelope carries the body, i.e. when the plugin had no
+     * rows to stream.
+     */
+    @Override
+    public Flux<Object> executeActionAndStream(ExecuteActionDTO executeActionDTO) {
+        setEmptyValueForNullParams(executeActionDTO);
+
+        String actionId = executeActionDTO.getActionId();
+        Mono<NewAction> actionMono = repository.findById(actionId, EXECUTE_ACTIONS)
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, actionId)))
+                .cache();
+
+        Mono<ActionDTO> actionDTOMono = actionMono
+                .flatMap(action -> getValidActionForExecution(executeActionDTO, actionId, action))
+                .cache();
+
+        Mono<Datasource> datasourceMono = getDatasourceForExecution(actionDTOMono);
+
+        Mono<Plugin> pluginMono = getPluginForExecution(datasourceMono, actionId);
+
+        Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
+
+        final Instant requestedAt = Instant.now();
+
+        Flux<Object> executionFlux = Mono
+                .zip(
+                        actionDTOMono,
+                        datasourceMono,
+                        pluginExecutorMono,
+                        pluginMono
+                )
+                .flatMapMany(tuple -> {
+                    final ActionDTO action = tuple.getT1();
+                    final Datasource datasource = tuple.getT2();
+                    final PluginExecutor pluginExecutor = tuple.getT3();
+                    final Plugin plugin = tuple.getT4();
+
+                    ActionConfiguration actionConfiguration = action.getActionConfiguration();
+
+                    Integer timeoutDuration = actionConfiguration.getTimeoutInMillisecond();
+
+                    log.debug("[{}]Execute Action (streaming) called in Page {}, for action id : {}  action name : {}",
+                            Thread.currentThread().getName(),
+                            action.getPageId(), actionId, action.getName());
+
+                    Mono<Datasource> validatedDatasourceMono = authenticationValidator.validateAuthentication(datasource).cache();
+
+                    Flux<Object> pluginExecutionFlux = validatedDatasourceMono
+                            .flatMap(datasource1 -> {
+                                if (plugin.isRemotePlugin()) {
+                                    return datasourceContextService.getRemoteDatasourceContext(plugin, datasource1);
+                                } else {
+                                    return datasourceContextService.getDatasourceContext(datasource1);
+                                }
+                            })
+                            // Now that we have the context (connection details), execute the action.
+                            .flatMapMany(resourceContext -> validatedDatasourceMono
+                                    .flatMapMany(datasource1 -> (Flux<Object>) pluginExecutor.executeParameterizedAndStream(
+                                            resourceContext.getConnection(),
+                                            executeActionDTO,
+                                            datasource1.getDatasourceConfiguration(),
+                                            actionConfiguration
+                                    ))
+                            );
+
+                    // A stale connection can only be detected before the first row has been read, hence it is safe to
+                    // start over with a fresh context.
+                    return pluginExecutionFlux
+                            .onErrorResume(StaleConnectionException.class, error -> {
+                                log.info("Looks like the connection is stale. Retrying with a fresh context.");
+                                return datasourceContextService
+                                        .deleteDatasourceContext(datasource.getId())
+                                        .thenMany(pluginExecutionFlux);
+                            })
+                            // The timeout applies to the result envelope only, the rows may take longer to be read.
+                            .timeout(Mono.delay(Duration.ofMillis(timeoutDuration)), row -> Mono.never())
+                            .onErrorMap(TimeoutException.class,
+                                    error -> new AppsmithPluginException(
+                                            AppsmithPluginError.PLUGIN_QUERY_TIMEOUT_ERROR,
+                                            action.getName(), timeoutDuration
+                                    )
+                            )
+                            .onErrorMap(
+                                    StaleConnectionException.class,
+                                    error -> new AppsmithPluginException(
+                                            AppsmithPluginError.PLUGIN_ERROR,
+                                            "Secondary stale connection error."
+                                    )
+                            );
+                });
+
+        Mono<Map> editorConfigLabelMapMono = getEditorConfigLabelMap(datasourceMono);
+
+        return executionFlux
+                .<Object>switchOnFirst((firstSignal, flux) -> {
+                    if (firstSignal.isOnError()) {
+                        Throwable error = firstSignal.getThrowable();
+                        log.debug("{}: In the action execution error mode.",
+                                Thread.currentThread().getName(), error);
+                        ActionExecutionResult result = getExecutionErrorResult(error, actionId);
+                        if (TRUE.equals(executeActionDTO.getViewMode())) {
+                            result.setRequest(null);
+                        }
+                        return Flux.<Object>just(result);
+                    }
+
+                    if (!firstSignal.hasValue()) {
+                        return flux;
+                    }
+
+                    final ActionExecutionResult result = (ActionExecutionResult) firstSignal.get();
+                    ActionExecutionRequest actionExecutionRequest = result.getRequest();
+                    if (actionExecutionRequest == null) {
+                        actionExecutionRequest = new ActionExecutionRequest();
+                    }
+                    actionExecutionRequest.setActionId(actionId);
+                    actionExecutionRequest.setRequestedAt(requestedAt);
+                    result.setRequest(actionExecutionRequest);
+
+                    final long timeElapsed = Duration.between(requestedAt, Instant.now()).toMillis();
+                    log.debug("{}: Action with id {} execution time to first response : {} ms",
+                            Thread.currentThread().getName(), actionId, timeElapsed);
+
+                    Mono<ActionExecutionResult> envelopeMono = Mono.zip(actionMono, actionDTOMono, datasourceMono, editorConfigLabelMapMono)
+                            .flatMap(tuple -> Mono.when(sendExecuteAnalyticsEvent(tuple.getT1(), tuple.getT2(),
+                                            tuple.getT3(), executeActionDTO.getViewMode(), result, timeElapsed))
+                                    .then(Mono.fromCallable(() -> {
+                                        // In case the action was executed in view mode, do not return the request object
+                                        if (TRUE.equals(executeActionDTO.getViewMode())) {
+                                            result.setRequest(null);
+                                        } else if (result.getRequest().getRequestParams() != null) {
+                                            transformRequestParams(result, tuple.getT4());
+                                        }
+
+                                        if (result.getBody() != null) {
+                                            addDataTypesAndSetSuggestedWidget(result, executeActionDTO.getViewMode());
+                                        }
+
+                                        return result;
+                                    })));
+
+                    return Flux.concat(envelopeMono, flux.skip(1));
+                });
     }
 
     @Override
     public Mono<ActionExecutionResult> executeAction(Flux<Part> partFlux, String branchName) {
+        return createExecuteActionDTO(partFlux, branchName)
+                .flatMap(this::executeAction);
+    }
+
+    @Override
+    public Flux<Object> executeActionAndStream(Flux<Part> partFlux, String branchName) {
+        return createExecuteActionDTO(partFlux, branchName)
+                .flatMapMany(this::executeActionAndStream);
+    }
+
+    /**
+     * Executes the waves of the batch one after the other, and the actions of each wave concurrently. The results are
+     * emitted as soon as each action has been executed, in no particular order within a wave.
+     * <p>
+     * The datasources, plugins and editor config label maps are looked up once for the whole batch. A failing action
+     * gets a failed result like any other execution, and does not keep the other actions from being executed.
+     */
+    @Override
+    public Flux<ExecuteActionBatchResultDTO> executeActionBatch(ExecuteActionBatchDTO executeActionBatchDTO, String branchName) {
+        if (executeActionBatchDTO == null || CollectionUtils.isEmpty(executeActionBatchDTO.getWaves())) {
+            return Flux.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.WAVES));
+        }
+
+        final Integer requestedParallelism = executeActionBatchDTO.getParallelism();
+        final int parallelism = requestedParallelism == null || requestedParallelism <= 0
+                ? DEFAULT_BATCH_EXECUTION_PARALLELISM
+                : Math.min(requestedParallelism, MAX_BATCH_EXECUTION_PARALLELISM);
+
+        return Flux.fromIterable(executeActionBatchDTO.getWaves())
+                .concatMap(wave -> Flux
+                        .fromIterable(wave == null ? List.<ExecuteActionDTO>of() : wave)
+                        .flatMap(executeActionDTO -> executeActionInBatch(executeActionDTO, branchName), parallelism))
+                .contextWrite(context -> context.put(BATCH_LOOKUPS_CONTEXT_KEY, new ConcurrentHashMap<String, Mono<?>>()));
+    }
+
+    private Mono<ExecuteActionBatchResultDTO> executeActionInBatch(ExecuteActionDTO executeActionDTO, String branchName) {
+        final String defaultActionId = executeActionDTO.getActionId();
+        if (defaultActionId == null) {
+            ActionExecutionResult result = getAppsmithErrorResult(
+                    new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.ACTION_ID));
+            return Mono.just(new ExecuteActionBatchResultDTO(null, result));
+        }
+
+        return this.findBranchedIdByBranchNameAndDefaultActionId(branchName, defaultActionId, EXECUTE_ACTIONS)
+                .flatMap(branchedActionId -> {
+                    executeActionDTO.setActionId(branchedActionId);
+                    return executeAction(executeActionDTO);
+                })
+                .onErrorResume(error -> {
+                    ActionExecutionResult result = error instanceof AppsmithException
+                            ? getAppsmithErrorResult((AppsmithException) error)
+                            : getExecutionErrorResult(error, executeActionDTO.getActionId());
+                    if (TRUE.equals(executeActionDTO.getViewMode())) {
+                        result.setRequest(null);
+                    }
+                    return Mono.just(result);
+                })
+                .map(result -> new ExecuteActionBatchResultDTO(defaultActionId, result));
+    }
+
+    /**
+     * Runs the lookup once per batch when the action is executed as part of a batch, and every time otherwise.
+     */
+    private <T> Mono<T> getSharedInBatch(String key, Supplier<Mono<T>> lookup) {
+        return Mono.deferContextual(context -> {
+            if (!context.hasKey(BATCH_LOOKUPS_CONTEXT_KEY)) {
+                return lookup.get();
+            }
+
+            final Map<String, Mono<?>> lookups = context.get(BATCH_LOOKUPS_CONTEXT_KEY);
+            return (Mono<T>) lookups.computeIfAbsent(key, k -> lookup.get().cache());
+        });
+    }
+
+    private Mono<ExecuteActionDTO> createExecuteActionDTO(Flux<Part> partFlux, String branchName) {
 
         final ExecuteActionDTO dto = new ExecuteActionDTO();
         return partFlux
@@ -893,8 +1145,114 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                             executeActionDTO.setActionId(branchedAction.getId());
                             return executeActionDTO;
                         })
-                )
-                .flatMap(this::executeAction);
+                );
+    }
+
+    private void setEmptyValueForNullParams(ExecuteActionDTO executeActionDTO) {
+        List<Param> params = executeActionDTO.getParams();
+        if (!CollectionUtils.isEmpty(params)) {
+            for (Param param : params) {
+                // In case the parameter values turn out to be null, set it to empty string instead to allow
+                // the execution to go through no matter what.
+                if (!StringUtils.isEmpty(param.getKey()) && param.getValue() == null) {
+                    param.setValue("");
+                }
+            }
+        }
+    }
+
+    private Mono<Datasource> getDatasourceForExecution(Mono<ActionDTO> actionDTOMono) {
+        return actionDTOMono
+                .flatMap(action -> {
+                    // Global datasource requires us to fetch the datasource from DB.
+                    if (action.getDatasource() != null && action.getDatasource().getId() != null) {
+                        final String datasourceId = action.getDatasource().getId();
+                        return getSharedInBatch("datasource:" + datasourceId, () -> datasourceService
+                                .findById(datasourceId, EXECUTE_DATASOURCES)
+                                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND,
+                                        FieldName.DATASOURCE,
+                                        datasourceId))))
+                                // The actions of a batch must not see each other's changes to the datasource
+                                .map(actionExecutionPlanCache::copyForExecution);
+                    }
+
+                    // This is a nested datasource. Return as is.
+                    return Mono.justOrEmpty(action.getDatasource());
+                })
+                .cache();
+    }
+
+    private Mono<Plugin> getPluginForExecution(Mono<Datasource> datasourceMono, String actionId) {
+        return datasourceMono
+                .flatMap(datasource -> {
+                    // For embedded datasources, validate the datasource for each execution
+                    if (datasource.getId() == null) {
+                        return datasourceService.validateDatasource(datasource);
+                    }
+
+                    // The external datasources have already been validated. No need to validate again.
+                    return Mono.just(datasource);
+                })
+                .flatMap(datasource -> {
+                    Set<String> invalids = datasource.getInvalids();
+                    if (!CollectionUtils.isEmpty(invalids)) {
+                        log.error("Unable to execute actionId: {} because it's datasource is not valid. Cause: {}",
+                                actionId, ArrayUtils.toString(invalids));
+                        return Mono.error(new AppsmithException(AppsmithError.INVALID_DATASOURCE,
+                                datasource.getName(),
+                                ArrayUtils.toString(invalids)));
+                    }
+                    return getSharedInBatch("plugin:" + datasource.getPluginId(),
+                            () -> pluginService.findById(datasource.getPluginId()));
+                })
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN)))
+                .cache();
+    }
+
+    private Mono<Map> getEditorConfigLabelMap(Mono<Datasource> datasourceMono) {
+        return datasourceMono
+                .flatMap(datasource -> {
+                    if (datasource.getId() != null) {
+                        return getSharedInBatch("editorConfigLabelMap:" + datasource.getPluginId(),
+                                () -> pluginService.getEditorConfigLabelMap(datasource.getPluginId()));
+                    }
+
+                    return Mono.just(new HashMap());
+                });
+    }
+
+    private ActionExecutionResult getAppsmithErrorResult(AppsmithException error) {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(false);
+        result.setStatusCode(error.getAppErrorCode().toString());
+        result.setBody(error.getMessage());
+        result.setTitle(error.getTitle());
+        result.setErrorType(error.getErrorType());
+        return result;
+    }
+
+    private ActionExecutionResult getExecutionErrorResult(Throwable e, String actionId) {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setBody(e.getMessage());
+        result.setIsExecutionSuccess(false);
+        final ActionExecutionRequest actionExecutionRequest = new ActionExecutionRequest();
+        actionExecutionRequest.setActionId(actionId);
+        actionExecutionRequest.setRequestedAt(Instant.now());
+        result.setRequest(actionExecutionRequest);
+        // Set the status code for Appsmith plugin errors
+        if (e instanceof AppsmithPluginException) {
+            result.setStatusCode(((AppsmithPluginException) e).getAppErrorCode().toString());
+            result.setTitle(((AppsmithPluginException) e).getTitle());
+            result.setErrorType(((AppsmithPluginException) e).getErrorType());
+        } else {
+            result.setStatusCode(AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode().toString());
+
+            if (e instanceof AppsmithException) {
+                result.setTitle(((AppsmithException) e).getTitle());
+                result.setErrorType(((AppsmithException) e).getErrorType());
+            }
+        }
+        return result;
     }
 
     @Override
@@ -984,6 +1342,46 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
             ActionExecutionResult actionExecutionResult,
             Long timeElapsed
     ) {
+        return sendExecuteAnalyticsEvent(action, actionDTO, datasource, viewMode, actionExecutionResult, timeElapsed,
+                false, false);
+    }
+
+    /**
+     * Sends the execute analytics event for a result that has been obtained without executing the action, once the
+     * result is available. The time elapsed is the time spent waiting for the result.
+     */
+    private Mono<ActionExecutionResult> sendReusedResultAnalyticsEvent(
+            Mono<ActionExecutionResult> resultMono,
+            Mono<NewAction> actionMono,
+            Mono<ActionDTO> actionDTOMono,
+            Mono<Datasource> datasourceMono,
+            Boolean viewMode,
+            boolean isCachedResult,
+            boolean isSharedExecution
+    ) {
+        return resultMono
+                .elapsed()
+                .flatMap(tuple -> Mono.zip(actionMono, actionDTOMono, datasourceMono)
+                        .flatMap(actionTuple -> Mono.when(sendExecuteAnalyticsEvent(actionTuple.getT1(),
+                                actionTuple.getT2(), actionTuple.getT3(), viewMode, tuple.getT2(), tuple.getT1(),
+                                isCachedResult, isSharedExecution)))
+                        .thenReturn(tuple.getT2()));
+    }
+
+    /**
+     * @param isCachedResult    : whether the result has been answered from the result cache instead of being executed
+     * @param isSharedExecution : whether the result is the one of an identical execution that was in flight
+     */
+    private Mono<ActionExecutionRequest> sendExecuteAnalyticsEvent(
+            NewAction action,
+            ActionDTO actionDTO,
+            Datasource datasource,
+            Boolean viewMode,
+            ActionExecutionResult actionExecutionResult,
+            Long timeElapsed,
+            boolean isCachedResult,
+            boolean isSharedExecution
+    ) {
 
         // Since we're loading the application from DB *only* for analytics, we check if analytics is
         // active before making the call to DB.
@@ -1086,6 +1484,8 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                             "dsCreatedAt", dsCreatedAt
 
                     ));
+                    data.put("isCachedResult", isCachedResult);
+                    data.put("isSharedExecution", isSharedExecution);
 
                     // Add the error message in case of erroneous execution
                     if (FALSE.equals(actionExecutionResult.getIsExecutionSuccess())) {
@@ -1516,6 +1916,31 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                 .flatMapMany(actionList -> repository.saveAll(actionList));
     }
 
+    @Override
+    public Mono<UpdateResult> publishActions(List<String> actionIds) {
+        return repository.publishActions(actionIds);
+    }
+
+    @Override
+    public Flux<NewAction> findByApplicationIdAndUpdatedSince(String applicationId, Instant updatedSince, AclPermission permission) {
+        return repository.findByApplicationIdAndUpdatedSince(applicationId, updatedSince, permission);
+    }
+
+    @Override
+    public Mono<Long> countByApplicationIdAndNonDeletedEditMode(String applicationId, AclPermission permission) {
+        return repository.countByApplicationIdAndNonDeletedEditMode(applicationId, permission);
+    }
+
+    @Override
+    public Flux<NewAction> findUnpublishedActionVersionsByPageId(String pageId, AclPermission permission) {
+        return repository.findUnpublishedActionVersionsByPageId(pageId, permission);
+    }
+
+    @Override
+    public Flux<NewAction> findUnpublishedActionsByPageIdAndJsonPathKeysMatching(String pageId, Pattern pattern, AclPermission permission) {
+        return repository.findUnpublishedActionsByPageIdAndJsonPathKeysMatching(pageId, pattern, permission);
+    }
+
     @Override
     public Flux<NewAction> findByPageId(String pageId) {
         return repository.findByPageId(pageId)
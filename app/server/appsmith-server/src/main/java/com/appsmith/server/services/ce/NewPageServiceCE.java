@@ -7,10 +7,13 @@ import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.dtos.ApplicationPagesDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.services.CrudService;
+import com.mongodb.client.result.UpdateResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 public interface NewPageServiceCE extends CrudService<NewPage, String> {
 
@@ -67,6 +70,12 @@ public interface NewPageServiceCE extends CrudService<NewPage, String> {
 
     Flux<NewPage> saveAll(List<NewPage> pages);
 
+    Mono<UpdateResult> publishPages(List<String> pageIds);
+
+    Flux<NewPage> findByApplicationIdAndUpdatedSince(String applicationId, Instant updatedSince, AclPermission permission);
+
+    Mono<UpdateResult> updateUnpublishedLayout(String pageId, String layoutId, Long dslVersion, Map<String, Object> layoutUpdates, AclPermission permission);
+
     Mono<String> getNameByPageId(String pageId, boolean isPublishedName);
 
     Mono<NewPage> findByBranchNameAndDefaultPageId(String branchName, String defaultPageId, AclPermission permission);
@@ -20,6 +20,7 @@ import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.ApplicationService;
 import com.appsmith.server.services.BaseService;
 import com.appsmith.server.services.UserDataService;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
@@ -34,6 +35,7 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 
 import javax.validation.Validator;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -493,6 +495,21 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
         return repository.saveAll(pages);
     }
 
+    @Override
+    public Mono<UpdateResult> publishPages(List<String> pageIds) {
+        return repository.publishPages(pageIds);
+    }
+
+    @Override
+    public Flux<NewPage> findByApplicationIdAndUpdatedSince(String applicationId, Instant updatedSince, AclPermission permission) {
+        return repository.findByApplicationIdAndUpdatedSince(applicationId, updatedSince, permission);
+    }
+
+    @Override
+    public Mono<UpdateResult> updateUnpublishedLayout(String pageId, String layoutId, Long dslVersion, Map<String, Object> layoutUpdates, AclPermission permission) {
+        return repository.updateUnpublishedLayout(pageId, layoutId, dslVersion, layoutUpdates, permission);
+    }
+
     @Override
     public Mono<String> getNameByPageId(String pageId, boolean isPublishedName) {
         return repository.getNameByPageId(pageId, isPublishedName);
@@ -21,11 +21,15 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.pf4j.PluginManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
@@ -41,6 +45,7 @@ import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import javax.validation.Validator;
 import java.io.File;
@@ -69,9 +74,18 @@ public class PluginServiceCEImpl extends BaseService<PluginRepository, Plugin, S
     private final ChannelTopic topic;
     private final ObjectMapper objectMapper;
 
-    private final Map<String, Mono<Map>> formCache = new HashMap<>();
-    private final Map<String, Mono<Map<String, String>>> templateCache = new HashMap<>();
-    private final Map<String, Mono<Map>> labelCache = new HashMap<>();
+    // Bounded so that plugins which keep getting installed or updated don't grow these indefinitely
+    private static final long CACHED_RESOURCES_MAX_SIZE = 500;
+
+    private final Cache<String, Mono<Map>> formCache = CacheBuilder.newBuilder()
+            .maximumSize(CACHED_RESOURCES_MAX_SIZE)
+            .build();
+    private final Cache<String, Mono<Map<String, String>>> templateCache = CacheBuilder.newBuilder()
+            .maximumSize(CACHED_RESOURCES_MAX_SIZE)
+            .build();
+    private final Cache<String, Mono<Map>> labelCache = CacheBuilder.newBuilder()
+            .maximumSize(CACHED_RESOURCES_MAX_SIZE)
+            .build();
 
     private static final int CONNECTION_TIMEOUT = 10000;
     private static final int READ_TIMEOUT = 10000;
@@ -357,69 +371,60 @@ public class PluginServiceCEImpl extends BaseService<PluginRepository, Plugin, S
 
     @Override
     public Mono<Map> getFormConfig(String pluginId) {
-        if (!formCache.containsKey(pluginId)) {
-            final Mono<Map> formMono = loadPluginResource(pluginId, "form.json")
-                    .doOnError(throwable ->
-                            // Remove this pluginId from the cache so it is tried again next time.
-                            formCache.remove(pluginId)
-                    )
-                    .onErrorMap(Exceptions::unwrap)
-                    .cache();
-            final Mono<Map> editorMono = loadPluginResource(pluginId, "editor.json")
-                    .doOnError(throwable ->
-                            // Remove this pluginId from the cache so it is tried again next time.
-                            formCache.remove(pluginId)
-                    )
-                    .onErrorReturn(new HashMap())
-                    .cache();
-            final Mono<Map> settingMono = loadPluginResource(pluginId, "setting.json")
-                    .doOnError(throwable ->
-                            // Remove this pluginId from the cache so it is tried again next time.
-                            formCache.remove(pluginId)
-                    )
-                    .onErrorReturn(new HashMap())
-                    .cache();
-            final Mono<Map> dependencyMono = loadPluginResource(pluginId, "dependency.json")
-                    .doOnError(throwable ->
-                            // Remove this pluginId from the cache so it is tried again next time.
-                            formCache.remove(pluginId)
-                    )
-                    .onErrorReturn(new HashMap())
-                    .cache();
-
-            Mono<Map> resourceMono = Mono.zip(formMono, editorMono, settingMono, dependencyMono)
-                    .map(tuple -> {
-                        Map formMap = tuple.getT1();
-                        Map editorMap = tuple.getT2();
-                        Map settingMap = tuple.getT3();
-                        Map dependencyMap = tuple.getT4();
-
-                        formMap.putAll(editorMap);
-                        formMap.putAll(settingMap);
-                        formMap.putAll(dependencyMap);
-
-                        return formMap;
-                    });
-
-            formCache.put(pluginId, resourceMono);
-        }
+        // Concurrent requests for a plugin that isn't cached yet all get the same, single, load of its resources
+        return formCache.asMap().computeIfAbsent(pluginId, this::loadFormConfig);
+    }
 
-        return formCache.get(pluginId);
+    private Mono<Map> loadFormConfig(String pluginId) {
+        final Mono<Map> formMono = loadPluginResource(pluginId, "form.json")
+                .doOnError(throwable ->
+                        // Remove this pluginId from the cache so it is tried again next time.
+                        evictCachedResources(pluginId)
+                )
+                .onErrorMap(Exceptions::unwrap);
+        final Mono<Map> editorMono = loadPluginResource(pluginId, "editor.json")
+                .doOnError(throwable ->
+                        // Remove this pluginId from the cache so it is tried again next time.
+                        evictCachedResources(pluginId)
+                )
+                .onErrorReturn(new HashMap());
+        final Mono<Map> settingMono = loadPluginResource(pluginId, "setting.json")
+                .doOnError(throwable ->
+                        // Remove this pluginId from the cache so it is tried again next time.
+                        evictCachedResources(pluginId)
+                )
+                .onErrorReturn(new HashMap());
+        final Mono<Map> dependencyMono = loadPluginResource(pluginId, "dependency.json")
+                .doOnError(throwable ->
+                        // Remove this pluginId from the cache so it is tried again next time.
+                        evictCachedResources(pluginId)
+                )
+                .onErrorReturn(new HashMap());
+
+        return Mono.zip(formMono, editorMono, settingMono, dependencyMono)
+                .map(tuple -> {
+                    // The form of a cloud plugin is the config on the plugin itself, which shouldn't be modified
+                    Map formMap = new LinkedHashMap(tuple.getT1());
+                    Map editorMap = tuple.getT2();
+                    Map settingMap = tuple.getT3();
+                    Map dependencyMap = tuple.getT4();
+
+                    formMap.putAll(editorMap);
+                    formMap.putAll(settingMap);
+                    formMap.putAll(dependencyMap);
+
+                    return formMap;
+                })
+                .cache();
     }
 
     @Override
     public Mono<Map> getEditorConfigLabelMap(String pluginId) {
-        if (labelCache.containsKey(pluginId)) {
-            return labelCache.get(pluginId);
-        }
-
-        Mono<Map> formConfig = getFormConfig(pluginId);
-
-        if (formConfig == null) {
-            return Mono.just(new HashMap());
-        }
+        return labelCache.asMap().computeIfAbsent(pluginId, this::loadEditorConfigLabelMap);
+    }
 
-        Mono<Map> labelMapMono = formConfig
+    private Mono<Map> loadEditorConfigLabelMap(String pluginId) {
+        return getFormConfig(pluginId)
                 .flatMap(formMap -> {
                     Map<String, String> labelMap = new LinkedHashMap(); // need to keep the key value pairs in order
                     List editorMap = (List) formMap.get(KEY_EDITOR);
@@ -456,37 +461,62 @@ public class PluginServiceCEImpl extends BaseService<PluginRepository, Plugin, S
                             );
 
                     return Mono.just(labelMap);
-                });
-
-        labelCache.put(pluginId, labelMapMono);
-
-        return labelMapMono;
+                })
+                .doOnError(throwable ->
+                        // Remove this pluginId from the cache so it is tried again next time.
+                        labelCache.invalidate(pluginId)
+                )
+                .cache();
     }
 
     private Mono<Map<String, String>> getTemplates(Plugin plugin) {
+        return templateCache.asMap().computeIfAbsent(plugin.getId(), pluginId -> loadTemplates(plugin));
+    }
+
+    private Mono<Map<String, String>> loadTemplates(Plugin plugin) {
         final String pluginId = plugin.getId();
 
-        if (!templateCache.containsKey(pluginId)) {
-            final Mono<Map<String, String>> mono = Mono.fromSupplier(() -> loadTemplatesFromPlugin(plugin))
-                    .onErrorReturn(FileNotFoundException.class, Collections.emptyMap())
-                    .doOnError(throwable ->
-                            // Remove this pluginId from the cache so it is tried again next time.
-                            templateCache.remove(pluginId)
-                    )
-                    // It's okay if the templates folder is not present, we just return empty templates collection.
-                    .onErrorMap(throwable -> {
-                        log.error("Error loading templates for plugin {}.", plugin.getPackageName(), throwable);
-                        return new AppsmithException(
-                                AppsmithError.PLUGIN_LOAD_TEMPLATES_FAIL,
-                                Exceptions.unwrap(throwable).getMessage()
-                        );
-                    })
-                    .cache();
-
-            templateCache.put(pluginId, mono);
-        }
+        return Mono.fromSupplier(() -> loadTemplatesFromPlugin(plugin))
+                .onErrorReturn(FileNotFoundException.class, Collections.emptyMap())
+                .doOnError(throwable ->
+                        // Remove this pluginId from the cache so it is tried again next time.
+                        templateCache.invalidate(pluginId)
+                )
+                // It's okay if the templates folder is not present, we just return empty templates collection.
+                .onErrorMap(throwable -> {
+                    log.error("Error loading templates for plugin {}.", plugin.getPackageName(), throwable);
+                    return new AppsmithException(
+                            AppsmithError.PLUGIN_LOAD_TEMPLATES_FAIL,
+                            Exceptions.unwrap(throwable).getMessage()
+                    );
+                })
+                .cache();
+    }
 
-        return templateCache.get(pluginId);
+    /**
+     * Drops the resources loaded for this plugin, so that they are loaded again from the updated plugin on next use.
+     */
+    private void evictCachedResources(String pluginId) {
+        formCache.invalidate(pluginId);
+        labelCache.invalidate(pluginId);
+        templateCache.invalidate(pluginId);
+    }
+
+    /**
+     * Loads the resources of the plugins started on this server once it's up, so that the first executions of their
+     * actions don't have to.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpCachedResources() {
+        Flux.fromIterable(pluginManager.getStartedPlugins())
+                .flatMap(pluginWrapper -> findByPackageName(pluginWrapper.getPluginId()))
+                .flatMap(plugin -> Mono.zip(getEditorConfigLabelMap(plugin.getId()), getTemplates(plugin))
+                        .onErrorResume(throwable -> {
+                            log.warn("Unable to load the resources of plugin {} in advance", plugin.getPackageName(), throwable);
+                            return Mono.empty();
+                        }))
+                .subscribeOn(Schedulers.elastic())
+                .subscribe();
     }
 
     private Map<String, String> loadTemplatesFromPlugin(Plugin plugin) {
@@ -633,7 +663,9 @@ public class PluginServiceCEImpl extends BaseService<PluginRepository, Plugin, S
 
     @Override
     public Flux<Plugin> saveAll(Iterable<Plugin> plugins) {
-        return repository.saveAll(plugins);
+        // The configs of the plugins updated from the cloud are part of their cached resources
+        return repository.saveAll(plugins)
+                .doOnNext(plugin -> evictCachedResources(plugin.getId()));
     }
 
     @Override
@@ -18,4 +18,8 @@ public interface PageLoadActionsUtilCE {
                                                        List<ActionDTO> flatPageLoadActions,
                                                        Set<String> actionsUsedInDSL);
 
+    Mono<String> getOnPageLoadActionsSignature(String pageId,
+                                               Set<String> widgetNames,
+                                               Map<String, Set<String>> widgetDynamicBindingsMap);
+
 }
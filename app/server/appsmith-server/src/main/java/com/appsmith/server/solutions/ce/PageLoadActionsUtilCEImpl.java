@@ -9,10 +9,12 @@ import com.appsmith.server.dtos.DslActionDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.services.NewActionService;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.jgrapht.graph.DefaultEdge;
 import org.jgrapht.graph.DirectedAcyclicGraph;
 import org.jgrapht.traverse.BreadthFirstIterator;
@@ -28,6 +30,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -215,6 +219,39 @@ public class PageLoadActionsUtilCEImpl implements PageLoadActionsUtilCE {
 
     }
 
+    /**
+     * Computes a signature of everything the on page load actions are computed from, aside from the DSL itself : the
+     * widget names, the dynamic bindings of the widgets and the actions in the page. The signature changes whenever an
+     * action gets added to the page, updated or deleted, for which only the ids and the last update times of the
+     * actions are fetched.
+     *
+     * @param pageId                   : Id of the page whose actions are signed
+     * @param widgetNames              : Set of widget names found in the DSL
+     * @param widgetDynamicBindingsMap : A map of widget path and the set of dynamic binding words in the mustache at the
+     *                                 path in the widget
+     * @return the signature of the inputs of `findAllOnLoadActions`
+     */
+    @Override
+    public Mono<String> getOnPageLoadActionsSignature(String pageId,
+                                                      Set<String> widgetNames,
+                                                      Map<String, Set<String>> widgetDynamicBindingsMap) {
+        Map<String, Set<String>> sortedWidgetDynamicBindings = new TreeMap<>();
+        widgetDynamicBindingsMap.forEach((path, bindings) -> sortedWidgetDynamicBindings.put(path, new TreeSet<>(bindings)));
+
+        return newActionService.findUnpublishedActionVersionsByPageId(pageId, MANAGE_ACTIONS)
+                .map(newAction -> newAction.getId() + ":" + newAction.getUpdatedAt())
+                .sort()
+                .collectList()
+                .map(actionVersions -> {
+                    try {
+                        return DigestUtils.sha256Hex(objectMapper.writeValueAsString(
+                                List.of(new TreeSet<>(widgetNames), sortedWidgetDynamicBindings, actionVersions)));
+                    } catch (JsonProcessingException e) {
+                        throw new AppsmithException(AppsmithError.JSON_PROCESSING_ERROR, e.getMessage());
+                    }
+                });
+    }
+
     /**
      * This function takes the page load schedule consisting of only action names.
      * <p>
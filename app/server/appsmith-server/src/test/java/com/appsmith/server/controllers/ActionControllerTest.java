@@ -0,0 +1,131 @@
+package com.appsmith.server.controllers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.server.configurations.SecurityTestConfig;
+import com.appsmith.server.constants.Url;
+import com.appsmith.server.helpers.ActionExecutionResultStreamWriter;
+import com.appsmith.server.services.ActionCollectionService;
+import com.appsmith.server.services.LayoutActionService;
+import com.appsmith.server.services.NewActionService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.reactive.server.FluxExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.BodyInserters;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringRunner.class)
+@WebFluxTest(ActionController.class)
+@Import({SecurityTestConfig.class, ActionExecutionResultStreamWriter.class})
+public class ActionControllerTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    ActionCollectionService actionCollectionService;
+
+    @MockBean
+    LayoutActionService layoutActionService;
+
+    @MockBean
+    NewActionService newActionService;
+
+    private FluxExchangeResult<DataBuffer> executeAndStream() {
+        MultipartBodyBuilder bodyBuilder = new MultipartBodyBuilder();
+        bodyBuilder.part("executeActionDTO", "{\"actionId\":\"actionId\",\"viewMode\":false}");
+
+        return webTestClient.post()
+                .uri(Url.ACTION_URL + "/execute?stream=true")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(bodyBuilder.build()))
+                .exchange()
+                .expectStatus()
+                .isEqualTo(200)
+                .expectHeader()
+                .contentType(MediaType.APPLICATION_JSON)
+                .returnResult(DataBuffer.class);
+    }
+
+    private static String toString(DataBuffer dataBuffer) {
+        String chunk = dataBuffer.toString(StandardCharsets.UTF_8);
+        DataBufferUtils.release(dataBuffer);
+        return chunk;
+    }
+
+    private static ActionExecutionResult successEnvelope() {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(true);
+        return result;
+    }
+
+    @Test
+    @WithMockUser
+    public void executeActionAndStream_writesTheRowsInChunks() throws Exception {
+        List<Object> rows = IntStream.range(0, 250)
+                .mapToObj(i -> Map.<String, Object>of("id", i))
+                .collect(Collectors.toList());
+        Mockito.when(newActionService.executeActionAndStream(Mockito.any(), Mockito.any()))
+                .thenReturn(Flux.concat(Mono.just(successEnvelope()), Flux.fromIterable(rows)));
+
+        List<String> chunks = executeAndStream().getResponseBody()
+                .map(ActionControllerTest::toString)
+                .collectList()
+                .block();
+
+        // The envelope, then the rows a hundred at a time, then the closing of the body
+        assertThat(chunks).hasSize(5);
+        JsonNode response = objectMapper.readTree(String.join("", chunks));
+        assertThat(response.get("responseMeta").get("status").asInt()).isEqualTo(200);
+        assertThat(response.get("data").get("isExecutionSuccess").asBoolean()).isTrue();
+        assertThat(response.get("data").get("body")).isEqualTo(objectMapper.valueToTree(rows));
+        assertThat(response.get("data").has("streamError")).isFalse();
+    }
+
+    @Test
+    @WithMockUser
+    public void executeActionAndStream_whenRowsFailToBeRead_writesTheErrorAfterTheBody() throws Exception {
+        Mockito.when(newActionService.executeActionAndStream(Mockito.any(), Mockito.any()))
+                .thenReturn(Flux.concat(
+                        Mono.just(successEnvelope()),
+                        Flux.just(Map.of("id", 1)),
+                        Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "Lost connection"))
+                ));
+
+        String body = executeAndStream().getResponseBody()
+                .map(ActionControllerTest::toString)
+                .collect(Collectors.joining())
+                .block();
+
+        JsonNode data = objectMapper.readTree(body).get("data");
+        assertThat(data.get("body").size()).isEqualTo(1);
+        assertThat(data.get("streamError").get("isExecutionSuccess").asBoolean()).isFalse();
+        assertThat(data.get("streamError").get("readableError").asText()).contains("Lost connection");
+    }
+}
@@ -0,0 +1,98 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static com.appsmith.server.helpers.ActionExecutionCoalescer.COALESCING_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ActionExecutionCoalescerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ActionExecutionCoalescer actionExecutionCoalescer;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        actionExecutionCoalescer = new ActionExecutionCoalescer(meterRegistry);
+    }
+
+    private double getCount(String outcome) {
+        return meterRegistry.get(COALESCING_METRIC).tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    public void coalesce_sharesExecutionsInFlight() {
+        final AtomicInteger executionCount = new AtomicInteger();
+        final Sinks.One<ActionExecutionResult> resultSink = Sinks.one();
+        final Mono<ActionExecutionResult> execution = Mono.defer(() -> {
+            executionCount.incrementAndGet();
+            return resultSink.asMono();
+        });
+
+        final Mono<ActionExecutionResult> firstExecution = actionExecutionCoalescer.coalesce("key", execution).cache();
+        final Mono<ActionExecutionResult> secondExecution = actionExecutionCoalescer.coalesce("key", execution).cache();
+        final Mono<ActionExecutionResult> otherExecution = actionExecutionCoalescer.coalesce("otherKey", execution).cache();
+        firstExecution.subscribe();
+        secondExecution.subscribe();
+        otherExecution.subscribe();
+
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(true);
+        result.setBody("rows");
+        resultSink.tryEmitValue(result);
+
+        StepVerifier.create(Mono.zip(firstExecution, secondExecution))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1().getBody()).isEqualTo("rows");
+                    assertThat(tuple.getT2().getBody()).isEqualTo("rows");
+                    // Every caller gets its own copy of the result
+                    assertThat(tuple.getT1()).isNotSameAs(tuple.getT2());
+                })
+                .verifyComplete();
+
+        assertThat(executionCount.get()).isEqualTo(2);
+        assertThat(getCount("shared")).isEqualTo(1);
+        assertThat(getCount("executed")).isEqualTo(2);
+
+        // Once completed, the execution is not shared anymore
+        StepVerifier.create(actionExecutionCoalescer.coalesce("key", execution))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertThat(executionCount.get()).isEqualTo(3);
+        assertThat(getCount("executed")).isEqualTo(3);
+    }
+
+    @Test
+    public void coalesce_appliesTheSharedExecutionHandlerToJoinedExecutionsOnly() {
+        final Sinks.One<ActionExecutionResult> resultSink = Sinks.one();
+        final AtomicInteger sharedResultCount = new AtomicInteger();
+        final Function<Mono<ActionExecutionResult>, Mono<ActionExecutionResult>> onSharedExecution =
+                resultMono -> resultMono.doOnNext(result -> sharedResultCount.incrementAndGet());
+
+        final Mono<ActionExecutionResult> firstExecution = actionExecutionCoalescer
+                .coalesce("key", resultSink.asMono(), onSharedExecution).cache();
+        final Mono<ActionExecutionResult> secondExecution = actionExecutionCoalescer
+                .coalesce("key", resultSink.asMono(), onSharedExecution).cache();
+        firstExecution.subscribe();
+        secondExecution.subscribe();
+
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(true);
+        resultSink.tryEmitValue(result);
+
+        StepVerifier.create(Mono.zip(firstExecution, secondExecution))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertThat(sharedResultCount.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,123 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.DBAuth;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Property;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.ActionDTO;
+import com.appsmith.server.dtos.ActionExecutionPlanInvalidationRedisDTO;
+import com.appsmith.server.helpers.ActionExecutionPlanCache.ActionExecutionPlan;
+import com.appsmith.server.services.SessionUserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ActionExecutionPlanCacheTest {
+
+    private SessionUserService sessionUserService;
+
+    private ActionExecutionPlanCache actionExecutionPlanCache;
+
+    @Before
+    public void setUp() {
+        sessionUserService = Mockito.mock(SessionUserService.class);
+        ReactiveRedisTemplate<String, String> reactiveTemplate = Mockito.mock(ReactiveRedisTemplate.class);
+        Mockito.when(reactiveTemplate.convertAndSend(Mockito.anyString(), Mockito.anyString())).thenReturn(Mono.just(1L));
+
+        actionExecutionPlanCache = new ActionExecutionPlanCache(sessionUserService, reactiveTemplate,
+                new ChannelTopic("appsmith:queue"), new ObjectMapper(), 10, 300);
+    }
+
+    private ActionExecutionPlan createExecutionPlan(String applicationId, String datasourceId) {
+        NewAction newAction = new NewAction();
+        newAction.setApplicationId(applicationId);
+
+        ActionDTO action = new ActionDTO();
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT 1");
+        action.setActionConfiguration(actionConfiguration);
+
+        Datasource datasource = new Datasource();
+        datasource.setId(datasourceId);
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("http://example.com");
+        datasourceConfiguration.setHeaders(List.of(new Property("Authorization", "{{ appsmith.user.email }}")));
+        datasourceConfiguration.setAuthentication(new DBAuth(DBAuth.Type.USERNAME_PASSWORD, "user", "password", "db"));
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+
+        return new ActionExecutionPlan(newAction, action, datasource, new Plugin(), null, new HashMap());
+    }
+
+    @Test
+    public void getKey_dependsOnUserAndGroups() {
+        User user = new User();
+        user.setEmail("viewer@example.com");
+        user.setGroupIds(Set.of("group2", "group1"));
+        Mockito.when(sessionUserService.getCurrentUser()).thenReturn(Mono.just(user));
+
+        StepVerifier.create(actionExecutionPlanCache.getKey("action1"))
+                .assertNext(key -> assertThat(key).isEqualTo("action1:viewer@example.com:group1,group2"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void invalidate_dropsOnlyMatchingPlans() {
+        actionExecutionPlanCache.put("key1", createExecutionPlan("app1", "datasource1"));
+        actionExecutionPlanCache.put("key2", createExecutionPlan("app2", "datasource2"));
+        actionExecutionPlanCache.put("key3", createExecutionPlan("app3", null));
+
+        StepVerifier.create(actionExecutionPlanCache.invalidateApplication("app1")).verifyComplete();
+        StepVerifier.create(actionExecutionPlanCache.get("key1")).verifyComplete();
+        StepVerifier.create(actionExecutionPlanCache.get("key2")).expectNextCount(1).verifyComplete();
+
+        ActionExecutionPlanInvalidationRedisDTO invalidationDTO = new ActionExecutionPlanInvalidationRedisDTO();
+        invalidationDTO.setDatasourceIds(Set.of("datasource2"));
+        actionExecutionPlanCache.invalidateLocally(invalidationDTO);
+        StepVerifier.create(actionExecutionPlanCache.get("key2")).verifyComplete();
+        StepVerifier.create(actionExecutionPlanCache.get("key3")).expectNextCount(1).verifyComplete();
+
+        StepVerifier.create(actionExecutionPlanCache.invalidateAll()).verifyComplete();
+        StepVerifier.create(actionExecutionPlanCache.get("key3")).verifyComplete();
+    }
+
+    @Test
+    public void copyForExecution_doesNotShareConfigurations() {
+        ActionExecutionPlan executionPlan = createExecutionPlan("app1", "datasource1");
+
+        ActionDTO actionCopy = actionExecutionPlanCache.copyForExecution(executionPlan.getAction());
+        actionCopy.getActionConfiguration().setBody("SELECT 2");
+        assertThat(executionPlan.getAction().getActionConfiguration().getBody()).isEqualTo("SELECT 1");
+
+        Datasource datasourceCopy = actionExecutionPlanCache.copyForExecution(executionPlan.getDatasource());
+        DatasourceConfiguration datasourceConfigurationCopy = datasourceCopy.getDatasourceConfiguration();
+        DBAuth authenticationCopy = (DBAuth) datasourceConfigurationCopy.getAuthentication();
+        assertThat(authenticationCopy.getPassword()).isEqualTo("password");
+        assertThat(datasourceConfigurationCopy.getHeaders().get(0).getValue()).isEqualTo("{{ appsmith.user.email }}");
+
+        // The way rendering the bindings changes the configuration
+        datasourceConfigurationCopy.setUrl("http://example.org");
+        datasourceConfigurationCopy.getHeaders().get(0).setValue("viewer@example.com");
+        authenticationCopy.setUsername("viewer");
+
+        DatasourceConfiguration datasourceConfiguration = executionPlan.getDatasource().getDatasourceConfiguration();
+        assertThat(datasourceConfiguration.getUrl()).isEqualTo("http://example.com");
+        assertThat(datasourceConfiguration.getHeaders().get(0).getValue()).isEqualTo("{{ appsmith.user.email }}");
+        assertThat(((DBAuth) datasourceConfiguration.getAuthentication()).getUsername()).isEqualTo("user");
+        assertThat(datasourceCopy.getId()).isEqualTo("datasource1");
+    }
+}
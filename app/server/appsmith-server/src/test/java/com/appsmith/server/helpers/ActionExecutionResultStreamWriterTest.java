@@ -0,0 +1,99 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ActionExecutionResultStreamWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    private final ActionExecutionResultStreamWriter streamWriter = new ActionExecutionResultStreamWriter(objectMapper);
+
+    private JsonNode writeAndParse(Flux<Object> resultFlux) throws Exception {
+        MockServerHttpResponse response = new MockServerHttpResponse();
+        streamWriter.write(response, resultFlux).block();
+        // Repeated keys are rejected, since JSON parsers differ in which of their values they keep
+        return objectMapper.reader()
+                .with(JsonParser.Feature.STRICT_DUPLICATE_DETECTION)
+                .readTree(response.getBodyAsString().block());
+    }
+
+    private static ActionExecutionResult successEnvelope() {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(true);
+        return result;
+    }
+
+    @Test
+    public void testRowsAreWrittenAsBodyOfTheResult() throws Exception {
+        List<Object> rows = IntStream.range(0, 250)
+                .mapToObj(i -> Map.<String, Object>of("id", i, "name", "row " + i))
+                .collect(Collectors.toList());
+
+        JsonNode response = writeAndParse(Flux.concat(Mono.just(successEnvelope()), Flux.fromIterable(rows)));
+
+        assertThat(response.get("responseMeta").get("status").asInt()).isEqualTo(200);
+        JsonNode data = response.get("data");
+        assertThat(data.get("isExecutionSuccess").asBoolean()).isTrue();
+        assertThat(data.get("body")).isEqualTo(objectMapper.valueToTree(rows));
+        assertThat(data.has("streamError")).isFalse();
+    }
+
+    @Test
+    public void testEnvelopeWithoutRows() throws Exception {
+        JsonNode response = writeAndParse(Flux.just(successEnvelope()));
+
+        assertThat(response.get("data").get("isExecutionSuccess").asBoolean()).isTrue();
+        assertThat(response.get("data").get("body").size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testEnvelopeWithBodyIsWrittenAsIs() throws Exception {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(false);
+        result.setBody("Connection refused");
+
+        JsonNode response = writeAndParse(Flux.just(result));
+
+        assertThat(response.get("data").get("isExecutionSuccess").asBoolean()).isFalse();
+        assertThat(response.get("data").get("body").asText()).isEqualTo("Connection refused");
+    }
+
+    @Test
+    public void testErrorWhileStreamingRowsIsWrittenAfterTheBody() throws Exception {
+        Flux<Object> resultFlux = Flux.concat(
+                Mono.just(successEnvelope()),
+                Flux.just(Map.of("id", 1), Map.of("id", 2)),
+                Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "Lost connection"))
+        );
+
+        JsonNode response = writeAndParse(resultFlux);
+
+        JsonNode data = response.get("data");
+        assertThat(data.get("body").size()).isEqualTo(2);
+        JsonNode streamError = data.get("streamError");
+        assertThat(streamError.get("isExecutionSuccess").asBoolean()).isFalse();
+        assertThat(streamError.get("statusCode").asText())
+                .isEqualTo(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getAppErrorCode().toString());
+        assertThat(streamError.get("readableError").asText()).contains("Lost connection");
+    }
+}
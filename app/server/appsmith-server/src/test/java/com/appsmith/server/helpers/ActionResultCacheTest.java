@@ -0,0 +1,216 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.constants.DisplayDataType;
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.Param;
+import com.appsmith.external.models.ParsedDataType;
+import com.appsmith.external.models.Property;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.dtos.ActionDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.http.HttpMethod;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ActionResultCacheTest {
+
+    private ActionResultCache actionResultCache;
+
+    @Before
+    public void setUp() {
+        actionResultCache = new ActionResultCache(Mockito.mock(ReactiveRedisTemplate.class), new ObjectMapper(),
+                1, 64, 600, false);
+    }
+
+    private ActionDTO createAction(ActionConfiguration actionConfiguration, Integer ttlInSeconds) {
+        actionConfiguration.setResultCacheTtlInSeconds(ttlInSeconds);
+        ActionDTO action = new ActionDTO();
+        action.setActionConfiguration(actionConfiguration);
+        return action;
+    }
+
+    private ActionDTO createSqlAction(String body) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(body);
+        return createAction(actionConfiguration, 60);
+    }
+
+    private Plugin createPlugin(String packageName) {
+        Plugin plugin = new Plugin();
+        plugin.setPackageName(packageName);
+        return plugin;
+    }
+
+    @Test
+    public void getTtl_onlyForReadOnlyQueries() {
+        final Plugin postgresPlugin = createPlugin("postgres-plugin");
+
+        assertThat(actionResultCache.getTtl(createSqlAction("SELECT * FROM users WHERE id = {{ Input1.text }};"),
+                postgresPlugin)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(actionResultCache.getTtl(createSqlAction("select 1"), createPlugin("mysql-plugin")))
+                .isEqualTo(Duration.ofSeconds(60));
+        assertThat(actionResultCache.getTtl(createSqlAction("UPDATE users SET name = 'a'"), postgresPlugin)).isNull();
+        assertThat(actionResultCache.getTtl(createSqlAction("SELECT 1; DELETE FROM users"), postgresPlugin)).isNull();
+        assertThat(actionResultCache.getTtl(createSqlAction("SELECT * INTO archive FROM users"), postgresPlugin)).isNull();
+        assertThat(actionResultCache.getTtl(createSqlAction("SELECT * FROM users FOR UPDATE"), postgresPlugin)).isNull();
+        assertThat(actionResultCache.getTtl(createSqlAction("SELECT 1"), createPlugin("mssql-plugin"))).isNull();
+
+        ActionConfiguration unpreparedConfiguration = new ActionConfiguration();
+        unpreparedConfiguration.setBody("SELECT * FROM users WHERE id = {{ Input1.text }}");
+        unpreparedConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", false)));
+        assertThat(actionResultCache.getTtl(createAction(unpreparedConfiguration, 60), postgresPlugin)).isNull();
+
+        // The TTL is bounded and opt-in
+        assertThat(actionResultCache.getTtl(createAction(new ActionConfiguration(), 7200), createPlugin("mysql-plugin")))
+                .isNull();
+        ActionDTO longLivedAction = createSqlAction("SELECT 1");
+        longLivedAction.getActionConfiguration().setResultCacheTtlInSeconds(7200);
+        assertThat(actionResultCache.getTtl(longLivedAction, postgresPlugin)).isEqualTo(Duration.ofSeconds(600));
+        assertThat(actionResultCache.getTtl(createAction(new ActionConfiguration(), null), postgresPlugin)).isNull();
+
+        ActionConfiguration apiConfiguration = new ActionConfiguration();
+        apiConfiguration.setHttpMethod(HttpMethod.GET);
+        assertThat(actionResultCache.getTtl(createAction(apiConfiguration, 60), createPlugin("restapi-plugin")))
+                .isEqualTo(Duration.ofSeconds(60));
+        apiConfiguration.setHttpMethod(HttpMethod.POST);
+        assertThat(actionResultCache.getTtl(createAction(apiConfiguration, 60), createPlugin("restapi-plugin"))).isNull();
+
+        ActionConfiguration mongoConfiguration = new ActionConfiguration();
+        mongoConfiguration.setFormData(Map.of(
+                "command", Map.of("data", "RAW"),
+                "body", Map.of("data", "{ \"find\": \"users\", \"filter\": {{ Table1.filter }} }")
+        ));
+        assertThat(actionResultCache.getTtl(createAction(mongoConfiguration, 60), createPlugin("mongo-plugin")))
+                .isEqualTo(Duration.ofSeconds(60));
+        mongoConfiguration.setFormData(Map.of("command", Map.of("data", "DELETE")));
+        assertThat(actionResultCache.getTtl(createAction(mongoConfiguration, 60), createPlugin("mongo-plugin"))).isNull();
+    }
+
+    @Test
+    public void getKey_dependsOnParamsAndVersions() {
+        NewAction newAction = new NewAction();
+        newAction.setId("action1");
+        newAction.setUpdatedAt(Instant.ofEpochSecond(1000));
+
+        Datasource datasource = new Datasource();
+        datasource.setId("datasource1");
+        datasource.setUpdatedAt(Instant.ofEpochSecond(2000));
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setParams(List.of(new Param("a", "1"), new Param("b", "2")));
+        final String key = actionResultCache.getKey(newAction, datasource, executeActionDTO);
+
+        ExecuteActionDTO reorderedExecuteActionDTO = new ExecuteActionDTO();
+        reorderedExecuteActionDTO.setParams(List.of(new Param("b", "2"), new Param("a", "1")));
+        assertThat(actionResultCache.getKey(newAction, datasource, reorderedExecuteActionDTO)).isEqualTo(key);
+
+        ExecuteActionDTO otherExecuteActionDTO = new ExecuteActionDTO();
+        otherExecuteActionDTO.setParams(List.of(new Param("a", "12"), new Param("b", "")));
+        assertThat(actionResultCache.getKey(newAction, datasource, otherExecuteActionDTO)).isNotEqualTo(key);
+
+        datasource.setUpdatedAt(Instant.ofEpochSecond(3000));
+        assertThat(actionResultCache.getKey(newAction, datasource, executeActionDTO)).isNotEqualTo(key);
+    }
+
+    @Test
+    public void put_cachesCopiesOfSuccessfulResults() {
+        ActionExecutionResult failedResult = new ActionExecutionResult();
+        failedResult.setIsExecutionSuccess(false);
+        StepVerifier.create(actionResultCache.put("key1", failedResult, Duration.ofSeconds(60))).verifyComplete();
+        StepVerifier.create(actionResultCache.get("key1")).verifyComplete();
+
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(true);
+        result.setBody(List.of(Map.of("id", 1)));
+        result.setDataTypes(List.of(new ParsedDataType(DisplayDataType.TABLE)));
+        StepVerifier.create(actionResultCache.put("key2", result, Duration.ofSeconds(60))).verifyComplete();
+
+        StepVerifier.create(actionResultCache.get("key2"))
+                .assertNext(cachedResult -> {
+                    assertThat(cachedResult).isNotSameAs(result);
+                    assertThat(cachedResult.getBody()).isEqualTo(result.getBody());
+                    assertThat(cachedResult.getDataTypes()).hasSize(1);
+                    cachedResult.setRequest(null);
+                    cachedResult.setDataTypes(null);
+                })
+                .verifyComplete();
+
+        StepVerifier.create(actionResultCache.get("key2"))
+                .assertNext(cachedResult -> assertThat(cachedResult.getDataTypes()).hasSize(1))
+                .verifyComplete();
+
+        StepVerifier.create(actionResultCache.put("key3", result, Duration.ZERO)).verifyComplete();
+        StepVerifier.create(actionResultCache.get("key3")).verifyComplete();
+    }
+
+    @Test
+    public void put_skipsResultsAboveTheMaxResultSize() {
+        ActionExecutionResult smallResult = new ActionExecutionResult();
+        smallResult.setIsExecutionSuccess(true);
+        smallResult.setBody(List.of(Map.of("name", "a".repeat(60 * 1024))));
+        assertThat(ActionResultCache.estimateSize(smallResult)).isBetween(60 * 1024, 64 * 1024);
+        StepVerifier.create(actionResultCache.put("small", smallResult, Duration.ofSeconds(60))).verifyComplete();
+        StepVerifier.create(actionResultCache.get("small")).expectNextCount(1).verifyComplete();
+
+        ActionExecutionResult largeResult = new ActionExecutionResult();
+        largeResult.setIsExecutionSuccess(true);
+        largeResult.setBody(List.of(Map.of("name", "a".repeat(65 * 1024))));
+        StepVerifier.create(actionResultCache.put("large", largeResult, Duration.ofSeconds(60))).verifyComplete();
+        StepVerifier.create(actionResultCache.get("large")).verifyComplete();
+    }
+
+    @Test
+    public void get_handsOutDeepCopiesOfTheBody() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ActionExecutionResult jsonResult = new ActionExecutionResult();
+        jsonResult.setIsExecutionSuccess(true);
+        jsonResult.setBody(objectMapper.createObjectNode().put("id", 1));
+        jsonResult.setHeaders(objectMapper.createObjectNode().put("Content-Type", "application/json"));
+        StepVerifier.create(actionResultCache.put("json", jsonResult, Duration.ofSeconds(60))).verifyComplete();
+
+        ActionExecutionResult rowsResult = new ActionExecutionResult();
+        rowsResult.setIsExecutionSuccess(true);
+        rowsResult.setBody(new ArrayList<>(List.of(new HashMap<>(Map.of("id", 1)))));
+        StepVerifier.create(actionResultCache.put("rows", rowsResult, Duration.ofSeconds(60))).verifyComplete();
+
+        // Neither the executed result nor the results handed out share their body with the cached one
+        ((ObjectNode) jsonResult.getBody()).put("id", 2);
+        StepVerifier.create(actionResultCache.get("json"))
+                .assertNext(cachedResult -> {
+                    assertThat(cachedResult.getBody()).isEqualTo(objectMapper.createObjectNode().put("id", 1));
+                    ((ObjectNode) cachedResult.getBody()).put("id", 3);
+                    ((ObjectNode) cachedResult.getHeaders()).remove("Content-Type");
+                })
+                .verifyComplete();
+        StepVerifier.create(actionResultCache.get("json"))
+                .assertNext(cachedResult -> {
+                    assertThat(cachedResult.getBody()).isEqualTo(objectMapper.createObjectNode().put("id", 1));
+                    assertThat(cachedResult.getHeaders().has("Content-Type")).isTrue();
+                })
+                .verifyComplete();
+
+        StepVerifier.create(actionResultCache.get("rows"))
+                .assertNext(cachedResult -> ((List<Map<String, Object>>) cachedResult.getBody()).get(0).put("id", 2))
+                .verifyComplete();
+        StepVerifier.create(actionResultCache.get("rows"))
+                .assertNext(cachedResult -> assertThat(cachedResult.getBody()).isEqualTo(List.of(Map.of("id", 1))))
+                .verifyComplete();
+    }
+}
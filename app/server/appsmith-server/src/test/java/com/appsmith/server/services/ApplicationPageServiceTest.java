@@ -1,29 +1,48 @@
 package com.appsmith.server.services;
 
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationMode;
 import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.Workspace;
+import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.CommentThreadFilterDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.PluginRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.Assume;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -44,6 +63,21 @@ public class ApplicationPageServiceTest {
     @Autowired
     ApplicationRepository applicationRepository;
 
+    @Autowired
+    NewPageService newPageService;
+
+    @Autowired
+    NewActionService newActionService;
+
+    @Autowired
+    LayoutActionService layoutActionService;
+
+    @Autowired
+    PluginRepository pluginRepository;
+
+    @Autowired
+    ReactiveMongoOperations mongoOperations;
+
     private CommentThread createCommentThread(ApplicationMode mode, PageDTO pageDTO) {
         CommentThread commentThread = new CommentThread();
         commentThread.setPageId(pageDTO.getId());
@@ -148,4 +182,210 @@ public class ApplicationPageServiceTest {
             assertThat(application.getLastEditedAt()).isAfter(yesterday);
         }).verifyComplete();
     }
+
+    /**
+     * Creates an application with the given number of pages, each of them with the given number of actions.
+     * @return id of the created application
+     */
+    private String createLargeApplication(int pageCount, int actionCountPerPage) {
+        final PageDTO firstPage = createPageMono(UUID.randomUUID().toString()).block();
+        final String applicationId = firstPage.getApplicationId();
+        final Application application = applicationRepository.findById(applicationId).block();
+        final Plugin installedPlugin = pluginRepository.findByPackageName("installed-plugin").block();
+
+        final List<PageDTO> pages = Flux.range(1, pageCount - 1)
+                .concatMap(index -> {
+                    PageDTO page = new PageDTO();
+                    page.setName("Page" + index);
+                    page.setApplicationId(applicationId);
+                    return applicationPageService.createPage(page);
+                })
+                .startWith(firstPage)
+                .collectList()
+                .block();
+
+        Flux.fromIterable(pages)
+                .concatMap(page -> Flux.range(0, actionCountPerPage)
+                        .concatMap(index -> {
+                            Datasource datasource = new Datasource();
+                            datasource.setName("Default Database");
+                            datasource.setWorkspaceId(application.getWorkspaceId());
+                            datasource.setPluginId(installedPlugin.getId());
+                            datasource.setDatasourceConfiguration(new DatasourceConfiguration());
+
+                            ActionConfiguration actionConfiguration = new ActionConfiguration();
+                            actionConfiguration.setHttpMethod(HttpMethod.GET);
+                            actionConfiguration.setPath("/users/" + index);
+
+                            ActionDTO action = new ActionDTO();
+                            action.setName(page.getName().replace(" ", "") + "Query" + index);
+                            action.setPageId(page.getId());
+                            action.setActionConfiguration(actionConfiguration);
+                            action.setDatasource(datasource);
+                            return layoutActionService.createSingleAction(action);
+                        }))
+                .blockLast();
+
+        return applicationId;
+    }
+
+    /**
+     * Publishes a generated application with a lot of pages and actions, and checks that all of them get published.
+     */
+    @Test
+    @WithUserDetails("api_user")
+    public void publish_WhenApplicationIsLarge_AllPagesAndActionsPublished() {
+        final int pageCount = 10;
+        final int actionCountPerPage = 20;
+
+        final String applicationId = createLargeApplication(pageCount, actionCountPerPage);
+
+        applicationPageService.publish(applicationId, true).block();
+
+        final Mono<List<NewAction>> actionsMono = newActionService
+                .findAllByApplicationIdAndViewMode(applicationId, false, AclPermission.MANAGE_ACTIONS, null)
+                .collectList();
+        final List<NewAction> actions = actionsMono.block();
+        assertThat(actions).hasSize(pageCount * actionCountPerPage);
+        actions.forEach(action -> assertThat(action.getPublishedAction())
+                .usingRecursiveComparison()
+                .isEqualTo(action.getUnpublishedAction()));
+
+        StepVerifier.create(newPageService.findNewPagesByApplicationId(applicationId, AclPermission.MANAGE_PAGES).collectList())
+                .assertNext(newPages -> {
+                    assertThat(newPages).hasSize(pageCount);
+                    newPages.forEach(page -> assertThat(page.getPublishedPage())
+                            .usingRecursiveComparison()
+                            .isEqualTo(page.getUnpublishedPage()));
+                })
+                .verifyComplete();
+
+        // Publishing again without any change leaves the actions as they are
+        final Map<String, Instant> updatedAtByActionId = actions.stream()
+                .collect(Collectors.toMap(NewAction::getId, NewAction::getUpdatedAt));
+        StepVerifier.create(applicationPageService.publish(applicationId, true).then(actionsMono))
+                .assertNext(republishedActions -> republishedActions.forEach(action ->
+                        assertThat(action.getUpdatedAt()).isEqualTo(updatedAtByActionId.get(action.getId()))))
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails("api_user")
+    public void publish_WhenActionIsUpdatedAfterPublish_OnlyUpdatedActionIsPublishedAgain() {
+        final PageDTO page = createPageMono(UUID.randomUUID().toString()).block();
+        final String applicationId = page.getApplicationId();
+        final Application application = applicationRepository.findById(applicationId).block();
+        final Plugin installedPlugin = pluginRepository.findByPackageName("installed-plugin").block();
+
+        final List<ActionDTO> createdActions = Flux.range(0, 2)
+                .concatMap(index -> {
+                    Datasource datasource = new Datasource();
+                    datasource.setName("Default Database");
+                    datasource.setWorkspaceId(application.getWorkspaceId());
+                    datasource.setPluginId(installedPlugin.getId());
+                    datasource.setDatasourceConfiguration(new DatasourceConfiguration());
+
+                    ActionConfiguration actionConfiguration = new ActionConfiguration();
+                    actionConfiguration.setHttpMethod(HttpMethod.GET);
+                    actionConfiguration.setPath("/users/" + index);
+
+                    ActionDTO action = new ActionDTO();
+                    action.setName("IncrementalQuery" + index);
+                    action.setPageId(page.getId());
+                    action.setActionConfiguration(actionConfiguration);
+                    action.setDatasource(datasource);
+                    return layoutActionService.createSingleAction(action);
+                })
+                .collectList()
+                .block();
+
+        applicationPageService.publish(applicationId, true).block();
+        assertThat(applicationRepository.findById(applicationId).block().getLastPublishedAt()).isNotNull();
+
+        final Mono<Map<String, NewAction>> actionsByIdMono = newActionService
+                .findAllByApplicationIdAndViewMode(applicationId, false, AclPermission.MANAGE_ACTIONS, null)
+                .collectMap(NewAction::getId);
+        final Map<String, NewAction> publishedActionsById = actionsByIdMono.block();
+
+        final ActionDTO updatedAction = createdActions.get(0);
+        updatedAction.getActionConfiguration().setPath("/users/updated");
+        layoutActionService.updateSingleAction(updatedAction.getId(), updatedAction).block();
+
+        StepVerifier.create(applicationPageService.publish(applicationId, true).then(actionsByIdMono))
+                .assertNext(actionsById -> {
+                    assertThat(actionsById.get(updatedAction.getId()).getPublishedAction().getActionConfiguration().getPath())
+                            .isEqualTo("/users/updated");
+
+                    final String unchangedActionId = createdActions.get(1).getId();
+                    assertThat(actionsById.get(unchangedActionId).getUpdatedAt())
+                            .isEqualTo(publishedActionsById.get(unchangedActionId).getUpdatedAt());
+                    assertThat(actionsById.get(unchangedActionId).getPublishedAction().getActionConfiguration().getPath())
+                            .isEqualTo("/users/1");
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * Benchmark of publishing an application with 40 pages and 800 actions. Every run first edits all the actions,
+     * so that all of them have to be published again, and then publishes the application once more without any
+     * change. It logs the min, median and max duration of both publishes.
+     * <p>
+     * It only runs when the `appsmith.benchmark.publish` system property is set, e.g.
+     * `mvn test -Dtest=ApplicationPageServiceTest#publish_Benchmark -Dappsmith.benchmark.publish=true`. To compare
+     * against the publish without bulk updates, run the same test on the commit before it.
+     */
+    @Test
+    @WithUserDetails("api_user")
+    public void publish_Benchmark() {
+        Assume.assumeTrue(Boolean.getBoolean("appsmith.benchmark.publish"));
+
+        final int pageCount = 40;
+        final int actionCountPerPage = 20;
+        final int warmUpRunCount = 2;
+        final int runCount = 10;
+
+        final String applicationId = createLargeApplication(pageCount, actionCountPerPage);
+        final List<Long> fullPublishDurations = new ArrayList<>();
+        final List<Long> unchangedPublishDurations = new ArrayList<>();
+
+        for (int run = 0; run < warmUpRunCount + runCount; run++) {
+            mongoOperations.updateMulti(
+                    Query.query(Criteria.where("applicationId").is(applicationId)),
+                    new Update()
+                            .set("unpublishedAction.actionConfiguration.path", "/users/run" + run)
+                            .set("updatedAt", Instant.now()),
+                    NewAction.class
+            ).block();
+
+            long startTime = System.nanoTime();
+            applicationPageService.publish(applicationId, true).block();
+            final long fullPublishDuration = System.nanoTime() - startTime;
+
+            startTime = System.nanoTime();
+            applicationPageService.publish(applicationId, true).block();
+            final long unchangedPublishDuration = System.nanoTime() - startTime;
+
+            if (run >= warmUpRunCount) {
+                fullPublishDurations.add(TimeUnit.NANOSECONDS.toMillis(fullPublishDuration));
+                unchangedPublishDurations.add(TimeUnit.NANOSECONDS.toMillis(unchangedPublishDuration));
+            }
+        }
+
+        Collections.sort(fullPublishDurations);
+        Collections.sort(unchangedPublishDurations);
+        log.info("Published {} pages and {} changed actions in min {} ms, median {} ms, max {} ms over {} runs",
+                pageCount, pageCount * actionCountPerPage, fullPublishDurations.get(0),
+                fullPublishDurations.get(runCount / 2), fullPublishDurations.get(runCount - 1), runCount);
+        log.info("Published {} pages and {} unchanged actions in min {} ms, median {} ms, max {} ms over {} runs",
+                pageCount, pageCount * actionCountPerPage, unchangedPublishDurations.get(0),
+                unchangedPublishDurations.get(runCount / 2), unchangedPublishDurations.get(runCount - 1), runCount);
+
+        final List<NewAction> actions = newActionService
+                .findAllByApplicationIdAndViewMode(applicationId, false, AclPermission.MANAGE_ACTIONS, null)
+                .collectList()
+                .block();
+        assertThat(actions).hasSize(pageCount * actionCountPerPage);
+        actions.forEach(action -> assertThat(action.getPublishedAction().getActionConfiguration().getPath())
+                .isEqualTo("/users/run" + (warmUpRunCount + runCount - 1)));
+    }
 }
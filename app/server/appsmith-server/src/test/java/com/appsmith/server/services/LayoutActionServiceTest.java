@@ -20,10 +20,13 @@ import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.DslActionDTO;
 import com.appsmith.server.dtos.LayoutActionUpdateDTO;
 import com.appsmith.server.dtos.LayoutDTO;
+import com.appsmith.server.dtos.LayoutPatchDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.dtos.RefactorActionNameDTO;
 import com.appsmith.server.dtos.RefactorActionNameInCollectionDTO;
 import com.appsmith.server.dtos.RefactorNameDTO;
+import com.appsmith.server.dtos.WidgetPatchDTO;
+import com.appsmith.server.dtos.WidgetPatchOperation;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.MockPluginExecutor;
@@ -35,6 +38,7 @@ import com.appsmith.server.solutions.ImportExportApplicationService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.result.UpdateResult;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONArray;
@@ -44,6 +48,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -106,7 +111,7 @@ public class LayoutActionServiceTest {
     @Autowired
     LayoutCollectionService layoutCollectionService;
 
-    @Autowired
+    @SpyBean
     NewPageService newPageService;
 
     @Autowired
@@ -952,6 +957,80 @@ public class LayoutActionServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void refactorWidgetName_withIndexedReferences_updatesReferencingWidgetsOnly() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        JSONObject inputWidget = new JSONObject();
+        inputWidget.put("widgetName", "Input1");
+        inputWidget.put("widgetId", "input1");
+        inputWidget.put("type", "INPUT_WIDGET");
+
+        JSONObject textWidget = new JSONObject();
+        textWidget.put("widgetName", "Text1");
+        textWidget.put("widgetId", "text1");
+        textWidget.put("type", "TEXT_WIDGET");
+        textWidget.put("text", "{{ Input1.text }}");
+        JSONArray dynamicBindingPathList = new JSONArray();
+        dynamicBindingPathList.add(new JSONObject(Map.of("key", "text")));
+        textWidget.put("dynamicBindingPathList", dynamicBindingPathList);
+
+        JSONObject buttonWidget = new JSONObject();
+        buttonWidget.put("widgetName", "Button1");
+        buttonWidget.put("widgetId", "button1");
+        buttonWidget.put("type", "BUTTON_WIDGET");
+        buttonWidget.put("onClick", "{{ showAlert(Input1.text) }}");
+        JSONArray dynamicTriggerPathList = new JSONArray();
+        dynamicTriggerPathList.add(new JSONObject(Map.of("key", "onClick")));
+        buttonWidget.put("dynamicTriggerPathList", dynamicTriggerPathList);
+
+        JSONObject otherWidget = new JSONObject();
+        otherWidget.put("widgetName", "Text2");
+        otherWidget.put("widgetId", "text2");
+        otherWidget.put("type", "TEXT_WIDGET");
+
+        JSONArray children = new JSONArray();
+        children.addAll(List.of(inputWidget, textWidget, buttonWidget, otherWidget));
+        JSONObject dsl = new JSONObject();
+        dsl.put("widgetName", "MainContainer");
+        dsl.put("widgetId", "0");
+        dsl.put("children", children);
+
+        Layout layout = testPage.getLayouts().get(0);
+        layout.setDsl(dsl);
+        layoutActionService.updateLayout(testPage.getId(), layout.getId(), layout).block();
+
+        StepVerifier.create(newPageService.findPageById(testPage.getId(), READ_PAGES, false))
+                .assertNext(page -> assertThat(page.getLayouts().get(0).getWidgetIdsReferencingNames().get("Input1"))
+                        .containsExactlyInAnyOrder("input1", "text1", "button1"))
+                .verifyComplete();
+
+        RefactorNameDTO refactorNameDTO = new RefactorNameDTO();
+        refactorNameDTO.setPageId(testPage.getId());
+        refactorNameDTO.setLayoutId(layout.getId());
+        refactorNameDTO.setOldName("Input1");
+        refactorNameDTO.setNewName("NameInput");
+
+        Mono<PageDTO> pageFromRepoMono = layoutActionService.refactorWidgetName(refactorNameDTO)
+                .then(newPageService.findPageById(testPage.getId(), READ_PAGES, false));
+
+        StepVerifier.create(pageFromRepoMono)
+                .assertNext(page -> {
+                    Layout refactoredLayout = page.getLayouts().get(0);
+                    List<Map<String, Object>> refactoredChildren = (List<Map<String, Object>>) refactoredLayout.getDsl().get("children");
+                    assertThat(refactoredChildren.get(0).get("widgetName")).isEqualTo("NameInput");
+                    assertThat(refactoredChildren.get(1).get("text")).isEqualTo("{{ NameInput.text }}");
+                    assertThat(refactoredChildren.get(2).get("onClick")).isEqualTo("{{ showAlert(NameInput.text) }}");
+                    assertThat(refactoredChildren.get(3).get("widgetName")).isEqualTo("Text2");
+                    assertThat(refactoredLayout.getWidgetNames()).contains("NameInput").doesNotContain("Input1");
+                    assertThat(refactoredLayout.getWidgetIdsReferencingNames()).doesNotContainKey("Input1");
+                    assertThat(refactoredLayout.getWidgetIdsReferencingNames().get("NameInput"))
+                            .containsExactlyInAnyOrder("input1", "text1", "button1");
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void testRefactorWidgetName_forDefaultWidgetsInList_updatesBothWidgetsAndTemplateReferences() {
@@ -992,6 +1071,121 @@ public class LayoutActionServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testRefactorWidgetName_withReferenceOutsideBindingsAndTriggers_leavesTheReferenceAsIs() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        JSONObject inputWidget = new JSONObject();
+        inputWidget.put("widgetName", "Input1");
+        inputWidget.put("widgetId", "input1");
+        inputWidget.put("type", "INPUT_WIDGET");
+
+        // Neither the text nor the label are in the binding paths of the widget, hence never evaluated
+        JSONObject textWidget = new JSONObject();
+        textWidget.put("widgetName", "Text1");
+        textWidget.put("widgetId", "text1");
+        textWidget.put("type", "TEXT_WIDGET");
+        textWidget.put("text", "{{ Input1.text }}");
+        textWidget.put("label", "Input1");
+
+        JSONArray children = new JSONArray();
+        children.addAll(List.of(inputWidget, textWidget));
+        JSONObject dsl = new JSONObject();
+        dsl.put("widgetName", "MainContainer");
+        dsl.put("widgetId", "0");
+        dsl.put("children", children);
+
+        Layout layout = testPage.getLayouts().get(0);
+        layout.setDsl(dsl);
+        layoutActionService.updateLayout(testPage.getId(), layout.getId(), layout).block();
+
+        RefactorNameDTO refactorNameDTO = new RefactorNameDTO();
+        refactorNameDTO.setPageId(testPage.getId());
+        refactorNameDTO.setLayoutId(layout.getId());
+        refactorNameDTO.setOldName("Input1");
+        refactorNameDTO.setNewName("NameInput");
+
+        Mono<PageDTO> pageFromRepoMono = layoutActionService.refactorWidgetName(refactorNameDTO)
+                .then(newPageService.findPageById(testPage.getId(), READ_PAGES, false));
+
+        StepVerifier.create(pageFromRepoMono)
+                .assertNext(page -> {
+                    List<Map<String, Object>> refactoredChildren =
+                            (List<Map<String, Object>>) page.getLayouts().get(0).getDsl().get("children");
+                    assertThat(refactoredChildren.get(0).get("widgetName")).isEqualTo("NameInput");
+                    assertThat(refactoredChildren.get(1).get("text")).isEqualTo("{{ Input1.text }}");
+                    assertThat(refactoredChildren.get(1).get("label")).isEqualTo("Input1");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testRefactorWidgetName_whenLayoutIsUpdatedBeforeTheWrite_refactorsTheUpdatedLayout() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        JSONObject inputWidget = new JSONObject();
+        inputWidget.put("widgetName", "Input1");
+        inputWidget.put("widgetId", "input1");
+        inputWidget.put("type", "INPUT_WIDGET");
+
+        JSONObject textWidget = new JSONObject();
+        textWidget.put("widgetName", "Text1");
+        textWidget.put("widgetId", "text1");
+        textWidget.put("type", "TEXT_WIDGET");
+        textWidget.put("text", "{{ Input1.text }}");
+        JSONArray dynamicBindingPathList = new JSONArray();
+        dynamicBindingPathList.add(new JSONObject(Map.of("key", "text")));
+        textWidget.put("dynamicBindingPathList", dynamicBindingPathList);
+
+        JSONArray children = new JSONArray();
+        children.addAll(List.of(inputWidget, textWidget));
+        JSONObject dsl = new JSONObject();
+        dsl.put("widgetName", "MainContainer");
+        dsl.put("widgetId", "0");
+        dsl.put("children", children);
+
+        Layout layout = testPage.getLayouts().get(0);
+        layout.setDsl(dsl);
+        final Long dslVersion = layoutActionService.updateLayout(testPage.getId(), layout.getId(), layout).block()
+                .getDslVersion();
+
+        // Another update of the layout lands after the rename has read the layout, and before the rename writes it
+        inputWidget.put("placeholderText", "Updated meanwhile");
+        Mockito.doAnswer(invocation -> layoutActionService.updateLayout(testPage.getId(), layout.getId(), layout)
+                        .then(Mono.defer(() -> {
+                            try {
+                                return (Mono<UpdateResult>) invocation.callRealMethod();
+                            } catch (Throwable throwable) {
+                                return Mono.error(throwable);
+                            }
+                        })))
+                .doCallRealMethod()
+                .when(newPageService)
+                .updateUnpublishedLayout(Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any());
+
+        RefactorNameDTO refactorNameDTO = new RefactorNameDTO();
+        refactorNameDTO.setPageId(testPage.getId());
+        refactorNameDTO.setLayoutId(layout.getId());
+        refactorNameDTO.setOldName("Input1");
+        refactorNameDTO.setNewName("NameInput");
+
+        Mono<PageDTO> pageFromRepoMono = layoutActionService.refactorWidgetName(refactorNameDTO)
+                .then(newPageService.findPageById(testPage.getId(), READ_PAGES, false));
+
+        StepVerifier.create(pageFromRepoMono)
+                .assertNext(page -> {
+                    Layout refactoredLayout = page.getLayouts().get(0);
+                    assertThat(refactoredLayout.getDslVersion()).isEqualTo(dslVersion + 2);
+                    List<Map<String, Object>> refactoredChildren = (List<Map<String, Object>>) refactoredLayout.getDsl().get("children");
+                    assertThat(refactoredChildren.get(0).get("widgetName")).isEqualTo("NameInput");
+                    assertThat(refactoredChildren.get(0).get("placeholderText")).isEqualTo("Updated meanwhile");
+                    assertThat(refactoredChildren.get(1).get("text")).isEqualTo("{{ NameInput.text }}");
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void testWidgetNameRefactor_withSimpleUpdate_refactorsActionCollectionAndItsAction() {
@@ -1550,4 +1744,309 @@ public class LayoutActionServiceTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void updateLayout_withUnchangedBindingsAndActions_reusesOnPageLoadActions() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        ActionDTO action = new ActionDTO();
+        action.setName("reusedAction");
+        action.setPageId(testPage.getId());
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+        action.setActionConfiguration(actionConfiguration);
+        action.setDatasource(datasource);
+        ActionDTO createdAction = layoutActionService.createSingleAction(action).block();
+
+        JSONObject dsl = new JSONObject();
+        dsl.put("widgetName", "firstWidget");
+        JSONArray temp = new JSONArray();
+        temp.addAll(List.of(new JSONObject(Map.of("key", "testField"))));
+        dsl.put("dynamicBindingPathList", temp);
+        dsl.put("testField", "{{ reusedAction.data }}");
+        dsl.put("leftColumn", 0);
+
+        Layout layout = testPage.getLayouts().get(0);
+        layout.setDsl(dsl);
+        Mockito.clearInvocations(newActionService);
+        layoutActionService.updateLayout(testPage.getId(), layout.getId(), layout).block();
+        Mockito.verify(newActionService, Mockito.times(1))
+                .findUnpublishedOnLoadActionsExplicitSetByUserInPage(testPage.getId());
+
+        // Moving the widget around changes none of the bindings
+        dsl.put("leftColumn", 10);
+        layout.setDsl(dsl);
+        StepVerifier.create(layoutActionService.updateLayout(testPage.getId(), layout.getId(), layout))
+                .assertNext(updatedLayout -> {
+                    assertThat(updatedLayout.getLayoutOnLoadActions()).hasSize(1);
+                    DslActionDTO actionDTO = updatedLayout.getLayoutOnLoadActions().get(0).iterator().next();
+                    assertThat(actionDTO.getName()).isEqualTo("reusedAction");
+                    assertThat(updatedLayout.getActionUpdates()).isEmpty();
+                })
+                .verifyComplete();
+        Mockito.verify(newActionService, Mockito.times(1))
+                .findUnpublishedOnLoadActionsExplicitSetByUserInPage(testPage.getId());
+
+        // Updating the action computes the on page load actions again
+        layoutActionService.setExecuteOnLoad(createdAction.getId(), false).block();
+        StepVerifier.create(layoutActionService.updateLayout(testPage.getId(), layout.getId(), layout))
+                .assertNext(updatedLayout -> assertThat(updatedLayout.getLayoutOnLoadActions()).isEmpty())
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void patchLayout_updatesPatchedWidgetsAndRejectsStaleVersions() {
+        JSONObject childWidget = new JSONObject();
+        childWidget.put("widgetName", "childWidget");
+        childWidget.put("widgetId", "child1");
+        childWidget.put("leftColumn", 0);
+        childWidget.put("text", "Hello");
+
+        JSONObject dsl = new JSONObject();
+        dsl.put("widgetName", "MainContainer");
+        dsl.put("widgetId", "0");
+        JSONArray children = new JSONArray();
+        children.add(childWidget);
+        dsl.put("children", children);
+
+        Layout layout = testPage.getLayouts().get(0);
+        layout.setDsl(dsl);
+        LayoutDTO updatedLayout = layoutActionService.updateLayout(testPage.getId(), layout.getId(), layout).block();
+        final Long dslVersion = updatedLayout.getDslVersion();
+        assertThat(dslVersion).isNotNull();
+
+        JSONObject addedWidget = new JSONObject();
+        addedWidget.put("widgetName", "addedWidget");
+        addedWidget.put("widgetId", "child2");
+
+        LayoutPatchDTO layoutPatch = new LayoutPatchDTO();
+        layoutPatch.setDslVersion(dslVersion);
+        layoutPatch.setPatches(List.of(
+                new WidgetPatchDTO(WidgetPatchOperation.REPLACE, "child1", "leftColumn", 10),
+                new WidgetPatchDTO(WidgetPatchOperation.REMOVE, "child1", "text", null),
+                new WidgetPatchDTO(WidgetPatchOperation.ADD, "0", "children.-", addedWidget),
+                new WidgetPatchDTO(WidgetPatchOperation.ADD, "0", "backgroundColor", "#FFFFFF")
+        ));
+
+        StepVerifier.create(layoutActionService.patchLayout(testPage.getId(), layout.getId(), layoutPatch))
+                .assertNext(patchedLayout -> assertThat(patchedLayout.getDslVersion()).isEqualTo(dslVersion + 1))
+                .verifyComplete();
+
+        // The properties of the root widget are written at the root of the DSL
+        ArgumentCaptor<Map<String, Object>> layoutUpdatesCaptor = ArgumentCaptor.forClass(Map.class);
+        Mockito.verify(newPageService, Mockito.atLeastOnce()).updateUnpublishedLayout(
+                Mockito.eq(testPage.getId()), Mockito.eq(layout.getId()), Mockito.eq(dslVersion),
+                layoutUpdatesCaptor.capture(), Mockito.any());
+        assertThat(layoutUpdatesCaptor.getValue())
+                .containsKeys("dsl.children", "dsl.backgroundColor")
+                .doesNotContainKeys("dsl.children.0.leftColumn", "dsl.children.0.text");
+
+        StepVerifier.create(newPageService.findPageById(testPage.getId(), READ_PAGES, false))
+                .assertNext(page -> {
+                    Layout patchedLayout = page.getLayouts().get(0);
+                    assertThat(patchedLayout.getDslVersion()).isEqualTo(dslVersion + 1);
+                    assertThat(patchedLayout.getWidgetNames()).containsExactlyInAnyOrder("MainContainer", "childWidget", "addedWidget");
+
+                    List<Map<String, Object>> patchedChildren = (List<Map<String, Object>>) patchedLayout.getDsl().get("children");
+                    assertThat(patchedChildren).hasSize(2);
+                    assertThat(patchedChildren.get(0).get("leftColumn")).isEqualTo(10);
+                    assertThat(patchedChildren.get(0)).doesNotContainKey("text");
+                    assertThat(patchedChildren.get(1).get("widgetName")).isEqualTo("addedWidget");
+                    assertThat(patchedLayout.getDsl().get("backgroundColor")).isEqualTo("#FFFFFF");
+                })
+                .verifyComplete();
+
+        // The patch was made against a version of the DSL that has been updated since
+        StepVerifier.create(layoutActionService.patchLayout(testPage.getId(), layout.getId(), layoutPatch))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                        && ((AppsmithException) throwable).getError() == AppsmithError.STALE_LAYOUT_VERSION)
+                .verify();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void patchLayout_whenLayoutIsUpdatedBeforeTheWrite_doesNotUpdateActions() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        ActionDTO action = new ActionDTO();
+        action.setName("patchBoundAction");
+        action.setPageId(testPage.getId());
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+        action.setActionConfiguration(actionConfiguration);
+        action.setDatasource(datasource);
+        ActionDTO createdAction = layoutActionService.createSingleAction(action).block();
+
+        JSONObject childWidget = new JSONObject();
+        childWidget.put("widgetName", "childWidget");
+        childWidget.put("widgetId", "child1");
+        childWidget.put("text", "Hello");
+
+        JSONObject dsl = new JSONObject();
+        dsl.put("widgetName", "MainContainer");
+        dsl.put("widgetId", "0");
+        JSONArray children = new JSONArray();
+        children.add(childWidget);
+        dsl.put("children", children);
+
+        Layout layout = testPage.getLayouts().get(0);
+        layout.setDsl(dsl);
+        final Long dslVersion = layoutActionService.updateLayout(testPage.getId(), layout.getId(), layout).block()
+                .getDslVersion();
+
+        // Binding the widget to the action makes the action run on page load
+        LayoutPatchDTO layoutPatch = new LayoutPatchDTO();
+        layoutPatch.setDslVersion(dslVersion);
+        layoutPatch.setPatches(List.of(
+                new WidgetPatchDTO(WidgetPatchOperation.REPLACE, "child1", "text", "{{ patchBoundAction.data }}"),
+                new WidgetPatchDTO(WidgetPatchOperation.ADD, "child1", "dynamicBindingPathList",
+                        List.of(Map.of("key", "text")))
+        ));
+
+        // Another update of the layout lands after the patch has read the layout, and before the patch writes it
+        Mockito.doAnswer(invocation -> layoutActionService.updateLayout(testPage.getId(), layout.getId(), layout)
+                        .then(Mono.defer(() -> {
+                            try {
+                                return (Mono<UpdateResult>) invocation.callRealMethod();
+                            } catch (Throwable throwable) {
+                                return Mono.error(throwable);
+                            }
+                        })))
+                .doCallRealMethod()
+                .when(newPageService)
+                .updateUnpublishedLayout(Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any());
+
+        StepVerifier.create(layoutActionService.patchLayout(testPage.getId(), layout.getId(), layoutPatch))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                        && ((AppsmithException) throwable).getError() == AppsmithError.STALE_LAYOUT_VERSION)
+                .verify();
+
+        StepVerifier.create(newActionService.findById(createdAction.getId(), READ_ACTIONS))
+                .assertNext(newAction -> assertThat(newAction.getUnpublishedAction().getExecuteOnLoad()).isNotEqualTo(Boolean.TRUE))
+                .verifyComplete();
+
+        StepVerifier.create(newPageService.findPageById(testPage.getId(), READ_PAGES, false))
+                .assertNext(page -> {
+                    Layout storedLayout = page.getLayouts().get(0);
+                    assertThat(storedLayout.getDslVersion()).isEqualTo(dslVersion + 1);
+                    List<Map<String, Object>> storedChildren = (List<Map<String, Object>>) storedLayout.getDsl().get("children");
+                    assertThat(storedChildren.get(0).get("text")).isEqualTo("Hello");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void updateLayout_withLargeDsl_extractsWidgetsOfAllContainers() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        ActionDTO action = new ActionDTO();
+        action.setName("largeDslAction");
+        action.setPageId(testPage.getId());
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+        action.setActionConfiguration(actionConfiguration);
+        action.setDatasource(datasource);
+        layoutActionService.createSingleAction(action).block();
+
+        // Enough widgets for the containers to be traversed in parallel
+        JSONArray containers = new JSONArray();
+        for (int i = 0; i < 20; i++) {
+            JSONArray widgets = new JSONArray();
+            for (int j = 0; j < 20; j++) {
+                JSONObject widget = new JSONObject();
+                widget.put("widgetName", "Text" + i + "_" + j);
+                widget.put("widgetId", "text" + i + "_" + j);
+                widgets.add(widget);
+            }
+            JSONObject container = new JSONObject();
+            container.put("widgetName", "Container" + i);
+            container.put("widgetId", "container" + i);
+            container.put("children", widgets);
+            containers.add(container);
+        }
+
+        // Only a widget of the last container binds to the action
+        JSONObject boundWidget = (JSONObject) ((JSONArray) ((JSONObject) containers.get(19)).get("children")).get(19);
+        JSONArray dynamicBindingPathList = new JSONArray();
+        dynamicBindingPathList.add(new JSONObject(Map.of("key", "text")));
+        boundWidget.put("dynamicBindingPathList", dynamicBindingPathList);
+        boundWidget.put("text", "{{ largeDslAction.data }}");
+
+        JSONObject dsl = new JSONObject();
+        dsl.put("widgetName", "MainContainer");
+        dsl.put("widgetId", "0");
+        dsl.put("children", containers);
+
+        Layout layout = testPage.getLayouts().get(0);
+        layout.setDsl(dsl);
+        StepVerifier.create(layoutActionService.updateLayout(testPage.getId(), layout.getId(), layout))
+                .assertNext(updatedLayout -> {
+                    assertThat(updatedLayout.getLayoutOnLoadActions()).hasSize(1);
+                    DslActionDTO actionDTO = updatedLayout.getLayoutOnLoadActions().get(0).iterator().next();
+                    assertThat(actionDTO.getName()).isEqualTo("largeDslAction");
+
+                    // The containers are in the order they were in
+                    List<Map<String, Object>> updatedContainers = (List<Map<String, Object>>) updatedLayout.getDsl().get("children");
+                    assertThat(updatedContainers).hasSize(20);
+                    for (int i = 0; i < 20; i++) {
+                        assertThat(updatedContainers.get(i).get("widgetName")).isEqualTo("Container" + i);
+                    }
+                })
+                .verifyComplete();
+
+        StepVerifier.create(newPageService.findPageById(testPage.getId(), READ_PAGES, false))
+                .assertNext(page -> {
+                    Set<String> widgetNames = page.getLayouts().get(0).getWidgetNames();
+                    assertThat(widgetNames).hasSize(421);
+                    assertThat(widgetNames).contains("MainContainer", "Container0", "Text0_0", "Container19", "Text19_19");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void updateLayout_withLargeDslAndInvalidBindings_throwsTheErrorOfTheFirstInvalidWidget() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        // Enough widgets for the containers to be traversed in parallel
+        JSONArray containers = new JSONArray();
+        for (int i = 0; i < 20; i++) {
+            JSONArray widgets = new JSONArray();
+            for (int j = 0; j < 20; j++) {
+                JSONObject widget = new JSONObject();
+                widget.put("widgetName", "Text" + i + "_" + j);
+                widget.put("widgetId", "text" + i + "_" + j);
+                widgets.add(widget);
+            }
+            JSONObject container = new JSONObject();
+            container.put("widgetName", "Container" + i);
+            container.put("widgetId", "container" + i);
+            container.put("children", widgets);
+            containers.add(container);
+        }
+
+        // The binding paths of a widget in two of the containers lead to nothing
+        for (int i : List.of(5, 15)) {
+            JSONObject invalidWidget = (JSONObject) ((JSONArray) ((JSONObject) containers.get(i)).get("children")).get(0);
+            JSONArray dynamicBindingPathList = new JSONArray();
+            dynamicBindingPathList.add(new JSONObject(Map.of("key", "missing.path")));
+            invalidWidget.put("dynamicBindingPathList", dynamicBindingPathList);
+        }
+
+        JSONObject dsl = new JSONObject();
+        dsl.put("widgetName", "MainContainer");
+        dsl.put("widgetId", "0");
+        dsl.put("children", containers);
+
+        Layout layout = testPage.getLayouts().get(0);
+        layout.setDsl(dsl);
+        StepVerifier.create(layoutActionService.updateLayout(testPage.getId(), layout.getId(), layout))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                        && ((AppsmithException) throwable).getError() == AppsmithError.INVALID_DYNAMIC_BINDING_REFERENCE
+                        && throwable.getMessage().contains("Text5_0"))
+                .verify();
+    }
 }
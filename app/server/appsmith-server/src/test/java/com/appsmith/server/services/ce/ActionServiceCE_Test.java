@@ -40,6 +40,7 @@ import com.appsmith.server.dtos.MockDataSource;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionResultCache;
 import com.appsmith.server.helpers.MockPluginExecutor;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.helpers.WidgetSuggestionHelper;
@@ -89,6 +90,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.DEFAULT_ACTION_EXECUTION_TIMEOUT_MS;
@@ -154,6 +156,9 @@ public class ActionServiceCE_Test {
     @SpyBean
     PluginService pluginService;
 
+    @SpyBean
+    ActionResultCache actionResultCache;
+
     @Autowired
     ApplicationService applicationService;
 
@@ -2660,4 +2665,63 @@ public class ActionServiceCE_Test {
                 List.of(new ParsedDataType(DisplayDataType.RAW)));
     }
 
+    private ActionDTO createPublishedQuery(String name, Integer resultCacheTtlInSeconds) {
+        ActionDTO action = new ActionDTO();
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+        actionConfiguration.setResultCacheTtlInSeconds(resultCacheTtlInSeconds);
+        action.setActionConfiguration(actionConfiguration);
+        action.setPageId(testPage.getId());
+        action.setName(name);
+        action.setDatasource(datasource);
+        ActionDTO createdAction = layoutActionService.createSingleAction(action).block();
+        applicationPageService.publish(testApp.getId(), true).block();
+        return createdAction;
+    }
+
+    private Mono<ActionExecutionResult> executeInViewMode(ActionDTO action) {
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId(action.getId());
+        executeActionDTO.setViewMode(true);
+        return newActionService.executeAction(executeActionDTO);
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void executeAction_inViewMode_onlyCoalescesQueriesWithResultCacheTtl() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
+        Mockito.when(pluginExecutor.getHintMessages(Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.zip(Mono.just(new HashSet<>()), Mono.just(new HashSet<>())));
+        Mockito.when(pluginExecutor.datasourceCreate(Mockito.any())).thenReturn(Mono.empty());
+        // Read only as far as the result cache can tell, yet giving a new value on every execution, e.g. a sequence
+        Mockito.doReturn(true).when(actionResultCache).isReadOnly(Mockito.any(), Mockito.any());
+
+        AtomicInteger executionCount = new AtomicInteger();
+        Mockito.when(pluginExecutor.executeParameterized(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> Mono
+                        .fromSupplier(() -> {
+                            ActionExecutionResult result = new ActionExecutionResult();
+                            result.setIsExecutionSuccess(true);
+                            result.setBody(executionCount.incrementAndGet());
+                            return result;
+                        })
+                        // Keeps the executions in flight at the same time
+                        .delayElement(Duration.ofMillis(500)));
+
+        ActionDTO sequenceQuery = createPublishedQuery("sequenceQuery", null);
+        StepVerifier.create(Mono.zip(executeInViewMode(sequenceQuery), executeInViewMode(sequenceQuery)))
+                .assertNext(tuple -> assertThat(List.of(tuple.getT1().getBody(), tuple.getT2().getBody()))
+                        .containsExactlyInAnyOrder(1, 2))
+                .verifyComplete();
+        assertThat(executionCount.get()).isEqualTo(2);
+
+        ActionDTO cachedQuery = createPublishedQuery("cachedQuery", 60);
+        StepVerifier.create(Mono.zip(executeInViewMode(cachedQuery), executeInViewMode(cachedQuery)))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1().getBody()).isEqualTo(3);
+                    assertThat(tuple.getT2().getBody()).isEqualTo(3);
+                })
+                .verifyComplete();
+        assertThat(executionCount.get()).isEqualTo(3);
+    }
 }
@@ -1,15 +1,21 @@
 package com.appsmith.server.services.ce;
 
+import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.Datasource;
+import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.PolicyGenerator;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.PluginType;
 import com.appsmith.server.dtos.ActionDTO;
+import com.appsmith.server.dtos.ExecuteActionBatchDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionCoalescer;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
+import com.appsmith.server.helpers.ActionResultCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.helpers.ResponseUtils;
@@ -63,6 +69,8 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
@@ -111,6 +119,12 @@ public class NewActionServiceCEImplTest {
     ConfigService configService;
     @MockBean
     ResponseUtils responseUtils;
+    @MockBean
+    ActionExecutionPlanCache actionExecutionPlanCache;
+    @MockBean
+    ActionResultCache actionResultCache;
+    @MockBean
+    ActionExecutionCoalescer actionExecutionCoalescer;
 
     @MockBean
     NewActionRepository newActionRepository;
@@ -139,7 +153,10 @@ public class NewActionServiceCEImplTest {
                 policyUtils,
                 authenticationValidator,
                 configService,
-                responseUtils
+                responseUtils,
+                actionExecutionPlanCache,
+                actionResultCache,
+                actionExecutionCoalescer
         );
     }
 
@@ -227,6 +244,44 @@ public class NewActionServiceCEImplTest {
                 .verify();
     }
 
+    @Test
+    public void testExecuteActionBatch_withoutWaves_failsValidation() {
+        StepVerifier
+                .create(newActionService.executeActionBatch(new ExecuteActionBatchDTO(), null))
+                .expectErrorMatches(e -> e instanceof AppsmithException &&
+                        e.getMessage().equals(AppsmithError.INVALID_PARAMETER.getMessage(FieldName.WAVES)))
+                .verify();
+    }
+
+    @Test
+    public void testExecuteActionBatch_failedActionsDoNotStopTheBatch() {
+        Mockito.when(newActionRepository.findById(anyString(), any(AclPermission.class)))
+                .thenReturn(Mono.empty());
+
+        ExecuteActionDTO withoutActionId = new ExecuteActionDTO();
+        ExecuteActionDTO withMissingAction = new ExecuteActionDTO();
+        withMissingAction.setActionId("missingActionId");
+
+        ExecuteActionBatchDTO executeActionBatchDTO = new ExecuteActionBatchDTO();
+        executeActionBatchDTO.setWaves(List.of(List.of(withoutActionId), List.of(withMissingAction)));
+
+        StepVerifier
+                .create(newActionService.executeActionBatch(executeActionBatchDTO, null))
+                .assertNext(batchResult -> {
+                    assertNull(batchResult.getActionId());
+                    assertFalse(batchResult.getResult().getIsExecutionSuccess());
+                    assertEquals(AppsmithError.INVALID_PARAMETER.getMessage(FieldName.ACTION_ID),
+                            batchResult.getResult().getBody());
+                })
+                .assertNext(batchResult -> {
+                    assertEquals("missingActionId", batchResult.getActionId());
+                    assertFalse(batchResult.getResult().getIsExecutionSuccess());
+                    assertEquals(AppsmithError.NO_RESOURCE_FOUND.getAppErrorCode().toString(),
+                            batchResult.getResult().getStatusCode());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testMissingPluginIdAndTypeFixForNonJSPluginType() {
         /* Mock `findById` method of pluginService to return `testPlugin` */
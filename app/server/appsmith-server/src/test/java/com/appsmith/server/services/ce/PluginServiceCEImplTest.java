@@ -19,14 +19,22 @@ import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuple3;
 
 import javax.validation.Validator;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @RunWith(SpringRunner.class)
 public class PluginServiceCEImplTest {
 
@@ -104,4 +112,47 @@ public class PluginServiceCEImplTest {
         final Map<?, ?> expectedChildrenSection = objectMapper.readValue(mockExample.getFile(), Map.class);
         Assert.assertEquals(expectedChildrenSection, templateChildrenList.get(0));
     }
+
+    @Test
+    public void getFormConfig_loadsResourcesOnceUntilPluginIsUpdated() {
+        final ClassLoader classLoader = Mockito.mock(ClassLoader.class);
+        Mockito.when(classLoader.getResourceAsStream(Mockito.anyString()))
+                .thenAnswer(invocation -> new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+        final PluginWrapper pluginWrapper = Mockito.mock(PluginWrapper.class);
+        Mockito.when(pluginWrapper.getPluginClassLoader()).thenReturn(classLoader);
+        Mockito.when(pluginManager.getPlugin("test-plugin")).thenReturn(pluginWrapper);
+
+        Plugin plugin = new Plugin();
+        plugin.setId("test-plugin-id");
+        plugin.setPackageName("test-plugin");
+        plugin.setDatasourceUiConfig(Map.of("form", List.of()));
+        plugin.setActionUiConfig(Map.of("editor", List.of(Map.of("children", List.of(
+                Map.of("label", "Query", "configProperty", "actionConfiguration.body"))))));
+        Mockito.when(repository.findById("test-plugin-id")).thenReturn(Mono.just(plugin));
+        Mockito.when(repository.saveAll(Mockito.<Plugin>anyIterable())).thenReturn(Flux.just(plugin));
+
+        final Mono<Tuple3<Map, Map, Map>> resourcesMono = Mono.zip(
+                pluginService.getFormConfig("test-plugin-id"),
+                pluginService.getFormConfig("test-plugin-id"),
+                pluginService.getEditorConfigLabelMap("test-plugin-id"));
+
+        StepVerifier.create(resourcesMono)
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1()).containsOnlyKeys("form", "editor");
+                    assertThat(tuple.getT2()).isSameAs(tuple.getT1());
+                    assertThat(tuple.getT3()).hasSize(1).containsEntry("actionConfiguration.body", "Query");
+                    // The config of the plugin itself is left as is
+                    assertThat(plugin.getDatasourceUiConfig()).containsOnlyKeys("form");
+                })
+                .verifyComplete();
+        StepVerifier.create(pluginService.getEditorConfigLabelMap("test-plugin-id")).expectNextCount(1).verifyComplete();
+
+        // One lookup per resource of the plugin: form, editor, setting and dependency
+        Mockito.verify(repository, Mockito.times(4)).findById("test-plugin-id");
+
+        StepVerifier.create(pluginService.saveAll(List.of(plugin))).expectNextCount(1).verifyComplete();
+        StepVerifier.create(pluginService.getFormConfig("test-plugin-id")).expectNextCount(1).verifyComplete();
+
+        Mockito.verify(repository, Mockito.times(8)).findById("test-plugin-id");
+    }
 }